@@ -0,0 +1,24 @@
+-- Table and index sizes for the core schema.
+-- Run before and after V5__native_uuid_keys (e.g. psql -f scripts/db/index-size-report.sql) and compare.
+-- Sizes include bloat: run VACUUM FULL ANALYZE on both snapshots for a like-for-like comparison.
+
+SELECT c.relname                                   AS relation,
+       CASE c.relkind WHEN 'r' THEN 'table' WHEN 'i' THEN 'index' END AS kind,
+       t.relname                                   AS table_name,
+       pg_relation_size(c.oid)                     AS bytes,
+       pg_size_pretty(pg_relation_size(c.oid))     AS size
+FROM pg_class c
+         JOIN pg_namespace n ON n.oid = c.relnamespace
+         LEFT JOIN pg_index i ON i.indexrelid = c.oid
+         LEFT JOIN pg_class t ON t.oid = COALESCE(i.indrelid, c.oid)
+WHERE n.nspname = 'public'
+  AND c.relkind IN ('r', 'i')
+  AND t.relname IN ('player', 'club', 'match')
+ORDER BY t.relname, c.relkind DESC, c.relname;
+
+-- Average stored width of the key columns
+SELECT 'player.id' AS col, avg(pg_column_size(id)) AS avg_bytes FROM player
+UNION ALL
+SELECT 'match.id', avg(pg_column_size(id)) FROM match
+UNION ALL
+SELECT 'match.player1_id', avg(pg_column_size(player1_id)) FROM match;
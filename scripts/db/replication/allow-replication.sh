@@ -0,0 +1,4 @@
+#!/bin/sh
+# Runs once when the postgres container initializes its data directory: lets the postgres-replica service
+# (docker compose --profile replica) stream WAL from it. wal_level=replica and max_wal_senders are defaults.
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,64 @@
+// Converts player_match_analytics documents from string ids to binary UUIDs (subtype 4):
+//   _id       "matchId:playerId" -> UUID derived from (matchId, playerId), see PlayerMatchAnalyticsDocument.idFor
+//   matchId, playerId, winnerId, rawStats.playerId: string -> UUID
+//
+// Run with the application stopped (or before deploying the V5 release):
+//   mongosh mongodb://localhost:27017/tennispulse scripts/mongo/migrate-uuids-to-binary.js
+// Prints collection and index sizes before and after.
+//
+// Safe to re-run after a partial failure: only documents whose _id is still a string are read, each is upserted
+// under its new binary _id before the old one is deleted, and re-converting an already upserted document
+// produces the same document.
+
+const crypto = require("crypto");
+const coll = db.getCollection("player_match_analytics");
+
+function report(label) {
+    const stats = coll.stats();
+    print(`${label}: ${stats.count} docs, data ${stats.size} B, indexes ${stats.totalIndexSize} B`);
+    printjson(stats.indexSizes);
+}
+
+function toUuid(value) {
+    return typeof value === "string" ? UUID(value) : value;
+}
+
+function hex(value) {
+    return typeof value === "string"
+        ? value.replace(/-/g, "").toLowerCase()
+        : Buffer.from(value.buffer).toString("hex");
+}
+
+// Java UUID.nameUUIDFromBytes: MD5 over the 32 key bytes, then version 3 / IETF variant bits
+function idFor(matchId, playerId) {
+    const key = hex(matchId) + hex(playerId);
+    const md5 = crypto.createHash("md5").update(Buffer.from(key, "hex")).digest();
+    md5[6] = (md5[6] & 0x0f) | 0x30;
+    md5[8] = (md5[8] & 0x3f) | 0x80;
+    return UUID(md5.toString("hex"));
+}
+
+report("before");
+
+let converted = 0;
+coll.find({ _id: { $type: "string" } }).forEach(doc => {
+    const matchId = toUuid(doc.matchId);
+    const playerId = toUuid(doc.playerId);
+    const id = idFor(doc.matchId, doc.playerId);
+    const migrated = Object.assign({}, doc, {
+        _id: id,
+        matchId: matchId,
+        playerId: playerId,
+        winnerId: doc.winnerId ? toUuid(doc.winnerId) : doc.winnerId,
+    });
+    if (doc.rawStats && doc.rawStats.playerId) {
+        migrated.rawStats = Object.assign({}, doc.rawStats, { playerId: toUuid(doc.rawStats.playerId) });
+    }
+    coll.replaceOne({ _id: id }, migrated, { upsert: true });
+    coll.deleteOne({ _id: doc._id });
+    converted++;
+});
+
+print(`converted ${converted} documents`);
+db.runCommand({ compact: "player_match_analytics" });
+report("after");
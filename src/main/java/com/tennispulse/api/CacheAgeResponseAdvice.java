@@ -0,0 +1,41 @@
+package com.tennispulse.api;
+
+import com.tennispulse.cache.CacheReadContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code Age} (seconds since the served cache value was computed) and {@code X-Cache-Stale} to
+ * responses built from cached read models, i.e. handlers annotated with {@link ServedFromCache}.
+ */
+@RestControllerAdvice
+public class CacheAgeResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String CACHE_STALE_HEADER = "X-Cache-Stale";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ServedFromCache.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        CacheReadContext.Read read = CacheReadContext.current();
+        if (read != null) {
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(read.ageMillis() / 1000));
+            response.getHeaders().set(CACHE_STALE_HEADER, String.valueOf(read.stale()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,17 @@
+package com.tennispulse.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler whose response body comes from a {@code @Cacheable} read model, so
+ * {@link CacheAgeResponseAdvice} reports the age of the cached value.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ServedFromCache {
+}
@@ -0,0 +1,69 @@
+package com.tennispulse.api.analytics.controllers;
+
+import com.tennispulse.domain.analytics.CoachingStatus;
+import com.tennispulse.repository.analytics.AnalyticsExportFilter;
+import com.tennispulse.service.analytics.AnalyticsExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams analytics documents for the data team, e.g.
+ * {@code GET /api/analytics/export?format=CSV&from=2026-01-01T00:00:00Z&status=AT_RISK&columns=playerId,WINNERS}.
+ * <p>
+ * The response is written on the request thread while the cursor is read, see {@link AnalyticsExportService}.
+ * Parameters are validated before the first byte; a failure halfway through can only abort the response, which
+ * truncates the gzip stream so clients notice.
+ */
+@RestController
+@RequestMapping("/api/analytics/export")
+@RequiredArgsConstructor
+public class AnalyticsExportController {
+
+    private final AnalyticsExportService exportService;
+
+    @GetMapping
+    public void export(
+            @RequestParam(defaultValue = "NDJSON") AnalyticsExportService.Format format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(name = "playerId", required = false) List<UUID> playerIds,
+            @RequestParam(name = "status", required = false) List<CoachingStatus> statuses,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(defaultValue = "true") boolean gzip,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            HttpServletResponse response
+    ) throws IOException {
+        try {
+            AnalyticsExportService.resolve(columns);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (batchSize < 1 || batchSize > AnalyticsExportService.MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "batchSize must be between 1 and " + AnalyticsExportService.MAX_BATCH_SIZE);
+        }
+
+        AnalyticsExportFilter filter = new AnalyticsExportFilter(from, to,
+                playerIds != null ? new HashSet<>(playerIds) : null,
+                statuses != null ? new HashSet<>(statuses) : null);
+
+        String fileName = "player_match_analytics." + format.extension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        exportService.export(filter, format, columns, gzip, batchSize, response.getOutputStream());
+    }
+}
@@ -1,5 +1,6 @@
 package com.tennispulse.api.analytics.controllers;
 
+import com.tennispulse.api.ServedFromCache;
 import com.tennispulse.api.analytics.dto.TimelineRange;
 import com.tennispulse.api.analytics.dto.HighlightsDashboardResponse;
 import com.tennispulse.service.analytics.PlayerHighlightsService;
@@ -14,6 +15,7 @@ public class HighlightsController {
     private final PlayerHighlightsService playerHighlightsService;
 
     @GetMapping("/{range}")
+    @ServedFromCache
     public HighlightsDashboardResponse getHighlights(@PathVariable TimelineRange range) {
         return playerHighlightsService.getHighlights(range);
     }
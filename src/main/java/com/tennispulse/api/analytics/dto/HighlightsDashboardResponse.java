@@ -1,6 +1,12 @@
 package com.tennispulse.api.analytics.dto;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public record HighlightsDashboardResponse(TimelineRange range, Map<String, PlayerHighlightDto> highlights) {
+
+    public HighlightsDashboardResponse {
+        highlights = highlights != null ? Collections.unmodifiableMap(new LinkedHashMap<>(highlights)) : null;
+    }
 }
@@ -0,0 +1,14 @@
+package com.tennispulse.api.analytics.dto;
+
+/**
+ * Distribution of a metric's per-match values; {@code spread} is {@code p90 - p10}.
+ */
+public record MetricDistributionDto(
+        long count,
+        double min,
+        double p10,
+        double median,
+        double p90,
+        double max,
+        double spread
+) {}
@@ -1,6 +1,13 @@
 package com.tennispulse.api.analytics.dto;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
-public record PlayerHighlightDto(String playerId, String playerName, double score, Map<String, Double> details) {
+public record PlayerHighlightDto(UUID playerId, String playerName, double score, Map<String, Double> details) {
+
+    public PlayerHighlightDto {
+        details = details != null ? Collections.unmodifiableMap(new LinkedHashMap<>(details)) : null;
+    }
 }
@@ -7,5 +7,8 @@ public record PlayerMetricsTimelineResponseDto(
         String playerId,
         TimelineRange range,
         List<PlayerMonthlyMetricsDto> timeline,
-        Map<String, Double> overallAverages
+        Map<String, Double> overallAverages,
+        Map<String, MetricDistributionDto> overallDistributions,
+        // 0-100, higher is better: 88.0 means the player's average beats 88% of players (top 12%)
+        Map<String, Double> percentileRanks
 ) {}
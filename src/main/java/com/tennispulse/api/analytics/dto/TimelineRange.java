@@ -1,9 +1,29 @@
 package com.tennispulse.api.analytics.dto;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 public enum TimelineRange {
     ALL_TIME,
     LAST_MONTH,
     LAST_6_MONTHS,
     LAST_12_MONTHS,
-    YEAR_TO_DATE
+    YEAR_TO_DATE;
+
+    /**
+     * @return the start of the range as of today (midnight, server time zone), or {@code null} for {@link #ALL_TIME}
+     */
+    public LocalDateTime startDate() {
+        return startDate(LocalDate.now());
+    }
+
+    public LocalDateTime startDate(LocalDate today) {
+        return switch (this) {
+            case ALL_TIME -> null;
+            case LAST_MONTH -> today.minusMonths(1).atStartOfDay();
+            case LAST_6_MONTHS -> today.minusMonths(6).atStartOfDay();
+            case LAST_12_MONTHS -> today.minusMonths(12).atStartOfDay();
+            case YEAR_TO_DATE -> today.withDayOfYear(1).atStartOfDay();
+        };
+    }
 }
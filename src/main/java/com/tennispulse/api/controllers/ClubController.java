@@ -1,5 +1,7 @@
 package com.tennispulse.api.controllers;
 
+import com.tennispulse.api.ServedFromCache;
+import com.tennispulse.api.dto.PageResponse;
 import com.tennispulse.domain.ClubEntity;
 import com.tennispulse.service.ClubService;
 import lombok.RequiredArgsConstructor;
@@ -7,13 +9,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/clubs")
 @RequiredArgsConstructor
 public class ClubController {
 
+    private static final Set<String> SORTABLE = Set.of("name", "createdAt");
+
     private final ClubService clubService;
 
     @PostMapping
@@ -23,23 +28,31 @@ public class ClubController {
     }
 
     @GetMapping
-    public List<ClubEntity> list() {
-        return clubService.findAll();
+    public PageResponse<ClubEntity> list(@RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "50") int size,
+                                         @RequestParam(defaultValue = "name,asc") String sort) {
+        return PageResponse.of(clubService.findActive(PageRequests.of(page, size, sort, SORTABLE)));
+    }
+
+    @GetMapping("/count")
+    @ServedFromCache
+    public long count() {
+        return clubService.countActive();
     }
 
     @GetMapping("/{id}")
-    public ClubEntity get(@PathVariable String id) {
+    public ClubEntity get(@PathVariable UUID id) {
         return clubService.findById(id);
     }
 
     @PutMapping("/{id}")
-    public ClubEntity update(@PathVariable String id, @RequestBody ClubEntity club) {
+    public ClubEntity update(@PathVariable UUID id, @RequestBody ClubEntity club) {
         return clubService.update(id, club);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable String id) {
+    public void delete(@PathVariable UUID id) {
         clubService.delete(id);
     }
 }
@@ -0,0 +1,60 @@
+package com.tennispulse.api.controllers;
+
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.service.LiveDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Live rankings and highlights as Server-Sent Events, e.g.
+ * {@code GET /api/live/dashboard?rankings=current-year,last-month&limit=10&highlights=LAST_MONTH}.
+ * <p>
+ * Each event is named after its view ({@code rankings:current-year:10}, {@code highlights:LAST_MONTH}) and carries
+ * the same JSON as the matching REST endpoint. Every view is sent once on connect and then only when it changes;
+ * see {@link LiveDashboardService}.
+ */
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class LiveDashboardController {
+
+    static final int MAX_LIMIT = 100;
+
+    private final LiveDashboardService liveDashboardService;
+
+    @GetMapping(value = "/dashboard", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter dashboard(
+            @RequestParam(defaultValue = "current-year,last-month") List<String> rankings,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) List<TimelineRange> highlights
+    ) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<LiveDashboardService.Topic> topics = new ArrayList<>();
+        try {
+            for (String period : rankings) {
+                topics.add(liveDashboardService.rankingsTopic(period, limit));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (highlights != null) {
+            highlights.forEach(range -> topics.add(liveDashboardService.highlightsTopic(range)));
+        }
+
+        try {
+            return liveDashboardService.subscribe(topics);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.tennispulse.api.controllers;
+
+import com.tennispulse.domain.scoring.PointEnding;
+import com.tennispulse.domain.scoring.ServeResult;
+import com.tennispulse.domain.scoring.Stroke;
+import com.tennispulse.service.scoring.LiveMatchState;
+import com.tennispulse.service.scoring.LiveScoringService;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Point-by-point scoring of {@code IN_PROGRESS} matches. Points carry a per-match sequence number starting at 1:
+ * points already applied are skipped, so a batch can be resent after a timeout, and a gap is answered with
+ * {@code 409} naming the next expected number.
+ */
+@RestController
+@RequestMapping("/api/matches/{id}")
+@RequiredArgsConstructor
+public class LiveScoringController {
+
+    private final LiveScoringService liveScoringService;
+
+    @PostMapping("/points")
+    public LiveScoreResponse recordPoints(@PathVariable UUID id, @RequestBody List<PointRequest> points) {
+        return liveScoringService.record(id, points);
+    }
+
+    @GetMapping("/live")
+    public LiveScoreResponse live(@PathVariable UUID id) {
+        return liveScoringService.get(id);
+    }
+
+    @Data
+    public static class PointRequest {
+        private long seq;
+        private UUID serverId;
+        private UUID winnerId;
+        private ServeResult serve;
+        private PointEnding ending;
+        private Stroke stroke;
+        /** The player who came to the net during the point, if any. */
+        private UUID netPlayerId;
+        private Integer rallyLength;
+    }
+
+    public record LiveScoreResponse(
+            UUID matchId,
+            long seq,
+            UUID player1Id,
+            UUID player2Id,
+            List<LiveMatchState.SetScore> sets,
+            String player1Points,
+            String player2Points,
+            boolean tiebreak,
+            UUID serverId,
+            boolean decided,
+            UUID winnerId,
+            String finalScore,
+            List<MatchController.PlayerStatsRequest> playerStats
+    ) {}
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/matches")
@@ -22,13 +23,13 @@ public class MatchController {
     private final MatchQueryService matchQueryService;
 
     @PostMapping
-    public ResponseEntity<MatchEntity> create(@RequestBody CreateMatchRequest request) {
+    public ResponseEntity<MatchResponse> create(@RequestBody CreateMatchRequest request) {
         MatchEntity created = matchService.create(
                 request.getClubId(),
                 request.getPlayer1Id(),
                 request.getPlayer2Id()
         );
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return ResponseEntity.status(HttpStatus.CREATED).body(matchQueryService.toResponse(created));
     }
 
     @GetMapping
@@ -37,13 +38,13 @@ public class MatchController {
     }
 
     @GetMapping("/{id}")
-    public MatchResponse get(@PathVariable String id) {
+    public MatchResponse get(@PathVariable UUID id) {
         return matchQueryService.getById(id);
     }
 
     @PutMapping("/{id}/status")
     public ResponseEntity<MatchResponse> updateStatus(
-            @PathVariable String id,
+            @PathVariable UUID id,
             @RequestBody UpdateMatchStatusRequest request
     ) {
         matchService.updateStatus(id, request);
@@ -54,28 +55,28 @@ public class MatchController {
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable String id) {
+    public void delete(@PathVariable UUID id) {
         matchService.delete(id);
     }
 
     @Data
     public static class CreateMatchRequest {
-        private String clubId;
-        private String player1Id;
-        private String player2Id;
+        private UUID clubId;
+        private UUID player1Id;
+        private UUID player2Id;
     }
 
     @Data
     public static class UpdateMatchStatusRequest {
         private MatchStatus status;
-        private String winnerId;
+        private UUID winnerId;
         private String finalScore;
         private List<PlayerStatsRequest> playerStats;
     }
 
     @Data
     public static class PlayerStatsRequest {
-        private String playerId;
+        private UUID playerId;
         private Double firstServeIn;
         private Double firstServePointsWon;
         private Double secondServePointsWon;
@@ -89,14 +90,14 @@ public class MatchController {
     }
 
     public record MatchResponse(
-            String id,
-            String clubId,
+            UUID id,
+            UUID clubId,
             String clubName,
-            String player1Id,
+            UUID player1Id,
             String player1Name,
-            String player2Id,
+            UUID player2Id,
             String player2Name,
-            String winnerId,
+            UUID winnerId,
             String winnerName,
             String finalScore,
             MatchStatus status,
@@ -0,0 +1,75 @@
+package com.tennispulse.api.controllers;
+
+import com.tennispulse.service.MatchImportService;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk import of completed matches (e.g. a whole tournament draw). Accepts NDJSON (one {@link MatchImportRow}
+ * per line) or CSV (see {@link MatchImportParser#parseCsv}). The upload is all-or-nothing: if any row is
+ * malformed or refers to an unknown player/club, nothing is stored and every offending line is reported.
+ */
+@RestController
+@RequestMapping("/api/matches/bulk")
+@RequiredArgsConstructor
+public class MatchImportController {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final MatchImportParser parser;
+    private final MatchImportService matchImportService;
+
+    @PostMapping(consumes = NDJSON)
+    public ResponseEntity<MatchImportResult> importNdjson(InputStream body) throws IOException {
+        return importRows(parser.parseNdjson(body));
+    }
+
+    @PostMapping(consumes = CSV)
+    public ResponseEntity<MatchImportResult> importCsv(InputStream body) throws IOException {
+        return importRows(parser.parseCsv(body));
+    }
+
+    private ResponseEntity<MatchImportResult> importRows(MatchImportParser.ParsedRows parsed) {
+        if (!parsed.errors().isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(new MatchImportResult(parsed.rows().size(), 0, 0, parsed.errors()));
+        }
+
+        MatchImportResult result = matchImportService.importCompleted(parsed.rows());
+        HttpStatus status = result.errors().isEmpty() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @Data
+    public static class MatchImportRow {
+        /** 1-based line in the upload, for error reporting; not part of the payload. */
+        private int line;
+        private UUID clubId;
+        private UUID player1Id;
+        private UUID player2Id;
+        private UUID winnerId;
+        private String finalScore;
+        private Instant startTime;
+        private Instant endTime;
+        private List<MatchController.PlayerStatsRequest> playerStats;
+    }
+
+    public record RowError(int line, String message) {}
+
+    public record MatchImportResult(
+            int received,
+            int imported,
+            int eventsQueued,
+            List<RowError> errors
+    ) {}
+}
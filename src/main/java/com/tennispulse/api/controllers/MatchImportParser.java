@@ -0,0 +1,224 @@
+package com.tennispulse.api.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams an import upload into {@link MatchImportController.MatchImportRow}s, collecting per-line errors
+ * instead of failing on the first one.
+ */
+@Component
+public class MatchImportParser {
+
+    private static final String PLAYER1_STATS_PREFIX = "p1.";
+    private static final String PLAYER2_STATS_PREFIX = "p2.";
+
+    private final ObjectMapper objectMapper;
+    private final int maxRows;
+
+    public MatchImportParser(ObjectMapper objectMapper,
+                             @Value("${tennispulse.matches.import.max-rows:10000}") int maxRows) {
+        this.objectMapper = objectMapper;
+        this.maxRows = maxRows;
+    }
+
+    public record ParsedRows(List<MatchImportController.MatchImportRow> rows,
+                             List<MatchImportController.RowError> errors) {}
+
+    /**
+     * One JSON object per line; blank lines are ignored.
+     */
+    public ParsedRows parseNdjson(InputStream body) throws IOException {
+        ParsedRows parsed = new ParsedRows(new ArrayList<>(), new ArrayList<>());
+        try (BufferedReader reader = reader(body)) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (!accept(parsed, lineNo)) {
+                    break;
+                }
+                try {
+                    MatchImportController.MatchImportRow row =
+                            objectMapper.readValue(line, MatchImportController.MatchImportRow.class);
+                    row.setLine(lineNo);
+                    parsed.rows().add(row);
+                } catch (JsonProcessingException e) {
+                    parsed.errors().add(new MatchImportController.RowError(lineNo,
+                            "Malformed JSON: " + e.getOriginalMessage()));
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * A header line followed by one match per line. Columns are the {@code MatchImportRow} properties
+     * ({@code clubId,player1Id,player2Id,winnerId,finalScore,startTime,endTime}) plus optional per-player stats
+     * named after the {@code PlayerStatsRequest} properties and prefixed with {@code p1.} / {@code p2.}
+     * (e.g. {@code p1.firstServeIn}). A value containing commas or quotes is quoted as in RFC 4180
+     * ({@code "a, ""b"""}); quoted line breaks are not supported. Empty cells are absent.
+     */
+    public ParsedRows parseCsv(InputStream body) throws IOException {
+        ParsedRows parsed = new ParsedRows(new ArrayList<>(), new ArrayList<>());
+        try (BufferedReader reader = reader(body)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || headerLine.isBlank()) {
+                parsed.errors().add(new MatchImportController.RowError(1, "Missing CSV header"));
+                return parsed;
+            }
+            String[] header;
+            try {
+                header = split(headerLine);
+            } catch (IllegalArgumentException e) {
+                parsed.errors().add(new MatchImportController.RowError(1, "Malformed CSV: " + e.getMessage()));
+                return parsed;
+            }
+
+            String line;
+            int lineNo = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (!accept(parsed, lineNo)) {
+                    break;
+                }
+                String[] cells;
+                try {
+                    cells = split(line);
+                } catch (IllegalArgumentException e) {
+                    parsed.errors().add(new MatchImportController.RowError(lineNo, "Malformed CSV: " + e.getMessage()));
+                    continue;
+                }
+                if (cells.length > header.length) {
+                    parsed.errors().add(new MatchImportController.RowError(lineNo,
+                            "Expected at most " + header.length + " columns but got " + cells.length));
+                    continue;
+                }
+                try {
+                    MatchImportController.MatchImportRow row = toRow(header, cells);
+                    row.setLine(lineNo);
+                    parsed.rows().add(row);
+                } catch (IllegalArgumentException e) {
+                    parsed.errors().add(new MatchImportController.RowError(lineNo, "Invalid value: " + e.getMessage()));
+                }
+            }
+        }
+        return parsed;
+    }
+
+    private MatchImportController.MatchImportRow toRow(String[] header, String[] cells) {
+        Map<String, Object> match = new HashMap<>();
+        Map<String, Object> player1Stats = new LinkedHashMap<>();
+        Map<String, Object> player2Stats = new LinkedHashMap<>();
+
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i].isEmpty()) {
+                continue;
+            }
+            String column = header[i];
+            if (column.startsWith(PLAYER1_STATS_PREFIX)) {
+                player1Stats.put(column.substring(PLAYER1_STATS_PREFIX.length()), cells[i]);
+            } else if (column.startsWith(PLAYER2_STATS_PREFIX)) {
+                player2Stats.put(column.substring(PLAYER2_STATS_PREFIX.length()), cells[i]);
+            } else {
+                match.put(column, cells[i]);
+            }
+        }
+
+        List<Map<String, Object>> playerStats = new ArrayList<>(2);
+        if (!player1Stats.isEmpty()) {
+            player1Stats.put("playerId", match.get("player1Id"));
+            playerStats.add(player1Stats);
+        }
+        if (!player2Stats.isEmpty()) {
+            player2Stats.put("playerId", match.get("player2Id"));
+            playerStats.add(player2Stats);
+        }
+        if (!playerStats.isEmpty()) {
+            match.put("playerStats", playerStats);
+        }
+
+        return objectMapper.convertValue(match, MatchImportController.MatchImportRow.class);
+    }
+
+    private boolean accept(ParsedRows parsed, int lineNo) {
+        if (parsed.rows().size() + parsed.errors().size() < maxRows) {
+            return true;
+        }
+        parsed.errors().add(new MatchImportController.RowError(lineNo,
+                "Too many rows: at most " + maxRows + " matches per upload"));
+        return false;
+    }
+
+    /**
+     * Unquoted cells are trimmed; quoted ones are taken as written, with {@code ""} standing for one quote.
+     *
+     * @throws IllegalArgumentException on a quote inside an unquoted cell, text after a closing quote,
+     *                                  or an unterminated quoted cell
+     */
+    static String[] split(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quotedCell = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c != '"') {
+                    cell.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == ',') {
+                cells.add(quotedCell ? cell.toString() : cell.toString().trim());
+                cell.setLength(0);
+                quotedCell = false;
+            } else if (c == '"') {
+                if (quotedCell || !cell.toString().isBlank()) {
+                    throw new IllegalArgumentException("unexpected quote in column " + (cells.size() + 1));
+                }
+                cell.setLength(0);
+                inQuotes = true;
+                quotedCell = true;
+            } else if (quotedCell) {
+                if (!Character.isWhitespace(c)) {
+                    throw new IllegalArgumentException("text after closing quote in column " + (cells.size() + 1));
+                }
+            } else {
+                cell.append(c);
+            }
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("unterminated quote in column " + (cells.size() + 1));
+        }
+        cells.add(quotedCell ? cell.toString() : cell.toString().trim());
+        return cells.toArray(String[]::new);
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+}
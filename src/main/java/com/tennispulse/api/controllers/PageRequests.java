@@ -0,0 +1,46 @@
+package com.tennispulse.api.controllers;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+/**
+ * Builds {@link Pageable}s for the list endpoints from {@code page}, {@code size} and {@code sort=property[,asc|desc]}.
+ * Only properties backed by an index are sortable, and {@code id} is always appended so pages are stable.
+ */
+final class PageRequests {
+
+    static final int MAX_SIZE = 200;
+
+    private PageRequests() {
+    }
+
+    static Pageable of(int page, int size, String sort, Set<String> sortable) {
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!sortable.contains(property)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Cannot sort by '" + property + "', expected one of " + sortable);
+        }
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Invalid sort direction: " + parts[1].trim()));
+        }
+
+        return PageRequest.of(page, size, Sort.by(direction, property).and(Sort.by(direction, "id")));
+    }
+}
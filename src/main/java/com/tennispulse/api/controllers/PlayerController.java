@@ -1,5 +1,7 @@
 package com.tennispulse.api.controllers;
 
+import com.tennispulse.api.ServedFromCache;
+import com.tennispulse.api.dto.PageResponse;
 import com.tennispulse.domain.PlayerEntity;
 import com.tennispulse.service.PlayerService;
 import lombok.RequiredArgsConstructor;
@@ -7,13 +9,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/players")
 @RequiredArgsConstructor
 public class PlayerController {
 
+    private static final Set<String> SORTABLE = Set.of("name", "createdAt");
+
     private final PlayerService playerService;
 
     @PostMapping
@@ -23,23 +28,31 @@ public class PlayerController {
     }
 
     @GetMapping
-    public List<PlayerEntity> list() {
-        return playerService.findAll();
+    public PageResponse<PlayerEntity> list(@RequestParam(defaultValue = "0") int page,
+                                           @RequestParam(defaultValue = "50") int size,
+                                           @RequestParam(defaultValue = "name,asc") String sort) {
+        return PageResponse.of(playerService.findActive(PageRequests.of(page, size, sort, SORTABLE)));
+    }
+
+    @GetMapping("/count")
+    @ServedFromCache
+    public long count() {
+        return playerService.countActive();
     }
 
     @GetMapping("/{id}")
-    public PlayerEntity get(@PathVariable String id) {
+    public PlayerEntity get(@PathVariable UUID id) {
         return playerService.findById(id);
     }
 
     @PutMapping("/{id}")
-    public PlayerEntity update(@PathVariable String id, @RequestBody PlayerEntity player) {
+    public PlayerEntity update(@PathVariable UUID id, @RequestBody PlayerEntity player) {
         return playerService.update(id, player);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable String id) {
+    public void delete(@PathVariable UUID id) {
         playerService.delete(id);
     }
 }
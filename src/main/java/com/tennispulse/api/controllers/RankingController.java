@@ -1,5 +1,8 @@
 package com.tennispulse.api.controllers;
 
+import com.tennispulse.api.ServedFromCache;
+import com.tennispulse.api.dto.PlayerGamesRankingDto;
+import com.tennispulse.api.dto.PlayerTiebreakRecordDto;
 import com.tennispulse.api.dto.PlayerWinsRankingDto;
 import com.tennispulse.service.RankingService;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +18,24 @@ public class RankingController {
     private final RankingService rankingService;
 
     @GetMapping("/wins/current-year")
+    @ServedFromCache
     public List<PlayerWinsRankingDto> winsCurrentYear(@RequestParam(defaultValue = "10") int limit) {
         return rankingService.getTopWinnersCurrentYear(limit);
     }
 
     @GetMapping("/wins/last-month")
+    @ServedFromCache
     public List<PlayerWinsRankingDto> winsLastMonth(@RequestParam(defaultValue = "10") int limit) {
         return rankingService.getTopWinnersLastMonth(limit);
     }
+
+    @GetMapping("/games-won/current-year")
+    public List<PlayerGamesRankingDto> gamesWonCurrentYear(@RequestParam(defaultValue = "10") int limit) {
+        return rankingService.getTopGamesWonCurrentYear(limit);
+    }
+
+    @GetMapping("/tiebreaks/current-year")
+    public List<PlayerTiebreakRecordDto> tiebreaksCurrentYear(@RequestParam(defaultValue = "10") int limit) {
+        return rankingService.getTiebreakRecordsCurrentYear(limit);
+    }
 }
@@ -0,0 +1,16 @@
+package com.tennispulse.api.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of a listing. There is deliberately no total: it would cost a {@code count(*)} per page,
+ * so clients that need it use the (cached) {@code /count} endpoint of the same resource.
+ */
+public record PageResponse<T>(List<T> content, int page, int size, boolean hasNext) {
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
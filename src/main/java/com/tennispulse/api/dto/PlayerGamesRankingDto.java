@@ -0,0 +1,5 @@
+package com.tennispulse.api.dto;
+
+import java.util.UUID;
+
+public record PlayerGamesRankingDto(UUID playerId, String playerName, long gamesWon, long gamesLost) {}
@@ -0,0 +1,5 @@
+package com.tennispulse.api.dto;
+
+import java.util.UUID;
+
+public record PlayerTiebreakRecordDto(UUID playerId, String playerName, long tiebreaksWon, long tiebreaksLost) {}
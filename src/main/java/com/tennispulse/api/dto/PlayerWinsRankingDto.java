@@ -1,3 +1,5 @@
 package com.tennispulse.api.dto;
 
-public record PlayerWinsRankingDto (String playerId,String playerName,long wins) {}
+import java.util.UUID;
+
+public record PlayerWinsRankingDto (UUID playerId,String playerName,long wins) {}
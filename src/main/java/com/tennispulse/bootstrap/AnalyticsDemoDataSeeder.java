@@ -18,6 +18,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -51,7 +52,7 @@ public class AnalyticsDemoDataSeeder implements CommandLineRunner {
             return;
         }
 
-        long docsCreated = 0L;
+        List<PlayerMatchAnalyticsDocument> docs = new ArrayList<>();
 
         for (MatchEntity match : matches) {
             if (match.getPlayer1() == null || match.getPlayer2() == null) {
@@ -62,15 +63,18 @@ public class AnalyticsDemoDataSeeder implements CommandLineRunner {
             }
 
             for (int i = 0; i < ANALYTICS_SAMPLES_PER_MATCH; i++) {
-                docsCreated += createAnalyticsForPlayer(match, match.getPlayer1());
-                docsCreated += createAnalyticsForPlayer(match, match.getPlayer2());
+                docs.add(createAnalyticsForPlayer(match, match.getPlayer1()));
+                docs.add(createAnalyticsForPlayer(match, match.getPlayer2()));
             }
         }
 
-        log.info("AnalyticsDemoDataSeeder completed. Created {} PlayerMatchAnalytics documents.", docsCreated);
+        // a single insertMany instead of one round trip per document
+        analyticsRepository.insert(docs);
+
+        log.info("AnalyticsDemoDataSeeder completed. Created {} PlayerMatchAnalytics documents.", docs.size());
     }
 
-    private long createAnalyticsForPlayer(MatchEntity match, PlayerEntity player) {
+    private PlayerMatchAnalyticsDocument createAnalyticsForPlayer(MatchEntity match, PlayerEntity player) {
         // 1) Synthetic raw stats
         PlayerStatsPayload rawStats = randomStatsForPlayer(player);
 
@@ -84,8 +88,8 @@ public class AnalyticsDemoDataSeeder implements CommandLineRunner {
         // 4) Build the Mongo document manually, overriding createdAt
         PlayerMatchAnalyticsDocument doc = new PlayerMatchAnalyticsDocument();
 
-        // id: matchId:playerId (same convention as your static from(...) methods)
-        doc.setId(match.getId() + ":" + player.getId());
+        // same id convention as the static from(...) methods
+        doc.setId(PlayerMatchAnalyticsDocument.idFor(match.getId(), player.getId()));
 
         // keep the same types you currently have in the document (UUIDs)
         doc.setMatchId(match.getId());
@@ -105,8 +109,7 @@ public class AnalyticsDemoDataSeeder implements CommandLineRunner {
         // 5) HERE: use a random Instant in the last 12 months
         doc.setCreatedAt(randomInstantWithinLastMonths(MONTHS_BACK));
 
-        analyticsRepository.save(doc);
-        return 1L;
+        return doc;
     }
 
 
@@ -0,0 +1,123 @@
+package com.tennispulse.bootstrap;
+
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.service.RankingService;
+import com.tennispulse.service.analytics.PlayerHighlightsService;
+import com.tennispulse.service.analytics.PopulationPercentileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precomputes the {@code highlights} and {@code rankings} caches and the population percentiles after a
+ * deploy so the first users do not all trigger the Mongo/Postgres aggregations at once.
+ * <p>
+ * Runs after the seeders; command-line runners complete before Spring Boot reports the application as
+ * ready, so the readiness probe only passes once warm-up has finished (or timed out). Failures are logged
+ * and never fail startup.
+ */
+@Slf4j
+@Component
+@Order(10)
+@ConditionalOnProperty(name = "tennispulse.cache.warmup.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CacheWarmer implements CommandLineRunner {
+
+    private final PlayerHighlightsService playerHighlightsService;
+    private final RankingService rankingService;
+    private final PopulationPercentileService percentileService;
+    private final AsyncTaskExecutor cacheRefreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tennispulse.cache.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${tennispulse.cache.warmup.ranking-limits:10,20,50}")
+    private List<Integer> rankingLimits;
+
+    @Value("${tennispulse.cache.warmup.timeout:60s}")
+    private Duration timeout;
+
+    @Override
+    public void run(String... args) {
+        Map<String, Runnable> tasks = warmupTasks();
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        log.info("Warming {} cache entries with concurrency {}", tasks.size(), concurrency);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+
+        try {
+            for (Map.Entry<String, Runnable> task : tasks.entrySet()) {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException();
+                }
+                futures.add(CompletableFuture.runAsync(() -> warm(task.getKey(), task.getValue(), failures),
+                                cacheRefreshExecutor)
+                        .whenComplete((ignored, e) -> permits.release()));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cache warm-up interrupted");
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up did not finish within {} ({} of {} entries started); continuing startup",
+                    timeout, futures.size(), tasks.size());
+        } catch (Exception e) {
+            log.warn("Cache warm-up failed: {}", e.toString());
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("cache.warmup")
+                .description("Time spent precomputing caches at startup")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Cache warm-up finished in {} ms ({} entries, {} failed)",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), tasks.size(), failures.get());
+    }
+
+    private Map<String, Runnable> warmupTasks() {
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        for (TimelineRange range : TimelineRange.values()) {
+            tasks.put("highlights:" + range, () -> playerHighlightsService.getHighlights(range));
+            tasks.put("percentiles:" + range, () -> percentileService.refresh(range));
+        }
+        for (int limit : rankingLimits) {
+            tasks.put("rankings:current-year:" + limit, () -> rankingService.getTopWinnersCurrentYear(limit));
+            tasks.put("rankings:last-month:" + limit, () -> rankingService.getTopWinnersLastMonth(limit));
+        }
+        return tasks;
+    }
+
+    private void warm(String name, Runnable task, AtomicInteger failures) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+            log.debug("Warmed {} in {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("Failed to warm {}: {}", name, e.toString());
+        }
+    }
+}
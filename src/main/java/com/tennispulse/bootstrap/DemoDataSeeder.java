@@ -110,6 +110,7 @@ public class DemoDataSeeder implements CommandLineRunner {
     private void seedMatchesAndAnalytics(List<PlayerEntity> players, List<ClubEntity> clubs) {
         ZoneId zone = ZoneId.systemDefault();
         LocalDate today = LocalDate.now();
+        List<MatchEntity> matches = new ArrayList<>(players.size() * MATCHES_PER_PLAYER);
 
         for (PlayerEntity p1 : players) {
             for (int i = 0; i < MATCHES_PER_PLAYER; i++) {
@@ -145,10 +146,12 @@ public class DemoDataSeeder implements CommandLineRunner {
                         .endTime(endTime)
                         .build();
 
-                match = matchRepository.save(match);
-
+                matches.add(match);
             }
         }
+
+        // one saveAll so inserts go out as JDBC batches (hibernate.jdbc.batch_size)
+        matchRepository.saveAll(matches);
     }
 
     private PlayerEntity pickRandomOpponent(List<PlayerEntity> players, PlayerEntity p1) {
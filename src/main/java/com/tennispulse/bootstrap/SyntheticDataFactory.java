@@ -0,0 +1,212 @@
+package com.tennispulse.bootstrap;
+
+import com.tennispulse.domain.CourtSurface;
+import com.tennispulse.domain.Handedness;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic generator of synthetic players, clubs and completed matches for capacity testing.
+ * <p>
+ * Everything derives from {@code seed}: players and clubs from one stream, and each chunk of matches from its own
+ * stream keyed by the chunk index, so chunks can be generated in parallel and in any order with identical results.
+ * Participation is Zipf-distributed (a few star players and busy clubs account for most matches) and a player's
+ * stats are drawn around means that improve with their rank, so stars also win more.
+ */
+public class SyntheticDataFactory {
+
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bruno", "Carla", "Diego", "Emma", "Felix", "Giulia", "Hiro", "Ines", "Jonas",
+            "Klara", "Leo", "Marta", "Nico", "Olivia", "Pedro", "Quinn", "Rosa", "Sven", "Tara",
+            "Umar", "Vera", "Wei", "Ximena", "Yusuf", "Zoe"
+    };
+    private static final String[] LAST_NAMES = {
+            "Almeida", "Berg", "Costa", "Dubois", "Eriksen", "Fischer", "Garcia", "Horvat", "Ivanov", "Jensen",
+            "Kowalski", "Lopez", "Moreau", "Novak", "Okafor", "Petrov", "Rossi", "Schmidt", "Tanaka", "Weber"
+    };
+    private static final String[][] CITIES = {
+            {"London", "UK"}, {"Madrid", "Spain"}, {"New York", "USA"}, {"Paris", "France"}, {"Melbourne", "Australia"},
+            {"Berlin", "Germany"}, {"Lisbon", "Portugal"}, {"Milan", "Italy"}, {"Tokyo", "Japan"}, {"Toronto", "Canada"}
+    };
+    private static final String[] SCORES_STRAIGHT = {"6-2 6-2", "6-3 6-4", "6-4 6-3", "7-5 6-4", "7-6 6-4", "6-1 6-3"};
+    private static final String[] SCORES_DECIDER = {"6-3 3-6 6-3", "4-6 6-4 7-5", "7-6 4-6 6-4", "6-7 6-3 6-2"};
+
+    private final Settings settings;
+    private final List<SyntheticPlayer> players;
+    private final List<SyntheticClub> clubs;
+    private final double[] playerCdf;
+    private final double[] clubCdf;
+
+    /**
+     * @param until       the most recent match ends before this instant; history goes back {@code months} from it
+     * @param statSpread  multiplier for the standard deviation of every stat (1.0 = default spread)
+     * @param playerSkew  Zipf exponent of player participation (0 = uniform)
+     * @param clubSkew    Zipf exponent of club usage (0 = uniform)
+     */
+    public record Settings(long seed, int players, int clubs, int months, Instant until,
+                           double playerSkew, double clubSkew, double statSpread) {}
+
+    public record SyntheticPlayer(UUID id, String name, Handedness handedness, double skill) {}
+
+    public record SyntheticClub(UUID id, String name, String city, String country, CourtSurface surface) {}
+
+    public record SyntheticMatch(UUID id, UUID clubId, UUID player1Id, UUID player2Id, UUID winnerId,
+                                 String finalScore, Instant startTime, Instant endTime,
+                                 PlayerStatsPayload player1Stats, PlayerStatsPayload player2Stats) {}
+
+    public SyntheticDataFactory(Settings settings) {
+        if (settings.players() < 2 || settings.clubs() < 1) {
+            throw new IllegalArgumentException("Need at least 2 players and 1 club");
+        }
+        this.settings = settings;
+
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        this.players = createPlayers(random);
+        this.clubs = createClubs(random);
+        this.playerCdf = zipfCdf(settings.players(), settings.playerSkew());
+        this.clubCdf = zipfCdf(settings.clubs(), settings.clubSkew());
+    }
+
+    public List<SyntheticPlayer> players() {
+        return players;
+    }
+
+    public List<SyntheticClub> clubs() {
+        return clubs;
+    }
+
+    /**
+     * Matches of one chunk; the same {@code (seed, chunk, count)} always yields the same matches.
+     */
+    public List<SyntheticMatch> matches(int chunk, int count) {
+        SplittableRandom random = new SplittableRandom(settings.seed() ^ (0x9E3779B97F4A7C15L * (chunk + 1L)));
+        long historyMillis = Duration.ofDays(30L * settings.months()).toMillis();
+
+        List<SyntheticMatch> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SyntheticPlayer p1 = players.get(sample(playerCdf, random));
+            SyntheticPlayer p2;
+            do {
+                p2 = players.get(sample(playerCdf, random));
+            } while (p2 == p1);
+            SyntheticClub club = clubs.get(sample(clubCdf, random));
+
+            PlayerStatsPayload s1 = stats(p1, random);
+            PlayerStatsPayload s2 = stats(p2, random);
+            double margin = score(s1) - score(s2);
+            SyntheticPlayer winner = margin >= 0 ? p1 : p2;
+            String[] scores = Math.abs(margin) < 5 ? SCORES_DECIDER : SCORES_STRAIGHT;
+
+            // daytime start, 60–180 minutes long
+            Instant day = settings.until().minusMillis(1 + random.nextLong(historyMillis));
+            Instant start = day.minusSeconds(day.getEpochSecond() % 86_400).plusSeconds(3_600L * (8 + random.nextInt(12)));
+            Instant end = start.plusSeconds(60L * (60 + random.nextInt(121)));
+
+            matches.add(new SyntheticMatch(uuid(random), club.id(), p1.id(), p2.id(), winner.id(),
+                    scores[random.nextInt(scores.length)], start, end, s1, s2));
+        }
+        return matches;
+    }
+
+    private List<SyntheticPlayer> createPlayers(SplittableRandom random) {
+        int n = settings.players();
+        List<SyntheticPlayer> result = new ArrayList<>(n);
+        for (int rank = 0; rank < n; rank++) {
+            String name = FIRST_NAMES[rank % FIRST_NAMES.length] + " "
+                    + LAST_NAMES[(rank / FIRST_NAMES.length) % LAST_NAMES.length];
+            int generation = rank / (FIRST_NAMES.length * LAST_NAMES.length);
+            if (generation > 0) {
+                name += " " + (generation + 1);
+            }
+            Handedness handedness = random.nextInt(100) < 12 ? Handedness.LEFT : Handedness.RIGHT;
+
+            // rank 0 plays the most (Zipf) and is also the strongest
+            double skill = clamp(1.0 - Math.log1p(rank) / Math.log1p(n) + random.nextGaussian() * 0.08, 0.0, 1.0);
+            result.add(new SyntheticPlayer(uuid(random), name, handedness, skill));
+        }
+        return result;
+    }
+
+    private List<SyntheticClub> createClubs(SplittableRandom random) {
+        CourtSurface[] surfaces = CourtSurface.values();
+        List<SyntheticClub> result = new ArrayList<>(settings.clubs());
+        for (int i = 0; i < settings.clubs(); i++) {
+            String[] city = CITIES[i % CITIES.length];
+            result.add(new SyntheticClub(uuid(random), city[0] + " Tennis Club " + (i / CITIES.length + 1),
+                    city[0], city[1], surfaces[random.nextInt(surfaces.length)]));
+        }
+        return result;
+    }
+
+    private PlayerStatsPayload stats(SyntheticPlayer player, SplittableRandom random) {
+        double k = player.skill();
+        PlayerStatsPayload p = new PlayerStatsPayload();
+        p.setPlayerId(player.id());
+        p.setFirstServeIn(percent(55 + 15 * k, 6, random));
+        p.setFirstServePointsWon(percent(60 + 18 * k, 6, random));
+        p.setSecondServePointsWon(percent(42 + 15 * k, 7, random));
+        p.setUnforcedErrorsForehand(count(16 - 8 * k, 4, random));
+        p.setUnforcedErrorsBackhand(count(18 - 8 * k, 4, random));
+        p.setWinners(count(18 + 14 * k, 6, random));
+        p.setBreakPointConversion(percent(30 + 25 * k, 12, random));
+        p.setBreakPointsSaved(percent(45 + 25 * k, 12, random));
+        p.setNetPointsWon(percent(55 + 20 * k, 10, random));
+        p.setLongRallyWinRate(percent(40 + 25 * k, 10, random));
+        return p;
+    }
+
+    /**
+     * Same heuristic as the demo seeder: average of the percentages, minus errors, plus winners.
+     */
+    static double score(PlayerStatsPayload s) {
+        double goodPercent = (s.getFirstServeIn() + s.getFirstServePointsWon() + s.getSecondServePointsWon()
+                + s.getBreakPointConversion() + s.getBreakPointsSaved() + s.getNetPointsWon()
+                + s.getLongRallyWinRate()) / 7.0;
+        double errors = s.getUnforcedErrorsForehand() + s.getUnforcedErrorsBackhand();
+        return goodPercent - 0.5 * errors + 0.3 * s.getWinners();
+    }
+
+    private double percent(double mean, double sd, SplittableRandom random) {
+        return clamp(mean + random.nextGaussian() * sd * settings.statSpread(), 0.0, 100.0);
+    }
+
+    private int count(double mean, double sd, SplittableRandom random) {
+        return (int) Math.round(Math.max(0.0, mean + random.nextGaussian() * sd * settings.statSpread()));
+    }
+
+    static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= total;
+        }
+        return cdf;
+    }
+
+    static int sample(double[] cdf, SplittableRandom random) {
+        int i = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(i >= 0 ? i : -i - 1, cdf.length - 1);
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        // version 4 / IETF variant bits, like UUID.randomUUID()
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,246 @@
+package com.tennispulse.bootstrap;
+
+import com.tennispulse.bootstrap.SyntheticDataFactory.SyntheticClub;
+import com.tennispulse.bootstrap.SyntheticDataFactory.SyntheticMatch;
+import com.tennispulse.bootstrap.SyntheticDataFactory.SyntheticPlayer;
+import com.tennispulse.domain.MatchStatus;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+import com.tennispulse.domain.analytics.PlayerMatchCoachingAnalysis;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+import com.tennispulse.service.analytics.CoachingRuleEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills Postgres and Mongo with a large, production-shaped data set for load and capacity testing
+ * ({@code --spring.profiles.active=synthetic}, settings under {@code tennispulse.synthetic.*}).
+ * <p>
+ * Matches are produced by {@link SyntheticDataFactory} in chunks of {@code batch-size}; each chunk is generated,
+ * written with one JDBC batch (one transaction) and its analytics documents with one unordered Mongo bulk insert,
+ * on {@code parallelism} threads. Rows bypass JPA, so {@code created_at}/{@code updated_at} are set explicitly.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+@Order(1)
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_CLUB = """
+            INSERT INTO club (id, name, city, country, surface_default, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, FALSE)""";
+    private static final String INSERT_PLAYER = """
+            INSERT INTO player (id, name, handedness, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, FALSE)""";
+    private static final String INSERT_MATCH = """
+            INSERT INTO match (id, club_id, player1_id, player2_id, winner_id, final_score,
+                               start_time, end_time, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final CoachingRuleEngine coachingRuleEngine;
+
+    @Value("${tennispulse.synthetic.players:10000}")
+    private int players;
+
+    @Value("${tennispulse.synthetic.clubs:200}")
+    private int clubs;
+
+    @Value("${tennispulse.synthetic.matches:1000000}")
+    private long matches;
+
+    @Value("${tennispulse.synthetic.months:24}")
+    private int months;
+
+    @Value("${tennispulse.synthetic.seed:42}")
+    private long seed;
+
+    @Value("${tennispulse.synthetic.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${tennispulse.synthetic.parallelism:0}")
+    private int parallelism;
+
+    @Value("${tennispulse.synthetic.player-skew:1.0}")
+    private double playerSkew;
+
+    @Value("${tennispulse.synthetic.club-skew:0.8}")
+    private double clubSkew;
+
+    @Value("${tennispulse.synthetic.stat-spread:1.0}")
+    private double statSpread;
+
+    @Value("${tennispulse.synthetic.analytics:true}")
+    private boolean analytics;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM player", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Players already present ({}), skipping SyntheticDataGenerator.", existing);
+            return;
+        }
+
+        Instant now = Instant.now();
+        SyntheticDataFactory factory = new SyntheticDataFactory(new SyntheticDataFactory.Settings(
+                seed, players, clubs, months, now, playerSkew, clubSkew, statSpread));
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        log.info("Generating synthetic data: players={}, clubs={}, matches={}, months={}, seed={}, batchSize={}, threads={}",
+                players, clubs, matches, months, seed, batchSize, threads);
+
+        long started = System.nanoTime();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            insertClubs(factory.clubs(), now);
+            insertPlayers(factory.players(), now);
+        });
+
+        int chunks = (int) ((matches + batchSize - 1) / batchSize);
+        AtomicLong matchesWritten = new AtomicLong();
+        AtomicLong docsWritten = new AtomicLong();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int index = chunk;
+                int count = (int) Math.min(batchSize, matches - (long) chunk * batchSize);
+                futures.add(pool.submit(() -> {
+                    List<SyntheticMatch> batch = factory.matches(index, count);
+                    tx.executeWithoutResult(status -> insertMatches(batch, now));
+                    if (analytics) {
+                        docsWritten.addAndGet(insertAnalytics(batch));
+                    }
+                    long written = matchesWritten.addAndGet(batch.size());
+                    if ((index + 1) % 20 == 0) {
+                        log.info("Synthetic data: {}/{} matches written", written, matches);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Synthetic data generated in {}s: players={}, clubs={}, matches={}, analyticsDocs={} ({} matches/s)",
+                String.format("%.1f", seconds), players, clubs, matchesWritten.get(), docsWritten.get(),
+                Math.round(matchesWritten.get() / Math.max(seconds, 0.001)));
+    }
+
+    private void insertClubs(List<SyntheticClub> rows, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(INSERT_CLUB, rows, batchSize, (ps, c) -> {
+            ps.setObject(1, c.id());
+            ps.setString(2, c.name());
+            ps.setString(3, c.city());
+            ps.setString(4, c.country());
+            ps.setString(5, c.surface().name());
+            ps.setTimestamp(6, ts);
+            ps.setTimestamp(7, ts);
+        });
+    }
+
+    private void insertPlayers(List<SyntheticPlayer> rows, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(INSERT_PLAYER, rows, batchSize, (ps, p) -> {
+            ps.setObject(1, p.id());
+            ps.setString(2, p.name());
+            ps.setString(3, p.handedness().name());
+            ps.setTimestamp(4, ts);
+            ps.setTimestamp(5, ts);
+        });
+    }
+
+    private void insertMatches(List<SyntheticMatch> rows, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(INSERT_MATCH, rows, batchSize, (ps, m) -> {
+            ps.setObject(1, m.id());
+            ps.setObject(2, m.clubId());
+            ps.setObject(3, m.player1Id());
+            ps.setObject(4, m.player2Id());
+            ps.setObject(5, m.winnerId());
+            ps.setString(6, m.finalScore());
+            ps.setTimestamp(7, Timestamp.from(m.startTime()));
+            ps.setTimestamp(8, Timestamp.from(m.endTime()));
+            ps.setString(9, MatchStatus.COMPLETED.name());
+            ps.setTimestamp(10, ts);
+            ps.setTimestamp(11, ts);
+        });
+    }
+
+    private int insertAnalytics(List<SyntheticMatch> rows) {
+        List<PlayerMatchAnalyticsDocument> docs = new ArrayList<>(rows.size() * 2);
+        for (SyntheticMatch m : rows) {
+            docs.add(toDocument(m, m.player1Stats()));
+            docs.add(toDocument(m, m.player2Stats()));
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PlayerMatchAnalyticsDocument.class)
+                .insert(docs)
+                .execute();
+        return docs.size();
+    }
+
+    private PlayerMatchAnalyticsDocument toDocument(SyntheticMatch match, PlayerStatsPayload stats) {
+        PlayerMatchCoachingAnalysis analysis =
+                coachingRuleEngine.analyze(match.id(), stats.getPlayerId(), mapToRawMetrics(stats));
+
+        PlayerMatchAnalyticsDocument doc = new PlayerMatchAnalyticsDocument();
+        doc.setId(PlayerMatchAnalyticsDocument.idFor(match.id(), stats.getPlayerId()));
+        doc.setMatchId(match.id());
+        doc.setPlayerId(stats.getPlayerId());
+        doc.setWinnerId(match.winnerId());
+        doc.setFinalScore(match.finalScore());
+        doc.setRawStats(stats);
+        doc.setCoachingStatus(analysis.getCoachingStatus());
+        doc.setMetrics(analysis.getMetrics());
+        doc.setTips(analysis.getTips());
+        doc.setEngineVersion(analysis.getEngineVersion());
+        // analytics are produced when the match completes
+        doc.setCreatedAt(match.endTime());
+        return doc;
+    }
+
+    private Map<AnalyticsMetric, Double> mapToRawMetrics(PlayerStatsPayload s) {
+        return Map.of(
+                AnalyticsMetric.FIRST_SERVE_IN, s.getFirstServeIn(),
+                AnalyticsMetric.FIRST_SERVE_POINTS_WON, s.getFirstServePointsWon(),
+                AnalyticsMetric.SECOND_SERVE_POINTS_WON, s.getSecondServePointsWon(),
+                AnalyticsMetric.UNFORCED_ERRORS_FOREHAND, s.getUnforcedErrorsForehand().doubleValue(),
+                AnalyticsMetric.UNFORCED_ERRORS_BACKHAND, s.getUnforcedErrorsBackhand().doubleValue(),
+                AnalyticsMetric.WINNERS, s.getWinners().doubleValue(),
+                AnalyticsMetric.BREAK_POINT_CONVERSION, s.getBreakPointConversion(),
+                AnalyticsMetric.BREAK_POINTS_SAVED, s.getBreakPointsSaved(),
+                AnalyticsMetric.NET_POINTS_WON, s.getNetPointsWon(),
+                AnalyticsMetric.LONG_RALLY_WIN_RATE, s.getLongRallyWinRate()
+        );
+    }
+}
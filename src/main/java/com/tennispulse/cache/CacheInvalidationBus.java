@@ -0,0 +1,148 @@
+package com.tennispulse.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts L1 invalidations to the other nodes over Redis pub/sub and applies the ones they send.
+ * <p>
+ * Message format: {@code nodeId \n EVICT|CLEAR|STALE \n cacheName [\n key | staleSince]}. A node ignores its
+ * own messages. The latest STALE timestamp per cache is also kept in Redis so nodes that start later
+ * do not treat invalidated L2 entries as fresh.
+ * <p>
+ * A {@link #local()} bus has no Redis behind it and broadcasts nothing: with a single node (the {@code perf}
+ * profile) there are no other L1s to invalidate.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "tennispulse:cache-invalidation";
+
+    private static final String EVICT = "EVICT";
+    private static final String CLEAR = "CLEAR";
+    private static final String STALE = "STALE";
+    private static final String STALE_MARKER_PREFIX = "tennispulse:cache-stale-since:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public static CacheInvalidationBus local() {
+        return new CacheInvalidationBus(null);
+    }
+
+    void register(TwoLevelCache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    /**
+     * Registers a callback that receives the cache name whenever that cache is cleared or marked stale, on this
+     * node or (through Redis) on any other. Single-key evictions are not reported since every write publishes one.
+     * Called on the invalidating or the pub/sub thread, so it must be quick.
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    void publishEvict(String cacheName, String key) {
+        send(nodeId + "\n" + EVICT + "\n" + cacheName + "\n" + key);
+    }
+
+    void publishClear(String cacheName) {
+        notifyListeners(cacheName);
+        send(nodeId + "\n" + CLEAR + "\n" + cacheName);
+    }
+
+    void publishStale(String cacheName, long staleSince, Duration markerTtl) {
+        notifyListeners(cacheName);
+        send(nodeId + "\n" + STALE + "\n" + cacheName + "\n" + staleSince);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(STALE_MARKER_PREFIX + cacheName, String.valueOf(staleSince), markerTtl);
+        } catch (Exception e) {
+            log.warn("Failed to store stale marker for cache {}: {}", cacheName, e.toString());
+        }
+    }
+
+    /**
+     * @return the last time the cache was marked stale by any node, or {@code 0} if unknown
+     */
+    long lastStaleSince(String cacheName) {
+        if (redisTemplate == null) {
+            return 0L;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(STALE_MARKER_PREFIX + cacheName);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("Failed to read stale marker for cache {}: {}", cacheName, e.toString());
+            return 0L;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+            log.debug("L1 cache {} cleared by node {}", parts[2], parts[0]);
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+            return;
+        } else if (STALE.equals(parts[1]) && parts.length == 4) {
+            cache.markStale(Long.parseLong(parts[3]));
+        } else {
+            return;
+        }
+        notifyListeners(parts[2]);
+    }
+
+    private void notifyListeners(String cacheName) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(cacheName);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed for {}: {}", cacheName, e.toString());
+            }
+        }
+    }
+
+    private void send(String message) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // L1 entries still expire on their own; a lost message only delays coherence
+            log.warn("Failed to publish cache invalidation: {}", e.toString());
+        }
+    }
+}
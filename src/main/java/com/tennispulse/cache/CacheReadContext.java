@@ -0,0 +1,40 @@
+package com.tennispulse.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Carries the age of cached values served during the current HTTP request so the response can report it.
+ * Reads outside a request (background refresh, SQS consumers) are not recorded.
+ */
+public final class CacheReadContext {
+
+    private static final String ATTRIBUTE = CacheReadContext.class.getName();
+
+    /**
+     * @param ageMillis oldest value served in the request
+     * @param stale     whether any of the values had been invalidated and was being recomputed
+     */
+    public record Read(long ageMillis, boolean stale) {
+    }
+
+    private CacheReadContext() {
+    }
+
+    static void record(long ageMillis, boolean stale) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Read previous = (Read) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        Read merged = previous == null
+                ? new Read(ageMillis, stale)
+                : new Read(Math.max(previous.ageMillis(), ageMillis), previous.stale() || stale);
+        attributes.setAttribute(ATTRIBUTE, merged, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public static Read current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null : (Read) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
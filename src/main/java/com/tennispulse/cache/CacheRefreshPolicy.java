@@ -0,0 +1,19 @@
+package com.tennispulse.cache;
+
+import java.time.Duration;
+
+/**
+ * When a cached entry is recomputed in the background instead of on the request path.
+ *
+ * @param ttl               hard expiry of the entry in L2
+ * @param refreshAheadRatio fraction of the TTL after which a read triggers a background refresh
+ * @param maxStaleness      how long after an invalidation the previous value may still be served
+ */
+public record CacheRefreshPolicy(boolean enabled, Duration ttl, double refreshAheadRatio, Duration maxStaleness) {
+
+    public static final CacheRefreshPolicy DISABLED = new CacheRefreshPolicy(false, null, 1.0, Duration.ZERO);
+
+    long refreshAfterMillis() {
+        return (long) (ttl.toMillis() * refreshAheadRatio);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tennispulse.cache;
+
+/**
+ * Recomputes one entry of a {@link TwoLevelCache} for a background refresh by calling the cached method again
+ * through its Spring proxy, so the call gets its own transaction and interceptors on the refresh thread. The
+ * cache recognizes the call and stores the new value instead of serving the current one.
+ */
+@FunctionalInterface
+public interface CacheReloader {
+
+    /**
+     * @param key the cache key, as produced by the method's {@code @Cacheable} key
+     */
+    void reload(Object key);
+}
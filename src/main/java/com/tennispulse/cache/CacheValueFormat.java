@@ -0,0 +1,49 @@
+package com.tennispulse.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Wire format of a cached value. The id is written into the value header, so ids must never be reused.
+ */
+public enum CacheValueFormat {
+    JSON(1),
+    SMILE(2),
+    CBOR(3);
+
+    private final byte id;
+
+    CacheValueFormat(int id) {
+        this.id = (byte) id;
+    }
+
+    public byte id() {
+        return id;
+    }
+
+    public static CacheValueFormat fromId(byte id) {
+        for (CacheValueFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    public ObjectMapper newObjectMapper() {
+        ObjectMapper om = switch (this) {
+            case JSON -> new ObjectMapper();
+            // shared property names: highlight "details" maps repeat the same keys for every category
+            case SMILE -> new ObjectMapper(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                    .build());
+            case CBOR -> new ObjectMapper(new CBORFactory());
+        };
+        return om.registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,9 @@
+package com.tennispulse.cache;
+
+/**
+ * Envelope stored in both cache levels so readers know when a value was computed.
+ *
+ * @param computedAt epoch millis at which the computation started; {@code 0} when unknown
+ */
+public record CachedValue<T>(T value, long computedAt) {
+}
@@ -0,0 +1,71 @@
+package com.tennispulse.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Best-effort cluster-wide "only one node recomputes this key" lock ({@code SET NX PX} with an owner token).
+ * If Redis is unavailable the lock is reported as acquired, so callers fall back to per-node single-flight.
+ */
+@Slf4j
+public class DistributedCacheLock {
+
+    private static final String PREFIX = "tennispulse:cache-lock:";
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    private final String owner = UUID.randomUUID().toString();
+
+    public DistributedCacheLock(StringRedisTemplate redisTemplate,
+                                Duration lockTtl,
+                                Duration waitTimeout,
+                                Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    public boolean tryAcquire(String cacheName, String key) {
+        try {
+            return Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), owner, lockTtl));
+        } catch (Exception e) {
+            log.warn("Cache lock unavailable, computing locally: {}", e.toString());
+            return true;
+        }
+    }
+
+    public void release(String cacheName, String key) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(lockKey(cacheName, key)), owner);
+        } catch (Exception e) {
+            // the lock expires on its own after lockTtl
+            log.warn("Failed to release cache lock {}:{}: {}", cacheName, key, e.toString());
+        }
+    }
+
+    public Duration waitTimeout() {
+        return waitTimeout;
+    }
+
+    public Duration pollInterval() {
+        return pollInterval;
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return PREFIX + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,510 @@
+package com.tennispulse.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache with an optional in-process Caffeine L1 in front of a shared (Redis) L2.
+ * <p>
+ * L1 entries are keyed by the string form of the cache key, the same form Redis uses. Every write,
+ * eviction and clear is broadcast through {@link CacheInvalidationBus} so other nodes drop their L1 copy.
+ * L1 hands the same instance to every caller, so top-level lists, sets and maps are stored as read-only copies;
+ * cached DTOs are expected to be immutable themselves.
+ * <p>
+ * Loads through {@link #get(Object, Callable)} (i.e. {@code @Cacheable(sync = true)}) are single-flight:
+ * concurrent misses for the same key share one computation on this node and, when a
+ * {@link DistributedCacheLock} is configured, nodes that lose the lock wait for the winner's value in L2.
+ * Callers waiting on another caller's computation give up after {@code loadWaitTimeout}, so a hung loader
+ * fails its key's requests instead of holding them indefinitely.
+ * <p>
+ * With an enabled {@link CacheRefreshPolicy}, values are stored as {@link CachedValue} and:
+ * <ul>
+ *     <li>reads of an entry older than {@code ttl * refreshAheadRatio} return it and recompute it in the background;</li>
+ *     <li>{@link #clear()} marks every entry stale instead of deleting it; stale entries are served (and
+ *     refreshed in the background) for up to {@code maxStaleness}, after which readers recompute inline.</li>
+ * </ul>
+ * Background recomputation goes through the cache's {@link CacheReloader}; the caller's {@code valueLoader}
+ * belongs to its own method invocation and is never run after that caller has returned. Without a reloader,
+ * entries are still served until they expire and are then recomputed inline.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    static final Duration DEFAULT_LOAD_WAIT_TIMEOUT = Duration.ofSeconds(30);
+
+    private enum State { FRESH, REFRESH, EXPIRED }
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationBus invalidationBus;
+    private final DistributedCacheLock distributedLock;
+    private final CacheRefreshPolicy refreshPolicy;
+    private final Executor refreshExecutor;
+    private final Duration loadWaitTimeout;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong staleSince = new AtomicLong();
+    private final ThreadLocal<String> reloading = new ThreadLocal<>();
+    private volatile CacheReloader reloader;
+
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder timedOutWaits = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder backgroundRefreshes = new LongAdder();
+    private final LongAdder failedRefreshes = new LongAdder();
+
+    /**
+     * @param l1              local cache, or {@code null} to go straight to L2
+     * @param distributedLock cluster-wide load coordination, or {@code null} for per-node single-flight only
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Cache l2,
+                         CacheInvalidationBus invalidationBus,
+                         DistributedCacheLock distributedLock) {
+        this(name, l1, l2, invalidationBus, distributedLock, CacheRefreshPolicy.DISABLED, null,
+                DEFAULT_LOAD_WAIT_TIMEOUT, Clock.systemUTC());
+    }
+
+    /**
+     * @param refreshExecutor runs background recomputation; required when the policy is enabled
+     * @param loadWaitTimeout how long a caller waits for a computation of the same key already running on this node
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Cache l2,
+                         CacheInvalidationBus invalidationBus,
+                         DistributedCacheLock distributedLock,
+                         CacheRefreshPolicy refreshPolicy,
+                         Executor refreshExecutor,
+                         Duration loadWaitTimeout,
+                         Clock clock) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationBus = invalidationBus;
+        this.distributedLock = distributedLock;
+        this.refreshPolicy = refreshPolicy;
+        this.refreshExecutor = refreshExecutor;
+        this.loadWaitTimeout = loadWaitTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long now = clock.millis();
+        CachedValue<?> entry = lookup(key, localKey(key));
+        if (entry == null || state(entry, now) == State.EXPIRED) {
+            return null;
+        }
+        served(entry, now);
+        return new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        if (localKey.equals(reloading.get())) {
+            return loadAndPut(key, valueLoader);
+        }
+        long now = clock.millis();
+
+        CachedValue<?> entry = lookup(key, localKey);
+        if (entry != null) {
+            State state = state(entry, now);
+            if (state != State.EXPIRED) {
+                if (state == State.REFRESH) {
+                    refreshInBackground(key, localKey);
+                }
+                served(entry, now);
+                return (T) entry.value();
+            }
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, load);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return (T) await(key, valueLoader, existing);
+        }
+
+        try {
+            T value = loadOnce(key, localKey, valueLoader);
+            load.complete(value);
+            CacheReadContext.record(0L, false);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, load);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadOnce(Object key, String localKey, Callable<T> valueLoader) {
+        // a previous leader may have stored the value between our miss and taking the slot
+        CachedValue<?> entry = peek(key, localKey);
+        if (entry != null) {
+            return (T) entry.value();
+        }
+
+        if (distributedLock == null) {
+            return loadAndPut(key, valueLoader);
+        }
+
+        if (distributedLock.tryAcquire(name, localKey)) {
+            try {
+                return loadAndPut(key, valueLoader);
+            } finally {
+                distributedLock.release(name, localKey);
+            }
+        }
+
+        // another node is computing: wait for its value to land in L2, then fall back to computing here
+        long deadline = System.nanoTime() + distributedLock.waitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(distributedLock.pollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            CachedValue<?> remote = peek(key, localKey);
+            if (remote != null) {
+                return (T) remote.value();
+            }
+        }
+        return loadAndPut(key, valueLoader);
+    }
+
+    /**
+     * Recompute an entry that is still being served. At most one refresh per key runs on this node,
+     * and with a distributed lock only the node holding it refreshes; the others keep serving the old value.
+     */
+    private void refreshInBackground(Object key, String localKey) {
+        if (reloader == null || !refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, localKey);
+                } catch (RuntimeException | Error e) {
+                    failedRefreshes.increment();
+                    log.warn("Background refresh of {}::{} failed: {}", name, localKey, e.toString());
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(localKey);
+            log.debug("Background refresh of {}::{} rejected", name, localKey);
+        }
+    }
+
+    private void refresh(Object key, String localKey) {
+        if (distributedLock == null) {
+            reload(key, localKey);
+            return;
+        }
+        if (!distributedLock.tryAcquire(name, localKey)) {
+            return;
+        }
+        try {
+            reload(key, localKey);
+        } finally {
+            distributedLock.release(name, localKey);
+        }
+    }
+
+    private void reload(Object key, String localKey) {
+        reloading.set(localKey);
+        try {
+            reloader.reload(key);
+            backgroundRefreshes.increment();
+        } finally {
+            reloading.remove();
+        }
+    }
+
+    /**
+     * @param reloader recomputes entries in the background; {@code null} disables background refresh
+     */
+    public void setReloader(CacheReloader reloader) {
+        this.reloader = reloader;
+    }
+
+    /**
+     * Look up both levels, counting hits and misses.
+     */
+    private CachedValue<?> lookup(Object key, String localKey) {
+        if (l1 != null) {
+            Object local = l1.getIfPresent(localKey);
+            if (local != null) {
+                return unwrap(local);
+            }
+        }
+
+        ValueWrapper remote = l2.get(key);
+        if (remote == null) {
+            l2Misses.increment();
+            return null;
+        }
+
+        l2Hits.increment();
+        if (l1 != null && remote.get() != null) {
+            l1.put(localKey, readOnly(remote.get()));
+        }
+        return unwrap(remote.get());
+    }
+
+    /**
+     * Re-check both levels without touching the hit/miss statistics; only returns entries that may be served.
+     */
+    private CachedValue<?> peek(Object key, String localKey) {
+        CachedValue<?> entry = null;
+        if (l1 != null) {
+            Object local = l1.asMap().get(localKey);
+            if (local != null) {
+                entry = unwrap(local);
+            }
+        }
+        if (entry == null) {
+            ValueWrapper remote = l2.get(key);
+            if (remote == null) {
+                return null;
+            }
+            if (l1 != null && remote.get() != null) {
+                l1.put(localKey, readOnly(remote.get()));
+            }
+            entry = unwrap(remote.get());
+        }
+        return state(entry, clock.millis()) == State.EXPIRED ? null : entry;
+    }
+
+    private State state(CachedValue<?> entry, long now) {
+        if (!refreshPolicy.enabled() || entry.computedAt() <= 0) {
+            return State.FRESH;
+        }
+
+        // computedAt and staleSince may come from different nodes; small clock skew only shifts the window
+        long invalidatedAt = staleSince.get();
+        if (entry.computedAt() < invalidatedAt) {
+            return now - invalidatedAt <= refreshPolicy.maxStaleness().toMillis() ? State.REFRESH : State.EXPIRED;
+        }
+        return now - entry.computedAt() >= refreshPolicy.refreshAfterMillis() ? State.REFRESH : State.FRESH;
+    }
+
+    private void served(CachedValue<?> entry, long now) {
+        if (entry.computedAt() <= 0) {
+            return;
+        }
+        boolean stale = entry.computedAt() < staleSince.get();
+        if (stale) {
+            staleServed.increment();
+        }
+        CacheReadContext.record(Math.max(0L, now - entry.computedAt()), stale);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+        // stamp with the start time so an invalidation that lands mid-computation still marks the result stale
+        long startedAt = clock.millis();
+        T value;
+        try {
+            value = (T) readOnly(valueLoader.call());
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        putEntry(key, new CachedValue<>(value, startedAt));
+        return value;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        try {
+            return load.get(loadWaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (TimeoutException e) {
+            timedOutWaits.increment();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putEntry(key, new CachedValue<>(readOnly(value), clock.millis()));
+    }
+
+    private void putEntry(Object key, CachedValue<?> entry) {
+        l2.put(key, entry);
+        String localKey = localKey(key);
+        if (l1 != null && entry.value() != null) {
+            l1.put(localKey, entry);
+        }
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        String localKey = localKey(key);
+        evictLocal(localKey);
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    /**
+     * With refresh enabled this marks all entries stale rather than deleting them, so the next readers
+     * keep getting the previous value while one of them recomputes it.
+     */
+    @Override
+    public void clear() {
+        if (refreshPolicy.enabled()) {
+            long now = clock.millis();
+            markStale(now);
+            invalidationBus.publishStale(name, now, refreshPolicy.ttl());
+            return;
+        }
+        l2.clear();
+        clearLocal();
+        invalidationBus.publishClear(name);
+    }
+
+    void evictLocal(String localKey) {
+        if (l1 != null) {
+            l1.invalidate(localKey);
+        }
+    }
+
+    void clearLocal() {
+        if (l1 != null) {
+            l1.invalidateAll();
+        }
+    }
+
+    void markStale(long invalidatedAt) {
+        staleSince.accumulateAndGet(invalidatedAt, Math::max);
+    }
+
+    public long l1Hits() {
+        return l1 != null ? l1.stats().hitCount() : 0L;
+    }
+
+    public long l1Misses() {
+        return l1 != null ? l1.stats().missCount() : 0L;
+    }
+
+    public long l2Hits() {
+        return l2Hits.sum();
+    }
+
+    public long l2Misses() {
+        return l2Misses.sum();
+    }
+
+    public long coalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public long timedOutWaits() {
+        return timedOutWaits.sum();
+    }
+
+    public long staleServed() {
+        return staleServed.sum();
+    }
+
+    public long backgroundRefreshes() {
+        return backgroundRefreshes.sum();
+    }
+
+    public long failedRefreshes() {
+        return failedRefreshes.sum();
+    }
+
+    private static CachedValue<?> unwrap(Object stored) {
+        // values written without the envelope (or by another cache) carry no timestamp
+        return stored instanceof CachedValue<?> cached ? cached : new CachedValue<>(stored, 0L);
+    }
+
+    private static Object readOnly(Object value) {
+        if (value instanceof CachedValue<?> cached) {
+            return new CachedValue<>(readOnly(cached.value()), cached.computedAt());
+        }
+        if (value instanceof List<?> list) {
+            return Collections.unmodifiableList(new ArrayList<>(list));
+        }
+        if (value instanceof Set<?> set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+        return value;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
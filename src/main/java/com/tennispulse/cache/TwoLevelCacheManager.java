@@ -0,0 +1,155 @@
+package com.tennispulse.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Wraps every cache of the L2 manager in a {@link TwoLevelCache} and exports per-level hit/miss counters
+ * ({@code cache.level.gets}), hit ratios ({@code cache.level.hit.ratio}) and loads that joined an
+ * in-flight computation ({@code cache.loads.coalesced}) or gave up waiting for it ({@code cache.loads.wait.timeouts}). Caches with a {@link CacheRefreshPolicy} also export
+ * stale reads ({@code cache.stale.served}) and background recomputations ({@code cache.refreshes}).
+ */
+public class TwoLevelCacheManager implements CacheManager, MeterBinder {
+
+    private final CacheManager l2Manager;
+    private final CacheInvalidationBus invalidationBus;
+    private final DistributedCacheLock distributedLock;
+    private final boolean l1Enabled;
+    private final long l1MaximumSize;
+    private final Duration l1ExpireAfterWrite;
+    private final Map<String, CacheRefreshPolicy> refreshPolicies;
+    private final Executor refreshExecutor;
+    private final Duration loadWaitTimeout;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, CacheReloader> reloaders = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager l2Manager,
+                                CacheInvalidationBus invalidationBus,
+                                DistributedCacheLock distributedLock,
+                                boolean l1Enabled,
+                                long l1MaximumSize,
+                                Duration l1ExpireAfterWrite,
+                                Map<String, CacheRefreshPolicy> refreshPolicies,
+                                Executor refreshExecutor,
+                                Duration loadWaitTimeout) {
+        this.l2Manager = l2Manager;
+        this.invalidationBus = invalidationBus;
+        this.distributedLock = distributedLock;
+        this.l1Enabled = l1Enabled;
+        this.l1MaximumSize = l1MaximumSize;
+        this.l1ExpireAfterWrite = l1ExpireAfterWrite;
+        this.refreshPolicies = refreshPolicies;
+        this.refreshExecutor = refreshExecutor;
+        this.loadWaitTimeout = loadWaitTimeout;
+
+        l2Manager.getCacheNames().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        Cache l2 = l2Manager.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, n -> {
+            CacheRefreshPolicy policy = refreshPolicies.getOrDefault(n, CacheRefreshPolicy.DISABLED);
+            TwoLevelCache cache = new TwoLevelCache(n, newL1(), l2, invalidationBus, distributedLock,
+                    policy, refreshExecutor, loadWaitTimeout, Clock.systemUTC());
+            cache.setReloader(reloaders.get(n));
+            invalidationBus.register(cache);
+            if (policy.enabled()) {
+                cache.markStale(invalidationBus.lastStaleSince(n));
+            }
+            return cache;
+        });
+    }
+
+    /**
+     * Lets {@code name}'s entries be refreshed in the background; see {@link TwoLevelCache}.
+     */
+    public void registerReloader(String name, CacheReloader reloader) {
+        reloaders.put(name, reloader);
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            cache.setReloader(reloader);
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.values().forEach(cache -> {
+            bindLevel(registry, cache, "l1", TwoLevelCache::l1Hits, TwoLevelCache::l1Misses);
+            bindLevel(registry, cache, "l2", TwoLevelCache::l2Hits, TwoLevelCache::l2Misses);
+            FunctionCounter.builder("cache.loads.coalesced", cache, TwoLevelCache::coalescedLoads)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+            FunctionCounter.builder("cache.loads.wait.timeouts", cache, TwoLevelCache::timedOutWaits)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+            FunctionCounter.builder("cache.stale.served", cache, TwoLevelCache::staleServed)
+                    .tags("cache", cache.getName())
+                    .register(registry);
+            FunctionCounter.builder("cache.refreshes", cache, TwoLevelCache::backgroundRefreshes)
+                    .tags("cache", cache.getName(), "result", "success")
+                    .register(registry);
+            FunctionCounter.builder("cache.refreshes", cache, TwoLevelCache::failedRefreshes)
+                    .tags("cache", cache.getName(), "result", "failure")
+                    .register(registry);
+        });
+    }
+
+    private void bindLevel(MeterRegistry registry,
+                           TwoLevelCache cache,
+                           String level,
+                           ToDoubleFunction<TwoLevelCache> hits,
+                           ToDoubleFunction<TwoLevelCache> misses) {
+        FunctionCounter.builder("cache.level.gets", cache, hits)
+                .tags("cache", cache.getName(), "level", level, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.level.gets", cache, misses)
+                .tags("cache", cache.getName(), "level", level, "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.level.hit.ratio", cache, c -> {
+                    double h = hits.applyAsDouble(c);
+                    double total = h + misses.applyAsDouble(c);
+                    return total == 0 ? 0.0 : h / total;
+                })
+                .tags("cache", cache.getName(), "level", level)
+                .register(registry);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> newL1() {
+        if (!l1Enabled) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(l1ExpireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
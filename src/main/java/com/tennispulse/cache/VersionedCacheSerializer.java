@@ -0,0 +1,146 @@
+package com.tennispulse.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Redis value serializer with a small header so the encoding can change between deployments.
+ * <pre>
+ * [version:1][format:1][flags:1][uncompressedLength:4, only if compressed][payload]
+ * </pre>
+ * Values written before the header existed (plain JSON starting with '{' or '[') are still read.
+ * Values with an unknown version or format, that no longer match the cached type, or whose header claims more
+ * than {@code maxEntrySize} uncompressed bytes are treated as a cache miss instead of failing the request.
+ */
+@Slf4j
+public class VersionedCacheSerializer<T> implements RedisSerializer<T> {
+
+    static final byte VERSION = 1;
+    static final byte FLAG_LZ4 = 0x01;
+    static final int DEFAULT_MAX_ENTRY_SIZE = 16 * 1024 * 1024;
+
+    private static final int HEADER_LENGTH = 3;
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final CacheValueFormat format;
+    private final JavaType type;
+    private final int compressionThreshold;
+    private final int maxEntrySize;
+    private final Map<CacheValueFormat, ObjectMapper> mappers = new EnumMap<>(CacheValueFormat.class);
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    public VersionedCacheSerializer(CacheValueFormat format, JavaType type, int compressionThreshold) {
+        this(format, type, compressionThreshold, DEFAULT_MAX_ENTRY_SIZE);
+    }
+
+    /**
+     * @param compressionThreshold payloads of at least this many bytes are LZ4-compressed; 0 or less disables compression
+     * @param maxEntrySize         largest uncompressed payload that is decompressed on read
+     */
+    public VersionedCacheSerializer(CacheValueFormat format, JavaType type, int compressionThreshold, int maxEntrySize) {
+        this.format = format;
+        this.type = type;
+        this.compressionThreshold = compressionThreshold;
+        this.maxEntrySize = maxEntrySize;
+        for (CacheValueFormat f : CacheValueFormat.values()) {
+            mappers.put(f, f.newObjectMapper());
+        }
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] payload;
+        try {
+            payload = mappers.get(format).writerFor(type).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value as " + format, e);
+        }
+
+        boolean compress = compressionThreshold > 0 && payload.length >= compressionThreshold;
+        if (!compress) {
+            return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                    .put(VERSION).put(format.id()).put((byte) 0)
+                    .put(payload)
+                    .array();
+        }
+
+        byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+        int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0, compressed.length);
+
+        return ByteBuffer.allocate(HEADER_LENGTH + Integer.BYTES + compressedLength)
+                .put(VERSION).put(format.id()).put(FLAG_LZ4)
+                .putInt(payload.length)
+                .put(compressed, 0, compressedLength)
+                .array();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] == '{' || bytes[0] == '[') {
+            return read(CacheValueFormat.JSON, bytes, 0, bytes.length);
+        }
+
+        if (bytes.length < HEADER_LENGTH || bytes[0] != VERSION) {
+            log.warn("Ignoring cache value with unsupported header version {}", bytes[0]);
+            return null;
+        }
+
+        CacheValueFormat stored = CacheValueFormat.fromId(bytes[1]);
+        if (stored == null) {
+            log.warn("Ignoring cache value with unknown format id {}", bytes[1]);
+            return null;
+        }
+
+        if ((bytes[2] & FLAG_LZ4) == 0) {
+            return read(stored, bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        }
+
+        if (bytes.length < HEADER_LENGTH + Integer.BYTES) {
+            log.warn("Ignoring compressed cache value without a length");
+            return null;
+        }
+        int uncompressedLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, Integer.BYTES).getInt();
+        if (uncompressedLength < 0 || uncompressedLength > maxEntrySize) {
+            log.warn("Ignoring cache value with uncompressed length {} (max {})", uncompressedLength, maxEntrySize);
+            return null;
+        }
+        byte[] payload = new byte[uncompressedLength];
+        try {
+            decompressor.decompress(bytes, HEADER_LENGTH + Integer.BYTES, payload, 0, uncompressedLength);
+        } catch (LZ4Exception e) {
+            log.warn("Ignoring cache value that cannot be decompressed: {}", e.getMessage());
+            return null;
+        }
+        return read(stored, payload, 0, payload.length);
+    }
+
+    private T read(CacheValueFormat stored, byte[] bytes, int offset, int length) {
+        try {
+            return mappers.get(stored).readerFor(type).readValue(bytes, offset, length);
+        } catch (IOException e) {
+            log.warn("Ignoring cache value that cannot be read as {}: {}", type, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.tennispulse.config;
+
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.cache.CacheInvalidationBus;
+import com.tennispulse.cache.CacheRefreshPolicy;
+import com.tennispulse.cache.DistributedCacheLock;
+import com.tennispulse.cache.TwoLevelCacheManager;
+import com.tennispulse.service.RankingService;
+import com.tennispulse.service.analytics.PlayerHighlightsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The {@link TwoLevelCacheManager} used by {@code @Cacheable}/{@code @CacheEvict}. Its L2 is the
+ * {@code l2CacheManager} bean: Redis ({@link RedisConfig}), or an in-process cache in the {@code perf} profile
+ * ({@link PerfConfig}).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    static final String L2_CACHE_MANAGER = "l2CacheManager";
+
+    static final Duration HIGHLIGHTS_TTL = Duration.ofHours(1);
+    static final Duration RANKINGS_TTL = Duration.ofMinutes(30);
+    // evicted on create/delete; the TTL only bounds drift from writes that bypass the services
+    static final Duration COUNTS_TTL = Duration.ofMinutes(10);
+
+    @Value("${tennispulse.cache.l1.enabled:true}")
+    private boolean l1Enabled;
+
+    @Value("${tennispulse.cache.l1.maximum-size:200}")
+    private long l1MaximumSize;
+
+    @Value("${tennispulse.cache.l1.expire-after-write:30s}")
+    private Duration l1ExpireAfterWrite;
+
+    @Value("${tennispulse.cache.load-wait-timeout:30s}")
+    private Duration loadWaitTimeout;
+
+    @Value("${tennispulse.cache.refresh.enabled:true}")
+    private boolean refreshEnabled;
+
+    @Value("${tennispulse.cache.refresh.refresh-ahead-ratio:0.8}")
+    private double refreshAheadRatio;
+
+    @Value("${tennispulse.cache.refresh.max-staleness:5s}")
+    private Duration maxStaleness;
+
+    /**
+     * Caffeine L1 in front of the L2 manager; this is the manager used by {@code @Cacheable}/{@code @CacheEvict}.
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(@Qualifier(L2_CACHE_MANAGER) CacheManager l2CacheManager,
+                                             CacheInvalidationBus cacheInvalidationBus,
+                                             ObjectProvider<DistributedCacheLock> distributedLock,
+                                             AsyncTaskExecutor cacheRefreshExecutor) {
+        Map<String, CacheRefreshPolicy> refreshPolicies = Map.of(
+                "highlights", new CacheRefreshPolicy(refreshEnabled, HIGHLIGHTS_TTL, refreshAheadRatio, maxStaleness),
+                "rankings", new CacheRefreshPolicy(refreshEnabled, RANKINGS_TTL, refreshAheadRatio, maxStaleness));
+
+        return new TwoLevelCacheManager(l2CacheManager, cacheInvalidationBus, distributedLock.getIfAvailable(),
+                l1Enabled, l1MaximumSize, l1ExpireAfterWrite, refreshPolicies, cacheRefreshExecutor,
+                loadWaitTimeout);
+    }
+
+    /**
+     * Background refreshes call the cached methods again through their proxies, on the refresh thread, instead of
+     * reusing the invocation of the request that found the entry due. Keys are the ones built by the
+     * {@code @Cacheable} annotations of {@link PlayerHighlightsService} and {@link RankingService}.
+     */
+    @Bean
+    public SmartInitializingSingleton cacheReloaders(TwoLevelCacheManager cacheManager,
+                                                     PlayerHighlightsService playerHighlightsService,
+                                                     RankingService rankingService) {
+        return () -> {
+            cacheManager.registerReloader("highlights",
+                    key -> playerHighlightsService.getHighlights((TimelineRange) key));
+            cacheManager.registerReloader("rankings", key -> {
+                String rankingKey = (String) key;
+                int limit = Integer.parseInt(rankingKey.substring(rankingKey.lastIndexOf(':') + 1));
+                if (rankingKey.startsWith("wins:current-year:")) {
+                    rankingService.getTopWinnersCurrentYear(limit);
+                } else if (rankingKey.startsWith("wins:last-month:")) {
+                    rankingService.getTopWinnersLastMonth(limit);
+                }
+            });
+        };
+    }
+}
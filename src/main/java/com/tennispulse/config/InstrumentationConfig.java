@@ -0,0 +1,40 @@
+package com.tennispulse.config;
+
+import com.tennispulse.logging.MethodAllowlistPointcut;
+import com.tennispulse.logging.MethodTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Per-method latency timers for the hot paths listed in {@code tennispulse.instrumentation.methods}.
+ * Methods that are not listed are not proxied for instrumentation at all.
+ */
+@Slf4j
+@Configuration
+public class InstrumentationConfig {
+
+    @Value("${tennispulse.instrumentation.methods:}")
+    private List<String> methods;
+
+    @Value("${tennispulse.instrumentation.argument-sample-rate:0.01}")
+    private double argumentSampleRate;
+
+    @Value("${tennispulse.instrumentation.percentiles:}")
+    private double[] percentiles;
+
+    @Bean
+    public Advisor methodTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        log.info("Method timing enabled for {}", methods);
+        return new DefaultPointcutAdvisor(
+                new MethodAllowlistPointcut(methods),
+                new MethodTimingInterceptor(meterRegistry::getObject, argumentSampleRate, percentiles));
+    }
+}
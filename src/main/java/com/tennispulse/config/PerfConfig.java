@@ -0,0 +1,172 @@
+package com.tennispulse.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.tennispulse.cache.CacheInvalidationBus;
+import com.tennispulse.perf.InMemoryPlayerMatchAnalyticsRepository;
+import com.tennispulse.perf.InMemoryPlayerMonthlySketchRepository;
+import com.tennispulse.perf.InMemorySqsClient;
+import com.tennispulse.perf.InMemorySqsListener;
+import com.tennispulse.perf.PerfTokenIssuer;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import com.tennispulse.repository.analytics.PlayerMonthlySketchRepository;
+import com.tennispulse.service.analytics.MatchCompletedSqsConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+
+/**
+ * In-process stand-ins for the external services, active with the {@code perf} profile
+ * ({@code application-perf.yml} turns off the SQS, Redis and Mongo auto-configuration):
+ * <ul>
+ *     <li>SQS: {@link InMemorySqsClient} behind the real {@code SqsMatchEventPublisher}, drained by
+ *     {@link InMemorySqsListener} into the real {@link MatchCompletedSqsConsumer};</li>
+ *     <li>Redis: a Caffeine L2 with the Redis TTLs and a {@link CacheInvalidationBus#local() local} invalidation bus
+ *     (values are kept as objects, so L2 serialization is not part of the profile);</li>
+ *     <li>Mongo: {@link InMemoryPlayerMatchAnalyticsRepository} and {@link InMemoryPlayerMonthlySketchRepository};</li>
+ *     <li>Keycloak: HS256 tokens signed with {@code tennispulse.perf.jwt.secret}, see {@link PerfTokenIssuer}; the startup token goes to
+ *     {@code tennispulse.perf.jwt.token-file}.</li>
+ * </ul>
+ * Postgres is still required.
+ */
+@Slf4j
+@Configuration
+@Profile("perf")
+public class PerfConfig {
+
+    @Value("${tennispulse.sqs.match-completed-queue-name}")
+    private String matchCompletedQueueName;
+
+    @Value("${tennispulse.sqs.match-completed-dlq-name}")
+    private String matchCompletedDlqName;
+
+    @Value("${tennispulse.perf.sqs.consumers:10}")
+    private int sqsConsumers;
+
+    @Value("${tennispulse.perf.jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${tennispulse.perf.jwt.token-validity:12h}")
+    private Duration tokenValidity;
+
+    @Value("${tennispulse.perf.jwt.token-file:target/perf-token.jwt}")
+    private Path tokenFile;
+
+    @Bean
+    public InMemorySqsClient sqsClient() {
+        return new InMemorySqsClient();
+    }
+
+    @Bean
+    public String matchCompletedQueueUrl(InMemorySqsClient sqsClient) {
+        return sqsClient.createQueue(CreateQueueRequest.builder()
+                .queueName(matchCompletedQueueName)
+                .build()).queueUrl();
+    }
+
+    @Bean
+    public String matchCompletedDlqUrl(InMemorySqsClient sqsClient) {
+        return sqsClient.createQueue(CreateQueueRequest.builder()
+                .queueName(matchCompletedDlqName)
+                .build()).queueUrl();
+    }
+
+    @Bean
+    public InMemorySqsListener matchCompletedListener(InMemorySqsClient sqsClient,
+                                                      @Qualifier("matchCompletedQueueUrl") String matchCompletedQueueUrl,
+                                                      MatchCompletedSqsConsumer consumer) {
+        return new InMemorySqsListener(sqsClient, matchCompletedQueueUrl, consumer, sqsConsumers);
+    }
+
+    @Bean(CacheConfig.L2_CACHE_MANAGER)
+    public CaffeineCacheManager localCacheManager() {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache("highlights",
+                Caffeine.newBuilder().expireAfterWrite(CacheConfig.HIGHLIGHTS_TTL).build());
+        manager.registerCustomCache("rankings",
+                Caffeine.newBuilder().expireAfterWrite(CacheConfig.RANKINGS_TTL).build());
+        manager.registerCustomCache("counts",
+                Caffeine.newBuilder().expireAfterWrite(CacheConfig.COUNTS_TTL).build());
+        return manager;
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return CacheInvalidationBus.local();
+    }
+
+    @Bean
+    public PlayerMatchAnalyticsRepository playerMatchAnalyticsRepository() {
+        return new InMemoryPlayerMatchAnalyticsRepository();
+    }
+
+    @Bean
+    public PlayerMonthlySketchRepository playerMonthlySketchRepository() {
+        return new InMemoryPlayerMonthlySketchRepository();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        return NimbusJwtDecoder.withSecretKey(secretKey()).macAlgorithm(MacAlgorithm.HS256).build();
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder() {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(secretKey()));
+    }
+
+    @Bean
+    public PerfTokenIssuer perfTokenIssuer(JwtEncoder jwtEncoder) {
+        return new PerfTokenIssuer(jwtEncoder);
+    }
+
+    /**
+     * Writes a USER+ADMIN token to {@code tennispulse.perf.jwt.token-file} rather than the log, which tends to be
+     * shipped and kept far longer than the token is meant to live.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void writeToken(ApplicationReadyEvent event) throws IOException {
+        String token = event.getApplicationContext().getBean(PerfTokenIssuer.class).issue("perf", tokenValidity);
+        Path target = tokenFile.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Files.deleteIfExists(target);
+        if (target.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(target, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        Files.writeString(target, token, StandardCharsets.UTF_8);
+        log.info("perf profile: external services are in-memory. Access token (valid {}) written to {}",
+                tokenValidity, target);
+    }
+
+    private SecretKey secretKey() {
+        if (jwtSecret == null || jwtSecret.isBlank()) {
+            throw new IllegalStateException("perf profile: set TENNISPULSE_PERF_JWT_SECRET (tennispulse.perf.jwt.secret)");
+        }
+        byte[] key = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < 32) {
+            throw new IllegalStateException("tennispulse.perf.jwt.secret must be at least 32 bytes for HS256");
+        }
+        return new SecretKeySpec(key, "HmacSHA256");
+    }
+}
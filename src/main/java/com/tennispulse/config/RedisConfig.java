@@ -1,61 +1,111 @@
 package com.tennispulse.config;
 
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.tennispulse.api.analytics.dto.HighlightsDashboardResponse;
 import com.tennispulse.api.dto.PlayerWinsRankingDto;
-import org.springframework.cache.annotation.EnableCaching;
+import com.tennispulse.cache.CacheInvalidationBus;
+import com.tennispulse.cache.CacheValueFormat;
+import com.tennispulse.cache.CachedValue;
+import com.tennispulse.cache.DistributedCacheLock;
+import com.tennispulse.cache.VersionedCacheSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
 import java.util.List;
 
+/**
+ * Redis as the L2 of {@link CacheConfig}'s two-level cache, plus the pub/sub channel that keeps the L1s of all
+ * nodes coherent. Replaced by in-process stand-ins in the {@code perf} profile.
+ */
 @Configuration
-@EnableCaching
+@Profile("!perf")
 public class RedisConfig {
 
+    @Value("${tennispulse.cache.highlights.format:SMILE}")
+    private CacheValueFormat highlightsFormat;
+
+    @Value("${tennispulse.cache.highlights.compression-threshold:2048}")
+    private int highlightsCompressionThreshold;
+
+    @Value("${tennispulse.cache.rankings.format:SMILE}")
+    private CacheValueFormat rankingsFormat;
+
+    @Value("${tennispulse.cache.rankings.compression-threshold:2048}")
+    private int rankingsCompressionThreshold;
+
+    @Value("${tennispulse.cache.max-entry-size:16MB}")
+    private DataSize maxEntrySize;
+
+    @Value("${tennispulse.cache.load-lock.ttl:30s}")
+    private Duration loadLockTtl;
+
+    @Value("${tennispulse.cache.load-lock.wait-timeout:10s}")
+    private Duration loadLockWaitTimeout;
+
+    @Value("${tennispulse.cache.load-lock.poll-interval:50ms}")
+    private Duration loadLockPollInterval;
+
+    /**
+     * Lets only one node recompute a missing key; without it, concurrent misses are still coalesced per node.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tennispulse.cache.load-lock.enabled", havingValue = "true")
+    public DistributedCacheLock distributedCacheLock(StringRedisTemplate stringRedisTemplate) {
+        return new DistributedCacheLock(stringRedisTemplate, loadLockTtl, loadLockWaitTimeout, loadLockPollInterval);
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationBus(stringRedisTemplate);
+    }
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-
-        ObjectMapper om = new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        Jackson2JsonRedisSerializer<HighlightsDashboardResponse> highlightsSer =
-                new Jackson2JsonRedisSerializer<>(om, HighlightsDashboardResponse.class);
-
-        JavaType rankingListType = om.getTypeFactory()
-                .constructCollectionType(List.class, PlayerWinsRankingDto.class);
-
-        Jackson2JsonRedisSerializer<Object> rankingsSer =
-                new Jackson2JsonRedisSerializer<>(om, Object.class) {
-                    @Override
-                    public Object deserialize(byte[] bytes) {
-                        try {
-                            return om.readValue(bytes, rankingListType);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-
-                    @Override
-                    public byte[] serialize(Object value) {
-                        try {
-                            return om.writeValueAsBytes(value);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                };
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Bean(CacheConfig.L2_CACHE_MANAGER)
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+
+        TypeFactory types = TypeFactory.defaultInstance();
+
+        // values are wrapped in CachedValue so every node can tell how old an entry is
+        JavaType highlightsType = types.constructParametricType(CachedValue.class,
+                types.constructType(HighlightsDashboardResponse.class));
+        JavaType rankingListType = types.constructParametricType(CachedValue.class,
+                types.constructCollectionType(List.class, PlayerWinsRankingDto.class));
+
+        JavaType countType = types.constructParametricType(CachedValue.class, Long.class);
+        int maxEntryBytes = Math.toIntExact(maxEntrySize.toBytes());
+
+        VersionedCacheSerializer<CachedValue<HighlightsDashboardResponse>> highlightsSer =
+                new VersionedCacheSerializer<>(highlightsFormat, highlightsType, highlightsCompressionThreshold,
+                        maxEntryBytes);
+
+        VersionedCacheSerializer<CachedValue<List<PlayerWinsRankingDto>>> rankingsSer =
+                new VersionedCacheSerializer<>(rankingsFormat, rankingListType, rankingsCompressionThreshold,
+                        maxEntryBytes);
+
+        VersionedCacheSerializer<CachedValue<Long>> countsSer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, countType, 0, maxEntryBytes);
 
         RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
@@ -63,15 +113,20 @@ public class RedisConfig {
 
         RedisCacheConfiguration highlightsCfg = base
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(highlightsSer))
-                .entryTtl(Duration.ofHours(1));
+                .entryTtl(CacheConfig.HIGHLIGHTS_TTL);
 
         RedisCacheConfiguration rankingsCfg = base
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(rankingsSer))
-                .entryTtl(Duration.ofMinutes(30));
+                .entryTtl(CacheConfig.RANKINGS_TTL);
+
+        RedisCacheConfiguration countsCfg = base
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(countsSer))
+                .entryTtl(CacheConfig.COUNTS_TTL);
 
         return RedisCacheManager.builder(connectionFactory)
                 .withCacheConfiguration("highlights", highlightsCfg)
                 .withCacheConfiguration("rankings", rankingsCfg)
+                .withCacheConfiguration("counts", countsCfg)
                 .build();
     }
-}
\ No newline at end of file
+}
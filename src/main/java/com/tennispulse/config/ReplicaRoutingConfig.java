@@ -0,0 +1,71 @@
+package com.tennispulse.config;
+
+import com.tennispulse.datasource.ReplicaLagGuard;
+import com.tennispulse.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write splitting, active when {@code tennispulse.datasource.replicas.urls} lists streaming replicas of
+ * {@code spring.datasource.url} (same credentials). The application {@code DataSource} is a
+ * {@link LazyConnectionDataSourceProxy} over the primary pool: the physical connection is only taken at the first
+ * statement, once the transaction manager has marked the connection read-only, and {@code readOnly} transactions
+ * then get it from the {@link ReplicaRoutingDataSource}. Everything else, including Flyway and reads inside
+ * read-write transactions, stays on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tennispulse.datasource.replicas", name = "urls")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ReplicaLagGuard replicaLagGuard,
+            MeterRegistry meterRegistry,
+            @Value("${tennispulse.datasource.replicas.urls}") List<String> urls,
+            @Value("${tennispulse.datasource.replicas.pool-size:10}") int poolSize,
+            @Value("${tennispulse.datasource.replicas.lag-check-interval:1s}") Duration lagCheckInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i).trim())
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaLagGuard, lagCheckInterval,
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -15,6 +16,7 @@ import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
 import java.net.URI;
 
 @Configuration
+@Profile("!perf")
 public class SqsConfig {
 
     private static final Logger log = LoggerFactory.getLogger(SqsConfig.class);
@@ -28,6 +30,9 @@ public class SqsConfig {
     @Value("${tennispulse.sqs.match-completed-queue-name}")
     private String matchCompletedQueueName;
 
+    @Value("${tennispulse.sqs.match-completed-dlq-name}")
+    private String matchCompletedDlqName;
+
     @Bean
     public SqsClient sqsClient() {
         return SqsClient.builder()
@@ -58,5 +63,20 @@ public class SqsConfig {
         log.info("MatchCompleted SQS queue URL: {}", url);
         return url;
     }
+
+    /**
+     * Messages that failed permanently, see {@code MatchEventFailureHandler}.
+     */
+    @Bean
+    public String matchCompletedDlqUrl(SqsClient sqsClient) {
+        String url = sqsClient.createQueue(
+                CreateQueueRequest.builder()
+                        .queueName(matchCompletedDlqName)
+                        .build()
+        ).queueUrl();
+
+        log.info("MatchCompleted dead-letter queue URL: {}", url);
+        return url;
+    }
 }
 
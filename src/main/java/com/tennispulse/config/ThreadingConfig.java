@@ -0,0 +1,88 @@
+package com.tennispulse.config;
+
+import com.tennispulse.service.analytics.PlayerPartitionedExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for work that runs outside the request thread.
+ * <p>
+ * Tomcat request handling switches to virtual threads through the standard
+ * {@code spring.threads.virtual.enabled} property; the executors below follow the same flag
+ * so SQS listener processing and background cache work use the same threading model.
+ */
+@Slf4j
+@Configuration
+public class ThreadingConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${tennispulse.analytics.processing.partitions:0}")
+    private int analyticsPartitions;
+
+    @Value("${tennispulse.analytics.processing.queue-capacity:1000}")
+    private int analyticsQueueCapacity;
+
+    /**
+     * Runs the body of {@code @SqsListener} methods. The listener container only accepts its own
+     * platform threads, so in virtual mode the listener hands the blocking work off to a virtual
+     * thread and completes asynchronously; in platform mode the work stays on the container thread.
+     */
+    @Bean
+    public TaskExecutor sqsListenerExecutor() {
+        if (!virtualThreads) {
+            return new SyncTaskExecutor();
+        }
+        log.info("SQS listener processing runs on virtual threads");
+        return new VirtualThreadTaskExecutor("sqs-listener-");
+    }
+
+    /**
+     * Background cache recomputation (refresh, warm-up).
+     */
+    @Bean
+    public AsyncTaskExecutor cacheRefreshExecutor() {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor("cache-refresh-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Per-player lanes for MatchCompleted analytics: {@code tennispulse.analytics.processing.partitions} lanes
+     * (0 means one per core), so one player's documents are written in order while players are processed in
+     * parallel.
+     */
+    @Bean
+    public PlayerPartitionedExecutor analyticsPartitionExecutor(MeterRegistry meterRegistry) {
+        int partitions = analyticsPartitions > 0
+                ? analyticsPartitions
+                : Runtime.getRuntime().availableProcessors();
+        PlayerPartitionedExecutor executor = new PlayerPartitionedExecutor(partitions, analyticsQueueCapacity,
+                virtualThreads
+                        ? Thread.ofVirtual().name("analytics-partition-", 0).factory()
+                        : Thread.ofPlatform().daemon().name("analytics-partition-", 0).factory());
+        Gauge.builder("analytics.processing.queued", executor, PlayerPartitionedExecutor::queued)
+                .description("Player analytics tasks waiting for their partition")
+                .register(meterRegistry);
+        log.info("MatchCompleted analytics processed on {} player partition(s)", partitions);
+        return executor;
+    }
+}
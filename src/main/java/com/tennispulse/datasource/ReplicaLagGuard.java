@@ -0,0 +1,97 @@
+package com.tennispulse.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decides whether a read may go to a replica. A replica qualifies when its last lag sample shows it has replayed
+ * the primary's commits up to at most {@code tennispulse.datasource.replicas.max-lag} ago, and, after a write on
+ * this node that asked for {@link #readYourWrites() read-your-writes}, once its replay LSN has reached a primary
+ * WAL position sampled after that write committed; until such a primary sample exists every read goes to the
+ * primary. Without replicas configured nothing reads the guard and marking writes is free.
+ */
+@Component
+public class ReplicaLagGuard {
+
+    private final Duration maxLag;
+    private final Clock clock;
+    private final AtomicReference<WriteFence> fence = new AtomicReference<>(WriteFence.NONE);
+
+    @Autowired
+    public ReplicaLagGuard(@Value("${tennispulse.datasource.replicas.max-lag:5s}") Duration maxLag) {
+        this(maxLag, Clock.systemUTC());
+    }
+
+    ReplicaLagGuard(Duration maxLag, Clock clock) {
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    /**
+     * Sends this node's reads to the primary from the moment the current transaction commits (immediately outside
+     * a transaction) until a replica is known to have replayed it, so the caller and the caches it invalidates
+     * see the write. Synchronizations run in registration order: call this before registering after-commit work
+     * that reads the new data.
+     */
+    public void readYourWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWritten();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten();
+            }
+        });
+    }
+
+    /**
+     * @param replayedUpTo instant (on this node's clock) up to which the replica has replayed the primary's
+     *                     commits, {@code null} if it could not be sampled
+     * @param replayLsn    the replica's replay position, as bytes since {@code 0/0}
+     */
+    public boolean admits(Instant replayedUpTo, long replayLsn) {
+        return replayedUpTo != null
+                && !replayedUpTo.isBefore(clock.instant().minus(maxLag))
+                && replayLsn >= fence.get().lsn();
+    }
+
+    Instant now() {
+        return clock.instant();
+    }
+
+    void markWritten() {
+        Instant now = clock.instant();
+        fence.updateAndGet(current -> new WriteFence(
+                current.writtenAt().isAfter(now) ? current.writtenAt() : now, WriteFence.PENDING));
+    }
+
+    /**
+     * Resolves a pending write fence with a primary WAL position read by a query started at {@code sampledAt}:
+     * if that is not before the write committed, the position covers the write.
+     */
+    void primarySampled(Instant sampledAt, long lsn) {
+        fence.updateAndGet(current -> current.lsn() == WriteFence.PENDING && !sampledAt.isBefore(current.writtenAt())
+                ? new WriteFence(current.writtenAt(), lsn)
+                : current);
+    }
+
+    /**
+     * The primary WAL position replicas must have replayed to serve reads after the last marked write, or
+     * {@link #PENDING} while no primary sample taken after that write exists.
+     */
+    private record WriteFence(Instant writtenAt, long lsn) {
+
+        static final long PENDING = Long.MAX_VALUE;
+        static final WriteFence NONE = new WriteFence(Instant.EPOCH, 0);
+    }
+}
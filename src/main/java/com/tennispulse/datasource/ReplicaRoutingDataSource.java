@@ -0,0 +1,173 @@
+package com.tennispulse.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The read-only side of the application {@code DataSource}: hands out connections round-robin from the replicas
+ * the {@link ReplicaLagGuard} admits, and from the primary when none is. Every {@code lagCheckInterval} (and once on
+ * construction) a background thread reads the primary's WAL position and then each replica's replay position and
+ * lag, so choosing a target costs no query; a replica that cannot be sampled is skipped until it can.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    static final String PRIMARY_LSN_SQL = "select pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint";
+
+    /**
+     * The replay position (the current position when pointed at a primary), and a lag of zero when the replica has
+     * replayed everything it received, else the age of the last replayed commit.
+     */
+    static final String REPLAY_LAG_SQL = """
+            select pg_wal_lsn_diff(coalesce(pg_last_wal_replay_lsn(), pg_current_wal_lsn()), '0/0')::bigint,
+                   case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                        else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                   end
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaLagGuard guard;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryFallbacks;
+    private boolean primaryCheckFailing;
+
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("replica-lag-check").factory());
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReplicaLagGuard guard,
+                                    Duration lagCheckInterval,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.guard = guard;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, Replica::lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        });
+        this.primaryFallbacks = Counter.builder("datasource.replica.primary.fallbacks")
+                .description("Read-only connections served by the primary because no replica was admitted")
+                .register(meterRegistry);
+        checkLag();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, lagCheckInterval.toMillis(), lagCheckInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    DataSource target() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            Sample sample = replica.last;
+            if (sample != null && guard.admits(sample.replayedUpTo(), sample.replayLsn())) {
+                return replica.dataSource;
+            }
+        }
+        primaryFallbacks.increment();
+        return primary;
+    }
+
+    void checkLag() {
+        // taken before the query: a write that committed by then is covered by the position it reads
+        Instant sampledAt = guard.now();
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(PRIMARY_LSN_SQL)) {
+            rs.next();
+            guard.primarySampled(sampledAt, rs.getLong(1));
+            primaryCheckFailing = false;
+        } catch (SQLException | RuntimeException e) {
+            if (!primaryCheckFailing) {
+                log.warn("Primary WAL position check failed, reads after writes stay on the primary: {}",
+                        e.getMessage());
+                primaryCheckFailing = true;
+            }
+        }
+        for (Replica replica : replicas) {
+            replica.sample(guard.now());
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile Sample last;
+        private boolean failing;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void sample(Instant sampledAt) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(REPLAY_LAG_SQL)) {
+                rs.next();
+                long replayLsn = rs.getLong(1);
+                Duration sampled = Duration.ofNanos((long) (rs.getDouble(2) * 1_000_000_000L));
+                last = new Sample(sampled, sampledAt.minus(sampled), replayLsn);
+                if (failing) {
+                    log.info("Replica {} lag check succeeded again, lag={}", name, sampled);
+                    failing = false;
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!failing) {
+                    log.warn("Replica {} lag check failed, routing its reads elsewhere: {}", name, e.getMessage());
+                    failing = true;
+                }
+                last = null;
+            }
+        }
+
+        private double lagSeconds() {
+            Sample current = last;
+            return current == null ? Double.NaN : current.lag().toNanos() / 1e9;
+        }
+    }
+
+    private record Sample(Duration lag, Instant replayedUpTo, long replayLsn) {}
+}
@@ -0,0 +1,38 @@
+package com.tennispulse.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Last snapshot of a live match's scoring state; {@code state} is {@code LiveMatchState#toBytes()}.
+ */
+@Entity
+@Table(name = "live_match_state")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LiveMatchStateEntity {
+
+    @Id
+    @Column(name = "match_id")
+    private UUID matchId;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    @Column(name = "state", nullable = false)
+    private byte[] state;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
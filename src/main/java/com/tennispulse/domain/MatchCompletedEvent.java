@@ -9,8 +9,8 @@ import java.util.UUID;
 
 @Data
 public class MatchCompletedEvent {
-    private String matchId;
-    private String winnerId;
+    private UUID matchId;
+    private UUID winnerId;
     private String finalScore;
     private Instant createdAt;
     private List<PlayerStatsPayload> playerStats;
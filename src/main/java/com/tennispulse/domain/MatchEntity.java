@@ -1,6 +1,8 @@
 package com.tennispulse.domain;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -10,15 +12,22 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Entity
 @Table(name = "match")
@@ -30,7 +39,7 @@ public class MatchEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "club_id")
@@ -57,14 +66,74 @@ public class MatchEntity {
     @Column(name = "final_score", length = 64)
     private String finalScore;
 
+    /*
+     * finalScore parsed once on write (see MatchScore), so set, game and tiebreak analytics run in SQL.
+     * scoreParsed is null until the score has been looked at and false when it could not be parsed;
+     * the other columns are null unless it is true.
+     */
+
+    @Column(name = "score_parsed")
+    private Boolean scoreParsed;
+
+    @Column(name = "sets_played")
+    private Integer setsPlayed;
+
+    @Column(name = "winner_games")
+    private Integer winnerGames;
+
+    @Column(name = "loser_games")
+    private Integer loserGames;
+
+    @Column(name = "tiebreaks_played")
+    private Integer tiebreaksPlayed;
+
+    @Column(name = "retired")
+    private Boolean retired;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "match_set", joinColumns = @JoinColumn(name = "match_id"))
+    @OrderColumn(name = "set_index")
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<MatchSetScore> sets = new ArrayList<>();
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Sets the score and re-derives the structured score columns and {@link #getSets() sets} from it.
+     */
+    public void setFinalScore(String finalScore) {
+        this.finalScore = finalScore;
+        applyScore();
+    }
+
+    private void applyScore() {
+        if (sets == null) {
+            sets = new ArrayList<>();
+        }
+        sets.clear();
+        Optional<MatchScore> parsed = MatchScore.parse(finalScore);
+        scoreParsed = finalScore == null ? null : parsed.isPresent();
+        setsPlayed = parsed.map(MatchScore::setsPlayed).orElse(null);
+        winnerGames = parsed.map(MatchScore::winnerGames).orElse(null);
+        loserGames = parsed.map(MatchScore::loserGames).orElse(null);
+        tiebreaksPlayed = parsed.map(MatchScore::tiebreaksPlayed).orElse(null);
+        retired = parsed.map(MatchScore::retired).orElse(null);
+        parsed.ifPresent(score -> score.sets().forEach(set -> sets.add(new MatchSetScore(set.getWinnerGames(),
+                set.getLoserGames(), set.isTiebreak(), set.getTiebreakLoserPoints()))));
+    }
+
     @PrePersist
     public void onCreate() {
+        if (this.finalScore != null && this.scoreParsed == null) {
+            // built with a score, which bypasses setFinalScore
+            applyScore();
+        }
         Instant now = Instant.now();
         if (this.createdAt == null) {
             this.createdAt = now;
@@ -0,0 +1,165 @@
+package com.tennispulse.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code finalScore} such as {@code 6-4 3-6 7-6(5)} parsed into sets.
+ * <p>
+ * Sets are separated by spaces, commas or semicolons. A set is {@code games-games}, optionally followed by the
+ * tiebreak loser's points ({@code 7-6(5)}) or the full tiebreak score ({@code 7-6(7-5)}); {@code [10-8]} is a
+ * match tiebreak played instead of a deciding set. A trailing {@code ret.}, {@code w/o} or {@code def.} marks a
+ * match that ended early. Scores are usually written from the winner's side; one written from the loser's side
+ * (the second number wins more sets) is turned around, except for retirements, where the sets do not tell.
+ * <p>
+ * A completed match ends with the set that gives the winner their last set, and nobody wins more than three
+ * (best of five). A retired match is not decided yet: neither side has three sets.
+ *
+ * @param sets from the winner's side, in playing order
+ */
+public record MatchScore(List<MatchSetScore> sets, boolean retired) {
+
+    private static final int MAX_SETS = 5;
+    private static final int SETS_TO_WIN = (MAX_SETS + 1) / 2;
+    private static final Pattern SET = Pattern.compile("(\\d{1,2})[-–](\\d{1,2})(?:\\((\\d{1,2})(?:[-–](\\d{1,2}))?\\))?");
+    private static final Pattern MATCH_TIEBREAK = Pattern.compile("\\[(\\d{1,2})[-–](\\d{1,2})]");
+    private static final Set<String> EARLY_ENDINGS = Set.of("ret", "ret.", "retd", "retired", "w/o", "wo", "def", "def.");
+
+    /**
+     * @return empty for a blank score or one that is not a valid best-of-five-or-fewer tennis score
+     */
+    public static Optional<MatchScore> parse(String finalScore) {
+        if (finalScore == null || finalScore.isBlank()) {
+            return Optional.empty();
+        }
+        String[] tokens = finalScore.trim().split("[\\s,;]+");
+        List<MatchSetScore> sets = new ArrayList<>();
+        boolean retired = false;
+
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (EARLY_ENDINGS.contains(token.toLowerCase(Locale.ROOT))) {
+                if (i != tokens.length - 1) {
+                    return Optional.empty();
+                }
+                retired = true;
+                continue;
+            }
+            MatchSetScore set = parseSet(token);
+            if (set == null) {
+                return Optional.empty();
+            }
+            sets.add(set);
+        }
+        if (sets.isEmpty() || sets.size() > MAX_SETS) {
+            return Optional.empty();
+        }
+
+        long firstSide = sets.stream().filter(s -> s.getWinnerGames() > s.getLoserGames()).count();
+        long secondSide = sets.stream().filter(s -> s.getLoserGames() > s.getWinnerGames()).count();
+        if (!retired) {
+            if (firstSide == secondSide) {
+                return Optional.empty();
+            }
+            if (secondSide > firstSide) {
+                sets.replaceAll(s -> new MatchSetScore(s.getLoserGames(), s.getWinnerGames(), s.isTiebreak(),
+                        s.getTiebreakLoserPoints()));
+            }
+        }
+
+        for (int i = 0; i < sets.size(); i++) {
+            boolean unfinished = retired && i == sets.size() - 1;
+            if (!unfinished && !isCompleteSet(sets.get(i))) {
+                return Optional.empty();
+            }
+        }
+        if (!endsWhenDecided(sets, retired)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MatchScore(List.copyOf(sets), retired));
+    }
+
+    public int setsPlayed() {
+        return sets.size();
+    }
+
+    public int winnerGames() {
+        return sets.stream().mapToInt(MatchSetScore::getWinnerGames).sum();
+    }
+
+    public int loserGames() {
+        return sets.stream().mapToInt(MatchSetScore::getLoserGames).sum();
+    }
+
+    public int tiebreaksPlayed() {
+        return (int) sets.stream().filter(MatchSetScore::isTiebreak).count();
+    }
+
+    private static MatchSetScore parseSet(String token) {
+        Matcher matchTiebreak = MATCH_TIEBREAK.matcher(token);
+        if (matchTiebreak.matches()) {
+            int first = Integer.parseInt(matchTiebreak.group(1));
+            int second = Integer.parseInt(matchTiebreak.group(2));
+            if (Math.max(first, second) < 7 || Math.abs(first - second) < 2) {
+                return null;
+            }
+            return new MatchSetScore(first > second ? 1 : 0, first > second ? 0 : 1, true, Math.min(first, second));
+        }
+
+        Matcher set = SET.matcher(token);
+        if (!set.matches()) {
+            return null;
+        }
+        int first = Integer.parseInt(set.group(1));
+        int second = Integer.parseInt(set.group(2));
+        boolean tiebreak = Math.max(first, second) == 7 && Math.min(first, second) == 6;
+        Integer loserPoints = null;
+        if (set.group(3) != null) {
+            if (!tiebreak) {
+                return null;
+            }
+            int points = Integer.parseInt(set.group(3));
+            loserPoints = set.group(4) != null ? Math.min(points, Integer.parseInt(set.group(4))) : points;
+        }
+        return new MatchSetScore(first, second, tiebreak, loserPoints);
+    }
+
+    /**
+     * Rejects sets played after the match was over: {@code 6-4 6-4 6-4 6-4} (a fourth set won) and
+     * {@code 6-4 6-4 4-6} (a set after the deciding one). Completed matches are already from the winner's side.
+     */
+    private static boolean endsWhenDecided(List<MatchSetScore> sets, boolean retired) {
+        int firstSide = 0;
+        int secondSide = 0;
+        for (MatchSetScore set : sets) {
+            if (!isCompleteSet(set)) {
+                continue;
+            }
+            if (set.getWinnerGames() > set.getLoserGames()) {
+                firstSide++;
+            } else {
+                secondSide++;
+            }
+        }
+        if (retired) {
+            return firstSide < SETS_TO_WIN && secondSide < SETS_TO_WIN;
+        }
+        MatchSetScore last = sets.get(sets.size() - 1);
+        return firstSide <= SETS_TO_WIN && last.getWinnerGames() > last.getLoserGames();
+    }
+
+    /** 6-0 to 6-4, 7-5, 7-6, or an advantage set won by two games beyond 6-6. */
+    private static boolean isCompleteSet(MatchSetScore set) {
+        int high = Math.max(set.getWinnerGames(), set.getLoserGames());
+        int low = Math.min(set.getWinnerGames(), set.getLoserGames());
+        if (set.isTiebreak()) {
+            return high > low;
+        }
+        return (high == 6 && low <= 4) || (high == 7 && low == 5) || (high > 7 && high - low == 2);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tennispulse.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One set of a completed match, from the match winner's side: {@code 6-7(5)} in a match the winner took in three
+ * sets is {@code winnerGames = 6, loserGames = 7, tiebreak = true, tiebreakLoserPoints = 5} (the winner lost that
+ * tiebreak with five points). A match tiebreak in place of a deciding set ({@code [10-8]}) counts as one game.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSetScore {
+
+    @Column(name = "winner_games", nullable = false)
+    private int winnerGames;
+
+    @Column(name = "loser_games", nullable = false)
+    private int loserGames;
+
+    @Column(name = "tiebreak", nullable = false)
+    private boolean tiebreak;
+
+    /** Points of whoever lost the tiebreak; {@code null} without a tiebreak or when the score did not say. */
+    @Column(name = "tiebreak_loser_points")
+    private Integer tiebreakLoserPoints;
+}
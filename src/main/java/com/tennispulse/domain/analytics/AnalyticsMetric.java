@@ -10,5 +10,13 @@ public enum AnalyticsMetric {
     BREAK_POINT_CONVERSION,
     BREAK_POINTS_SAVED,
     NET_POINTS_WON,
-    LONG_RALLY_WIN_RATE
+    LONG_RALLY_WIN_RATE;
+
+    /** Whether a higher value is the better one; false for the error counts. */
+    public boolean higherIsBetter() {
+        return switch (this) {
+            case UNFORCED_ERRORS_FOREHAND, UNFORCED_ERRORS_BACKHAND -> false;
+            default -> true;
+        };
+    }
 }
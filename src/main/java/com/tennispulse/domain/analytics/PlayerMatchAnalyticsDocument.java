@@ -7,22 +7,24 @@ import lombok.Data;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Data
 @Document(collection = "player_match_analytics")
 public class PlayerMatchAnalyticsDocument {
 
     @Id
-    private String id; // matchId:playerId
+    private UUID id; // see idFor(matchId, playerId)
 
-    // store as plain String in Mongo
-    private String matchId;
-    private String playerId;
+    // stored as binary UUIDs (subtype 4) in Mongo
+    private UUID matchId;
+    private UUID playerId;
 
-    private String winnerId;
+    private UUID winnerId;
     private String finalScore;
 
     private PlayerStatsPayload rawStats;
@@ -30,6 +32,7 @@ public class PlayerMatchAnalyticsDocument {
     private CoachingStatus coachingStatus;
     private Map<AnalyticsMetric, MetricValue> metrics;
     private List<CoachingTip> tips;
+    private Map<AnalyticsMetric, Double> percentileRanks;
 
     private String engineVersion;
     private Instant createdAt;
@@ -40,10 +43,8 @@ public class PlayerMatchAnalyticsDocument {
             PlayerMatchCoachingAnalysis analysis
     ) {
         PlayerMatchAnalyticsDocument doc = new PlayerMatchAnalyticsDocument();
-        // composite id as string
-        doc.id = event.getMatchId() + ":" + stats.getPlayerId();
+        doc.id = idFor(event.getMatchId(), stats.getPlayerId());
 
-        // store String representation
         doc.matchId = event.getMatchId();
         doc.playerId = stats.getPlayerId();
         doc.winnerId = event.getWinnerId() != null ? event.getWinnerId() : null;
@@ -53,6 +54,7 @@ public class PlayerMatchAnalyticsDocument {
         doc.coachingStatus = analysis.getCoachingStatus();
         doc.metrics = analysis.getMetrics();
         doc.tips = analysis.getTips();
+        doc.percentileRanks = analysis.getPercentileRanks();
         doc.engineVersion = analysis.getEngineVersion();
         doc.createdAt = analysis.getCreatedAt();
 
@@ -67,7 +69,7 @@ public class PlayerMatchAnalyticsDocument {
     ) {
         PlayerMatchAnalyticsDocument doc = new PlayerMatchAnalyticsDocument();
 
-        doc.id = match.getId() + ":" + player.getId();
+        doc.id = idFor(match.getId(), player.getId());
 
         doc.matchId = match.getId();
         doc.playerId = player.getId();
@@ -78,9 +80,23 @@ public class PlayerMatchAnalyticsDocument {
         doc.coachingStatus = analysis.getCoachingStatus();
         doc.metrics = analysis.getMetrics();
         doc.tips = analysis.getTips();
+        doc.percentileRanks = analysis.getPercentileRanks();
         doc.engineVersion = analysis.getEngineVersion();
         doc.createdAt = analysis.getCreatedAt();
 
         return doc;
     }
+
+    /**
+     * Deterministic 16-byte id for a (match, player) pair, so re-processing a match overwrites its documents
+     * instead of duplicating them (previously the string {@code matchId:playerId}).
+     */
+    public static UUID idFor(UUID matchId, UUID playerId) {
+        ByteBuffer key = ByteBuffer.allocate(32)
+                .putLong(matchId.getMostSignificantBits())
+                .putLong(matchId.getLeastSignificantBits())
+                .putLong(playerId.getMostSignificantBits())
+                .putLong(playerId.getLeastSignificantBits());
+        return UUID.nameUUIDFromBytes(key.array());
+    }
 }
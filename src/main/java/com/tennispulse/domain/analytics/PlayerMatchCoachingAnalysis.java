@@ -10,17 +10,19 @@ import java.util.UUID;
 @Data
 public class PlayerMatchCoachingAnalysis {
 
-    private String matchId;
-    private String playerId;
+    private UUID matchId;
+    private UUID playerId;
     private CoachingStatus coachingStatus;
     private Map<AnalyticsMetric, MetricValue> metrics;
     private List<CoachingTip> tips;
+    // this match's values ranked against player averages, 0-100 with higher better; set after the rule engine
+    private Map<AnalyticsMetric, Double> percentileRanks;
     private String engineVersion;
     private Instant createdAt;
 
     public PlayerMatchCoachingAnalysis(
-            String matchId,
-            String playerId,
+            UUID matchId,
+            UUID playerId,
             CoachingStatus coachingStatus,
             Map<AnalyticsMetric, MetricValue> metrics,
             List<CoachingTip> tips
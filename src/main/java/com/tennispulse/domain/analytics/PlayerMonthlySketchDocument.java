@@ -0,0 +1,68 @@
+package com.tennispulse.domain.analytics;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Quantile sketches of one player's metric values in one month (UTC, like the timeline's monthly averages),
+ * updated as each match's analytics are stored.
+ */
+@Data
+@Document(collection = "player_monthly_metric_sketches")
+@CompoundIndex(name = "player_period", def = "{'playerId': 1, 'period': 1}")
+public class PlayerMonthlySketchDocument {
+
+    @Id
+    private UUID id; // see idFor(playerId, month)
+
+    private UUID playerId;
+
+    // year * 100 + month, so a range is one scan of the player_period index
+    private int period;
+
+    private Map<AnalyticsMetric, QuantileSketch.State> sketches = new EnumMap<>(AnalyticsMetric.class);
+
+    // matches already added, so a redelivered match is not counted twice
+    private List<UUID> matchIds = new ArrayList<>();
+
+    @Version
+    private Long version;
+
+    private Instant updatedAt;
+
+    public static PlayerMonthlySketchDocument empty(UUID playerId, YearMonth month) {
+        PlayerMonthlySketchDocument doc = new PlayerMonthlySketchDocument();
+        doc.id = idFor(playerId, month);
+        doc.playerId = playerId;
+        doc.period = periodOf(month);
+        return doc;
+    }
+
+    public YearMonth month() {
+        return YearMonth.of(period / 100, period % 100);
+    }
+
+    public static int periodOf(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static UUID idFor(UUID playerId, YearMonth month) {
+        ByteBuffer key = ByteBuffer.allocate(20)
+                .putLong(playerId.getMostSignificantBits())
+                .putLong(playerId.getLeastSignificantBits())
+                .putInt(periodOf(month));
+        return UUID.nameUUIDFromBytes(key.array());
+    }
+}
@@ -2,9 +2,11 @@ package com.tennispulse.domain.analytics;
 
 import lombok.Data;
 
+import java.util.UUID;
+
 @Data
 public class PlayerStatsPayload {
-    private String playerId;
+    private UUID playerId;
     private Double firstServeIn;
     private Double firstServePointsWon;
     private Double secondServePointsWon;
@@ -0,0 +1,207 @@
+package com.tennispulse.domain.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch of one metric: a merging t-digest (Dunning) with the {@code k1} (arcsine) scale
+ * function, so centroids stay small near the tails and p10/p90 are tighter than the median. Accuracy depends on
+ * {@code compression} (about that many centroids are kept); with 100, quantiles are within a fraction of a
+ * percent of rank.
+ * <p>
+ * Values are appended to a buffer and folded into the centroids when it fills up or a quantile is read. Two
+ * sketches merge by folding one's centroids into the other, which is what lets monthly sketches be combined
+ * into any range at query time. Not thread-safe.
+ */
+public final class QuantileSketch {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    // compressed centroids sorted by mean in [0, merged), unmerged values or centroids in [merged, size)
+    private double[] means;
+    private double[] weights;
+    private int merged;
+    private int size;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public QuantileSketch(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        int capacity = 5 * (int) Math.ceil(compression) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+    }
+
+    public static QuantileSketch fromState(State state) {
+        QuantileSketch sketch = new QuantileSketch(state.compression());
+        for (int i = 0; i < state.means().length; i++) {
+            sketch.append(state.means()[i], state.weights()[i]);
+        }
+        if (sketch.totalWeight > 0) {
+            sketch.min = state.min();
+            sketch.max = state.max();
+        }
+        sketch.compress();
+        return sketch;
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        append(value, 1);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.totalWeight == 0) {
+            return;
+        }
+        for (int i = 0; i < other.size; i++) {
+            append(other.means[i], other.weights[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @param q quantile in {@code [0, 1]}
+     * @return the estimated value at {@code q}, or {@code NaN} if nothing was added
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("quantile must be in [0, 1]: " + q);
+        }
+        compress();
+        if (size == 0) {
+            return Double.NaN;
+        }
+        if (size == 1) {
+            return means[0];
+        }
+
+        double index = q * totalWeight;
+        int last = size - 1;
+        // outside the first/last centroid's centre, interpolate towards the exact min/max
+        if (index < weights[0] / 2) {
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        }
+        if (index > totalWeight - weights[last] / 2) {
+            double fromEnd = totalWeight - index;
+            return max - (max - means[last]) * fromEnd / (weights[last] / 2);
+        }
+
+        double centre = weights[0] / 2;
+        for (int i = 0; i < last; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (centre + step >= index) {
+                double fraction = (index - centre) / step;
+                return means[i] + fraction * (means[i + 1] - means[i]);
+            }
+            centre += step;
+        }
+        return means[last];
+    }
+
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    public double min() {
+        return totalWeight == 0 ? Double.NaN : min;
+    }
+
+    public double max() {
+        return totalWeight == 0 ? Double.NaN : max;
+    }
+
+    /** Compressed centroids, for storage. */
+    public State toState() {
+        compress();
+        return new State(compression, min(), max(),
+                Arrays.copyOf(means, size), Arrays.copyOf(weights, size));
+    }
+
+    private void append(double mean, double weight) {
+        if (size == means.length) {
+            compress();
+            if (size == means.length) {
+                means = Arrays.copyOf(means, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+        }
+        means[size] = mean;
+        weights[size] = weight;
+        size++;
+        totalWeight += weight;
+    }
+
+    private void compress() {
+        if (merged == size) {
+            return;
+        }
+        sortByMean();
+
+        // greedily fold neighbours while the centroid spans at most one unit of the k1 scale
+        int out = 0;
+        double before = 0;
+        double mean = means[0];
+        double weight = weights[0];
+        for (int i = 1; i < size; i++) {
+            double proposed = weight + weights[i];
+            if (k(before + proposed) - k(before) <= 1) {
+                mean += (means[i] - mean) * weights[i] / proposed;
+                weight = proposed;
+            } else {
+                means[out] = mean;
+                weights[out] = weight;
+                out++;
+                before += weight;
+                mean = means[i];
+                weight = weights[i];
+            }
+        }
+        means[out] = mean;
+        weights[out] = weight;
+        size = out + 1;
+        merged = size;
+    }
+
+    private double k(double cumulativeWeight) {
+        double q = Math.min(1, Math.max(0, cumulativeWeight / totalWeight));
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    private void sortByMean() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(means[a], means[b]));
+        double[] sortedMeans = new double[means.length];
+        double[] sortedWeights = new double[weights.length];
+        for (int i = 0; i < size; i++) {
+            sortedMeans[i] = means[order[i]];
+            sortedWeights[i] = weights[order[i]];
+        }
+        means = sortedMeans;
+        weights = sortedWeights;
+    }
+
+    /**
+     * Stored form of a sketch: its compression, exact min/max and centroids sorted by mean.
+     */
+    public record State(double compression, double min, double max, double[] means, double[] weights) {
+    }
+}
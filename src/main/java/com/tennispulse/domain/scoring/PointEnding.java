@@ -0,0 +1,9 @@
+package com.tennispulse.domain.scoring;
+
+/**
+ * How a rally ended; errors are attributed to the player who lost the point. Not used for double faults, see
+ * {@link ServeResult#DOUBLE_FAULT}.
+ */
+public enum PointEnding {
+    ACE, WINNER, FORCED_ERROR, UNFORCED_ERROR
+}
@@ -0,0 +1,6 @@
+package com.tennispulse.domain.scoring;
+
+/** How the point was served: first serve in, second serve in, or a double fault. */
+public enum ServeResult {
+    FIRST_IN, SECOND_IN, DOUBLE_FAULT
+}
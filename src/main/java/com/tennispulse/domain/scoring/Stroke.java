@@ -0,0 +1,6 @@
+package com.tennispulse.domain.scoring;
+
+/** The last shot of the point: the winner, or the shot that went into the net or out. */
+public enum Stroke {
+    SERVE, FOREHAND, BACKHAND, VOLLEY, OVERHEAD
+}
@@ -0,0 +1,36 @@
+package com.tennispulse.logging;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Matches public methods of {@code com.tennispulse} beans listed as {@code SimpleClassName.method}
+ * or {@code SimpleClassName.*}.
+ */
+public class MethodAllowlistPointcut extends StaticMethodMatcherPointcut {
+
+    private static final String BASE_PACKAGE = "com.tennispulse.";
+
+    private final Set<String> allowlist;
+
+    public MethodAllowlistPointcut(Collection<String> allowlist) {
+        this.allowlist = Set.copyOf(allowlist);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        Class<?> userClass = ClassUtils.getUserClass(targetClass);
+        if (!userClass.getName().startsWith(BASE_PACKAGE)
+                || !Modifier.isPublic(method.getModifiers())
+                || method.getDeclaringClass() == Object.class) {
+            return false;
+        }
+        String className = userClass.getSimpleName();
+        return allowlist.contains(className + "." + method.getName()) || allowlist.contains(className + ".*");
+    }
+}
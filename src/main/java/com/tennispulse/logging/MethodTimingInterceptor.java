@@ -0,0 +1,123 @@
+package com.tennispulse.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.lang.reflect.Method;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records a {@code tennispulse.method} timer (tags: class, method, outcome) with a percentile histogram for
+ * every call it intercepts, and logs a sample of calls at DEBUG with a short summary of their arguments.
+ * <p>
+ * Only methods selected by {@link MethodAllowlistPointcut} are intercepted, so everything else runs
+ * without a proxy join point.
+ */
+@Slf4j
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "tennispulse.method";
+
+    private static final int MAX_ARG_LENGTH = 64;
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final double argumentSampleRate;
+    private final double[] percentiles;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry      resolved on first use; advisors are created before the registry is fully configured
+     * @param argumentSampleRate fraction of calls whose arguments are logged when DEBUG is enabled
+     */
+    public MethodTimingInterceptor(Supplier<MeterRegistry> meterRegistry, double argumentSampleRate, double[] percentiles) {
+        this.meterRegistry = meterRegistry;
+        this.argumentSampleRate = argumentSampleRate;
+        this.percentiles = percentiles;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodTimers methodTimers = timers.get(invocation.getMethod());
+        if (methodTimers == null) {
+            // computeIfAbsent only on the first call: the capturing lambda would allocate on every call
+            methodTimers = timers.computeIfAbsent(invocation.getMethod(), m -> newTimers(m, invocation));
+        }
+
+        if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < argumentSampleRate) {
+            log.debug("Calling {} with args=[{}]", methodTimers.signature(), summarize(invocation.getArguments()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            methodTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private MethodTimers newTimers(Method method, MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : method.getDeclaringClass();
+        String className = targetClass.getSimpleName();
+        MeterRegistry registry = meterRegistry.get();
+        return new MethodTimers(className + "." + method.getName(),
+                timer(registry, className, method.getName(), "success"),
+                timer(registry, className, method.getName(), "error"));
+    }
+
+    private Timer timer(MeterRegistry registry, String className, String method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .tags("class", className, "method", method, "outcome", outcome)
+                .publishPercentileHistogram()
+                .publishPercentiles(percentiles)
+                .register(registry);
+    }
+
+    /**
+     * Type and size only for anything that may be a large object graph; simple values are printed, truncated.
+     */
+    static String summarize(Object[] args) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Object arg : args) {
+            joiner.add(summarize(arg));
+        }
+        return joiner.toString();
+    }
+
+    private static String summarize(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof CharSequence || arg instanceof Number || arg instanceof Boolean
+                || arg instanceof Enum<?> || arg instanceof UUID || arg instanceof Temporal) {
+            String text = arg.toString();
+            return text.length() <= MAX_ARG_LENGTH ? text : text.substring(0, MAX_ARG_LENGTH) + "...";
+        }
+        if (arg instanceof Collection<?> collection) {
+            return arg.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (arg instanceof Map<?, ?> map) {
+            return arg.getClass().getSimpleName() + "(size=" + map.size() + ")";
+        }
+        return arg.getClass().getSimpleName();
+    }
+
+    private record MethodTimers(String signature, Timer success, Timer error) {
+    }
+}
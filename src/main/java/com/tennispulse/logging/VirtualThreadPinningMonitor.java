@@ -0,0 +1,84 @@
+package com.tennispulse.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that get pinned to their carrier (typically a {@code synchronized}
+ * block in a driver doing blocking I/O), using the JFR {@code jdk.VirtualThreadPinned} event.
+ * Only active when virtual threads are enabled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 8;
+
+    @Value("${tennispulse.threads.pinning-threshold:20ms}")
+    private Duration threshold;
+
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("Virtual threads enabled; reporting carrier pinning longer than {}", threshold);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStartup() {
+        long count = pinnedEvents.get();
+        if (count > 0) {
+            log.warn("{} virtual thread pinning event(s) observed during startup", count);
+        } else {
+            log.info("No virtual thread pinning observed during startup");
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        log.warn("Virtual thread {} pinned for {} ms at:\n{}",
+                thread, event.getDuration().toMillis(), topFrames(event));
+    }
+
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "  <no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(MAX_FRAMES)
+                .map(f -> "  at " + f.getMethod().getType().getName() + "." + f.getMethod().getName()
+                        + ":" + f.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,250 @@
+package com.tennispulse.perf;
+
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+import com.tennispulse.repository.analytics.AnalyticsExportFilter;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import org.bson.Document;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link PlayerMatchAnalyticsRepository} over a concurrent map, for the {@code perf} profile. The aggregations
+ * scan all documents and follow the Mongo pipelines' semantics: {@code from} is a local date-time like the
+ * {@code LocalDateTime} criteria, months are taken in UTC like {@code $year}/{@code $month}, and a metric
+ * without values is left out of its group. Exports ignore the projection. Query-by-example and paging are not
+ * supported.
+ */
+public class InMemoryPlayerMatchAnalyticsRepository implements PlayerMatchAnalyticsRepository {
+
+    private final Map<UUID, PlayerMatchAnalyticsDocument> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Document> averageMetricsPerPlayer(LocalDateTime from) {
+        Map<UUID, Averages> perPlayer = new TreeMap<>(Comparator.comparing(UUID::toString));
+        documents.values().stream()
+                .filter(since(from))
+                .forEach(doc -> perPlayer.computeIfAbsent(doc.getPlayerId(), id -> new Averages()).add(doc));
+
+        List<Document> results = new ArrayList<>(perPlayer.size());
+        perPlayer.forEach((playerId, averages) ->
+                results.add(averages.appendTo(new Document("_id", playerId).append("playerId", playerId))));
+        return results;
+    }
+
+    @Override
+    public List<Document> averageMetricsPerMonth(UUID playerId, LocalDateTime from) {
+        Map<YearMonth, Averages> perMonth = new TreeMap<>(Comparator.reverseOrder());
+        documents.values().stream()
+                .filter(doc -> playerId.equals(doc.getPlayerId()) && doc.getCreatedAt() != null)
+                .filter(since(from))
+                .forEach(doc -> perMonth.computeIfAbsent(
+                        YearMonth.from(doc.getCreatedAt().atOffset(ZoneOffset.UTC)), m -> new Averages()).add(doc));
+
+        List<Document> results = new ArrayList<>(perMonth.size());
+        perMonth.forEach((month, averages) -> results.add(averages.appendTo(
+                new Document("year", month.getYear()).append("month", month.getMonthValue()))));
+        return results;
+    }
+
+    @Override
+    public Stream<PlayerMatchAnalyticsDocument> streamForExport(AnalyticsExportFilter filter,
+                                                                Collection<String> fields, int batchSize) {
+        return documents.values().stream().filter(filter::matches);
+    }
+
+    @Override
+    public List<PlayerMatchAnalyticsDocument> findByPlayerIdOrderByCreatedAtDesc(UUID playerId) {
+        return documents.values().stream()
+                .filter(doc -> playerId.equals(doc.getPlayerId()))
+                .sorted(Comparator.comparing(PlayerMatchAnalyticsDocument::getCreatedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> S insert(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> List<S> insert(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> S save(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(UUID.randomUUID());
+        }
+        documents.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<PlayerMatchAnalyticsDocument> findById(UUID id) {
+        return Optional.ofNullable(documents.get(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return documents.containsKey(id);
+    }
+
+    @Override
+    public List<PlayerMatchAnalyticsDocument> findAll() {
+        return new ArrayList<>(documents.values());
+    }
+
+    @Override
+    public List<PlayerMatchAnalyticsDocument> findAllById(Iterable<UUID> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(documents::get)
+                .filter(doc -> doc != null)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count() {
+        return documents.size();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        documents.remove(id);
+    }
+
+    @Override
+    public void delete(PlayerMatchAnalyticsDocument entity) {
+        documents.remove(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        ids.forEach(documents::remove);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends PlayerMatchAnalyticsDocument> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        documents.clear();
+    }
+
+    @Override
+    public List<PlayerMatchAnalyticsDocument> findAll(Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<PlayerMatchAnalyticsDocument> findAll(Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends PlayerMatchAnalyticsDocument, R> R findBy(Example<S> example,
+                                                                 Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported();
+    }
+
+    private static Predicate<PlayerMatchAnalyticsDocument> since(LocalDateTime from) {
+        if (from == null) {
+            return doc -> true;
+        }
+        Instant fromInstant = from.atZone(ZoneId.systemDefault()).toInstant();
+        return doc -> doc.getCreatedAt() != null && !doc.getCreatedAt().isBefore(fromInstant);
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the in-memory analytics repository");
+    }
+
+    /** Running sum and count per metric, like {@code $avg} over {@code metrics.<name>.value}. */
+    private static final class Averages {
+
+        private final Map<AnalyticsMetric, double[]> sums = new EnumMap<>(AnalyticsMetric.class);
+
+        void add(PlayerMatchAnalyticsDocument doc) {
+            if (doc.getMetrics() == null) {
+                return;
+            }
+            doc.getMetrics().forEach((metric, value) -> {
+                Double v = value != null ? value.getValue() : null;
+                if (v != null) {
+                    double[] sum = sums.computeIfAbsent(metric, m -> new double[2]);
+                    sum[0] += v;
+                    sum[1]++;
+                }
+            });
+        }
+
+        Document appendTo(Document target) {
+            sums.forEach((metric, sum) -> target.append(metric.name(), sum[0] / sum[1]));
+            return target;
+        }
+    }
+}
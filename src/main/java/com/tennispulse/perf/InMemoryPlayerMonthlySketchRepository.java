@@ -0,0 +1,76 @@
+package com.tennispulse.perf;
+
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerMonthlySketchDocument;
+import com.tennispulse.repository.analytics.PlayerMonthlySketchRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link PlayerMonthlySketchRepository} over a concurrent map, for the {@code perf} profile. Documents are
+ * copied in and out, and saves check the version like Spring Data's optimistic locking.
+ */
+public class InMemoryPlayerMonthlySketchRepository implements PlayerMonthlySketchRepository {
+
+    private final Map<UUID, PlayerMonthlySketchDocument> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<PlayerMonthlySketchDocument> findById(UUID id) {
+        return Optional.ofNullable(documents.get(id)).map(InMemoryPlayerMonthlySketchRepository::copy);
+    }
+
+    @Override
+    public List<PlayerMonthlySketchDocument> findByPlayerIdAndPeriodGreaterThanEqual(UUID playerId, int period) {
+        return documents.values().stream()
+                .filter(doc -> playerId.equals(doc.getPlayerId()) && doc.getPeriod() >= period)
+                .sorted(Comparator.comparingInt(PlayerMonthlySketchDocument::getPeriod))
+                .map(InMemoryPlayerMonthlySketchRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public Stream<PlayerMonthlySketchDocument> streamByPeriodGreaterThanEqual(int period) {
+        return documents.values().stream()
+                .filter(doc -> doc.getPeriod() >= period)
+                .map(InMemoryPlayerMonthlySketchRepository::copy);
+    }
+
+    @Override
+    public PlayerMonthlySketchDocument save(PlayerMonthlySketchDocument document) {
+        PlayerMonthlySketchDocument stored = copy(document);
+        documents.compute(document.getId(), (id, current) -> {
+            Long currentVersion = current != null ? current.getVersion() : null;
+            if (!Objects.equals(currentVersion, document.getVersion())) {
+                throw new OptimisticLockingFailureException("Sketches " + id + " were updated concurrently");
+            }
+            stored.setVersion(currentVersion != null ? currentVersion + 1 : 0L);
+            return stored;
+        });
+        document.setVersion(stored.getVersion());
+        return document;
+    }
+
+    private static PlayerMonthlySketchDocument copy(PlayerMonthlySketchDocument source) {
+        PlayerMonthlySketchDocument copy = new PlayerMonthlySketchDocument();
+        copy.setId(source.getId());
+        copy.setPlayerId(source.getPlayerId());
+        copy.setPeriod(source.getPeriod());
+        // states are replaced, never mutated, so sharing them is safe
+        copy.setSketches(new EnumMap<>(AnalyticsMetric.class));
+        copy.getSketches().putAll(source.getSketches());
+        copy.setMatchIds(new ArrayList<>(source.getMatchIds()));
+        copy.setVersion(source.getVersion());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,203 @@
+package com.tennispulse.perf;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SqsClient} backed by in-JVM queues, for the {@code perf} profile. Supports the calls TennisPulse makes:
+ * create/get queue URL, send (single and batch), receive, delete, change visibility and queue depth. Received
+ * messages are held until deleted; only {@code changeMessageVisibility} makes them visible again (after the given
+ * timeout), there is no default visibility timeout. Messages carry {@code SentTimestamp} and
+ * {@code ApproximateReceiveCount} like real SQS messages, plus the message attributes they were sent with.
+ */
+public class InMemorySqsClient implements SqsClient {
+
+    static final String URL_PREFIX = "inmemory://sqs/";
+
+    private final Map<String, BlockingQueue<Message>> queues = new ConcurrentHashMap<>();
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService redelivery = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("inmemory-sqs-redelivery").factory());
+
+    private record InFlight(String queueUrl, Message message) {
+    }
+
+    public String serviceName() {
+        return "sqs";
+    }
+
+    @Override
+    public CreateQueueResponse createQueue(CreateQueueRequest request) {
+        String url = URL_PREFIX + request.queueName();
+        queues.computeIfAbsent(url, u -> new LinkedBlockingQueue<>());
+        return CreateQueueResponse.builder().queueUrl(url).build();
+    }
+
+    @Override
+    public GetQueueUrlResponse getQueueUrl(GetQueueUrlRequest request) {
+        String url = URL_PREFIX + request.queueName();
+        queue(url);
+        return GetQueueUrlResponse.builder().queueUrl(url).build();
+    }
+
+    @Override
+    public SendMessageResponse sendMessage(SendMessageRequest request) {
+        String id = enqueue(request.queueUrl(), request.messageBody(), request.messageAttributes());
+        return SendMessageResponse.builder().messageId(id).build();
+    }
+
+    @Override
+    public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>(request.entries().size());
+        for (SendMessageBatchRequestEntry entry : request.entries()) {
+            String id = enqueue(request.queueUrl(), entry.messageBody(), entry.messageAttributes());
+            successful.add(SendMessageBatchResultEntry.builder().id(entry.id()).messageId(id).build());
+        }
+        return SendMessageBatchResponse.builder().successful(successful).failed(List.of()).build();
+    }
+
+    /**
+     * Waits up to {@code waitTimeSeconds} for the first message, then takes whatever else is already queued, up to
+     * {@code maxNumberOfMessages}.
+     */
+    @Override
+    public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+        BlockingQueue<Message> queue = queue(request.queueUrl());
+        int max = request.maxNumberOfMessages() != null ? request.maxNumberOfMessages() : 1;
+        int waitSeconds = request.waitTimeSeconds() != null ? request.waitTimeSeconds() : 0;
+
+        List<Message> queued = new ArrayList<>(max);
+        try {
+            Message first = queue.poll(waitSeconds, TimeUnit.SECONDS);
+            if (first != null) {
+                queued.add(first);
+                queue.drainTo(queued, max - 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Message> messages = new ArrayList<>(queued.size());
+        for (Message message : queued) {
+            Message received = receive(message);
+            inFlight.put(received.receiptHandle(), new InFlight(request.queueUrl(), received));
+            messages.add(received);
+        }
+        return ReceiveMessageResponse.builder().messages(messages).build();
+    }
+
+    @Override
+    public DeleteMessageResponse deleteMessage(DeleteMessageRequest request) {
+        inFlight.remove(request.receiptHandle());
+        return DeleteMessageResponse.builder().build();
+    }
+
+    @Override
+    public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+        request.entries().forEach(entry -> inFlight.remove(entry.receiptHandle()));
+        return DeleteMessageBatchResponse.builder().build();
+    }
+
+    /**
+     * Makes a received message visible again after {@code visibilityTimeout} seconds.
+     */
+    @Override
+    public ChangeMessageVisibilityResponse changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        InFlight held = inFlight.remove(request.receiptHandle());
+        if (held != null) {
+            int delay = request.visibilityTimeout() != null ? request.visibilityTimeout() : 0;
+            redelivery.schedule(() -> queue(held.queueUrl()).add(held.message()), delay, TimeUnit.SECONDS);
+        }
+        return ChangeMessageVisibilityResponse.builder().build();
+    }
+
+    @Override
+    public GetQueueAttributesResponse getQueueAttributes(GetQueueAttributesRequest request) {
+        return GetQueueAttributesResponse.builder()
+                .attributes(Map.of(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES,
+                        Integer.toString(depth(request.queueUrl()))))
+                .build();
+    }
+
+    /**
+     * @return messages waiting in the queue
+     */
+    public int depth(String queueUrl) {
+        return queue(queueUrl).size();
+    }
+
+    @Override
+    public void close() {
+        redelivery.shutdownNow();
+        inFlight.clear();
+        queues.clear();
+    }
+
+    private String enqueue(String queueUrl, String body, Map<String, MessageAttributeValue> messageAttributes) {
+        String id = UUID.randomUUID().toString();
+        queue(queueUrl).add(Message.builder()
+                .messageId(id)
+                .receiptHandle(id)
+                .body(body)
+                .messageAttributes(messageAttributes != null ? messageAttributes : Map.of())
+                .attributes(Map.of(
+                        MessageSystemAttributeName.SENT_TIMESTAMP, String.valueOf(System.currentTimeMillis()),
+                        MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT, "0"))
+                .build());
+        return id;
+    }
+
+    /** Counts the receive and hands out a new receipt handle, like SQS does on every receive. */
+    private static Message receive(Message message) {
+        Map<MessageSystemAttributeName, String> attributes = new EnumMap<>(message.attributes());
+        int count = Integer.parseInt(attributes.get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT)) + 1;
+        attributes.put(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT, Integer.toString(count));
+        return message.toBuilder()
+                .receiptHandle(message.messageId() + ":" + count)
+                .attributes(attributes)
+                .build();
+    }
+
+    private BlockingQueue<Message> queue(String queueUrl) {
+        BlockingQueue<Message> queue = queues.get(queueUrl);
+        if (queue == null) {
+            throw new IllegalArgumentException("No in-memory queue " + queueUrl);
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,100 @@
+package com.tennispulse.perf;
+
+import com.tennispulse.service.analytics.MatchCompletedSqsConsumer;
+import com.tennispulse.service.analytics.MatchEventDeduplicator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stands in for the {@code @SqsListener} container in the {@code perf} profile: {@code consumers} threads poll the
+ * {@link InMemorySqsClient} queue and hand each message to {@link MatchCompletedSqsConsumer#onMessage}, waiting
+ * for its future and deleting the message once it succeeds, as the container does.
+ */
+@Slf4j
+public class InMemorySqsListener implements SmartLifecycle {
+
+    private static final int MAX_MESSAGES = 10;
+    private static final int WAIT_SECONDS = 1;
+
+    private final InMemorySqsClient sqsClient;
+    private final String queueUrl;
+    private final MatchCompletedSqsConsumer consumer;
+    private final int consumers;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public InMemorySqsListener(InMemorySqsClient sqsClient, String queueUrl,
+                               MatchCompletedSqsConsumer consumer, int consumers) {
+        this.sqsClient = sqsClient;
+        this.queueUrl = queueUrl;
+        this.consumer = consumer;
+        this.consumers = consumers;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < consumers; i++) {
+            Thread thread = new Thread(this::poll, "inmemory-sqs-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("In-memory SQS listener started on {} with {} consumer(s)", queueUrl, consumers);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder()
+                .queueUrl(queueUrl)
+                .maxNumberOfMessages(MAX_MESSAGES)
+                .waitTimeSeconds(WAIT_SECONDS)
+                .build();
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            for (Message message : sqsClient.receiveMessage(request).messages()) {
+                try {
+                    consumer.onMessage(message.body(),
+                            message.attributes().get(MessageSystemAttributeName.SENT_TIMESTAMP),
+                            stringAttribute(message, MatchEventDeduplicator.MATCH_ID_ATTRIBUTE),
+                            stringAttribute(message, MatchEventDeduplicator.PAYLOAD_HASH_ATTRIBUTE),
+                            message.receiptHandle(),
+                            message.attributes().get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT)).join();
+                    sqsClient.deleteMessage(DeleteMessageRequest.builder()
+                            .queueUrl(queueUrl)
+                            .receiptHandle(message.receiptHandle())
+                            .build());
+                } catch (RuntimeException e) {
+                    // not acknowledged, as in the container; a retry has already rescheduled it
+                    log.debug("In-memory SQS message {} not acknowledged: {}", message.messageId(), e.toString());
+                }
+            }
+        }
+    }
+
+    private static String stringAttribute(Message message, String name) {
+        Map<String, MessageAttributeValue> attributes = message.messageAttributes();
+        MessageAttributeValue value = attributes != null ? attributes.get(name) : null;
+        return value != null ? value.stringValue() : null;
+    }
+}
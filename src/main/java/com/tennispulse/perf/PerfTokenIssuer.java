@@ -0,0 +1,40 @@
+package com.tennispulse.perf;
+
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signs access tokens with the {@code perf} profile's static HMAC key, so load tests and profiling runs can
+ * authenticate without Keycloak.
+ */
+public class PerfTokenIssuer {
+
+    static final String ISSUER = "tennispulse-perf";
+
+    private final JwtEncoder encoder;
+
+    public PerfTokenIssuer(JwtEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    public String issue(String subject, Duration validity) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(now.plus(validity))
+                .claim("realm_access", Map.of("roles", List.of("USER", "ADMIN")))
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+}
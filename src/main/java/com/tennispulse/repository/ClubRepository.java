@@ -1,9 +1,13 @@
 package com.tennispulse.repository;
 
 import com.tennispulse.domain.ClubEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.List;
+import java.util.UUID;
 
-public interface ClubRepository extends JpaRepository<ClubEntity, String> {
-    List<ClubEntity> findByDeletedFalse();
+public interface ClubRepository extends JpaRepository<ClubEntity, UUID> {
+    Slice<ClubEntity> findByDeletedFalse(Pageable pageable);
+
+    long countByDeletedFalse();
 }
@@ -0,0 +1,9 @@
+package com.tennispulse.repository;
+
+import com.tennispulse.domain.LiveMatchStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface LiveMatchStateRepository extends JpaRepository<LiveMatchStateEntity, UUID> {
+}
@@ -1,6 +1,7 @@
 package com.tennispulse.repository;
 
 import com.tennispulse.domain.MatchEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -8,11 +9,11 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
-public interface MatchRepository extends JpaRepository<MatchEntity, String> {
+public interface MatchRepository extends JpaRepository<MatchEntity, UUID> {
 
-    List<MatchEntity> findByPlayer1IdOrPlayer2Id(String player1Id, String player2Id);
+    List<MatchEntity> findByPlayer1IdOrPlayer2Id(UUID player1Id, UUID player2Id);
 
-    List<MatchEntity> findByClubId(String clubId);
+    List<MatchEntity> findByClubId(UUID clubId);
 
     @Query("""
         select m.winner.id, m.winner.name, count(m)
@@ -24,4 +25,62 @@ public interface MatchRepository extends JpaRepository<MatchEntity, String> {
         order by count(m) desc
     """)
     List<Object[]> findWinCountsBetween(Instant from, Instant to);
-}
\ No newline at end of file
+
+    /**
+     * Games won and lost per player over completed matches with a parsed score, most games won first:
+     * {@code [playerId, playerName, gamesWon, gamesLost]}.
+     */
+    @Query(value = """
+        select p.id, p.name, sum(g.won), sum(g.lost)
+        from (
+            select m.winner_id as player_id, m.winner_games as won, m.loser_games as lost
+            from match m
+            where m.status = 'COMPLETED' and m.score_parsed and m.end_time between :from and :to
+            union all
+            select case when m.winner_id = m.player1_id then m.player2_id else m.player1_id end,
+                   m.loser_games, m.winner_games
+            from match m
+            where m.status = 'COMPLETED' and m.score_parsed and m.end_time between :from and :to
+        ) g
+        join player p on p.id = g.player_id
+        group by p.id, p.name
+        order by sum(g.won) desc, p.id
+        limit :limit
+    """, nativeQuery = true)
+    List<Object[]> findGamesWonBetween(Instant from, Instant to, int limit);
+
+    /**
+     * Tiebreaks won and lost per player over completed matches with a parsed score, most tiebreaks won first:
+     * {@code [playerId, playerName, tiebreaksWon, tiebreaksLost]}.
+     */
+    @Query(value = """
+        select p.id, p.name, count(*) filter (where t.won), count(*) filter (where not t.won)
+        from (
+            select m.winner_id as player_id, s.winner_games > s.loser_games as won
+            from match m
+            join match_set s on s.match_id = m.id and s.tiebreak
+            where m.status = 'COMPLETED' and m.score_parsed and m.end_time between :from and :to
+            union all
+            select case when m.winner_id = m.player1_id then m.player2_id else m.player1_id end,
+                   s.loser_games > s.winner_games
+            from match m
+            join match_set s on s.match_id = m.id and s.tiebreak
+            where m.status = 'COMPLETED' and m.score_parsed and m.end_time between :from and :to
+        ) t
+        join player p on p.id = t.player_id
+        group by p.id, p.name
+        order by count(*) filter (where t.won) desc, count(*) desc, p.id
+        limit :limit
+    """, nativeQuery = true)
+    List<Object[]> findTiebreakRecordsBetween(Instant from, Instant to, int limit);
+
+    /** Matches with a score that has not been parsed yet; each backfill batch takes the next ones. */
+    @Query("select m.id from MatchEntity m where m.finalScore is not null and m.scoreParsed is null order by m.id")
+    List<UUID> findIdsWithUnparsedScore(Pageable pageable);
+
+    /** Loads a backfill batch together with its sets, which re-parsing the score clears and rewrites. */
+    @Query("select distinct m from MatchEntity m left join fetch m.sets where m.id in :ids")
+    List<MatchEntity> findAllWithSetsByIdIn(List<UUID> ids);
+
+    long countByFinalScoreIsNotNullAndScoreParsedIsNull();
+}
@@ -1,11 +1,14 @@
 package com.tennispulse.repository;
 
 import com.tennispulse.domain.PlayerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
-import java.util.List;
 
-public interface PlayerRepository extends JpaRepository<PlayerEntity, String> {
-    List<PlayerEntity> findByDeletedFalse();
+public interface PlayerRepository extends JpaRepository<PlayerEntity, UUID> {
+    Slice<PlayerEntity> findByDeletedFalse(Pageable pageable);
+
+    long countByDeletedFalse();
 }
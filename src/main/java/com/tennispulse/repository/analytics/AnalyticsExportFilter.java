@@ -0,0 +1,40 @@
+package com.tennispulse.repository.analytics;
+
+import com.tennispulse.domain.analytics.CoachingStatus;
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Which analytics documents to export. Every criterion is optional: {@code null} bounds are open and empty sets
+ * match everything.
+ *
+ * @param from inclusive lower bound on {@code createdAt}
+ * @param to   exclusive upper bound on {@code createdAt}
+ */
+public record AnalyticsExportFilter(
+        Instant from,
+        Instant to,
+        Set<UUID> playerIds,
+        Set<CoachingStatus> coachingStatuses
+) {
+
+    public AnalyticsExportFilter {
+        playerIds = playerIds != null ? Set.copyOf(playerIds) : Set.of();
+        coachingStatuses = coachingStatuses != null ? Set.copyOf(coachingStatuses) : Set.of();
+    }
+
+    public boolean matches(PlayerMatchAnalyticsDocument doc) {
+        Instant createdAt = doc.getCreatedAt();
+        if (from != null && (createdAt == null || createdAt.isBefore(from))) {
+            return false;
+        }
+        if (to != null && (createdAt == null || !createdAt.isBefore(to))) {
+            return false;
+        }
+        return (playerIds.isEmpty() || playerIds.contains(doc.getPlayerId()))
+                && (coachingStatuses.isEmpty() || coachingStatuses.contains(doc.getCoachingStatus()));
+    }
+}
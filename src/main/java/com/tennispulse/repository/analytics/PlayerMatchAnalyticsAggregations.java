@@ -0,0 +1,28 @@
+package com.tennispulse.repository.analytics;
+
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import org.bson.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Metric averages over {@code player_match_analytics}. Results are documents keyed like the aggregation output:
+ * one field per {@link AnalyticsMetric} name holding the average of its {@code metrics.<name>.value}
+ * (absent when a group has no value for it).
+ */
+public interface PlayerMatchAnalyticsAggregations {
+
+    /**
+     * @param from lower bound on {@code createdAt}, or {@code null} for all time
+     * @return one document per player ({@code playerId} plus averages), ordered by player id
+     */
+    List<Document> averageMetricsPerPlayer(LocalDateTime from);
+
+    /**
+     * @param from lower bound on {@code createdAt}, or {@code null} for all time
+     * @return one document per month ({@code year}, {@code month} plus averages), newest first
+     */
+    List<Document> averageMetricsPerMonth(UUID playerId, LocalDateTime from);
+}
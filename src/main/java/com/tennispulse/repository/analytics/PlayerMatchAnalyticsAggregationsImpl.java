@@ -0,0 +1,94 @@
+package com.tennispulse.repository.analytics;
+
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Aggregation pipelines behind {@link PlayerMatchAnalyticsAggregations}, picked up by Spring Data as a fragment of
+ * {@link PlayerMatchAnalyticsRepository}.
+ */
+@RequiredArgsConstructor
+public class PlayerMatchAnalyticsAggregationsImpl implements PlayerMatchAnalyticsAggregations {
+
+    static final String COLLECTION = "player_match_analytics";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Document> averageMetricsPerPlayer(LocalDateTime from) {
+        List<AggregationOperation> pipeline = new ArrayList<>();
+
+        Criteria criteria = new Criteria();
+        if (from != null) {
+            criteria = Criteria.where("createdAt").gte(from);
+        }
+
+        pipeline.add(Aggregation.match(criteria));
+
+        GroupOperation group = Aggregation.group("playerId")
+                .first("playerId").as("playerId");
+
+        // build averages for each metric
+        for (AnalyticsMetric metric : AnalyticsMetric.values()) {
+            group = group.avg("metrics." + metric.name() + ".value").as(metric.name());
+        }
+
+        pipeline.add(group);
+
+        // sort by playerId just for determinism
+        pipeline.add(Aggregation.sort(Sort.by(Sort.Direction.ASC, "playerId")));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), COLLECTION, Document.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public List<Document> averageMetricsPerMonth(UUID playerId, LocalDateTime from) {
+        List<AggregationOperation> pipeline = new ArrayList<>();
+
+        // Match documents for this player
+        Criteria criteria = Criteria.where("playerId").is(playerId);
+        if (from != null) {
+            criteria = criteria.and("createdAt").gte(from);
+        }
+
+        pipeline.add(Aggregation.match(criteria));
+
+        // Add synthetic year/month fields
+        pipeline.add(Aggregation.project()
+                .andExpression("year(createdAt)").as("year")
+                .andExpression("month(createdAt)").as("month")
+                .and("metrics").as("metrics"));
+
+        // Group → average each metric per (year, month)
+        GroupOperation groupByMonth = Aggregation.group("year", "month")
+                .first("year").as("year")
+                .first("month").as("month");
+
+        // Dynamically add averages for all metrics (use .value)
+        for (AnalyticsMetric metric : AnalyticsMetric.values()) {
+            groupByMonth = groupByMonth
+                    .avg("metrics." + metric.name() + ".value")
+                    .as(metric.name());
+        }
+        pipeline.add(groupByMonth);
+
+        // Sort descending by date (newest first)
+        pipeline.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, "year", "month")));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), COLLECTION, Document.class)
+                .getMappedResults();
+    }
+}
@@ -0,0 +1,21 @@
+package com.tennispulse.repository.analytics;
+
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Cursor reads over {@code player_match_analytics} for bulk export.
+ */
+public interface PlayerMatchAnalyticsExport {
+
+    /**
+     * Streams the matching documents in natural order, fetching {@code batchSize} at a time from an open cursor.
+     * The stream must be closed.
+     *
+     * @param fields document paths to load (e.g. {@code metrics.WINNERS}); other fields are left {@code null}
+     */
+    Stream<PlayerMatchAnalyticsDocument> streamForExport(AnalyticsExportFilter filter, Collection<String> fields,
+                                                         int batchSize);
+}
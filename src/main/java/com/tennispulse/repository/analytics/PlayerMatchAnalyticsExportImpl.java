@@ -0,0 +1,48 @@
+package com.tennispulse.repository.analytics;
+
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cursor behind {@link PlayerMatchAnalyticsExport}, picked up by Spring Data as a fragment of
+ * {@link PlayerMatchAnalyticsRepository}. There is no sort: an unindexed sort over the whole collection would be
+ * done in memory by the server.
+ */
+@RequiredArgsConstructor
+public class PlayerMatchAnalyticsExportImpl implements PlayerMatchAnalyticsExport {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Stream<PlayerMatchAnalyticsDocument> streamForExport(AnalyticsExportFilter filter,
+                                                                Collection<String> fields, int batchSize) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter.from() != null) {
+            criteria.add(Criteria.where("createdAt").gte(filter.from()));
+        }
+        if (filter.to() != null) {
+            criteria.add(Criteria.where("createdAt").lt(filter.to()));
+        }
+        if (!filter.playerIds().isEmpty()) {
+            criteria.add(Criteria.where("playerId").in(filter.playerIds()));
+        }
+        if (!filter.coachingStatuses().isEmpty()) {
+            criteria.add(Criteria.where("coachingStatus").in(filter.coachingStatuses()));
+        }
+
+        Query query = new Query(criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria))
+                .cursorBatchSize(batchSize);
+        query.fields().include(fields.toArray(String[]::new));
+
+        return mongoTemplate.stream(query, PlayerMatchAnalyticsDocument.class,
+                PlayerMatchAnalyticsAggregationsImpl.COLLECTION);
+    }
+}
@@ -7,7 +7,8 @@ import java.util.List;
 import java.util.UUID;
 
 public interface PlayerMatchAnalyticsRepository
-        extends MongoRepository<PlayerMatchAnalyticsDocument, String> {
+        extends MongoRepository<PlayerMatchAnalyticsDocument, UUID>, PlayerMatchAnalyticsAggregations,
+        PlayerMatchAnalyticsExport {
 
     List<PlayerMatchAnalyticsDocument> findByPlayerIdOrderByCreatedAtDesc(UUID playerId);
 }
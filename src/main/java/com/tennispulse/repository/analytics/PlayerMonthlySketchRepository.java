@@ -0,0 +1,25 @@
+package com.tennispulse.repository.analytics;
+
+import com.tennispulse.domain.analytics.PlayerMonthlySketchDocument;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Only the operations the sketches need, so the {@code perf} profile's in-memory stand-in stays small. Saves
+ * are optimistically locked on {@link PlayerMonthlySketchDocument#getVersion()}.
+ */
+public interface PlayerMonthlySketchRepository extends Repository<PlayerMonthlySketchDocument, UUID> {
+
+    Optional<PlayerMonthlySketchDocument> findById(UUID id);
+
+    List<PlayerMonthlySketchDocument> findByPlayerIdAndPeriodGreaterThanEqual(UUID playerId, int period);
+
+    /** Every player's months from {@code period} on, from a cursor; close the stream. */
+    Stream<PlayerMonthlySketchDocument> streamByPeriodGreaterThanEqual(int period);
+
+    PlayerMonthlySketchDocument save(PlayerMonthlySketchDocument document);
+}
@@ -4,12 +4,15 @@ import com.tennispulse.domain.ClubEntity;
 import com.tennispulse.repository.ClubRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -19,6 +22,7 @@ public class ClubService {
 
     private final ClubRepository clubRepository;
 
+    @CacheEvict(value = "counts", key = "'clubs:active'")
     public ClubEntity create(ClubEntity club) {
         club.setId(null);
         ClubEntity createdClub = clubRepository.save(club);
@@ -26,18 +30,23 @@ public class ClubService {
         return createdClub;
     }
 
-    public List<ClubEntity> findAll() {
-        return clubRepository.findByDeletedFalse();
+    public Slice<ClubEntity> findActive(Pageable pageable) {
+        return clubRepository.findByDeletedFalse(pageable);
     }
 
-    public ClubEntity findById(String id) {
+    @Cacheable(value = "counts", key = "'clubs:active'", sync = true)
+    public long countActive() {
+        return clubRepository.countByDeletedFalse();
+    }
+
+    public ClubEntity findById(UUID id) {
         return clubRepository.findById(id)                .orElseThrow(() -> new ResponseStatusException(
                 HttpStatus.NOT_FOUND,
                 "Club not found: " + id
         ));
     }
 
-    public ClubEntity update(String id, ClubEntity updated) {
+    public ClubEntity update(UUID id, ClubEntity updated) {
         ClubEntity existing = findById(id);
         existing.setName(updated.getName());
         existing.setCity(updated.getCity());
@@ -49,7 +58,8 @@ public class ClubService {
         return saved;
     }
 
-    public void delete(String id) {
+    @CacheEvict(value = "counts", key = "'clubs:active'")
+    public void delete(UUID id) {
         ClubEntity existing = findById(id);
 
         if (existing.isDeleted()) {
@@ -59,7 +69,7 @@ public class ClubService {
 
         existing.setDeleted(true);
         existing.setDeletedAt(Instant.now());
-        existing.setName("Deleted club " + id.substring(0, 8));
+        existing.setName("Deleted club " + id.toString().substring(0, 8));
         existing.setCity(null);
         existing.setCountry(null);
 
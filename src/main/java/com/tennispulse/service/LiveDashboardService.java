@@ -0,0 +1,364 @@
+package com.tennispulse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.cache.CacheInvalidationBus;
+import com.tennispulse.service.analytics.PlayerHighlightsService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes rankings and highlights to dashboards over Server-Sent Events instead of having them poll.
+ * <p>
+ * The change signal is the invalidation of the {@code rankings} and {@code highlights} caches, which
+ * {@link MatchService#updateStatus} and the analytics consumer already trigger; it reaches every node through the
+ * {@link CacheInvalidationBus}. Invalidations are coalesced for {@code coalesce-window}, then each subscribed view
+ * is read once through the cached services and, only if its JSON differs from what was last pushed, sent to all
+ * of its subscribers. Because the caches may serve the previous value for up to {@code max-staleness} while they
+ * recompute, the views are read again once that has passed.
+ * <p>
+ * Sends never block the fan-out: each subscriber has its own queue of immutable events drained on a virtual thread,
+ * which is the only thread that touches its emitter, and a subscriber whose queue reaches
+ * {@value #MAX_PENDING_EVENTS} events is disconnected by that thread (its EventSource reconnects and starts from a
+ * fresh snapshot).
+ */
+@Slf4j
+@Service
+public class LiveDashboardService {
+
+    static final String RANKINGS_CACHE = "rankings";
+    static final String HIGHLIGHTS_CACHE = "highlights";
+    static final int MAX_PENDING_EVENTS = 32;
+
+    private final RankingService rankingService;
+    private final PlayerHighlightsService highlightsService;
+    private final ObjectMapper objectMapper;
+    private final Duration coalesceWindow;
+    private final Duration recheckDelay;
+    private final Duration emitterTimeout;
+    private final int maxSubscribers;
+
+    private final Map<String, TopicState> topics = new ConcurrentHashMap<>();
+    private final Set<String> dirtyCaches = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Set<Subscriber> connected = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("live-dashboard").factory());
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("live-dashboard-send-", 0).factory());
+
+    public LiveDashboardService(
+            RankingService rankingService,
+            PlayerHighlightsService highlightsService,
+            ObjectMapper objectMapper,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${tennispulse.live.coalesce-window:1s}") Duration coalesceWindow,
+            @Value("${tennispulse.cache.refresh.max-staleness:5s}") Duration maxStaleness,
+            @Value("${tennispulse.live.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${tennispulse.live.heartbeat-interval:25s}") Duration heartbeatInterval,
+            @Value("${tennispulse.live.max-subscribers:10000}") int maxSubscribers) {
+        this.rankingService = rankingService;
+        this.highlightsService = highlightsService;
+        this.objectMapper = objectMapper;
+        this.coalesceWindow = coalesceWindow;
+        this.recheckDelay = maxStaleness;
+        this.emitterTimeout = emitterTimeout;
+        this.maxSubscribers = maxSubscribers;
+
+        invalidationBus.addListener(this::onInvalidation);
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        Gauge.builder("live.dashboard.subscribers", subscribers, AtomicInteger::get)
+                .description("Open Server-Sent Events dashboard connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * One pushed view: the SSE event name, the cache whose invalidation may change it and how to read it.
+     */
+    public record Topic(String key, String cacheName, Supplier<?> loader) {}
+
+    /**
+     * @param period {@code current-year} or {@code last-month}
+     * @throws IllegalArgumentException for any other period
+     */
+    public Topic rankingsTopic(String period, int limit) {
+        Supplier<?> loader = switch (period) {
+            case "current-year" -> () -> rankingService.getTopWinnersCurrentYear(limit);
+            case "last-month" -> () -> rankingService.getTopWinnersLastMonth(limit);
+            default -> throw new IllegalArgumentException(
+                    "Unknown rankings period '" + period + "', expected current-year or last-month");
+        };
+        return new Topic("rankings:" + period + ":" + limit, RANKINGS_CACHE, loader);
+    }
+
+    public Topic highlightsTopic(TimelineRange range) {
+        return new Topic("highlights:" + range, HIGHLIGHTS_CACHE, () -> highlightsService.getHighlights(range));
+    }
+
+    /**
+     * Opens a stream that starts with the current value of every topic and then receives a topic's value each
+     * time it changes.
+     *
+     * @throws IllegalStateException when {@code max-subscribers} streams are already open on this node
+     */
+    public SseEmitter subscribe(List<Topic> requested) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new IllegalStateException("Too many live dashboard subscribers");
+        }
+        SseEmitter emitter = newEmitter(emitterTimeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        connected.add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        try {
+            for (Topic topic : requested) {
+                TopicState state = topics.compute(topic.key(), (key, current) -> {
+                    TopicState result = current != null ? current : new TopicState(topic);
+                    result.subscribers.add(subscriber);
+                    return result;
+                });
+                subscriber.topics.add(state);
+                state.snapshotTo(subscriber);
+            }
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter(Duration timeout) {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    int subscriberCount() {
+        return subscribers.get();
+    }
+
+    void onInvalidation(String cacheName) {
+        if (!RANKINGS_CACHE.equals(cacheName) && !HIGHLIGHTS_CACHE.equals(cacheName)) {
+            return;
+        }
+        dirtyCaches.add(cacheName);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Publishes the views of every cache invalidated since the last flush, and again after max-staleness. */
+    void flush() {
+        flushScheduled.set(false);
+        Set<String> changed = new HashSet<>();
+        for (String cacheName : dirtyCaches) {
+            dirtyCaches.remove(cacheName);
+            changed.add(cacheName);
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        publish(changed);
+        scheduler.schedule(() -> publish(changed), recheckDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void publish(Set<String> cacheNames) {
+        for (TopicState state : topics.values()) {
+            if (cacheNames.contains(state.topic.cacheName())) {
+                try {
+                    state.publish();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to publish live view {}: {}", state.topic.key(), e.toString());
+                }
+            }
+        }
+    }
+
+    private void heartbeat() {
+        connected.forEach(subscriber -> subscriber.offer(Event.KEEP_ALIVE));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!connected.remove(subscriber)) {
+            return;
+        }
+        subscribers.decrementAndGet();
+        for (TopicState state : subscriber.topics) {
+            topics.computeIfPresent(state.topic.key(), (key, current) -> {
+                current.subscribers.remove(subscriber);
+                return current.subscribers.isEmpty() ? null : current;
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        new ArrayList<>(connected).forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize live view", e);
+        }
+    }
+
+    private final class TopicState {
+
+        private final Topic topic;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // written under the monitor, read without it to decide whether a snapshot has to load
+        private volatile String lastJson;
+
+        TopicState(Topic topic) {
+            this.topic = topic;
+        }
+
+        /**
+         * Reads the view once and, if it changed, queues it for every subscriber. Views are loaded outside the
+         * monitor: a cache miss reads the database, which must not pin a virtual thread's carrier.
+         */
+        void publish() {
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            String json = serialize(topic.loader().get());
+            synchronized (this) {
+                if (json.equals(lastJson)) {
+                    return;
+                }
+                lastJson = json;
+                Event event = new Event(topic.key(), json);
+                subscribers.forEach(subscriber -> subscriber.offer(event));
+            }
+        }
+
+        /**
+         * Queues the current view for a new subscriber, ordered with respect to concurrent publishes. Only the
+         * first subscriber loads it; a value published meanwhile wins over that load.
+         */
+        void snapshotTo(Subscriber subscriber) {
+            String loaded = lastJson == null ? serialize(topic.loader().get()) : null;
+            synchronized (this) {
+                if (lastJson == null) {
+                    lastJson = loaded;
+                }
+                subscriber.offer(new Event(topic.key(), lastJson));
+            }
+        }
+    }
+
+    /**
+     * A queued event. {@link SseEmitter.SseEventBuilder} is mutated by every {@code build()}, so one is created per
+     * send instead of being shared between subscribers.
+     */
+    private record Event(String name, String data) {
+
+        static final Event KEEP_ALIVE = new Event(null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            return name == null ? SseEmitter.event().comment("keep-alive") : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final List<TopicState> topics = new ArrayList<>();
+        private final Queue<Event> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        /** Set when the subscriber is dropped; its sender thread then completes the emitter. */
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean done;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /** Never blocks and never calls the emitter: the caller may be the fan-out holding a topic monitor. */
+        void offer(Event event) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > MAX_PENDING_EVENTS) {
+                log.debug("Disconnecting slow live dashboard subscriber");
+                closed.set(true);
+                unsubscribe(this);
+            } else {
+                pending.add(event);
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (done || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(() -> {
+                    try {
+                        Event event;
+                        while (!closed.get() && (event = pending.poll()) != null) {
+                            queued.decrementAndGet();
+                            emitter.send(event.toSse());
+                        }
+                        if (closed.get()) {
+                            done = true;
+                            pending.clear();
+                            emitter.complete();
+                            return;
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        // client gone or emitter already completed
+                        done = true;
+                        closed.set(true);
+                        unsubscribe(this);
+                        pending.clear();
+                        return;
+                    } finally {
+                        draining.set(false);
+                    }
+                    // an offer that found this thread still draining relies on it to pick up its event or close
+                    if (!pending.isEmpty() || closed.get()) {
+                        drain();
+                    }
+                });
+            } catch (RuntimeException e) {
+                draining.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.tennispulse.service;
+
+import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.api.controllers.MatchImportController.MatchImportResult;
+import com.tennispulse.api.controllers.MatchImportController.MatchImportRow;
+import com.tennispulse.api.controllers.MatchImportController.RowError;
+import com.tennispulse.datasource.ReplicaLagGuard;
+import com.tennispulse.domain.ClubEntity;
+import com.tennispulse.domain.MatchEntity;
+import com.tennispulse.domain.MatchStatus;
+import com.tennispulse.domain.PlayerEntity;
+import com.tennispulse.repository.ClubRepository;
+import com.tennispulse.repository.PlayerRepository;
+import com.tennispulse.service.analytics.SqsMatchEventPublisher;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stores a batch of completed matches in one transaction:
+ * <ul>
+ *     <li>all referenced players and clubs are loaded with one {@code IN} query each;</li>
+ *     <li>matches are persisted in chunks of {@code hibernate.jdbc.batch_size}, flushed as JDBC batches;</li>
+ *     <li>after commit, MatchCompleted events go out through SQS batch sends and rankings are invalidated once.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchImportService {
+
+    private final PlayerRepository playerRepository;
+    private final ClubRepository clubRepository;
+    private final EntityManager entityManager;
+    private final SqsMatchEventPublisher matchEventPublisher;
+    private final RankingService rankingService;
+    private final ReplicaLagGuard replicaLagGuard;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    @Transactional
+    public MatchImportResult importCompleted(List<MatchImportRow> rows) {
+        Map<UUID, PlayerEntity> players = playerRepository.findAllById(referencedPlayerIds(rows)).stream()
+                .filter(p -> !p.isDeleted())
+                .collect(Collectors.toMap(PlayerEntity::getId, Function.identity()));
+        Map<UUID, ClubEntity> clubs = clubRepository.findAllById(referencedClubIds(rows)).stream()
+                .filter(c -> !c.isDeleted())
+                .collect(Collectors.toMap(ClubEntity::getId, Function.identity()));
+
+        List<RowError> errors = new ArrayList<>();
+        for (MatchImportRow row : rows) {
+            validate(row, players, clubs, errors);
+        }
+        if (!errors.isEmpty()) {
+            log.info("Match import rejected: {} row(s), {} error(s)", rows.size(), errors.size());
+            return new MatchImportResult(rows.size(), 0, 0, errors);
+        }
+
+        Instant now = Instant.now();
+        List<MatchEntity> matches = new ArrayList<>(rows.size());
+        Map<UUID, List<MatchController.PlayerStatsRequest>> statsByMatchId = new HashMap<>();
+
+        for (MatchImportRow row : rows) {
+            MatchEntity match = MatchEntity.builder()
+                    .club(clubs.get(row.getClubId()))
+                    .player1(players.get(row.getPlayer1Id()))
+                    .player2(players.get(row.getPlayer2Id()))
+                    .winner(players.get(row.getWinnerId()))
+                    .finalScore(row.getFinalScore())
+                    .status(MatchStatus.COMPLETED)
+                    .startTime(row.getStartTime())
+                    .endTime(row.getEndTime() != null ? row.getEndTime() : now)
+                    .build();
+
+            // ids are generated in memory (GenerationType.UUID), so inserts stay batchable
+            entityManager.persist(match);
+            matches.add(match);
+            if (!CollectionUtils.isEmpty(row.getPlayerStats())) {
+                statsByMatchId.put(match.getId(), row.getPlayerStats());
+            }
+
+            if (matches.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        log.info("Match import stored {} match(es), {} with stats", matches.size(), statsByMatchId.size());
+        // registered first, so rankings recomputed after the invalidation below read the imported matches
+        replicaLagGuard.readYourWrites();
+        AfterCommit.run(() -> {
+            // the matches are stored either way: rankings must not stay stale because SQS is unreachable
+            rankingService.invalidateRankingsCache();
+            try {
+                matchEventPublisher.publishMatchesCompleted(matches, statsByMatchId);
+            } catch (RuntimeException e) {
+                log.error("Failed to publish MatchCompleted events for {} imported match(es)", matches.size(), e);
+            }
+        });
+        return new MatchImportResult(rows.size(), matches.size(), statsByMatchId.size(), List.of());
+    }
+
+    private void validate(MatchImportRow row,
+                          Map<UUID, PlayerEntity> players,
+                          Map<UUID, ClubEntity> clubs,
+                          List<RowError> errors) {
+        int line = row.getLine();
+        if (row.getClubId() == null || row.getPlayer1Id() == null || row.getPlayer2Id() == null
+                || row.getWinnerId() == null || row.getFinalScore() == null || row.getFinalScore().isBlank()) {
+            errors.add(new RowError(line, "clubId, player1Id, player2Id, winnerId and finalScore are required"));
+            return;
+        }
+        if (!clubs.containsKey(row.getClubId())) {
+            errors.add(new RowError(line, "Club not found: " + row.getClubId()));
+        }
+        for (UUID playerId : List.of(row.getPlayer1Id(), row.getPlayer2Id())) {
+            if (!players.containsKey(playerId)) {
+                errors.add(new RowError(line, "Player not found: " + playerId));
+            }
+        }
+        if (row.getPlayer1Id().equals(row.getPlayer2Id())) {
+            errors.add(new RowError(line, "player1Id and player2Id must differ"));
+        }
+        if (!row.getWinnerId().equals(row.getPlayer1Id()) && !row.getWinnerId().equals(row.getPlayer2Id())) {
+            errors.add(new RowError(line, "winnerId must be player1Id or player2Id"));
+        }
+        if (row.getStartTime() != null && row.getEndTime() != null && row.getEndTime().isBefore(row.getStartTime())) {
+            errors.add(new RowError(line, "endTime is before startTime"));
+        }
+        if (row.getPlayerStats() != null) {
+            for (MatchController.PlayerStatsRequest stats : row.getPlayerStats()) {
+                if (!row.getPlayer1Id().equals(stats.getPlayerId()) && !row.getPlayer2Id().equals(stats.getPlayerId())) {
+                    errors.add(new RowError(line, "Stats for a player not in the match: " + stats.getPlayerId()));
+                }
+            }
+        }
+    }
+
+    private static Set<UUID> referencedPlayerIds(List<MatchImportRow> rows) {
+        Set<UUID> ids = new HashSet<>();
+        for (MatchImportRow row : rows) {
+            ids.add(row.getPlayer1Id());
+            ids.add(row.getPlayer2Id());
+        }
+        ids.remove(null);
+        return ids;
+    }
+
+    private static Set<UUID> referencedClubIds(List<MatchImportRow> rows) {
+        return rows.stream()
+                .map(MatchImportRow::getClubId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +20,7 @@ public class MatchQueryService {
     private final MatchRepository matchRepository;
 
     @Transactional(readOnly = true)
-    public MatchController.MatchResponse getById(String id) {
+    public MatchController.MatchResponse getById(UUID id) {
         MatchEntity m = matchRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
@@ -36,7 +37,8 @@ public class MatchQueryService {
                 .toList();
     }
 
-    private MatchController.MatchResponse toResponse(MatchEntity m) {
+    /** Maps an already loaded match, e.g. one just created, without reading it again. */
+    public MatchController.MatchResponse toResponse(MatchEntity m) {
         PlayerEntity winner = m.getWinner();
         return new MatchController.MatchResponse(
                 m.getId(),
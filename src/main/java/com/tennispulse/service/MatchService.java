@@ -1,6 +1,7 @@
 package com.tennispulse.service;
 
 import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.datasource.ReplicaLagGuard;
 import com.tennispulse.domain.ClubEntity;
 import com.tennispulse.domain.MatchEntity;
 import com.tennispulse.domain.MatchStatus;
@@ -9,6 +10,7 @@ import com.tennispulse.repository.ClubRepository;
 import com.tennispulse.repository.MatchRepository;
 import com.tennispulse.repository.PlayerRepository;
 import com.tennispulse.service.analytics.SqsMatchEventPublisher;
+import com.tennispulse.service.scoring.LiveScoringService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -19,6 +21,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -30,9 +34,11 @@ public class MatchService {
     private final PlayerRepository playerRepository;
     private final ClubRepository clubRepository;
     private final RankingService rankingService;
+    private final LiveScoringService liveScoringService;
+    private final ReplicaLagGuard replicaLagGuard;
 
     @Transactional
-    public MatchEntity create(String clubId, String player1Id, String player2Id) {
+    public MatchEntity create(UUID clubId, UUID player1Id, UUID player2Id) {
         ClubEntity club = clubRepository.findById(clubId)
                 .orElseThrow(() -> new IllegalArgumentException("Club not found: " + clubId));
 
@@ -60,7 +66,7 @@ public class MatchService {
         return matchRepository.findAll();
     }
 
-    public MatchEntity findById(String id) {
+    public MatchEntity findById(UUID id) {
         return matchRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(
                 HttpStatus.NOT_FOUND,
@@ -69,9 +75,11 @@ public class MatchService {
     }
 
     @Transactional
-    public MatchEntity updateStatus(String id, MatchController.UpdateMatchStatusRequest updateMatchStatusRequest) {
+    public MatchEntity updateStatus(UUID id, MatchController.UpdateMatchStatusRequest updateMatchStatusRequest) {
         MatchEntity match = findById(id);
         MatchStatus oldStatus = match.getStatus();
+        // the caller, the rankings recomputed after invalidation and live dashboards must see the new status
+        replicaLagGuard.readYourWrites();
 
         log.info("Updating match status: id={}, updateMatchStatusRequest={}",
                 id, updateMatchStatusRequest);
@@ -84,33 +92,56 @@ public class MatchService {
         }
 
         if (status == MatchStatus.COMPLETED) {
-            String winnerId = updateMatchStatusRequest.getWinnerId();
+            UUID winnerId = updateMatchStatusRequest.getWinnerId();
             String finalScore = updateMatchStatusRequest.getFinalScore();
+            List<MatchController.PlayerStatsRequest> playerStatsRequests = updateMatchStatusRequest.getPlayerStats();
+
+            // a match scored point by point supplies whatever the request leaves out
+            Optional<LiveScoringService.LiveResult> live = liveScoringService.result(match);
+            if (live.isPresent()) {
+                if (winnerId == null) {
+                    winnerId = live.get().winnerId();
+                }
+                if (finalScore == null || finalScore.isBlank()) {
+                    finalScore = live.get().finalScore();
+                }
+                if (CollectionUtils.isEmpty(playerStatsRequests)) {
+                    playerStatsRequests = live.get().playerStats();
+                }
+            }
+
             if (winnerId == null || finalScore == null || finalScore.isBlank()) {
                 throw new IllegalArgumentException("Winner and finalScore are required when completing a match.");
             }
 
-            if (CollectionUtils.isEmpty(updateMatchStatusRequest.getPlayerStats())) {
-                log.warn("Match {} completed without stats payload", id);
-            } else {
-                List<MatchController.PlayerStatsRequest> playerStatsRequests = updateMatchStatusRequest.getPlayerStats();
-                matchEventPublisher.publishMatchCompleted(match, playerStatsRequests);
+            PlayerEntity winner = playerRepository.findById(winnerId).orElse(null);
+            if (winner == null) {
+                throw new IllegalArgumentException("Winner not found: " + winnerId);
             }
 
-            PlayerEntity winner = playerRepository.findById(winnerId)
-                    .orElseThrow(() -> new IllegalArgumentException("Winner not found: " + winnerId));
-
             match.setWinner(winner);
             match.setFinalScore(finalScore);
             match.setEndTime(Instant.now());
 
+            if (CollectionUtils.isEmpty(playerStatsRequests)) {
+                log.warn("Match {} completed without stats payload", id);
+            } else {
+                // the event carries the winner and score, and must not announce a completion that rolls back
+                List<MatchController.PlayerStatsRequest> stats = playerStatsRequests;
+                AfterCommit.run(() -> matchEventPublisher.publishMatchCompleted(match, stats));
+            }
+
             rankingService.invalidateRankingsCache();
+            if (live.isPresent()) {
+                liveScoringService.discard(id);
+            }
         }
 
         if (status == MatchStatus.CANCELLED) {
             match.setWinner(null);
             match.setFinalScore(null);
             match.setEndTime(Instant.now());
+            liveScoringService.discard(id);
         }
 
         MatchEntity saved = matchRepository.save(match);
@@ -121,7 +152,7 @@ public class MatchService {
         return saved;
     }
 
-    public void delete(String id) {
+    public void delete(UUID id) {
         matchRepository.deleteById(id);
         log.info("Match deleted: id={}", id);
     }
@@ -4,12 +4,15 @@ import com.tennispulse.domain.PlayerEntity;
 import com.tennispulse.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -19,6 +22,7 @@ public class PlayerService {
 
     private final PlayerRepository playerRepository;
 
+    @CacheEvict(value = "counts", key = "'players:active'")
     public PlayerEntity create(PlayerEntity player) {
         player.setId(null);
         PlayerEntity created = playerRepository.save(player);
@@ -26,11 +30,16 @@ public class PlayerService {
         return created;
     }
 
-    public List<PlayerEntity> findAll() {
-        return playerRepository.findByDeletedFalse();
+    public Slice<PlayerEntity> findActive(Pageable pageable) {
+        return playerRepository.findByDeletedFalse(pageable);
     }
 
-    public PlayerEntity findById(String id) {
+    @Cacheable(value = "counts", key = "'players:active'", sync = true)
+    public long countActive() {
+        return playerRepository.countByDeletedFalse();
+    }
+
+    public PlayerEntity findById(UUID id) {
         return playerRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
@@ -38,7 +47,7 @@ public class PlayerService {
                 ));
     }
 
-    public PlayerEntity update(String id, PlayerEntity updated) {
+    public PlayerEntity update(UUID id, PlayerEntity updated) {
         PlayerEntity existing = findById(id);
         existing.setName(updated.getName());
         existing.setHandedness(updated.getHandedness());
@@ -50,7 +59,8 @@ public class PlayerService {
     }
 
     // Soft delete
-    public void delete(String id) {
+    @CacheEvict(value = "counts", key = "'players:active'")
+    public void delete(UUID id) {
         PlayerEntity existing = findById(id);
 
         if (existing.isDeleted()) {
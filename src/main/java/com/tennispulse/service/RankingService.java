@@ -1,5 +1,7 @@
 package com.tennispulse.service;
 
+import com.tennispulse.api.dto.PlayerGamesRankingDto;
+import com.tennispulse.api.dto.PlayerTiebreakRecordDto;
 import com.tennispulse.api.dto.PlayerWinsRankingDto;
 import com.tennispulse.domain.analytics.*;
 import com.tennispulse.repository.MatchRepository;
@@ -8,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.util.*;
@@ -22,7 +25,8 @@ public class RankingService {
     /**
      * Most wins in the current year.
      */
-    @Cacheable(value = "rankings", key = "'wins:current-year:limit:' + #limit")
+    @Cacheable(value = "rankings", key = "'wins:current-year:limit:' + #limit", sync = true)
+    @Transactional(readOnly = true)
     public List<PlayerWinsRankingDto> getTopWinnersCurrentYear(int limit) {
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime startOfYear = now.withDayOfYear(1).toLocalDate().atStartOfDay(now.getZone());
@@ -32,7 +36,8 @@ public class RankingService {
     /**
      * Most wins in the last 30 days.
      */
-    @Cacheable(value = "rankings", key = "'wins:last-month:limit:' + #limit")
+    @Cacheable(value = "rankings", key = "'wins:last-month:limit:' + #limit", sync = true)
+    @Transactional(readOnly = true)
     public List<PlayerWinsRankingDto> getTopWinnersLastMonth(int limit) {
         ZonedDateTime now = ZonedDateTime.now();
         ZonedDateTime start = now.minusDays(30).toLocalDate().atStartOfDay(now.getZone());
@@ -43,12 +48,39 @@ public class RankingService {
         return result;
     }
 
+    /**
+     * Most games won in the current year, computed in SQL from the parsed score columns. Not cached: the
+     * {@code rankings} cache is serialized as {@link PlayerWinsRankingDto} lists.
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerGamesRankingDto> getTopGamesWonCurrentYear(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime startOfYear = now.withDayOfYear(1).toLocalDate().atStartOfDay(now.getZone());
+        return matchRepository.findGamesWonBetween(startOfYear.toInstant(), now.toInstant(), limit).stream()
+                .map(r -> new PlayerGamesRankingDto((UUID) r[0], (String) r[1],
+                        ((Number) r[2]).longValue(), ((Number) r[3]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Most tiebreaks won in the current year (match tiebreaks included), from the parsed sets.
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerTiebreakRecordDto> getTiebreakRecordsCurrentYear(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime startOfYear = now.withDayOfYear(1).toLocalDate().atStartOfDay(now.getZone());
+        return matchRepository.findTiebreakRecordsBetween(startOfYear.toInstant(), now.toInstant(), limit).stream()
+                .map(r -> new PlayerTiebreakRecordDto((UUID) r[0], (String) r[1],
+                        ((Number) r[2]).longValue(), ((Number) r[3]).longValue()))
+                .toList();
+    }
+
     private List<PlayerWinsRankingDto> getTopWinnersBetween(Instant from, Instant to, int limit) {
         List<Object[]> rows = matchRepository.findWinCountsBetween(from, to);
 
         return rows.stream()
                 .map(r -> {
-                    String playerId = (String) r[0];
+                    UUID playerId = (UUID) r[0];
                     String playerName = (String) r[1];
                     long wins = (long) r[2];
                     return new PlayerWinsRankingDto(playerId, playerName, wins);
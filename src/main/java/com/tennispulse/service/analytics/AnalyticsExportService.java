@@ -0,0 +1,293 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.CoachingTip;
+import com.tennispulse.domain.analytics.MetricValue;
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+import com.tennispulse.repository.analytics.AnalyticsExportFilter;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export of {@code player_match_analytics} as CSV or NDJSON, optionally gzip'd.
+ * <p>
+ * Documents come from a Mongo cursor and each row is written as soon as it is read, so heap use does not depend
+ * on the number of documents. Writes block while the client is not reading (the servlet output stream applies TCP
+ * back-pressure), and the cursor only fetches its next batch once the previous one has been written. Only the
+ * selected columns are loaded; {@code tips} is left out unless asked for.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsExportService {
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Every column, in output order. */
+    public static final Map<String, Column> COLUMNS = columns();
+
+    /** The columns exported when none are requested: everything except {@code tips}. */
+    public static final List<String> DEFAULT_COLUMNS =
+            COLUMNS.keySet().stream().filter(name -> !name.equals("tips")).toList();
+
+    private final PlayerMatchAnalyticsRepository analyticsRepository;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * One output column: its name, the document path to load for it and how to read it. Values are strings,
+     * numbers or (for {@code tips}) lists of tips.
+     */
+    public record Column(String name, String field, Function<PlayerMatchAnalyticsDocument, Object> value) {}
+
+    /**
+     * @param columns column names from {@link #COLUMNS}, in output order
+     * @return the number of documents written
+     * @throws IllegalArgumentException for an unknown column or a batch size outside 1..{@value #MAX_BATCH_SIZE}
+     */
+    public long export(AnalyticsExportFilter filter, Format format, List<String> columns, boolean gzip,
+                       int batchSize, OutputStream out) throws IOException {
+        List<Column> selected = resolve(columns);
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batchSize must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        selected.forEach(column -> fields.add(column.field()));
+
+        long start = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        RowWriter writer = format == Format.CSV
+                ? new CsvRowWriter(target, selected)
+                : new NdjsonRowWriter(jsonFactory.createGenerator(target), selected);
+
+        long rows = 0;
+        try (Stream<PlayerMatchAnalyticsDocument> documents =
+                     analyticsRepository.streamForExport(filter, fields, batchSize)) {
+            for (PlayerMatchAnalyticsDocument doc : (Iterable<PlayerMatchAnalyticsDocument>) documents::iterator) {
+                writer.write(doc);
+                rows++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        out.flush();
+
+        log.info("Exported {} analytics documents as {} in {} ms", rows, format,
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * @throws IllegalArgumentException for an unknown column name
+     */
+    public static List<Column> resolve(List<String> names) {
+        List<String> requested = names == null || names.isEmpty() ? DEFAULT_COLUMNS : names;
+        List<Column> columns = new ArrayList<>(requested.size());
+        for (String name : requested) {
+            Column column = COLUMNS.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column '" + name + "', expected one of " + COLUMNS.keySet());
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private static Map<String, Column> columns() {
+        Map<String, Column> columns = new LinkedHashMap<>();
+        add(columns, "matchId", "matchId", PlayerMatchAnalyticsDocument::getMatchId);
+        add(columns, "playerId", "playerId", PlayerMatchAnalyticsDocument::getPlayerId);
+        add(columns, "winnerId", "winnerId", PlayerMatchAnalyticsDocument::getWinnerId);
+        add(columns, "finalScore", "finalScore", PlayerMatchAnalyticsDocument::getFinalScore);
+        add(columns, "coachingStatus", "coachingStatus", PlayerMatchAnalyticsDocument::getCoachingStatus);
+        add(columns, "engineVersion", "engineVersion", PlayerMatchAnalyticsDocument::getEngineVersion);
+        add(columns, "createdAt", "createdAt", PlayerMatchAnalyticsDocument::getCreatedAt);
+        for (AnalyticsMetric metric : AnalyticsMetric.values()) {
+            add(columns, metric.name(), "metrics." + metric.name(), doc -> {
+                MetricValue value = doc.getMetrics() != null ? doc.getMetrics().get(metric) : null;
+                return value != null ? value.getValue() : null;
+            });
+        }
+        add(columns, "tips", "tips", PlayerMatchAnalyticsDocument::getTips);
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private static void add(Map<String, Column> columns, String name, String field,
+                            Function<PlayerMatchAnalyticsDocument, Object> value) {
+        columns.put(name, new Column(name, field, value));
+    }
+
+    private interface RowWriter {
+        void write(PlayerMatchAnalyticsDocument doc);
+
+        void finish() throws IOException;
+    }
+
+    /** RFC 4180: a header row, fields quoted when they contain a comma, quote or line break; tips joined by " | ". */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final List<Column> columns;
+
+        CsvRowWriter(OutputStream out, List<Column> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(PlayerMatchAnalyticsDocument doc) {
+            try {
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeField(columns.get(i).value().apply(doc));
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeField(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text;
+            if (value instanceof List<?> tips) {
+                StringBuilder joined = new StringBuilder();
+                for (Object tip : tips) {
+                    if (!joined.isEmpty()) {
+                        joined.append(" | ");
+                    }
+                    joined.append(tip instanceof CoachingTip t ? t.getMessage() : String.valueOf(tip));
+                }
+                text = joined.toString();
+            } else {
+                text = value.toString();
+            }
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /** One JSON object per line with the selected columns; {@code null} values are written as {@code null}. */
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private final List<Column> columns;
+
+        NdjsonRowWriter(JsonGenerator generator, List<Column> columns) {
+            // objects are separated by the newline written after each one
+            this.generator = generator.setRootValueSeparator(null);
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(PlayerMatchAnalyticsDocument doc) {
+            try {
+                generator.writeStartObject();
+                for (Column column : columns) {
+                    generator.writeFieldName(column.name());
+                    writeValue(column.value().apply(doc));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Double number) {
+                generator.writeNumber(number);
+            } else if (value instanceof List<?> tips) {
+                generator.writeStartArray();
+                for (Object tip : tips) {
+                    if (tip instanceof CoachingTip t) {
+                        generator.writeStartObject();
+                        generator.writeStringField("code", t.getCode());
+                        generator.writeStringField("message", t.getMessage());
+                        generator.writeStringField("metric", t.getMetric() != null ? t.getMetric().name() : null);
+                        generator.writeEndObject();
+                    }
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.tennispulse.service.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/analyticspipeline}: stage latencies of the match-completed analytics pipeline.
+ */
+@Component
+@Endpoint(id = "analyticspipeline")
+@RequiredArgsConstructor
+public class AnalyticsPipelineEndpoint {
+
+    private final AnalyticsPipelineMetrics pipelineMetrics;
+
+    @ReadOperation
+    public Map<String, Object> pipeline() {
+        return pipelineMetrics.snapshot();
+    }
+}
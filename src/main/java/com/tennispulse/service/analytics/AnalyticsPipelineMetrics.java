@@ -0,0 +1,134 @@
+package com.tennispulse.service.analytics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Latency of each stage between a match being completed and its analytics documents being queryable,
+ * exported as {@code analytics.pipeline.stage} timers (tag {@code stage}) with percentile histograms:
+ * <ul>
+ *     <li>{@code publish}: serializing and sending the MatchCompleted event;</li>
+ *     <li>{@code queue-dwell}: SQS SentTimestamp until the listener received the message;</li>
+ *     <li>{@code rule-engine}: coaching analysis of one player;</li>
+ *     <li>{@code mongo-write}: storing one analytics document;</li>
+ *     <li>{@code freshness}: event createdAt until all documents of the match were stored.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AnalyticsPipelineMetrics {
+
+    static final String METRIC_NAME = "analytics.pipeline.stage";
+
+    private final Timer publish;
+    private final Timer queueDwell;
+    private final Timer ruleEngine;
+    private final Timer mongoWrite;
+    private final Timer freshness;
+
+    private final AtomicLong lastFreshnessLagMillis = new AtomicLong(-1);
+    private final AtomicLong lastProcessedAtMillis = new AtomicLong(-1);
+
+    public AnalyticsPipelineMetrics(MeterRegistry meterRegistry) {
+        this.publish = stageTimer(meterRegistry, "publish");
+        this.queueDwell = stageTimer(meterRegistry, "queue-dwell");
+        this.ruleEngine = stageTimer(meterRegistry, "rule-engine");
+        this.mongoWrite = stageTimer(meterRegistry, "mongo-write");
+        this.freshness = stageTimer(meterRegistry, "freshness");
+
+        meterRegistry.gauge("analytics.pipeline.freshness.last", lastFreshnessLagMillis,
+                lag -> lag.get() < 0 ? Double.NaN : lag.get() / 1000.0);
+    }
+
+    public void recordPublish(long nanos) {
+        publish.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param sentTimestamp the SQS {@code SentTimestamp} attribute (epoch millis), may be {@code null}
+     */
+    public void recordQueueDwell(String sentTimestamp, Instant receivedAt) {
+        if (sentTimestamp == null) {
+            return;
+        }
+        try {
+            long dwell = receivedAt.toEpochMilli() - Long.parseLong(sentTimestamp);
+            queueDwell.record(Math.max(0L, dwell), TimeUnit.MILLISECONDS);
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring unparseable SentTimestamp {}", sentTimestamp);
+        }
+    }
+
+    public <T> T timeRuleEngine(Supplier<T> analysis) {
+        return ruleEngine.record(analysis);
+    }
+
+    public void timeMongoWrite(Runnable write) {
+        mongoWrite.record(write);
+    }
+
+    /**
+     * @param createdAt when the event was published; events without it are not counted
+     */
+    public void recordProcessed(Instant createdAt, Instant storedAt) {
+        lastProcessedAtMillis.set(storedAt.toEpochMilli());
+        if (createdAt == null) {
+            return;
+        }
+        long lag = Math.max(0L, Duration.between(createdAt, storedAt).toMillis());
+        freshness.record(lag, TimeUnit.MILLISECONDS);
+        lastFreshnessLagMillis.set(lag);
+    }
+
+    /**
+     * Per-stage count, mean, max and percentiles in milliseconds, plus the most recent freshness lag.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        stages.put("publish", describe(publish));
+        stages.put("queueDwell", describe(queueDwell));
+        stages.put("ruleEngine", describe(ruleEngine));
+        stages.put("mongoWrite", describe(mongoWrite));
+        stages.put("freshness", describe(freshness));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stages", stages);
+        long lastLag = lastFreshnessLagMillis.get();
+        long lastProcessed = lastProcessedAtMillis.get();
+        result.put("lastFreshnessLagMs", lastLag < 0 ? null : lastLag);
+        result.put("lastProcessedAt", lastProcessed < 0 ? null : Instant.ofEpochMilli(lastProcessed));
+        return result;
+    }
+
+    private static Map<String, Object> describe(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put("count", snapshot.count());
+        stage.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+        stage.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile p : snapshot.percentileValues()) {
+            stage.put("p" + Math.round(p.percentile() * 100) + "Ms", p.value(TimeUnit.MILLISECONDS));
+        }
+        return stage;
+    }
+
+    private static Timer stageTimer(MeterRegistry registry, String stage) {
+        return Timer.builder(METRIC_NAME)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.tennispulse.service.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/matchcompleteddlq}: GET shows the dead-letter queue depth, POST (optional
+ * {@code {"maxMessages": n}}) re-drives up to {@code n} messages (default {@value #DEFAULT_MAX_MESSAGES}) to the
+ * match-completed queue.
+ */
+@Component
+@Endpoint(id = "matchcompleteddlq")
+@RequiredArgsConstructor
+public class MatchCompletedDeadLetterEndpoint {
+
+    static final int DEFAULT_MAX_MESSAGES = 1000;
+
+    private final MatchCompletedDeadLetterReplayer replayer;
+
+    @ReadOperation
+    public Map<String, Object> deadLetters() {
+        return Map.of("depth", replayer.depth());
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(@Nullable Integer maxMessages) {
+        int max = maxMessages != null && maxMessages > 0 ? maxMessages : DEFAULT_MAX_MESSAGES;
+        return Map.of("replayed", replayer.replay(max));
+    }
+}
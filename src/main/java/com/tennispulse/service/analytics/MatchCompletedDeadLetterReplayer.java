@@ -0,0 +1,126 @@
+package com.tennispulse.service.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves dead-lettered MatchCompleted messages back to the main queue, {@value #BATCH_SIZE} at a time: each batch
+ * is received from the DLQ, sent with the original body and dedup attributes, and only the entries SQS accepted
+ * are deleted from the DLQ. Triggered through {@code POST /actuator/matchcompleteddlq}.
+ */
+@Slf4j
+@Component
+public class MatchCompletedDeadLetterReplayer {
+
+    /** SQS receives, sends and deletes at most 10 messages per call. */
+    static final int BATCH_SIZE = 10;
+
+    private final SqsClient sqsClient;
+    private final String matchCompletedQueueUrl;
+    private final String matchCompletedDlqUrl;
+
+    public MatchCompletedDeadLetterReplayer(SqsClient sqsClient,
+                                            @Qualifier("matchCompletedQueueUrl") String matchCompletedQueueUrl,
+                                            @Qualifier("matchCompletedDlqUrl") String matchCompletedDlqUrl) {
+        this.sqsClient = sqsClient;
+        this.matchCompletedQueueUrl = matchCompletedQueueUrl;
+        this.matchCompletedDlqUrl = matchCompletedDlqUrl;
+    }
+
+    /**
+     * @param maxMessages upper bound of messages to move in this run
+     * @return the number of messages moved back to the main queue
+     */
+    public int replay(int maxMessages) {
+        int replayed = 0;
+        while (replayed < maxMessages) {
+            List<Message> messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                    .queueUrl(matchCompletedDlqUrl)
+                    .maxNumberOfMessages(Math.min(BATCH_SIZE, maxMessages - replayed))
+                    .messageAttributeNames("All")
+                    .waitTimeSeconds(1)
+                    .build()).messages();
+            if (messages.isEmpty()) {
+                break;
+            }
+
+            List<SendMessageBatchRequestEntry> entries = new ArrayList<>(messages.size());
+            for (int i = 0; i < messages.size(); i++) {
+                entries.add(SendMessageBatchRequestEntry.builder()
+                        .id(Integer.toString(i))
+                        .messageBody(messages.get(i).body())
+                        .messageAttributes(originalAttributes(messages.get(i)))
+                        .build());
+            }
+            List<SendMessageBatchResultEntry> sent = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(matchCompletedQueueUrl)
+                    .entries(entries)
+                    .build()).successful();
+            if (sent.isEmpty()) {
+                log.warn("Main queue rejected a whole replay batch, stopping after {} message(s)", replayed);
+                break;
+            }
+
+            sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                    .queueUrl(matchCompletedDlqUrl)
+                    .entries(sent.stream()
+                            .map(entry -> DeleteMessageBatchRequestEntry.builder()
+                                    .id(entry.id())
+                                    .receiptHandle(messages.get(Integer.parseInt(entry.id())).receiptHandle())
+                                    .build())
+                            .toList())
+                    .build());
+            replayed += sent.size();
+        }
+
+        log.info("Replayed {} dead-lettered MatchCompleted message(s)", replayed);
+        return replayed;
+    }
+
+    /**
+     * @return approximate number of messages waiting in the DLQ
+     */
+    public long depth() {
+        String depth = sqsClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                .queueUrl(matchCompletedDlqUrl)
+                .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)
+                .build()).attributes().get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES);
+        return depth != null ? Long.parseLong(depth) : 0L;
+    }
+
+    /** Drops the failure details so a replayed message looks like the one originally published. */
+    private static Map<String, MessageAttributeValue> originalAttributes(Message message) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        Map<String, MessageAttributeValue> received = message.messageAttributes();
+        if (received != null) {
+            copy(received, attributes, MatchEventDeduplicator.MATCH_ID_ATTRIBUTE);
+            copy(received, attributes, MatchEventDeduplicator.PAYLOAD_HASH_ATTRIBUTE);
+        }
+        return attributes;
+    }
+
+    private static void copy(Map<String, MessageAttributeValue> from, Map<String, MessageAttributeValue> to,
+                             String name) {
+        MessageAttributeValue value = from.get(name);
+        if (value != null) {
+            to.put(name, value);
+        }
+    }
+}
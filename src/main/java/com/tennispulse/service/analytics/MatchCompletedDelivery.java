@@ -0,0 +1,33 @@
+package com.tennispulse.service.analytics;
+
+/**
+ * One delivery of a MatchCompleted message: the body plus the attributes failure handling and dedup need.
+ *
+ * @param matchId       {@code matchId} message attribute, {@code null} for messages published without it
+ * @param payloadHash   {@code payloadHash} message attribute, {@code null} for messages published without it
+ * @param receiptHandle handle to change the message's visibility, {@code null} outside a listener
+ * @param receiveCount  SQS {@code ApproximateReceiveCount}, 1 on the first delivery
+ */
+public record MatchCompletedDelivery(String body, String matchId, String payloadHash,
+                                     String receiptHandle, int receiveCount) {
+
+    public static MatchCompletedDelivery of(String body) {
+        return new MatchCompletedDelivery(body, null, null, null, 1);
+    }
+
+    /**
+     * @param receiveCount the {@code ApproximateReceiveCount} header, may be {@code null}
+     */
+    public static MatchCompletedDelivery of(String body, String matchId, String payloadHash,
+                                            String receiptHandle, String receiveCount) {
+        int count = 1;
+        if (receiveCount != null) {
+            try {
+                count = Math.max(1, Integer.parseInt(receiveCount));
+            } catch (NumberFormatException ignored) {
+                // keep 1
+            }
+        }
+        return new MatchCompletedDelivery(body, matchId, payloadHash, receiptHandle, count);
+    }
+}
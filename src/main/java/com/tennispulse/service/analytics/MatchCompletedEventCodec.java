@@ -0,0 +1,217 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tennispulse.domain.MatchCompletedEvent;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JSON wire format of {@link MatchCompletedEvent}, written and read with Jackson's streaming API: no
+ * reflection, no intermediate tree, values go straight into the event's fields.
+ * <p>
+ * The body starts with {@code "schemaVersion"}. Bodies without it are from before the codec (same field names,
+ * read as version 0). A newer version than {@link #SCHEMA_VERSION} is rejected, so the failure handler
+ * dead-letters the message and it can be replayed once this version is deployed. Bump the version when a change
+ * is not backward compatible. Unknown fields are skipped.
+ */
+@Component
+public class MatchCompletedEventCodec {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public String encode(MatchCompletedEvent event) throws IOException {
+        StringWriter writer = new StringWriter(512);
+        try (JsonGenerator g = jsonFactory.createGenerator(writer)) {
+            g.writeStartObject();
+            g.writeNumberField(SCHEMA_VERSION_FIELD, SCHEMA_VERSION);
+            writeUuid(g, "matchId", event.getMatchId());
+            writeUuid(g, "winnerId", event.getWinnerId());
+            g.writeStringField("finalScore", event.getFinalScore());
+            g.writeStringField("createdAt", event.getCreatedAt() != null ? event.getCreatedAt().toString() : null);
+            if (event.getPlayerStats() != null) {
+                g.writeArrayFieldStart("playerStats");
+                for (PlayerStatsPayload stats : event.getPlayerStats()) {
+                    writeStats(g, stats);
+                }
+                g.writeEndArray();
+            }
+            g.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    /**
+     * @throws JsonParseException if the body is not a MatchCompleted event this version can read
+     */
+    public MatchCompletedEvent decode(String body) throws IOException {
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "MatchCompleted event must be a JSON object");
+            }
+            MatchCompletedEvent event = new MatchCompletedEvent();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case SCHEMA_VERSION_FIELD -> {
+                        int version = p.getIntValue();
+                        if (version > SCHEMA_VERSION) {
+                            throw new JsonParseException(p, "Unsupported MatchCompleted schema version " + version);
+                        }
+                    }
+                    case "matchId" -> event.setMatchId(readUuid(p));
+                    case "winnerId" -> event.setWinnerId(readUuid(p));
+                    case "finalScore" -> event.setFinalScore(p.getValueAsString());
+                    case "createdAt" -> event.setCreatedAt(readInstant(p));
+                    case "playerStats" -> event.setPlayerStats(value == JsonToken.VALUE_NULL ? null : readStatsList(p));
+                    default -> p.skipChildren();
+                }
+            }
+            return event;
+        }
+    }
+
+    private static void writeStats(JsonGenerator g, PlayerStatsPayload s) throws IOException {
+        g.writeStartObject();
+        writeUuid(g, "playerId", s.getPlayerId());
+        writeDouble(g, "firstServeIn", s.getFirstServeIn());
+        writeDouble(g, "firstServePointsWon", s.getFirstServePointsWon());
+        writeDouble(g, "secondServePointsWon", s.getSecondServePointsWon());
+        writeInt(g, "unforcedErrorsForehand", s.getUnforcedErrorsForehand());
+        writeInt(g, "unforcedErrorsBackhand", s.getUnforcedErrorsBackhand());
+        writeInt(g, "winners", s.getWinners());
+        writeDouble(g, "breakPointConversion", s.getBreakPointConversion());
+        writeDouble(g, "breakPointsSaved", s.getBreakPointsSaved());
+        writeDouble(g, "netPointsWon", s.getNetPointsWon());
+        writeDouble(g, "longRallyWinRate", s.getLongRallyWinRate());
+        g.writeEndObject();
+    }
+
+    private static List<PlayerStatsPayload> readStatsList(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(p, "playerStats must be an array");
+        }
+        List<PlayerStatsPayload> list = new ArrayList<>(2);
+        for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+            if (t != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "playerStats elements must be objects, got " + t);
+            }
+            list.add(readStats(p));
+        }
+        return list;
+    }
+
+    private static PlayerStatsPayload readStats(JsonParser p) throws IOException {
+        PlayerStatsPayload s = new PlayerStatsPayload();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "playerId" -> s.setPlayerId(readUuid(p));
+                case "firstServeIn" -> s.setFirstServeIn(readDouble(p));
+                case "firstServePointsWon" -> s.setFirstServePointsWon(readDouble(p));
+                case "secondServePointsWon" -> s.setSecondServePointsWon(readDouble(p));
+                case "unforcedErrorsForehand" -> s.setUnforcedErrorsForehand(readInt(p));
+                case "unforcedErrorsBackhand" -> s.setUnforcedErrorsBackhand(readInt(p));
+                case "winners" -> s.setWinners(readInt(p));
+                case "breakPointConversion" -> s.setBreakPointConversion(readDouble(p));
+                case "breakPointsSaved" -> s.setBreakPointsSaved(readDouble(p));
+                case "netPointsWon" -> s.setNetPointsWon(readDouble(p));
+                case "longRallyWinRate" -> s.setLongRallyWinRate(readDouble(p));
+                default -> p.skipChildren();
+            }
+        }
+        return s;
+    }
+
+    private static void writeUuid(JsonGenerator g, String name, UUID value) throws IOException {
+        g.writeStringField(name, value != null ? value.toString() : null);
+    }
+
+    private static void writeDouble(JsonGenerator g, String name, Double value) throws IOException {
+        g.writeFieldName(name);
+        if (value != null) {
+            g.writeNumber(value);
+        } else {
+            g.writeNull();
+        }
+    }
+
+    private static void writeInt(JsonGenerator g, String name, Integer value) throws IOException {
+        g.writeFieldName(name);
+        if (value != null) {
+            g.writeNumber(value);
+        } else {
+            g.writeNull();
+        }
+    }
+
+    private static UUID readUuid(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        try {
+            return UUID.fromString(p.getText());
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(p, "Invalid UUID " + p.getText(), e);
+        }
+    }
+
+    /** Numbers must be JSON numbers: unlike ObjectMapper, quoted ones ({@code "0.62"}) are not coerced. */
+    private static Double readDouble(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireNumber(p);
+        return p.getDoubleValue();
+    }
+
+    private static Integer readInt(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireNumber(p);
+        return p.getIntValue();
+    }
+
+    private static void requireNumber(JsonParser p) throws IOException {
+        if (!p.currentToken().isNumeric()) {
+            throw new JsonParseException(p, p.currentName() + " must be a number, got " + p.currentToken());
+        }
+    }
+
+    /** ISO-8601 string, or decimal epoch seconds as Jackson writes with WRITE_DATES_AS_TIMESTAMPS. */
+    private static Instant readInstant(JsonParser p) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                BigDecimal seconds = p.getDecimalValue();
+                yield Instant.ofEpochSecond(seconds.longValue(),
+                        seconds.remainder(BigDecimal.ONE).movePointRight(9).intValue());
+            }
+            default -> {
+                try {
+                    yield Instant.parse(p.getText());
+                } catch (RuntimeException e) {
+                    throw new JsonParseException(p, "Invalid createdAt " + p.getText(), e);
+                }
+            }
+        };
+    }
+}
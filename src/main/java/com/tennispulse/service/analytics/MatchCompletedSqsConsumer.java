@@ -1,6 +1,6 @@
 package com.tennispulse.service.analytics;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.api.analytics.dto.TimelineRange;
 import com.tennispulse.domain.MatchCompletedEvent;
 import com.tennispulse.domain.analytics.AnalyticsMetric;
 import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
@@ -8,33 +8,89 @@ import com.tennispulse.domain.analytics.PlayerMatchCoachingAnalysis;
 import com.tennispulse.domain.analytics.PlayerStatsPayload;
 import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MatchCompletedSqsConsumer {
 
-    private final ObjectMapper objectMapper;
+    private final MatchCompletedEventCodec eventCodec;
     private final CoachingRuleEngine coachingRuleEngine;
     private final PlayerMatchAnalyticsRepository analyticsRepository;
     private final PlayerHighlightsService playerHighlightsService;
+    private final TaskExecutor sqsListenerExecutor;
+    private final AnalyticsPipelineMetrics pipelineMetrics;
+    private final MatchEventDeduplicator deduplicator;
+    private final PlayerPartitionedExecutor partitionExecutor;
+    private final MatchEventFailureHandler failureHandler;
+    private final PlayerMetricDistributionService distributionService;
+    private final PopulationPercentileService percentileService;
 
-    @SqsListener("${tennispulse.sqs.match-completed-queue-name}")
-    public void handleMessage(@Payload String messageBody) {
+    @Value("${tennispulse.analytics.percentiles.coaching-range:LAST_12_MONTHS}")
+    private TimelineRange coachingPercentileRange = TimelineRange.LAST_12_MONTHS;
+
+    /**
+     * The message is acknowledged once the returned future completes, so processing can run on
+     * a virtual thread without acking early. See {@code ThreadingConfig#sqsListenerExecutor}.
+     * <p>
+     * Duplicates are acknowledged without deserializing the body, see {@link MatchEventDeduplicator}. Failed
+     * messages are retried with backoff or dead-lettered, see {@link MatchEventFailureHandler}.
+     */
+    @SqsListener(value = "${tennispulse.sqs.match-completed-queue-name}",
+            maxConcurrentMessages = "${tennispulse.analytics.processing.max-concurrent-messages:20}")
+    public CompletableFuture<Void> onMessage(@Payload String messageBody,
+                                             @Header(name = SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP,
+                                                     required = false) String sentTimestamp,
+                                             @Header(name = MatchEventDeduplicator.MATCH_ID_ATTRIBUTE,
+                                                     required = false) String matchId,
+                                             @Header(name = MatchEventDeduplicator.PAYLOAD_HASH_ATTRIBUTE,
+                                                     required = false) String payloadHash,
+                                             @Header(name = SqsHeaders.SQS_RECEIPT_HANDLE_HEADER,
+                                                     required = false) String receiptHandle,
+                                             @Header(name = SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT,
+                                                     required = false) String receiveCount) {
+        pipelineMetrics.recordQueueDwell(sentTimestamp, Instant.now());
+        MatchCompletedDelivery delivery =
+                MatchCompletedDelivery.of(messageBody, matchId, payloadHash, receiptHandle, receiveCount);
+        return CompletableFuture.runAsync(() -> handleMessage(delivery), sqsListenerExecutor);
+    }
+
+    public void handleMessage(String messageBody) {
+        handleMessage(MatchCompletedDelivery.of(messageBody));
+    }
+
+    /**
+     * @throws MatchEventRetryException if the message must not be acknowledged
+     */
+    void handleMessage(MatchCompletedDelivery delivery) {
+        // the dedup lookup is inside the try: a failure there must be retried or dead-lettered like any other
         try {
-            MatchCompletedEvent event =
-                    objectMapper.readValue(messageBody, MatchCompletedEvent.class);
+            MatchEventDeduplicator.Key key =
+                    deduplicator.keyOf(delivery.matchId(), delivery.payloadHash(), delivery.body());
+            if (key != null && deduplicator.isDuplicate(key)) {
+                log.debug("Skipping duplicate MatchCompleted event for match {}", key.matchId());
+                return;
+            }
+            MatchCompletedEvent event = eventCodec.decode(delivery.body());
 
             processEvent(event);
+            if (key != null) {
+                deduplicator.markProcessed(key);
+            }
         } catch (Exception e) {
-            log.error("Failed to process message from match-completed queue. Body: {}", messageBody, e);
-
+            failureHandler.handle(delivery, e);
         }
     }
 
@@ -44,38 +100,35 @@ public class MatchCompletedSqsConsumer {
             return;
         }
 
-        event.getPlayerStats().forEach(statsPayload -> {
-            Map<AnalyticsMetric, Double> rawMetrics = mapToRawMetrics(statsPayload);
+        // one task per player on that player's partition: players run in parallel, a player's writes stay ordered
+        CompletableFuture.allOf(event.getPlayerStats().stream()
+                        .map(statsPayload -> partitionExecutor.submit(statsPayload.getPlayerId(),
+                                () -> analyzePlayer(event, statsPayload)))
+                        .toArray(CompletableFuture[]::new))
+                .join();
 
-            PlayerMatchCoachingAnalysis analysis =
-                    coachingRuleEngine.analyze(event.getMatchId(), statsPayload.getPlayerId(), rawMetrics);
+        pipelineMetrics.recordProcessed(event.getCreatedAt(), Instant.now());
+    }
+
+    private void analyzePlayer(MatchCompletedEvent event, PlayerStatsPayload statsPayload) {
+        Map<AnalyticsMetric, Double> rawMetrics = RawMetrics.of(statsPayload);
+
+        PlayerMatchCoachingAnalysis analysis = pipelineMetrics.timeRuleEngine(() ->
+                coachingRuleEngine.analyze(event.getMatchId(), statsPayload.getPlayerId(), rawMetrics));
+        // null until the population is built: nothing is stored rather than ranks against no one
+        analysis.setPercentileRanks(percentileService.matchPercentileRanks(coachingPercentileRange, rawMetrics));
 
-            saveAnalysis(event, statsPayload, analysis);
+        saveAnalysis(event, statsPayload, analysis);
 
-            log.info("Stored analytics for match {} player {}", event.getMatchId(), statsPayload.getPlayerId());
-        });
+        log.info("Stored analytics for match {} player {}", event.getMatchId(), statsPayload.getPlayerId());
     }
 
     private void saveAnalysis(MatchCompletedEvent event, PlayerStatsPayload statsPayload, PlayerMatchCoachingAnalysis analysis) {
         PlayerMatchAnalyticsDocument doc =
                 PlayerMatchAnalyticsDocument.from(event, statsPayload, analysis);
 
-        analyticsRepository.save(doc);
+        pipelineMetrics.timeMongoWrite(() -> analyticsRepository.save(doc));
+        distributionService.record(doc.getPlayerId(), doc.getMatchId(), doc.getCreatedAt(), doc.getMetrics());
         playerHighlightsService.invalidateHighlightsCache();
     }
-
-    private Map<AnalyticsMetric, Double> mapToRawMetrics(PlayerStatsPayload s) {
-        return Map.of(
-                AnalyticsMetric.FIRST_SERVE_IN,            s.getFirstServeIn(),
-                AnalyticsMetric.FIRST_SERVE_POINTS_WON,    s.getFirstServePointsWon(),
-                AnalyticsMetric.SECOND_SERVE_POINTS_WON,   s.getSecondServePointsWon(),
-                AnalyticsMetric.UNFORCED_ERRORS_FOREHAND,  s.getUnforcedErrorsForehand().doubleValue(),
-                AnalyticsMetric.UNFORCED_ERRORS_BACKHAND,  s.getUnforcedErrorsBackhand().doubleValue(),
-                AnalyticsMetric.WINNERS,                   s.getWinners().doubleValue(),
-                AnalyticsMetric.BREAK_POINT_CONVERSION,    s.getBreakPointConversion(),
-                AnalyticsMetric.BREAK_POINTS_SAVED,        s.getBreakPointsSaved(),
-                AnalyticsMetric.NET_POINTS_WON,            s.getNetPointsWon(),
-                AnalyticsMetric.LONG_RALLY_WIN_RATE,       s.getLongRallyWinRate()
-        );
-    }
 }
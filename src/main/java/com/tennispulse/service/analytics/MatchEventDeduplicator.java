@@ -0,0 +1,245 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tennispulse.domain.MatchCompletedEvent;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Drops MatchCompleted deliveries whose {@code (matchId, payloadHash)} was already processed. SQS delivers at
+ * least once, and a retried status update can publish the same event twice (with a different {@code createdAt},
+ * which the hash leaves out).
+ * <p>
+ * The publisher sends both parts of the key as message attributes, so a duplicate is recognized without reading
+ * the body. Messages without them fall back to the body's {@code matchId} (read with a streaming parser that
+ * stops at that field) and a hash of the whole body, which still catches redeliveries.
+ * <p>
+ * Processed keys are kept in a local Caffeine window and, when Redis is available, in Redis sets that rotate
+ * every {@code window} (checked against the current and previous set, so entries live one to two windows) and
+ * that all nodes share. Metrics: {@code analytics.dedup} counters (tag {@code result}: {@code local-hit},
+ * {@code redis-hit}, {@code miss}) and the {@code analytics.dedup.hit.ratio} gauge.
+ */
+@Slf4j
+@Component
+public class MatchEventDeduplicator {
+
+    public static final String MATCH_ID_ATTRIBUTE = "matchId";
+    public static final String PAYLOAD_HASH_ATTRIBUTE = "payloadHash";
+
+    static final String REDIS_KEY_PREFIX = "tennispulse:dedup:match-completed:";
+
+    /** 128 bits of SHA-256 are plenty to tell payloads of the same match apart. */
+    private static final int HASH_BYTES = 16;
+    private static final JsonFactory JSON = new JsonFactory();
+
+    public record Key(UUID matchId, String payloadHash) {
+
+        String member() {
+            return matchId + ":" + payloadHash;
+        }
+    }
+
+    private final boolean enabled;
+    private final Duration window;
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+    private final Cache<String, Boolean> processed;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    @Autowired
+    public MatchEventDeduplicator(@Value("${tennispulse.analytics.dedup.enabled:true}") boolean enabled,
+                                  @Value("${tennispulse.analytics.dedup.window:24h}") Duration window,
+                                  @Value("${tennispulse.analytics.dedup.local-maximum-size:100000}") long localMaximumSize,
+                                  ObjectProvider<StringRedisTemplate> redisTemplate,
+                                  MeterRegistry meterRegistry) {
+        this(enabled, window, localMaximumSize, redisTemplate.getIfAvailable(), meterRegistry, Clock.systemUTC());
+    }
+
+    MatchEventDeduplicator(boolean enabled, Duration window, long localMaximumSize,
+                           StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Clock clock) {
+        this.enabled = enabled;
+        this.window = window;
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.processed = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(window)
+                .build();
+
+        this.localHits = counter(meterRegistry, "local-hit");
+        this.redisHits = counter(meterRegistry, "redis-hit");
+        this.misses = counter(meterRegistry, "miss");
+        Gauge.builder("analytics.dedup.hit.ratio", this, MatchEventDeduplicator::hitRatio)
+                .description("Share of MatchCompleted deliveries dropped as duplicates")
+                .register(meterRegistry);
+        Gauge.builder("analytics.dedup.window.size", processed, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the dedup key of a delivery, or {@code null} if dedup is disabled or no match id can be found
+     */
+    public Key keyOf(String matchIdAttribute, String payloadHashAttribute, String body) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            if (matchIdAttribute != null && payloadHashAttribute != null) {
+                return new Key(UUID.fromString(matchIdAttribute), payloadHashAttribute);
+            }
+            UUID matchId = body != null ? readMatchId(body) : null;
+            return matchId != null ? new Key(matchId, hash(body.getBytes(StandardCharsets.UTF_8))) : null;
+        } catch (IllegalArgumentException | IOException e) {
+            log.debug("No dedup key for message: {}", e.toString());
+            return null;
+        }
+    }
+
+    public boolean isDuplicate(Key key) {
+        if (processed.getIfPresent(key.member()) != null) {
+            localHits.increment();
+            return true;
+        }
+        if (redisTemplate != null && isMemberInRedis(key.member())) {
+            processed.put(key.member(), Boolean.TRUE);
+            redisHits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Records the key once its analytics are stored; a delivery that failed stays eligible for redelivery.
+     */
+    public void markProcessed(Key key) {
+        processed.put(key.member(), Boolean.TRUE);
+        if (redisTemplate == null) {
+            return;
+        }
+        String bucket = bucketKey(currentBucket());
+        try {
+            redisTemplate.opsForSet().add(bucket, key.member());
+            redisTemplate.expire(bucket, window.multipliedBy(2));
+        } catch (Exception e) {
+            // the local window still covers this node
+            log.warn("Failed to record processed MatchCompleted event {} in Redis: {}", key.matchId(), e.toString());
+        }
+    }
+
+    /**
+     * Hash of the event content the consumer acts on: everything except {@code createdAt}, which differs between
+     * two publications of the same completion.
+     */
+    public static String payloadHash(MatchCompletedEvent event) {
+        StringBuilder canonical = new StringBuilder(512)
+                .append(event.getMatchId()).append('|')
+                .append(event.getWinnerId()).append('|')
+                .append(event.getFinalScore());
+        if (event.getPlayerStats() != null) {
+            for (PlayerStatsPayload s : event.getPlayerStats()) {
+                if (s == null) {
+                    canonical.append("|null");
+                    continue;
+                }
+                canonical.append('|').append(s.getPlayerId())
+                        .append(',').append(s.getFirstServeIn())
+                        .append(',').append(s.getFirstServePointsWon())
+                        .append(',').append(s.getSecondServePointsWon())
+                        .append(',').append(s.getUnforcedErrorsForehand())
+                        .append(',').append(s.getUnforcedErrorsBackhand())
+                        .append(',').append(s.getWinners())
+                        .append(',').append(s.getBreakPointConversion())
+                        .append(',').append(s.getBreakPointsSaved())
+                        .append(',').append(s.getNetPointsWon())
+                        .append(',').append(s.getLongRallyWinRate());
+            }
+        }
+        return hash(canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isMemberInRedis(String member) {
+        long bucket = currentBucket();
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(bucketKey(bucket), member))
+                    || Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(bucketKey(bucket - 1), member));
+        } catch (Exception e) {
+            log.warn("Dedup lookup in Redis failed, processing the message: {}", e.toString());
+            return false;
+        }
+    }
+
+    private long currentBucket() {
+        return clock.millis() / window.toMillis();
+    }
+
+    private static String bucketKey(long bucket) {
+        return REDIS_KEY_PREFIX + bucket;
+    }
+
+    private static UUID readMatchId(String body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (MATCH_ID_ATTRIBUTE.equals(field)) {
+                    // null, a number or an object is "no key"; the codec reports the malformed event
+                    return parser.currentToken() == JsonToken.VALUE_STRING
+                            ? UUID.fromString(parser.getText())
+                            : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, HASH_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? Double.NaN : hits / total;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("analytics.dedup")
+                .tag("result", result)
+                .description("MatchCompleted deliveries checked for duplicates")
+                .register(registry);
+    }
+}
@@ -0,0 +1,190 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decides what happens to a MatchCompleted message whose processing failed:
+ * <ul>
+ *     <li>transient failures (Mongo/Redis unavailable, timeouts, full partitions) are retried: the message's
+ *     visibility timeout is set to {@code base-backoff * 2^(receiveCount - 1)}, capped at {@code max-backoff},
+ *     and {@link MatchEventRetryException} keeps the listener from acknowledging it. Other messages keep flowing
+ *     meanwhile, nothing waits in-process;</li>
+ *     <li>permanent failures (unreadable or invalid payloads, anything not known to be transient), and transient
+ *     ones after {@code max-attempts} receives, are sent to the dead-letter queue with the original body and
+ *     attributes plus the failure, then acknowledged. {@link MatchCompletedDeadLetterReplayer} re-drives them.</li>
+ * </ul>
+ * Counted as {@code analytics.failures} (tag {@code outcome}: {@code retried}, {@code dead-lettered}).
+ */
+@Slf4j
+@Component
+public class MatchEventFailureHandler {
+
+    public static final String FAILURE_ATTRIBUTE = "failure";
+    public static final String FAILURE_KIND_ATTRIBUTE = "failureKind";
+    public static final String FAILED_AT_ATTRIBUTE = "failedAt";
+    public static final String RECEIVE_COUNT_ATTRIBUTE = "receiveCount";
+
+    /** SQS caps the visibility timeout at 12 hours. */
+    private static final Duration MAX_VISIBILITY = Duration.ofHours(12);
+    private static final int MAX_FAILURE_LENGTH = 256;
+
+    private final SqsClient sqsClient;
+    private final String matchCompletedQueueUrl;
+    private final String matchCompletedDlqUrl;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    public MatchEventFailureHandler(SqsClient sqsClient,
+                                    @Qualifier("matchCompletedQueueUrl") String matchCompletedQueueUrl,
+                                    @Qualifier("matchCompletedDlqUrl") String matchCompletedDlqUrl,
+                                    @Value("${tennispulse.analytics.failures.base-backoff:10s}") Duration baseBackoff,
+                                    @Value("${tennispulse.analytics.failures.max-backoff:15m}") Duration maxBackoff,
+                                    @Value("${tennispulse.analytics.failures.max-attempts:6}") int maxAttempts,
+                                    MeterRegistry meterRegistry) {
+        this.sqsClient = sqsClient;
+        this.matchCompletedQueueUrl = matchCompletedQueueUrl;
+        this.matchCompletedDlqUrl = matchCompletedDlqUrl;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff.compareTo(MAX_VISIBILITY) > 0 ? MAX_VISIBILITY : maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.retried = failureCounter(meterRegistry, "retried");
+        this.deadLettered = failureCounter(meterRegistry, "dead-lettered");
+    }
+
+    /**
+     * Returns normally once the message is dead-lettered (so it can be acknowledged).
+     *
+     * @throws MatchEventRetryException if the message should be redelivered later
+     */
+    public void handle(MatchCompletedDelivery delivery, Exception failure) {
+        Throwable cause = unwrap(failure);
+        boolean transientFailure = isTransient(cause);
+
+        if (transientFailure && delivery.receiveCount() < maxAttempts) {
+            Duration backoff = backoff(delivery.receiveCount());
+            log.warn("Transient failure processing MatchCompleted message (match {}, attempt {}), retrying in {}: {}",
+                    delivery.matchId(), delivery.receiveCount(), backoff, cause.toString());
+            delay(delivery, backoff);
+            retried.increment();
+            throw new MatchEventRetryException(cause);
+        }
+
+        String kind = transientFailure ? "retries-exhausted" : "permanent";
+        log.error("Dead-lettering MatchCompleted message ({} failure, attempt {}). Body: {}",
+                kind, delivery.receiveCount(), delivery.body(), cause);
+        try {
+            sqsClient.sendMessage(SendMessageRequest.builder()
+                    .queueUrl(matchCompletedDlqUrl)
+                    .messageBody(delivery.body())
+                    .messageAttributes(deadLetterAttributes(delivery, cause, kind))
+                    .build());
+        } catch (RuntimeException e) {
+            // keep the message on the main queue rather than lose it
+            log.error("Failed to dead-letter MatchCompleted message, leaving it for redelivery", e);
+            throw new MatchEventRetryException(cause);
+        }
+        deadLettered.increment();
+    }
+
+    static boolean isTransient(Throwable e) {
+        if (e instanceof JsonProcessingException) {
+            return false;
+        }
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof MongoSocketException
+                || e instanceof MongoTimeoutException
+                || e instanceof RejectedExecutionException
+                || e instanceof TimeoutException
+                || e instanceof IOException;
+    }
+
+    Duration backoff(int receiveCount) {
+        int exponent = Math.min(Math.max(receiveCount - 1, 0), 30);
+        Duration backoff = baseBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void delay(MatchCompletedDelivery delivery, Duration backoff) {
+        if (delivery.receiptHandle() == null) {
+            return;
+        }
+        try {
+            sqsClient.changeMessageVisibility(ChangeMessageVisibilityRequest.builder()
+                    .queueUrl(matchCompletedQueueUrl)
+                    .receiptHandle(delivery.receiptHandle())
+                    .visibilityTimeout((int) backoff.toSeconds())
+                    .build());
+        } catch (RuntimeException e) {
+            // the queue's default visibility timeout applies instead
+            log.warn("Failed to delay MatchCompleted message: {}", e.toString());
+        }
+    }
+
+    private static Map<String, MessageAttributeValue> deadLetterAttributes(MatchCompletedDelivery delivery,
+                                                                         Throwable cause, String kind) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        if (delivery.matchId() != null) {
+            attributes.put(MatchEventDeduplicator.MATCH_ID_ATTRIBUTE, stringAttribute(delivery.matchId()));
+        }
+        if (delivery.payloadHash() != null) {
+            attributes.put(MatchEventDeduplicator.PAYLOAD_HASH_ATTRIBUTE, stringAttribute(delivery.payloadHash()));
+        }
+        String failure = cause.toString();
+        attributes.put(FAILURE_ATTRIBUTE, stringAttribute(
+                failure.length() > MAX_FAILURE_LENGTH ? failure.substring(0, MAX_FAILURE_LENGTH) : failure));
+        attributes.put(FAILURE_KIND_ATTRIBUTE, stringAttribute(kind));
+        attributes.put(FAILED_AT_ATTRIBUTE, stringAttribute(Instant.now().toString()));
+        attributes.put(RECEIVE_COUNT_ATTRIBUTE, MessageAttributeValue.builder()
+                .dataType("Number").stringValue(Integer.toString(delivery.receiveCount())).build());
+        return attributes;
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    private static Counter failureCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("analytics.failures")
+                .tag("outcome", outcome)
+                .description("Failed MatchCompleted messages by outcome")
+                .register(registry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.tennispulse.service.analytics;
+
+/**
+ * Fails a MatchCompleted delivery so the listener does not acknowledge it and SQS redelivers it once its
+ * visibility timeout expires, see {@link MatchEventFailureHandler}.
+ */
+public class MatchEventRetryException extends RuntimeException {
+
+    public MatchEventRetryException(Throwable cause) {
+        super("MatchCompleted message will be retried", cause);
+    }
+}
@@ -0,0 +1,120 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.domain.analytics.QuantileSketch;
+
+import java.util.Arrays;
+
+/**
+ * Population histogram of one metric, as three parallel arrays of at most {@code maxBins} entries. With
+ * fewer distinct values than bins every value gets its own bin and ranks are exact; otherwise bins are
+ * equal-depth and a rank is interpolated linearly inside its bin.
+ */
+final class MetricHistogram {
+
+    private final double[] lowers;
+    private final double[] uppers;
+    // number of values in this bin and all bins before it
+    private final int[] cumulative;
+
+    private MetricHistogram(double[] lowers, double[] uppers, int[] cumulative) {
+        this.lowers = lowers;
+        this.uppers = uppers;
+        this.cumulative = cumulative;
+    }
+
+    static MetricHistogram of(double[] values, int maxBins) {
+        double[] sorted = Arrays.stream(values).filter(v -> !Double.isNaN(v)).sorted().toArray();
+        int n = sorted.length;
+
+        int distinct = 0;
+        for (int i = 0; i < n && distinct <= maxBins; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+
+        if (distinct <= maxBins) {
+            double[] edges = new double[distinct];
+            int[] cumulative = new int[distinct];
+            int bin = -1;
+            for (int i = 0; i < n; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    edges[++bin] = sorted[i];
+                }
+                cumulative[bin] = i + 1;
+            }
+            return new MetricHistogram(edges, edges, cumulative);
+        }
+
+        double[] lowers = new double[maxBins];
+        double[] uppers = new double[maxBins];
+        int[] cumulative = new int[maxBins];
+        for (int bin = 0; bin < maxBins; bin++) {
+            int start = (int) ((long) bin * n / maxBins);
+            int end = (int) ((long) (bin + 1) * n / maxBins);
+            lowers[bin] = sorted[start];
+            uppers[bin] = sorted[end - 1];
+            cumulative[bin] = end;
+        }
+        return new MetricHistogram(lowers, uppers, cumulative);
+    }
+
+    /**
+     * Histogram of the distribution a sketch summarizes: {@code min(count, maxBins)} values at evenly spaced
+     * quantiles, each standing for an equal share of the population. A sketch of fewer than {@code maxBins}
+     * values keeps them as single centroids, so those come back exactly.
+     */
+    static MetricHistogram of(QuantileSketch sketch, int maxBins) {
+        int n = (int) Math.min(sketch.count(), maxBins);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = sketch.quantile((i + 0.5) / n);
+        }
+        return of(values, maxBins);
+    }
+
+    int size() {
+        return cumulative.length == 0 ? 0 : cumulative[cumulative.length - 1];
+    }
+
+    int bins() {
+        return cumulative.length;
+    }
+
+    /**
+     * Share of the population below {@code value}, counting values equal to it as half, in {@code [0, 1]};
+     * {@code NaN} for an empty histogram. Binary search over the bins.
+     */
+    double rank(double value) {
+        int total = size();
+        if (total == 0 || Double.isNaN(value)) {
+            return Double.NaN;
+        }
+        // first bin whose upper edge is >= value
+        int low = 0;
+        int high = uppers.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (uppers[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == uppers.length) {
+            return 1.0;
+        }
+
+        int below = low == 0 ? 0 : cumulative[low - 1];
+        int inBin = cumulative[low] - below;
+        double lower = lowers[low];
+        double upper = uppers[low];
+        if (value < lower) {
+            return (double) below / total;
+        }
+        if (upper == lower) {
+            return (below + inBin / 2.0) / total;
+        }
+        return (below + inBin * (value - lower) / (upper - lower)) / total;
+    }
+}
@@ -6,18 +6,14 @@ import com.tennispulse.api.analytics.dto.HighlightsDashboardResponse;
 import com.tennispulse.api.analytics.dto.PlayerHighlightDto;
 import com.tennispulse.domain.PlayerEntity;
 import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.*;
-import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,12 +23,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlayerHighlightsService {
 
-    private final MongoTemplate mongoTemplate;
+    private final PlayerMatchAnalyticsRepository analyticsRepository;
     private final com.tennispulse.repository.PlayerRepository playerRepository;
 
-    @Cacheable(value = "highlights", key = "#range")
+    @Cacheable(value = "highlights", key = "#range", sync = true)
     public HighlightsDashboardResponse getHighlights(TimelineRange range) {
-        LocalDateTime from = computeStartDate(range);
+        LocalDateTime from = range.startDate();
 
         // 1) Aggregate per player
         List<PlayerAggregate> aggregates = aggregatePerPlayer(from);
@@ -55,40 +51,13 @@ public class PlayerHighlightsService {
     }
 
     private List<PlayerAggregate> aggregatePerPlayer(LocalDateTime from) {
-        List<AggregationOperation> pipeline = new ArrayList<>();
-
-        Criteria criteria = new Criteria();
-        if (from != null) {
-            criteria = Criteria.where("createdAt").gte(from);
-        }
-
-        pipeline.add(Aggregation.match(criteria));
-
-        GroupOperation group = Aggregation.group("playerId")
-                .first("playerId").as("playerId");
-
-        // build averages for each metric
-        for (AnalyticsMetric metric : AnalyticsMetric.values()) {
-            group = group.avg("metrics." + metric.name() + ".value").as(metric.name());
-        }
-
-        pipeline.add(group);
-
-        // sort by playerId just for determinism
-        pipeline.add(Aggregation.sort(Sort.by(Sort.Direction.ASC, "playerId")));
-
-        Aggregation agg = Aggregation.newAggregation(pipeline);
-
-        List<Document> docs = mongoTemplate.aggregate(agg, "player_match_analytics", Document.class)
-                .getMappedResults();
-
-        return docs.stream()
+        return analyticsRepository.averageMetricsPerPlayer(from).stream()
                 .map(this::toAggregate)
                 .collect(Collectors.toList());
     }
 
     private PlayerAggregate toAggregate(Document doc) {
-        String playerId = doc.getString("playerId");
+        UUID playerId = doc.get("playerId", UUID.class);
 
         Map<AnalyticsMetric, Double> metrics = new EnumMap<>(AnalyticsMetric.class);
         for (AnalyticsMetric m : AnalyticsMetric.values()) {
@@ -102,7 +71,7 @@ public class PlayerHighlightsService {
     }
 
     // internal holder
-    private record PlayerAggregate(String playerId, Map<AnalyticsMetric, Double> metrics) {}
+    private record PlayerAggregate(UUID playerId, Map<AnalyticsMetric, Double> metrics) {}
 
     private Optional<PlayerHighlightDto> bestServeHighlight(List<PlayerAggregate> players) {
         return players.stream()
@@ -200,7 +169,7 @@ public class PlayerHighlightsService {
         return p.metrics().getOrDefault(metric, 0.0);
     }
 
-    private PlayerHighlightDto toHighlight(String playerId,
+    private PlayerHighlightDto toHighlight(UUID playerId,
                                            double score,
                                            Map<String, Double> details) {
         PlayerEntity player = playerRepository.findById(playerId)
@@ -210,17 +179,5 @@ public class PlayerHighlightsService {
 
         return new PlayerHighlightDto(playerId, name, score, details);
     }
-
-    private LocalDateTime computeStartDate(TimelineRange range) {
-        LocalDate today = LocalDate.now();
-
-        return switch (range) {
-            case ALL_TIME -> null;
-            case LAST_MONTH -> today.minusMonths(1).atStartOfDay();
-            case LAST_6_MONTHS -> today.minusMonths(6).atStartOfDay();
-            case LAST_12_MONTHS -> today.minusMonths(12).atStartOfDay();
-            case YEAR_TO_DATE -> today.withDayOfYear(1).atStartOfDay();
-        };
-    }
 }
 
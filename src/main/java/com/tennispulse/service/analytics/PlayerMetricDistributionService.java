@@ -0,0 +1,120 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.api.analytics.dto.MetricDistributionDto;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.MetricValue;
+import com.tennispulse.domain.analytics.PlayerMonthlySketchDocument;
+import com.tennispulse.domain.analytics.QuantileSketch;
+import com.tennispulse.repository.analytics.PlayerMonthlySketchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-match metric distributions (p10, median, p90) for the player timeline, from one
+ * {@link QuantileSketch} per player, month and metric.
+ * <p>
+ * Sketches are updated as analytics are stored, so a timeline read merges a few small documents instead of
+ * scanning every match. A match is added to a month once: redeliveries are ignored, and so is a corrected
+ * re-submission of the same match (the averages pick up the correction, the sketch keeps the first values).
+ */
+@Slf4j
+@Service
+public class PlayerMetricDistributionService {
+
+    static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    private final PlayerMonthlySketchRepository sketchRepository;
+    private final double compression;
+
+    public PlayerMetricDistributionService(
+            PlayerMonthlySketchRepository sketchRepository,
+            @Value("${tennispulse.analytics.sketches.compression:100}") double compression) {
+        this.sketchRepository = sketchRepository;
+        this.compression = compression;
+    }
+
+    /**
+     * Adds a match's metric values to the player's sketches for the month of {@code createdAt}. Writers on
+     * other nodes are detected through the document version and the update is re-applied.
+     */
+    public void record(UUID playerId, UUID matchId, Instant createdAt, Map<AnalyticsMetric, MetricValue> metrics) {
+        YearMonth month = YearMonth.from(createdAt.atOffset(ZoneOffset.UTC));
+        UUID id = PlayerMonthlySketchDocument.idFor(playerId, month);
+
+        for (int attempt = 1; ; attempt++) {
+            PlayerMonthlySketchDocument doc = sketchRepository.findById(id)
+                    .orElseGet(() -> PlayerMonthlySketchDocument.empty(playerId, month));
+            if (doc.getMatchIds().contains(matchId)) {
+                return;
+            }
+
+            metrics.forEach((metric, value) -> {
+                if (value == null || value.getValue() == null) {
+                    return;
+                }
+                QuantileSketch.State state = doc.getSketches().get(metric);
+                QuantileSketch sketch = state != null ? QuantileSketch.fromState(state) : new QuantileSketch(compression);
+                sketch.add(value.getValue());
+                doc.getSketches().put(metric, sketch.toState());
+            });
+            doc.getMatchIds().add(matchId);
+            doc.setUpdatedAt(Instant.now());
+
+            try {
+                sketchRepository.save(doc);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Concurrent update of sketches for player {} {}, retrying", playerId, month);
+            }
+        }
+    }
+
+    /**
+     * Merges the player's monthly sketches from the month of {@code from} on ({@code null} for all months).
+     * Months are whole: a range starting mid-month includes that month's earlier matches.
+     *
+     * @return distributions by metric name, in {@link AnalyticsMetric} order; metrics without values are left out
+     */
+    public Map<String, MetricDistributionDto> distributions(UUID playerId, LocalDateTime from) {
+        int fromPeriod = from != null ? PlayerMonthlySketchDocument.periodOf(YearMonth.from(from)) : 0;
+        List<PlayerMonthlySketchDocument> months =
+                sketchRepository.findByPlayerIdAndPeriodGreaterThanEqual(playerId, fromPeriod);
+
+        Map<AnalyticsMetric, QuantileSketch> merged = new EnumMap<>(AnalyticsMetric.class);
+        for (PlayerMonthlySketchDocument month : months) {
+            month.getSketches().forEach((metric, state) -> merged
+                    .computeIfAbsent(metric, m -> new QuantileSketch(compression))
+                    .merge(QuantileSketch.fromState(state)));
+        }
+
+        Map<String, MetricDistributionDto> result = new LinkedHashMap<>();
+        merged.forEach((metric, sketch) -> {
+            if (sketch.count() > 0) {
+                result.put(metric.name(), toDto(sketch));
+            }
+        });
+        return result;
+    }
+
+    static MetricDistributionDto toDto(QuantileSketch sketch) {
+        double p10 = sketch.quantile(0.1);
+        double p90 = sketch.quantile(0.9);
+        return new MetricDistributionDto(sketch.count(), sketch.min(), p10, sketch.quantile(0.5), p90,
+                sketch.max(), p90 - p10);
+    }
+}
@@ -4,13 +4,10 @@ import com.tennispulse.api.analytics.dto.PlayerMetricsTimelineResponseDto;
 import com.tennispulse.api.analytics.dto.PlayerMonthlyMetricsDto;
 import com.tennispulse.api.analytics.dto.TimelineRange;
 import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.*;
-import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
@@ -22,48 +19,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlayerMetricsTimelineService {
 
-    private final MongoTemplate mongoTemplate;
+    private final PlayerMatchAnalyticsRepository analyticsRepository;
+    private final PlayerMetricDistributionService distributionService;
+    private final PopulationPercentileService percentileService;
 
     public PlayerMetricsTimelineResponseDto getPlayerTimeline(UUID playerId, TimelineRange range) {
 
-        LocalDateTime from = computeStartDate(range);
+        LocalDateTime from = range.startDate();
 
-        List<AggregationOperation> pipeline = new ArrayList<>();
-
-        // Match documents for this player
-        Criteria criteria = Criteria.where("playerId").is(playerId.toString());
-        if (from != null) {
-            criteria = criteria.and("createdAt").gte(from);
-        }
-
-        pipeline.add(Aggregation.match(criteria));
-
-        // Add synthetic year/month fields
-        pipeline.add(Aggregation.project()
-                .andExpression("year(createdAt)").as("year")
-                .andExpression("month(createdAt)").as("month")
-                .and("metrics").as("metrics"));
-
-        // Group → average each metric per (year, month)
-        GroupOperation groupByMonth = Aggregation.group("year", "month")
-                .first("year").as("year")
-                .first("month").as("month");
-
-        // Dynamically add averages for all metrics (use .value)
-        for (AnalyticsMetric metric : AnalyticsMetric.values()) {
-            groupByMonth = groupByMonth
-                    .avg("metrics." + metric.name() + ".value")
-                    .as(metric.name());
-        }
-        pipeline.add(groupByMonth);
-
-        // Sort descending by date (newest first)
-        pipeline.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, "year", "month")));
-
-        Aggregation agg = Aggregation.newAggregation(pipeline);
-
-        List<Document> results = mongoTemplate.aggregate(agg, "player_match_analytics", Document.class)
-                .getMappedResults();
+        List<Document> results = analyticsRepository.averageMetricsPerMonth(playerId, from);
 
         List<PlayerMonthlyMetricsDto> timeline = results.stream()
                 .map(this::toMonthlyDto)
@@ -76,7 +40,9 @@ public class PlayerMetricsTimelineService {
                 playerId.toString(),
                 range,
                 timeline,
-                overallAverages
+                overallAverages,
+                distributionService.distributions(playerId, from),
+                computePercentileRanks(range, overallAverages)
         );
     }
 
@@ -119,15 +85,15 @@ public class PlayerMetricsTimelineService {
                 ));
     }
 
-    private LocalDateTime computeStartDate(TimelineRange range) {
-        LocalDate today = LocalDate.now();
+    private Map<String, Double> computePercentileRanks(TimelineRange range, Map<String, Double> overallAverages) {
+        Map<AnalyticsMetric, Double> values = new EnumMap<>(AnalyticsMetric.class);
+        overallAverages.forEach((metric, value) -> values.put(AnalyticsMetric.valueOf(metric), value));
 
-        return switch (range) {
-            case ALL_TIME -> null;
-            case LAST_MONTH -> today.minusMonths(1).atStartOfDay();
-            case LAST_6_MONTHS -> today.minusMonths(6).atStartOfDay();
-            case LAST_12_MONTHS -> today.minusMonths(12).atStartOfDay();
-            case YEAR_TO_DATE -> today.withDayOfYear(1).atStartOfDay();
-        };
+        Map<String, Double> ranks = new LinkedHashMap<>();
+        Map<AnalyticsMetric, Double> byMetric = percentileService.playerPercentileRanks(range, values);
+        if (byMetric != null) {
+            byMetric.forEach((metric, rank) -> ranks.put(metric.name(), rank));
+        }
+        return ranks;
     }
 }
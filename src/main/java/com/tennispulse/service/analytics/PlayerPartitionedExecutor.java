@@ -0,0 +1,87 @@
+package com.tennispulse.service.analytics;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks on a fixed number of single-threaded lanes, chosen by hashing a key (the player id): tasks for one
+ * player run one at a time in submission order, tasks for different players run in parallel across lanes.
+ * <p>
+ * Each lane queues at most {@code queueCapacity} tasks; beyond that {@link #submit} blocks the caller (the SQS
+ * listener), which slows down polling instead of buffering without bound.
+ */
+public class PlayerPartitionedExecutor implements AutoCloseable {
+
+    private final ThreadPoolExecutor[] lanes;
+
+    public PlayerPartitionedExecutor(int partitions, int queueCapacity, ThreadFactory threadFactory) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be at least 1");
+        }
+        this.lanes = new ThreadPoolExecutor[partitions];
+        for (int i = 0; i < partitions; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory, WAIT_FOR_SPACE);
+        }
+    }
+
+    public CompletableFuture<Void> submit(UUID key, Runnable task) {
+        return CompletableFuture.runAsync(task, lanes[partitionOf(key)]);
+    }
+
+    int partitionOf(UUID key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), lanes.length);
+    }
+
+    public int partitions() {
+        return lanes.length;
+    }
+
+    /**
+     * @return tasks waiting in all lanes, not counting the ones running
+     */
+    public int queued() {
+        return Arrays.stream(lanes).mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    /**
+     * Stops accepting tasks and waits briefly for the queued ones to finish.
+     */
+    @Override
+    public void close() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Blocks the submitter until the lane has room; rejects only after shutdown. */
+    private static final RejectedExecutionHandler WAIT_FOR_SPACE = (task, executor) -> {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Partitioned executor is shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a partition", e);
+        }
+    };
+}
@@ -0,0 +1,174 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerMonthlySketchDocument;
+import com.tennispulse.domain.analytics.QuantileSketch;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import com.tennispulse.repository.analytics.PlayerMonthlySketchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Where a player or a single match stands against everyone else: per {@link TimelineRange} and
+ * {@link AnalyticsMetric}, two {@link MetricHistogram}s held in memory, one of every player's average over the
+ * range and one of every match's value (from the monthly sketches of {@link PlayerMetricDistributionService}).
+ * A value is ranked against the population of the same kind: an average against averages, a match against
+ * matches, whose spread is much wider.
+ * <p>
+ * Lookups never query Mongo. A histogram older than {@code refresh-interval} is rebuilt in the background on the
+ * cache refresh executor while the old one keeps serving; a range that has not been built yet returns no ranks
+ * and starts its build ({@code CacheWarmer} builds all ranges at startup).
+ */
+@Slf4j
+@Service
+public class PopulationPercentileService {
+
+    private final PlayerMatchAnalyticsRepository analyticsRepository;
+    private final PlayerMonthlySketchRepository sketchRepository;
+    private final AsyncTaskExecutor cacheRefreshExecutor;
+    private final Duration refreshInterval;
+    private final int maxBins;
+
+    private final Map<TimelineRange, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<TimelineRange> refreshing = ConcurrentHashMap.newKeySet();
+
+    public PopulationPercentileService(
+            PlayerMatchAnalyticsRepository analyticsRepository,
+            PlayerMonthlySketchRepository sketchRepository,
+            AsyncTaskExecutor cacheRefreshExecutor,
+            @Value("${tennispulse.analytics.percentiles.refresh-interval:10m}") Duration refreshInterval,
+            @Value("${tennispulse.analytics.percentiles.max-bins:256}") int maxBins) {
+        this.analyticsRepository = analyticsRepository;
+        this.sketchRepository = sketchRepository;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.refreshInterval = refreshInterval;
+        this.maxBins = maxBins;
+    }
+
+    /**
+     * Percentile of each of a player's averages over {@code range} among all players' averages, from 0 to 100
+     * where higher is better (for the error counts, fewer errors rank higher): 88 means better than 88% of
+     * players, i.e. top 12%.
+     *
+     * @return ranks for the metrics the population has values for, or {@code null} while the range is being built
+     */
+    public Map<AnalyticsMetric, Double> playerPercentileRanks(TimelineRange range, Map<AnalyticsMetric, Double> averages) {
+        Snapshot snapshot = current(range);
+        return snapshot != null ? ranks(snapshot.playerAverages(), averages) : null;
+    }
+
+    /**
+     * Percentile of each of one match's values among all matches played in {@code range}, on the same scale as
+     * {@link #playerPercentileRanks}. Months are whole, as in {@link PlayerMetricDistributionService#distributions}.
+     *
+     * @return ranks for the metrics the population has values for, or {@code null} while the range is being built
+     */
+    public Map<AnalyticsMetric, Double> matchPercentileRanks(TimelineRange range, Map<AnalyticsMetric, Double> values) {
+        Snapshot snapshot = current(range);
+        return snapshot != null ? ranks(snapshot.matchValues(), values) : null;
+    }
+
+    private Snapshot current(TimelineRange range) {
+        Snapshot snapshot = snapshots.get(range);
+        if (snapshot == null || !snapshot.builtAt().plus(refreshInterval).isAfter(Instant.now())) {
+            refreshAsync(range);
+        }
+        return snapshot;
+    }
+
+    private static Map<AnalyticsMetric, Double> ranks(Map<AnalyticsMetric, MetricHistogram> histograms,
+                                                      Map<AnalyticsMetric, Double> values) {
+        Map<AnalyticsMetric, Double> ranks = new EnumMap<>(AnalyticsMetric.class);
+        values.forEach((metric, value) -> {
+            MetricHistogram histogram = histograms.get(metric);
+            if (histogram == null || value == null) {
+                return;
+            }
+            double rank = histogram.rank(value);
+            if (!Double.isNaN(rank)) {
+                double percentile = metric.higherIsBetter() ? rank : 1 - rank;
+                ranks.put(metric, Math.round(percentile * 1000) / 10.0);
+            }
+        });
+        return ranks;
+    }
+
+    /** Rebuilds the histograms of {@code range} from the per-player averages and the monthly sketches. */
+    public void refresh(TimelineRange range) {
+        LocalDateTime from = range.startDate();
+        List<Document> players = analyticsRepository.averageMetricsPerPlayer(from);
+
+        Map<AnalyticsMetric, MetricHistogram> histograms = new EnumMap<>(AnalyticsMetric.class);
+        for (AnalyticsMetric metric : AnalyticsMetric.values()) {
+            double[] averages = players.stream()
+                    .map(doc -> doc.getDouble(metric.name()))
+                    .filter(Objects::nonNull)
+                    .mapToDouble(Double::doubleValue)
+                    .toArray();
+            if (averages.length > 0) {
+                histograms.put(metric, MetricHistogram.of(averages, maxBins));
+            }
+        }
+        snapshots.put(range, new Snapshot(histograms, matchHistograms(from), Instant.now()));
+        log.debug("Rebuilt population percentiles for {} from {} players", range, players.size());
+    }
+
+    /** Merges every player's monthly sketches in range, streamed so only one document is held at a time. */
+    private Map<AnalyticsMetric, MetricHistogram> matchHistograms(LocalDateTime from) {
+        int fromPeriod = from != null ? PlayerMonthlySketchDocument.periodOf(YearMonth.from(from)) : 0;
+        Map<AnalyticsMetric, QuantileSketch> merged = new EnumMap<>(AnalyticsMetric.class);
+        try (Stream<PlayerMonthlySketchDocument> months = sketchRepository.streamByPeriodGreaterThanEqual(fromPeriod)) {
+            months.forEach(month -> month.getSketches().forEach((metric, state) -> merged
+                    .computeIfAbsent(metric, m -> new QuantileSketch(state.compression()))
+                    .merge(QuantileSketch.fromState(state))));
+        }
+
+        Map<AnalyticsMetric, MetricHistogram> histograms = new EnumMap<>(AnalyticsMetric.class);
+        merged.forEach((metric, sketch) -> {
+            if (sketch.count() > 0) {
+                histograms.put(metric, MetricHistogram.of(sketch, maxBins));
+            }
+        });
+        return histograms;
+    }
+
+    private void refreshAsync(TimelineRange range) {
+        if (!refreshing.add(range)) {
+            return;
+        }
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    refresh(range);
+                } catch (Exception e) {
+                    log.warn("Failed to rebuild population percentiles for {}: {}", range, e.toString());
+                } finally {
+                    refreshing.remove(range);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(range);
+            log.warn("Could not schedule population percentile rebuild for {}: {}", range, e.toString());
+        }
+    }
+
+    private record Snapshot(Map<AnalyticsMetric, MetricHistogram> playerAverages,
+                            Map<AnalyticsMetric, MetricHistogram> matchValues,
+                            Instant builtAt) {}
+}
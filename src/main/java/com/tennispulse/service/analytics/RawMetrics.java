@@ -0,0 +1,104 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only {@code Map<AnalyticsMetric, Double>} view of a {@link PlayerStatsPayload}, for
+ * {@link CoachingRuleEngine#analyze}: values are read from the payload on access instead of being copied into a
+ * new map per player. Like the {@code Map.of} it replaces, every metric must be present.
+ */
+public final class RawMetrics extends AbstractMap<AnalyticsMetric, Double> {
+
+    private static final AnalyticsMetric[] METRICS = AnalyticsMetric.values();
+
+    private final PlayerStatsPayload stats;
+
+    private RawMetrics(PlayerStatsPayload stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * @throws NullPointerException if a metric is missing from {@code stats}
+     */
+    public static Map<AnalyticsMetric, Double> of(PlayerStatsPayload stats) {
+        for (AnalyticsMetric metric : METRICS) {
+            if (value(stats, metric) == null) {
+                throw new NullPointerException("Missing " + metric + " for player " + stats.getPlayerId());
+            }
+        }
+        return new RawMetrics(stats);
+    }
+
+    @Override
+    public Double get(Object key) {
+        return key instanceof AnalyticsMetric metric ? value(stats, metric) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof AnalyticsMetric;
+    }
+
+    @Override
+    public int size() {
+        return METRICS.length;
+    }
+
+    @Override
+    public Set<Entry<AnalyticsMetric, Double>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<AnalyticsMetric, Double>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < METRICS.length;
+                    }
+
+                    @Override
+                    public Entry<AnalyticsMetric, Double> next() {
+                        if (next >= METRICS.length) {
+                            throw new NoSuchElementException();
+                        }
+                        AnalyticsMetric metric = METRICS[next++];
+                        return new SimpleImmutableEntry<>(metric, value(stats, metric));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return METRICS.length;
+            }
+        };
+    }
+
+    private static Double value(PlayerStatsPayload s, AnalyticsMetric metric) {
+        return switch (metric) {
+            case FIRST_SERVE_IN -> s.getFirstServeIn();
+            case FIRST_SERVE_POINTS_WON -> s.getFirstServePointsWon();
+            case SECOND_SERVE_POINTS_WON -> s.getSecondServePointsWon();
+            case UNFORCED_ERRORS_FOREHAND -> toDouble(s.getUnforcedErrorsForehand());
+            case UNFORCED_ERRORS_BACKHAND -> toDouble(s.getUnforcedErrorsBackhand());
+            case WINNERS -> toDouble(s.getWinners());
+            case BREAK_POINT_CONVERSION -> s.getBreakPointConversion();
+            case BREAK_POINTS_SAVED -> s.getBreakPointsSaved();
+            case NET_POINTS_WON -> s.getNetPointsWon();
+            case LONG_RALLY_WIN_RATE -> s.getLongRallyWinRate();
+        };
+    }
+
+    private static Double toDouble(Integer value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
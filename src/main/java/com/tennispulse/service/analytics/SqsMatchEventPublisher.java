@@ -1,7 +1,5 @@
 package com.tennispulse.service.analytics;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tennispulse.api.controllers.MatchController;
 import com.tennispulse.domain.MatchCompletedEvent;
 import com.tennispulse.domain.MatchEntity;
@@ -11,23 +9,120 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SqsMatchEventPublisher {
+
+    /** SQS accepts at most 10 entries per SendMessageBatch call. */
+    static final int MAX_BATCH_ENTRIES = 10;
+
     private final SqsClient sqsClient;
-    private final ObjectMapper objectMapper;
+    private final MatchCompletedEventCodec eventCodec;
     private final String matchCompletedQueueUrl;
+    private final AnalyticsPipelineMetrics pipelineMetrics;
 
     public void publishMatchCompleted(MatchEntity match,
                                       List<MatchController.PlayerStatsRequest> playerStats) {
 
+        MatchCompletedEvent event = toEvent(match, playerStats);
+
+        long start = System.nanoTime();
+        try {
+            String body = eventCodec.encode(event);
+
+            SendMessageRequest req = SendMessageRequest.builder()
+                    .queueUrl(matchCompletedQueueUrl)
+                    .messageBody(body)
+                    .messageAttributes(dedupAttributes(event))
+                    .build();
+
+            sqsClient.sendMessage(req);
+            pipelineMetrics.recordPublish(System.nanoTime() - start);
+            log.info("Published MatchCompleted event for match {}", match.getId());
+
+        } catch (IOException e) {
+            log.error("Failed to serialize MatchCompletedEvent for match {}", match.getId(), e);
+        }
+    }
+
+    /**
+     * Publishes one MatchCompleted event per match through {@code SendMessageBatch}, {@value #MAX_BATCH_ENTRIES}
+     * events per call. Entries SQS rejects are logged and not retried: the matches are already stored.
+     *
+     * @param statsByMatchId player stats per match id; matches without stats are skipped
+     * @return the number of events SQS accepted
+     */
+    public int publishMatchesCompleted(List<MatchEntity> matches,
+                                       Map<UUID, List<MatchController.PlayerStatsRequest>> statsByMatchId) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+        int published = 0;
+
+        for (MatchEntity match : matches) {
+            List<MatchController.PlayerStatsRequest> playerStats = statsByMatchId.get(match.getId());
+            if (CollectionUtils.isEmpty(playerStats)) {
+                continue;
+            }
+            MatchCompletedEvent event = toEvent(match, playerStats);
+            try {
+                entries.add(SendMessageBatchRequestEntry.builder()
+                        .id(Integer.toString(entries.size()))
+                        .messageBody(eventCodec.encode(event))
+                        .messageAttributes(dedupAttributes(event))
+                        .build());
+            } catch (IOException e) {
+                log.error("Failed to serialize MatchCompletedEvent for match {}", match.getId(), e);
+                continue;
+            }
+            if (entries.size() == MAX_BATCH_ENTRIES) {
+                published += sendBatch(entries);
+                entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+            }
+        }
+        if (!entries.isEmpty()) {
+            published += sendBatch(entries);
+        }
+
+        log.info("Published {} MatchCompleted event(s) for {} match(es)", published, matches.size());
+        return published;
+    }
+
+    private int sendBatch(List<SendMessageBatchRequestEntry> entries) {
+        long start = System.nanoTime();
+        SendMessageBatchResponse response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                .queueUrl(matchCompletedQueueUrl)
+                .entries(entries)
+                .build());
+        long elapsed = System.nanoTime() - start;
+
+        // every event in the batch waited for the same call
+        int sent = response.successful().size();
+        for (int i = 0; i < sent; i++) {
+            pipelineMetrics.recordPublish(elapsed);
+        }
+        for (BatchResultErrorEntry failed : response.failed()) {
+            log.error("SQS rejected MatchCompleted batch entry {}: {} {}",
+                    failed.id(), failed.code(), failed.message());
+        }
+        return sent;
+    }
+
+    private MatchCompletedEvent toEvent(MatchEntity match, List<MatchController.PlayerStatsRequest> playerStats) {
         MatchCompletedEvent event = new MatchCompletedEvent();
         event.setMatchId(match.getId());
         event.setWinnerId(match.getWinner().getId());
@@ -37,28 +132,39 @@ public class SqsMatchEventPublisher {
         if (!CollectionUtils.isEmpty(playerStats)) {
             event.setPlayerStats(
                     playerStats.stream()
-                            .map(this::toPayload)
+                            .map(SqsMatchEventPublisher::toPayload)
                             .collect(Collectors.toList())
             );
         }
+        return event;
+    }
 
-        try {
-            String body = objectMapper.writeValueAsString(event);
-
-            SendMessageRequest req = SendMessageRequest.builder()
-                    .queueUrl(matchCompletedQueueUrl)
-                    .messageBody(body)
-                    .build();
-
-            sqsClient.sendMessage(req);
-            log.info("Published MatchCompleted event for match {}", match.getId());
+    /**
+     * Lets the consumer drop duplicates without parsing the body, see {@link MatchEventDeduplicator}.
+     */
+    private Map<String, MessageAttributeValue> dedupAttributes(MatchCompletedEvent event) {
+        return Map.of(
+                MatchEventDeduplicator.MATCH_ID_ATTRIBUTE, stringAttribute(event.getMatchId().toString()),
+                MatchEventDeduplicator.PAYLOAD_HASH_ATTRIBUTE, stringAttribute(MatchEventDeduplicator.payloadHash(event)));
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize MatchCompletedEvent for match {}", match.getId(), e);
-        }
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
     }
 
-    private PlayerStatsPayload toPayload(MatchController.PlayerStatsRequest playerStatsRequest) {
-            return objectMapper.convertValue(playerStatsRequest, PlayerStatsPayload.class);
+    private static PlayerStatsPayload toPayload(MatchController.PlayerStatsRequest request) {
+        PlayerStatsPayload payload = new PlayerStatsPayload();
+        payload.setPlayerId(request.getPlayerId());
+        payload.setFirstServeIn(request.getFirstServeIn());
+        payload.setFirstServePointsWon(request.getFirstServePointsWon());
+        payload.setSecondServePointsWon(request.getSecondServePointsWon());
+        payload.setUnforcedErrorsForehand(request.getUnforcedErrorsForehand());
+        payload.setUnforcedErrorsBackhand(request.getUnforcedErrorsBackhand());
+        payload.setWinners(request.getWinners());
+        payload.setBreakPointConversion(request.getBreakPointConversion());
+        payload.setBreakPointsSaved(request.getBreakPointsSaved());
+        payload.setNetPointsWon(request.getNetPointsWon());
+        payload.setLongRallyWinRate(request.getLongRallyWinRate());
+        return payload;
     }
 }
@@ -17,8 +17,8 @@ import java.util.stream.Collectors;
 public class ThresholdBasedCoachingRuleEngine implements CoachingRuleEngine {
 
     @Override
-    public PlayerMatchCoachingAnalysis analyze(String matchId,
-                                               String playerId,
+    public PlayerMatchCoachingAnalysis analyze(UUID matchId,
+                                               UUID playerId,
                                                Map<AnalyticsMetric, Double> rawMetrics) {
 
         Map<AnalyticsMetric, MetricValue> classified = rawMetrics.entrySet().stream()
@@ -0,0 +1,372 @@
+package com.tennispulse.service.scoring;
+
+import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.domain.scoring.PointEnding;
+import com.tennispulse.domain.scoring.ServeResult;
+import com.tennispulse.domain.scoring.Stroke;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Score and serve statistics of one live match, kept as a handful of ints so thousands of matches fit in a few
+ * hundred kilobytes. Players are indexed 0 (player 1) and 1 (player 2).
+ * <p>
+ * Scoring is advantage scoring with six-game sets, a tiebreak to seven at 6-6 (also in the deciding set) and
+ * best of {@code bestOf} sets. Not thread-safe: {@link LiveScoringService} guards each state with its shard lock.
+ */
+public final class LiveMatchState {
+
+    /** Rallies of at least this many shots count as long rallies. */
+    static final int LONG_RALLY_SHOTS = 9;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int MAX_SETS = 5;
+    private static final String[] POINT_LABELS = {"0", "15", "30", "40"};
+
+    // per-player counters, stored at counters[player * COUNTERS + counter]
+    private static final int SERVICE_POINTS = 0;
+    private static final int FIRST_SERVES_IN = 1;
+    private static final int FIRST_SERVE_POINTS_WON = 2;
+    private static final int SECOND_SERVE_POINTS = 3;
+    private static final int SECOND_SERVE_POINTS_WON = 4;
+    private static final int DOUBLE_FAULTS = 5;
+    private static final int ACES = 6;
+    private static final int WINNERS = 7;
+    private static final int UNFORCED_ERRORS_FOREHAND = 8;
+    private static final int UNFORCED_ERRORS_BACKHAND = 9;
+    private static final int BREAK_POINT_CHANCES = 10;
+    private static final int BREAK_POINTS_CONVERTED = 11;
+    private static final int BREAK_POINTS_FACED = 12;
+    private static final int BREAK_POINTS_SAVED = 13;
+    private static final int NET_POINTS = 14;
+    private static final int NET_POINTS_WON = 15;
+    private static final int LONG_RALLIES = 16;
+    private static final int LONG_RALLIES_WON = 17;
+    private static final int POINTS_WON = 18;
+    private static final int COUNTERS = 19;
+
+    private final int bestOf;
+    private long seq;
+    private boolean finished;
+    private int winner = -1;
+    private int lastServer = -1;
+    private boolean tiebreak;
+    private final int[] setsWon = new int[2];
+    private final int[] games = new int[2];
+    private final int[] points = new int[2];
+    private int completedSets;
+    private final int[] setGames = new int[MAX_SETS * 2];
+    private final int[] tiebreakLoserPoints = new int[MAX_SETS];
+    private final int[] counters = new int[COUNTERS * 2];
+
+    public LiveMatchState(int bestOf) {
+        if (bestOf != 3 && bestOf != 5) {
+            throw new IllegalArgumentException("bestOf must be 3 or 5, was " + bestOf);
+        }
+        this.bestOf = bestOf;
+        Arrays.fill(tiebreakLoserPoints, -1);
+    }
+
+    /** Sequence number of the last applied point, 0 before the first. */
+    public long seq() {
+        return seq;
+    }
+
+    public boolean finished() {
+        return finished;
+    }
+
+    /** 0 or 1 once the match is finished, -1 before. */
+    public int winner() {
+        return winner;
+    }
+
+    public int lastServer() {
+        return lastServer;
+    }
+
+    /**
+     * Scores one point and updates both players' serve, error and pressure-point counters.
+     *
+     * @param server      0 or 1
+     * @param pointWinner 0 or 1
+     * @param ending      {@code null} when not recorded; ignored for double faults
+     * @param stroke      the last shot, {@code null} when not recorded
+     * @param netPlayer   the player who came to the net, -1 for none
+     * @param rallyLength shots in the rally including the serve, 0 when not recorded
+     * @throws IllegalStateException    if the match is already decided
+     * @throws IllegalArgumentException if the point contradicts itself, e.g. an ace won by the receiver
+     */
+    public void apply(long seq, int server, int pointWinner, ServeResult serve, PointEnding ending, Stroke stroke,
+                      int netPlayer, int rallyLength) {
+        if (finished) {
+            throw new IllegalStateException("Match is already decided");
+        }
+        int receiver = 1 - server;
+        int loser = 1 - pointWinner;
+        if (serve == ServeResult.DOUBLE_FAULT && pointWinner == server) {
+            throw new IllegalArgumentException("A double fault is won by the receiver");
+        }
+        if (ending == PointEnding.ACE && (pointWinner != server || serve == ServeResult.DOUBLE_FAULT)) {
+            throw new IllegalArgumentException("An ace is won by the server");
+        }
+
+        boolean breakPoint = !tiebreak && points[receiver] >= 3 && points[receiver] > points[server];
+
+        count(server, SERVICE_POINTS);
+        switch (serve) {
+            case FIRST_IN -> {
+                count(server, FIRST_SERVES_IN);
+                if (pointWinner == server) {
+                    count(server, FIRST_SERVE_POINTS_WON);
+                }
+            }
+            case SECOND_IN -> {
+                count(server, SECOND_SERVE_POINTS);
+                if (pointWinner == server) {
+                    count(server, SECOND_SERVE_POINTS_WON);
+                }
+            }
+            case DOUBLE_FAULT -> {
+                count(server, SECOND_SERVE_POINTS);
+                count(server, DOUBLE_FAULTS);
+            }
+        }
+
+        if (serve != ServeResult.DOUBLE_FAULT && ending != null) {
+            switch (ending) {
+                case ACE -> {
+                    count(server, ACES);
+                    count(server, WINNERS);
+                }
+                case WINNER -> count(pointWinner, WINNERS);
+                case UNFORCED_ERROR -> {
+                    if (stroke == Stroke.FOREHAND) {
+                        count(loser, UNFORCED_ERRORS_FOREHAND);
+                    } else if (stroke == Stroke.BACKHAND) {
+                        count(loser, UNFORCED_ERRORS_BACKHAND);
+                    }
+                }
+                case FORCED_ERROR -> {
+                }
+            }
+        }
+
+        if (breakPoint) {
+            count(receiver, BREAK_POINT_CHANCES);
+            count(server, BREAK_POINTS_FACED);
+            if (pointWinner == receiver) {
+                count(receiver, BREAK_POINTS_CONVERTED);
+            } else {
+                count(server, BREAK_POINTS_SAVED);
+            }
+        }
+        if (netPlayer >= 0) {
+            count(netPlayer, NET_POINTS);
+            if (netPlayer == pointWinner) {
+                count(netPlayer, NET_POINTS_WON);
+            }
+        }
+        if (rallyLength >= LONG_RALLY_SHOTS) {
+            count(0, LONG_RALLIES);
+            count(1, LONG_RALLIES);
+            count(pointWinner, LONG_RALLIES_WON);
+        }
+        count(pointWinner, POINTS_WON);
+
+        this.seq = seq;
+        this.lastServer = server;
+        scorePoint(pointWinner);
+    }
+
+    private void scorePoint(int player) {
+        int other = 1 - player;
+        points[player]++;
+        int target = tiebreak ? 7 : 4;
+        if (points[player] >= target && points[player] - points[other] >= 2) {
+            scoreGame(player);
+        }
+    }
+
+    private void scoreGame(int player) {
+        int other = 1 - player;
+        boolean wasTiebreak = tiebreak;
+        int loserPoints = points[other];
+        points[0] = 0;
+        points[1] = 0;
+        games[player]++;
+
+        if (wasTiebreak || (games[player] >= 6 && games[player] - games[other] >= 2)) {
+            setGames[completedSets * 2] = games[0];
+            setGames[completedSets * 2 + 1] = games[1];
+            tiebreakLoserPoints[completedSets] = wasTiebreak ? loserPoints : -1;
+            completedSets++;
+            setsWon[player]++;
+            games[0] = 0;
+            games[1] = 0;
+            tiebreak = false;
+            if (setsWon[player] > bestOf / 2) {
+                finished = true;
+                winner = player;
+            }
+        } else if (games[0] == 6 && games[1] == 6) {
+            tiebreak = true;
+        }
+    }
+
+    private void count(int player, int counter) {
+        counters[player * COUNTERS + counter]++;
+    }
+
+    private int counter(int player, int counter) {
+        return counters[player * COUNTERS + counter];
+    }
+
+    /** Completed sets, then the set in progress (if any games or points have been played in it). */
+    public List<SetScore> sets() {
+        List<SetScore> sets = new ArrayList<>(completedSets + 1);
+        for (int i = 0; i < completedSets; i++) {
+            int tb = tiebreakLoserPoints[i];
+            sets.add(new SetScore(setGames[i * 2], setGames[i * 2 + 1], tb >= 0 ? tb : null));
+        }
+        if (!finished && (games[0] + games[1] + points[0] + points[1]) > 0) {
+            sets.add(new SetScore(games[0], games[1], null));
+        }
+        return sets;
+    }
+
+    public boolean inTiebreak() {
+        return tiebreak;
+    }
+
+    /** The current game's score of {@code player}: 0/15/30/40/AD, or the tiebreak points. */
+    public String pointScore(int player) {
+        int own = points[player];
+        int other = points[1 - player];
+        if (tiebreak) {
+            return Integer.toString(own);
+        }
+        if (own >= 3 && other >= 3) {
+            return own > other ? "AD" : "40";
+        }
+        return POINT_LABELS[Math.min(own, 3)];
+    }
+
+    /**
+     * Final score from the winner's side, e.g. {@code 6-4 3-6 7-6(5)} with the loser's tiebreak points in
+     * brackets, as clients send it in {@code finalScore}.
+     *
+     * @return {@code null} until the match is decided
+     */
+    public String finalScore() {
+        if (!finished) {
+            return null;
+        }
+        StringBuilder score = new StringBuilder();
+        for (int i = 0; i < completedSets; i++) {
+            if (i > 0) {
+                score.append(' ');
+            }
+            score.append(setGames[i * 2 + winner]).append('-').append(setGames[i * 2 + 1 - winner]);
+            if (tiebreakLoserPoints[i] >= 0) {
+                score.append('(').append(tiebreakLoserPoints[i]).append(')');
+            }
+        }
+        return score.toString();
+    }
+
+    /**
+     * The completion stats of {@code player}, as clients would otherwise compute them. Rates are percentages with
+     * one decimal and 0 when there was no opportunity, except break points saved, which is 100 when none were
+     * faced.
+     */
+    public MatchController.PlayerStatsRequest stats(int player, UUID playerId) {
+        MatchController.PlayerStatsRequest stats = new MatchController.PlayerStatsRequest();
+        stats.setPlayerId(playerId);
+        stats.setFirstServeIn(percentage(counter(player, FIRST_SERVES_IN), counter(player, SERVICE_POINTS)));
+        stats.setFirstServePointsWon(percentage(counter(player, FIRST_SERVE_POINTS_WON),
+                counter(player, FIRST_SERVES_IN)));
+        stats.setSecondServePointsWon(percentage(counter(player, SECOND_SERVE_POINTS_WON),
+                counter(player, SECOND_SERVE_POINTS)));
+        stats.setUnforcedErrorsForehand(counter(player, UNFORCED_ERRORS_FOREHAND));
+        stats.setUnforcedErrorsBackhand(counter(player, UNFORCED_ERRORS_BACKHAND));
+        stats.setWinners(counter(player, WINNERS));
+        stats.setBreakPointConversion(percentage(counter(player, BREAK_POINTS_CONVERTED),
+                counter(player, BREAK_POINT_CHANCES)));
+        stats.setBreakPointsSaved(counter(player, BREAK_POINTS_FACED) == 0
+                ? 100.0
+                : percentage(counter(player, BREAK_POINTS_SAVED), counter(player, BREAK_POINTS_FACED)));
+        stats.setNetPointsWon(percentage(counter(player, NET_POINTS_WON), counter(player, NET_POINTS)));
+        stats.setLongRallyWinRate(percentage(counter(player, LONG_RALLIES_WON), counter(player, LONG_RALLIES)));
+        return stats;
+    }
+
+    private static double percentage(int part, int total) {
+        return total == 0 ? 0.0 : Math.round(part * 1000.0 / total) / 10.0;
+    }
+
+    /** Compact binary form for {@code live_match_state.state}. */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(2 + Long.BYTES
+                + Integer.BYTES * (5 + 6 + setGames.length + tiebreakLoserPoints.length + counters.length));
+        buffer.put(FORMAT_VERSION);
+        buffer.put((byte) bestOf);
+        buffer.putLong(seq);
+        buffer.putInt(finished ? 1 : 0);
+        buffer.putInt(winner);
+        buffer.putInt(lastServer);
+        buffer.putInt(tiebreak ? 1 : 0);
+        buffer.putInt(completedSets);
+        putAll(buffer, setsWon);
+        putAll(buffer, games);
+        putAll(buffer, points);
+        putAll(buffer, setGames);
+        putAll(buffer, tiebreakLoserPoints);
+        putAll(buffer, counters);
+        return buffer.array();
+    }
+
+    /**
+     * @throws IllegalArgumentException for bytes not written by {@link #toBytes()}
+     */
+    public static LiveMatchState fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported live match state version " + version);
+        }
+        LiveMatchState state = new LiveMatchState(buffer.get());
+        state.seq = buffer.getLong();
+        state.finished = buffer.getInt() == 1;
+        state.winner = buffer.getInt();
+        state.lastServer = buffer.getInt();
+        state.tiebreak = buffer.getInt() == 1;
+        state.completedSets = buffer.getInt();
+        getAll(buffer, state.setsWon);
+        getAll(buffer, state.games);
+        getAll(buffer, state.points);
+        getAll(buffer, state.setGames);
+        getAll(buffer, state.tiebreakLoserPoints);
+        getAll(buffer, state.counters);
+        return state;
+    }
+
+    private static void putAll(ByteBuffer buffer, int[] values) {
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+    }
+
+    private static void getAll(ByteBuffer buffer, int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt();
+        }
+    }
+
+    /** Games of player 1 and player 2 in one set, and the loser's points if it went to a tiebreak. */
+    public record SetScore(int player1Games, int player2Games, Integer tiebreakLoserPoints) {}
+}
@@ -0,0 +1,375 @@
+package com.tennispulse.service.scoring;
+
+import com.tennispulse.api.controllers.LiveScoringController.LiveScoreResponse;
+import com.tennispulse.api.controllers.LiveScoringController.PointRequest;
+import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.domain.LiveMatchStateEntity;
+import com.tennispulse.domain.MatchEntity;
+import com.tennispulse.domain.MatchStatus;
+import com.tennispulse.repository.LiveMatchStateRepository;
+import com.tennispulse.repository.MatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live scoring of {@code IN_PROGRESS} matches from point events.
+ * <ul>
+ *     <li>Each match's {@link LiveMatchState} is held in memory, in one of {@code shards} maps chosen by match id;
+ *     a point only locks its shard, so ingest for different matches runs in parallel.</li>
+ *     <li>Every {@code snapshot-interval}, states that changed are written to {@code live_match_state}. A node
+ *     that does not hold a match (restart, or a point routed elsewhere) resumes from that snapshot; points after
+ *     it are answered with {@code 409} and the expected sequence number, so the client resends them. Point
+ *     ingest should therefore be routed to one node per match.</li>
+ *     <li>On completion, {@code MatchService} takes the winner, final score and per-player stats from the state
+ *     when the client does not send them, and the state is dropped.</li>
+ * </ul>
+ * States untouched for {@code idle-timeout} are evicted from memory once snapshotted.
+ */
+@Slf4j
+@Service
+public class LiveScoringService {
+
+    private final MatchRepository matchRepository;
+    private final LiveMatchStateRepository stateRepository;
+    private final int bestOf;
+    private final int maxBatchSize;
+    private final Duration idleTimeout;
+    private final Shard[] shards;
+
+    private final ScheduledExecutorService snapshotter = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("live-scoring-snapshot").factory());
+
+    public LiveScoringService(
+            MatchRepository matchRepository,
+            LiveMatchStateRepository stateRepository,
+            @Value("${tennispulse.live.scoring.best-of:3}") int bestOf,
+            @Value("${tennispulse.live.scoring.shards:64}") int shardCount,
+            @Value("${tennispulse.live.scoring.max-batch-size:1000}") int maxBatchSize,
+            @Value("${tennispulse.live.scoring.snapshot-interval:5s}") Duration snapshotInterval,
+            @Value("${tennispulse.live.scoring.idle-timeout:6h}") Duration idleTimeout) {
+        this.matchRepository = matchRepository;
+        this.stateRepository = stateRepository;
+        this.bestOf = bestOf;
+        this.maxBatchSize = maxBatchSize;
+        this.idleTimeout = idleTimeout;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, snapshotInterval.toMillis(),
+                snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies points in sequence order and returns the resulting score. Points up to the last applied sequence
+     * number are skipped; if one fails, the points before it stay applied.
+     *
+     * @throws ResponseStatusException 404 for an unknown match, 409 if it is not in progress, already decided or
+     *                                 a sequence number is missing, 400 for an invalid point
+     */
+    public LiveScoreResponse record(UUID matchId, List<PointRequest> points) {
+        if (points.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + maxBatchSize + " points per request");
+        }
+        Shard shard = shard(matchId);
+        LiveMatch match = load(matchId, shard);
+        synchronized (shard) {
+            if (shard.matches.get(matchId) != match) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Match " + matchId + " is not in progress");
+            }
+            LiveMatchState state = match.state;
+            for (PointRequest point : points) {
+                if (point.getSeq() <= state.seq()) {
+                    continue;
+                }
+                if (point.getSeq() != state.seq() + 1) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Expected point seq " + (state.seq() + 1) + " but got " + point.getSeq());
+                }
+                apply(match, point);
+            }
+            match.touchedAt = Instant.now();
+            return response(matchId, match);
+        }
+    }
+
+    /**
+     * @throws ResponseStatusException 404 if the match is not being scored on this node
+     */
+    public LiveScoreResponse get(UUID matchId) {
+        Shard shard = shard(matchId);
+        synchronized (shard) {
+            LiveMatch match = shard.matches.get(matchId);
+            if (match == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No live score for match " + matchId);
+            }
+            return response(matchId, match);
+        }
+    }
+
+    /**
+     * The winner (if decided), final score and per-player stats scored so far for {@code match}, from memory or
+     * the last snapshot; empty if the match was never scored live.
+     */
+    public Optional<LiveResult> result(MatchEntity match) {
+        Shard shard = shard(match.getId());
+        synchronized (shard) {
+            LiveMatch live = shard.matches.get(match.getId());
+            if (live != null) {
+                return Optional.of(result(live));
+            }
+        }
+        return stateRepository.findById(match.getId())
+                .map(snapshot -> result(new LiveMatch(match.getPlayer1().getId(), match.getPlayer2().getId(),
+                        LiveMatchState.fromBytes(snapshot.getState()))));
+    }
+
+    /**
+     * Deletes the match's snapshot and, once the surrounding transaction commits, its in-memory state. Until then
+     * the state is no longer snapshotted, so the deleted row is not written again.
+     * <p>
+     * The state is marked before the row is deleted: a snapshot writing concurrently either wrote before the
+     * delete, or sees the mark after its write and deletes the row itself.
+     */
+    public void discard(UUID matchId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(matchId);
+            stateRepository.deleteById(matchId);
+            return;
+        }
+        setDiscarded(matchId, true);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    evict(matchId);
+                } else {
+                    setDiscarded(matchId, false);
+                }
+            }
+        });
+        stateRepository.deleteById(matchId);
+    }
+
+    /** Writes every state changed since its last snapshot, and evicts idle states that are already written. */
+    void snapshot() {
+        Instant now = Instant.now();
+        Instant idleSince = now.minus(idleTimeout);
+        List<LiveMatchStateEntity> changed = new ArrayList<>();
+        Map<UUID, LiveMatch> written = new HashMap<>();
+
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                Iterator<Map.Entry<UUID, LiveMatch>> it = shard.matches.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<UUID, LiveMatch> entry = it.next();
+                    LiveMatch match = entry.getValue();
+                    if (match.discarded) {
+                        continue;
+                    }
+                    if (match.state.seq() != match.snapshotSeq) {
+                        changed.add(LiveMatchStateEntity.builder()
+                                .matchId(entry.getKey())
+                                .lastSeq(match.state.seq())
+                                .state(match.state.toBytes())
+                                .updatedAt(now)
+                                .build());
+                        written.put(entry.getKey(), match);
+                    } else if (match.touchedAt.isBefore(idleSince)) {
+                        it.remove();
+                    }
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        stateRepository.saveAll(changed);
+        List<UUID> discarded = new ArrayList<>();
+        for (LiveMatchStateEntity entity : changed) {
+            Shard shard = shard(entity.getMatchId());
+            synchronized (shard) {
+                LiveMatch match = written.get(entity.getMatchId());
+                if (match.discarded || shard.matches.get(entity.getMatchId()) != match) {
+                    // discarded while being written: the row may have been re-created after its delete
+                    discarded.add(entity.getMatchId());
+                    continue;
+                }
+                match.snapshotSeq = Math.max(match.snapshotSeq, entity.getLastSeq());
+            }
+        }
+        if (!discarded.isEmpty()) {
+            // snapshotSeq stays behind, so a discard that rolls back gets its state written again
+            stateRepository.deleteAllById(discarded);
+        }
+        log.debug("Snapshotted {} live match state(s)", changed.size() - discarded.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        snapshotter.shutdownNow();
+        snapshotQuietly();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            // the states stay dirty and are written by the next run
+            log.warn("Failed to snapshot live match states: {}", e.toString());
+        }
+    }
+
+    private void evict(UUID matchId) {
+        Shard shard = shard(matchId);
+        synchronized (shard) {
+            shard.matches.remove(matchId);
+        }
+    }
+
+    private void setDiscarded(UUID matchId, boolean discarded) {
+        Shard shard = shard(matchId);
+        synchronized (shard) {
+            LiveMatch match = shard.matches.get(matchId);
+            if (match != null) {
+                match.discarded = discarded;
+            }
+        }
+    }
+
+    private LiveMatch load(UUID matchId, Shard shard) {
+        synchronized (shard) {
+            LiveMatch match = shard.matches.get(matchId);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        MatchEntity entity = matchRepository.findById(matchId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Match not found: " + matchId));
+        if (entity.getStatus() != MatchStatus.IN_PROGRESS) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Match " + matchId + " is not in progress");
+        }
+        LiveMatchState state = stateRepository.findById(matchId)
+                .map(snapshot -> LiveMatchState.fromBytes(snapshot.getState()))
+                .orElseGet(() -> new LiveMatchState(bestOf));
+        LiveMatch loaded = new LiveMatch(entity.getPlayer1().getId(), entity.getPlayer2().getId(), state);
+
+        synchronized (shard) {
+            LiveMatch existing = shard.matches.putIfAbsent(matchId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private void apply(LiveMatch match, PointRequest point) {
+        int server = match.index(point.getServerId(), "serverId");
+        int winner = match.index(point.getWinnerId(), "winnerId");
+        int netPlayer = point.getNetPlayerId() != null ? match.index(point.getNetPlayerId(), "netPlayerId") : -1;
+        if (point.getServe() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "serve is required");
+        }
+        try {
+            match.state.apply(point.getSeq(), server, winner, point.getServe(), point.getEnding(), point.getStroke(),
+                    netPlayer, point.getRallyLength() != null ? point.getRallyLength() : 0);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Point " + point.getSeq() + ": " + e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Point " + point.getSeq() + ": " + e.getMessage());
+        }
+    }
+
+    private LiveScoreResponse response(UUID matchId, LiveMatch match) {
+        LiveMatchState state = match.state;
+        LiveResult result = result(match);
+        return new LiveScoreResponse(
+                matchId,
+                state.seq(),
+                match.player1Id,
+                match.player2Id,
+                state.sets(),
+                state.pointScore(0),
+                state.pointScore(1),
+                state.inTiebreak(),
+                state.lastServer() >= 0 ? match.playerId(state.lastServer()) : null,
+                state.finished(),
+                result.winnerId(),
+                result.finalScore(),
+                result.playerStats()
+        );
+    }
+
+    private static LiveResult result(LiveMatch match) {
+        LiveMatchState state = match.state;
+        return new LiveResult(
+                state.finished() ? match.playerId(state.winner()) : null,
+                state.finalScore(),
+                List.of(state.stats(0, match.player1Id), state.stats(1, match.player2Id)));
+    }
+
+    private Shard shard(UUID matchId) {
+        return shards[Math.floorMod(matchId.hashCode(), shards.length)];
+    }
+
+    /**
+     * @param winnerId    {@code null} while the match is undecided
+     * @param finalScore  {@code null} while the match is undecided
+     * @param playerStats stats of player 1 and player 2
+     */
+    public record LiveResult(UUID winnerId, String finalScore, List<MatchController.PlayerStatsRequest> playerStats) {}
+
+    private static final class Shard {
+        private final Map<UUID, LiveMatch> matches = new HashMap<>();
+    }
+
+    private static final class LiveMatch {
+
+        private final UUID player1Id;
+        private final UUID player2Id;
+        private final LiveMatchState state;
+        private long snapshotSeq;
+        private Instant touchedAt = Instant.now();
+        private boolean discarded;
+
+        LiveMatch(UUID player1Id, UUID player2Id, LiveMatchState state) {
+            this.player1Id = player1Id;
+            this.player2Id = player2Id;
+            this.state = state;
+            this.snapshotSeq = state.seq();
+        }
+
+        int index(UUID playerId, String field) {
+            if (player1Id.equals(playerId)) {
+                return 0;
+            }
+            if (player2Id.equals(playerId)) {
+                return 1;
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " must be one of the match's players");
+        }
+
+        UUID playerId(int index) {
+            return index == 0 ? player1Id : player2Id;
+        }
+    }
+}
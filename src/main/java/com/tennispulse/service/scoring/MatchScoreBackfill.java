@@ -0,0 +1,78 @@
+package com.tennispulse.service.scoring;
+
+import com.tennispulse.domain.MatchEntity;
+import com.tennispulse.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Parses the {@code finalScore} of matches written before the structured score columns existed (or inserted
+ * through JDBC, like the synthetic data) into those columns and {@code match_set} rows. Each batch runs in its own
+ * transaction, so a run can be stopped and resumed; scores that cannot be parsed are marked
+ * {@code score_parsed = false} and not retried. Triggered through {@code POST /actuator/matchscorebackfill}.
+ */
+@Slf4j
+@Component
+public class MatchScoreBackfill {
+
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public MatchScoreBackfill(MatchRepository matchRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${tennispulse.matches.score-backfill.batch-size:500}") int batchSize) {
+        this.matchRepository = matchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public long remaining() {
+        return matchRepository.countByFinalScoreIsNotNullAndScoreParsedIsNull();
+    }
+
+    /**
+     * @param maxMatches upper bound of matches to parse in this run
+     */
+    public Result run(int maxMatches) {
+        int parsed = 0;
+        int unparseable = 0;
+        while (parsed + unparseable < maxMatches) {
+            int size = Math.min(batchSize, maxMatches - parsed - unparseable);
+            int[] batch = transactionTemplate.execute(status -> parseBatch(size));
+            if (batch == null || batch[0] + batch[1] == 0) {
+                break;
+            }
+            parsed += batch[0];
+            unparseable += batch[1];
+        }
+        log.info("Match score backfill: parsed={}, unparseable={}", parsed, unparseable);
+        return new Result(parsed, unparseable, remaining());
+    }
+
+    /** @return {@code [parsed, unparseable]} */
+    private int[] parseBatch(int size) {
+        List<UUID> ids = matchRepository.findIdsWithUnparsedScore(PageRequest.of(0, size));
+        int parsed = 0;
+        int unparseable = 0;
+        for (MatchEntity match : matchRepository.findAllWithSetsByIdIn(ids)) {
+            match.setFinalScore(match.getFinalScore());
+            if (Boolean.TRUE.equals(match.getScoreParsed())) {
+                parsed++;
+            } else {
+                unparseable++;
+                log.warn("Unparseable final score: matchId={}, finalScore={}", match.getId(), match.getFinalScore());
+            }
+        }
+        return new int[]{parsed, unparseable};
+    }
+
+    public record Result(int parsed, int unparseable, long remaining) {}
+}
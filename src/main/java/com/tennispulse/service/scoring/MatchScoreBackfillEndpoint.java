@@ -0,0 +1,34 @@
+package com.tennispulse.service.scoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/matchscorebackfill}: GET shows how many match scores are still unparsed, POST (optional
+ * {@code {"maxMatches": n}}) parses up to {@code n} of them (default {@value #DEFAULT_MAX_MATCHES}).
+ */
+@Component
+@Endpoint(id = "matchscorebackfill")
+@RequiredArgsConstructor
+public class MatchScoreBackfillEndpoint {
+
+    static final int DEFAULT_MAX_MATCHES = 100_000;
+
+    private final MatchScoreBackfill backfill;
+
+    @ReadOperation
+    public Map<String, Object> unparsed() {
+        return Map.of("remaining", backfill.remaining());
+    }
+
+    @WriteOperation
+    public MatchScoreBackfill.Result backfill(@Nullable Integer maxMatches) {
+        return backfill.run(maxMatches != null && maxMatches > 0 ? maxMatches : DEFAULT_MAX_MATCHES);
+    }
+}
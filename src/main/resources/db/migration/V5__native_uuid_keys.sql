@@ -0,0 +1,32 @@
+-- Store primary and foreign keys as native uuid (16 bytes) instead of VARCHAR(255) text (37 bytes)
+
+-- Foreign keys have to be dropped while the referenced columns change type
+ALTER TABLE match
+    DROP CONSTRAINT fk_match_club,
+    DROP CONSTRAINT fk_match_player1,
+    DROP CONSTRAINT fk_match_player2,
+    DROP CONSTRAINT fk_match_winner;
+
+-- Indexes on the converted columns (including primary keys) are rebuilt by ALTER COLUMN TYPE
+ALTER TABLE player
+    ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE club
+    ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE match
+    ALTER COLUMN id         TYPE uuid USING id::uuid,
+    ALTER COLUMN club_id    TYPE uuid USING club_id::uuid,
+    ALTER COLUMN player1_id TYPE uuid USING player1_id::uuid,
+    ALTER COLUMN player2_id TYPE uuid USING player2_id::uuid,
+    ALTER COLUMN winner_id  TYPE uuid USING winner_id::uuid;
+
+ALTER TABLE match
+    ADD CONSTRAINT fk_match_club
+        FOREIGN KEY (club_id) REFERENCES club (id),
+    ADD CONSTRAINT fk_match_player1
+        FOREIGN KEY (player1_id) REFERENCES player (id),
+    ADD CONSTRAINT fk_match_player2
+        FOREIGN KEY (player2_id) REFERENCES player (id),
+    ADD CONSTRAINT fk_match_winner
+        FOREIGN KEY (winner_id) REFERENCES player (id);
@@ -0,0 +1,8 @@
+-- Listing queries only ever read active rows (deleted = false), ordered by name or creation time.
+-- Partial indexes keep soft-deleted rows out of the index entirely; id is the pagination tie-breaker.
+
+CREATE INDEX IF NOT EXISTS idx_player_active_name ON player (name, id) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_player_active_created_at ON player (created_at, id) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_club_active_name ON club (name, id) WHERE deleted = FALSE;
+CREATE INDEX IF NOT EXISTS idx_club_active_created_at ON club (created_at, id) WHERE deleted = FALSE;
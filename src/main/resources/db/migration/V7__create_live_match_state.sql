@@ -0,0 +1,12 @@
+-- Periodic snapshots of the in-memory live scoring state of IN_PROGRESS matches (see LiveScoringService).
+-- state is the compact binary encoding of LiveMatchState; the row is removed when the match is completed.
+
+CREATE TABLE live_match_state (
+    match_id    uuid PRIMARY KEY,
+    last_seq    BIGINT      NOT NULL,
+    state       BYTEA       NOT NULL,
+    updated_at  TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT fk_live_match_state_match
+        FOREIGN KEY (match_id) REFERENCES match (id) ON DELETE CASCADE
+);
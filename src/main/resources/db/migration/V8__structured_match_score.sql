@@ -0,0 +1,40 @@
+-- final_score parsed into structured columns (see MatchScore) so set, game and tiebreak analytics run in SQL.
+-- score_parsed is NULL until the score has been parsed (existing rows are filled in by the score backfill
+-- actuator endpoint) and FALSE when it could not be parsed; the derived columns are NULL unless it is TRUE.
+
+ALTER TABLE match
+    ADD COLUMN score_parsed      BOOLEAN,
+    ADD COLUMN sets_played       INTEGER,
+    ADD COLUMN winner_games      INTEGER,
+    ADD COLUMN loser_games       INTEGER,
+    ADD COLUMN tiebreaks_played  INTEGER,
+    ADD COLUMN retired           BOOLEAN;
+
+-- One row per set, from the match winner's side; a match tiebreak ([10-8]) is stored as a 1-0 set.
+CREATE TABLE match_set (
+    match_id               uuid    NOT NULL,
+    set_index              INTEGER NOT NULL,
+    winner_games           INTEGER NOT NULL,
+    loser_games            INTEGER NOT NULL,
+    tiebreak               BOOLEAN NOT NULL,
+    tiebreak_loser_points  INTEGER,
+
+    CONSTRAINT pk_match_set PRIMARY KEY (match_id, set_index),
+
+    CONSTRAINT fk_match_set_match
+        FOREIGN KEY (match_id) REFERENCES match (id) ON DELETE CASCADE
+);
+
+-- Games-won rankings and "won in N sets" queries read completed, parsed matches by end time.
+CREATE INDEX IF NOT EXISTS idx_match_completed_scored_end_time
+    ON match (end_time)
+    INCLUDE (winner_id, player1_id, player2_id, winner_games, loser_games, sets_played)
+    WHERE status = 'COMPLETED' AND score_parsed = TRUE;
+
+-- Tiebreak records only ever touch the (few) sets that went to a tiebreak.
+CREATE INDEX IF NOT EXISTS idx_match_set_tiebreak ON match_set (match_id) WHERE tiebreak = TRUE;
+
+-- Rows still waiting for the backfill, walked in id order.
+CREATE INDEX IF NOT EXISTS idx_match_score_unparsed
+    ON match (id)
+    WHERE final_score IS NOT NULL AND score_parsed IS NULL;
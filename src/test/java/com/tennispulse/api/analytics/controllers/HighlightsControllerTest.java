@@ -37,8 +37,8 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldReturnHighlights_forLastMonth() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.BEST_SERVE.name(),
@@ -57,10 +57,10 @@ class HighlightsControllerTest {
         mockMvc.perform(get("/api/analytics/highlights/{range}", "LAST_MONTH"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.range", is("LAST_MONTH")))
-                .andExpect(jsonPath("$.highlights.BEST_SERVE.playerId", is(player1Id)))
+                .andExpect(jsonPath("$.highlights.BEST_SERVE.playerId", is(player1Id.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_SERVE.playerName", is("Rafael Nadal")))
                 .andExpect(jsonPath("$.highlights.BEST_SERVE.score", is(85.5)))
-                .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.playerId", is(player2Id)))
+                .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.playerId", is(player2Id.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.playerName", is("Roger Federer")))
                 .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.score", is(88.0)));
 
@@ -70,7 +70,7 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldReturnHighlights_forLast6Months() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.BEST_SERVE.name(),
@@ -87,7 +87,7 @@ class HighlightsControllerTest {
         mockMvc.perform(get("/api/analytics/highlights/{range}", "LAST_6_MONTHS"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.range", is("LAST_6_MONTHS")))
-                .andExpect(jsonPath("$.highlights.BEST_SERVE.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.BEST_SERVE.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_SERVE.playerName", is("Novak Djokovic")))
                 .andExpect(jsonPath("$.highlights.BEST_SERVE.score", is(90.0)));
 
@@ -97,7 +97,7 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldReturnHighlights_forLast12Months() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.BEST_PRESSURE_PLAYER.name(),
@@ -114,7 +114,7 @@ class HighlightsControllerTest {
         mockMvc.perform(get("/api/analytics/highlights/{range}", "LAST_12_MONTHS"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.range", is("LAST_12_MONTHS")))
-                .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.playerName", is("Andy Murray")))
                 .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.score", is(82.5)));
 
@@ -124,7 +124,7 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldReturnHighlights_forYearToDate() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.CLEANEST_BASELINE.name(),
@@ -142,7 +142,7 @@ class HighlightsControllerTest {
         mockMvc.perform(get("/api/analytics/highlights/{range}", "YEAR_TO_DATE"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.range", is("YEAR_TO_DATE")))
-                .andExpect(jsonPath("$.highlights.CLEANEST_BASELINE.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.CLEANEST_BASELINE.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.CLEANEST_BASELINE.playerName", is("Stan Wawrinka")))
                 .andExpect(jsonPath("$.highlights.CLEANEST_BASELINE.score", is(78.3)));
 
@@ -152,7 +152,7 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldReturnHighlights_forAllTime() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.BEST_RALLY_PLAYER.name(),
@@ -170,7 +170,7 @@ class HighlightsControllerTest {
         mockMvc.perform(get("/api/analytics/highlights/{range}", "ALL_TIME"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.range", is("ALL_TIME")))
-                .andExpect(jsonPath("$.highlights.BEST_RALLY_PLAYER.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.BEST_RALLY_PLAYER.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_RALLY_PLAYER.playerName", is("Rafael Nadal")))
                 .andExpect(jsonPath("$.highlights.BEST_RALLY_PLAYER.score", is(91.2)));
 
@@ -201,11 +201,11 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldReturnAllHighlightCategories_whenAllPresent() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
-        String player3Id = UUID.randomUUID().toString();
-        String player4Id = UUID.randomUUID().toString();
-        String player5Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
+        UUID player3Id = UUID.randomUUID();
+        UUID player4Id = UUID.randomUUID();
+        UUID player5Id = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.BEST_SERVE.name(),
@@ -242,7 +242,7 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldIncludeDetailsInResponse() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         Map<String, Double> details = Map.of(
                 "FIRST_SERVE_IN", 92.5,
@@ -285,7 +285,7 @@ class HighlightsControllerTest {
     @Test
     void getHighlights_shouldHandleSamePlayerInMultipleCategories() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         Map<String, PlayerHighlightDto> highlights = new HashMap<>();
         highlights.put(HighlightCategory.BEST_SERVE.name(),
@@ -305,11 +305,11 @@ class HighlightsControllerTest {
         // Act & Assert
         mockMvc.perform(get("/api/analytics/highlights/{range}", "LAST_MONTH"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.highlights.BEST_SERVE.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.BEST_SERVE.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_SERVE.playerName", is("Dominant Player")))
-                .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_NET_PLAYER.playerName", is("Dominant Player")))
-                .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.playerId", is(playerId)))
+                .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$.highlights.BEST_PRESSURE_PLAYER.playerName", is("Dominant Player")));
 
         verify(playerHighlightsService).getHighlights(TimelineRange.LAST_MONTH);
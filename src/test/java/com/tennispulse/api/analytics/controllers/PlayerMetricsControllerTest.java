@@ -1,5 +1,6 @@
 package com.tennispulse.api.analytics.controllers;
 
+import com.tennispulse.api.analytics.dto.MetricDistributionDto;
 import com.tennispulse.api.analytics.dto.PlayerMetricsTimelineResponseDto;
 import com.tennispulse.api.analytics.dto.PlayerMonthlyMetricsDto;
 import com.tennispulse.api.analytics.dto.TimelineRange;
@@ -59,7 +60,10 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.ALL_TIME,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(AnalyticsMetric.FIRST_SERVE_IN.name(),
+                        new MetricDistributionDto(2, 82.0, 82.0, 83.5, 85.0, 85.0, 3.0)),
+                Map.of(AnalyticsMetric.FIRST_SERVE_IN.name(), 88.0)
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.ALL_TIME)).thenReturn(response);
@@ -75,7 +79,10 @@ class PlayerMetricsControllerTest {
                 .andExpect(jsonPath("$.timeline[0].averages.NET_POINTS_WON", is(78.0)))
                 .andExpect(jsonPath("$.timeline[1].month", is("2024-11")))
                 .andExpect(jsonPath("$.overallAverages.FIRST_SERVE_IN", is(83.5)))
-                .andExpect(jsonPath("$.overallAverages.NET_POINTS_WON", is(76.5)));
+                .andExpect(jsonPath("$.overallAverages.NET_POINTS_WON", is(76.5)))
+                .andExpect(jsonPath("$.overallDistributions.FIRST_SERVE_IN.median", is(83.5)))
+                .andExpect(jsonPath("$.overallDistributions.FIRST_SERVE_IN.spread", is(3.0)))
+                .andExpect(jsonPath("$.percentileRanks.FIRST_SERVE_IN", is(88.0)));
 
         verify(timelineService).getPlayerTimeline(playerId, TimelineRange.ALL_TIME);
     }
@@ -99,7 +106,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.LAST_MONTH,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.LAST_MONTH)).thenReturn(response);
@@ -128,7 +137,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.LAST_6_MONTHS,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.LAST_6_MONTHS)).thenReturn(response);
@@ -163,7 +174,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.LAST_12_MONTHS,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.LAST_12_MONTHS)).thenReturn(response);
@@ -198,7 +211,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.YEAR_TO_DATE,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.YEAR_TO_DATE)).thenReturn(response);
@@ -226,7 +241,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.ALL_TIME,
                 emptyTimeline,
-                emptyAverages
+                emptyAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.ALL_TIME)).thenReturn(response);
@@ -273,7 +290,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.ALL_TIME,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.ALL_TIME)).thenReturn(response);
@@ -332,7 +351,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.ALL_TIME,
                 timeline,
-                metrics
+                metrics,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.ALL_TIME)).thenReturn(response);
@@ -373,7 +394,9 @@ class PlayerMetricsControllerTest {
                 playerId.toString(),
                 TimelineRange.LAST_6_MONTHS,
                 timeline,
-                overallAverages
+                overallAverages,
+                Map.of(),
+                Map.of()
         );
 
         when(timelineService.getPlayerTimeline(playerId, TimelineRange.LAST_6_MONTHS)).thenReturn(response);
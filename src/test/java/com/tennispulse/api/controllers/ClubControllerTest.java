@@ -8,6 +8,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,7 +48,7 @@ class ClubControllerTest {
     @Test
     void create_shouldReturnCreatedClub_withCreatedStatus() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
         ClubEntity inputClub = ClubEntity.builder()
                 .name("Green Valley Tennis Club")
                 .city("Austin")
@@ -68,7 +72,7 @@ class ClubControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inputClub)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id", is(clubId)))
+                .andExpect(jsonPath("$.id", is(clubId.toString())))
                 .andExpect(jsonPath("$.name", is("Green Valley Tennis Club")))
                 .andExpect(jsonPath("$.city", is("Austin")))
                 .andExpect(jsonPath("$.country", is("USA")))
@@ -80,8 +84,8 @@ class ClubControllerTest {
     @Test
     void list_shouldReturnListOfClubs() throws Exception {
         // Arrange
-        String club1Id = UUID.randomUUID().toString();
-        String club2Id = UUID.randomUUID().toString();
+        UUID club1Id = UUID.randomUUID();
+        UUID club2Id = UUID.randomUUID();
 
         ClubEntity club1 = ClubEntity.builder()
                 .id(club1Id)
@@ -101,39 +105,83 @@ class ClubControllerTest {
 
         List<ClubEntity> clubs = Arrays.asList(club1, club2);
 
-        when(clubService.findAll()).thenReturn(clubs);
+        when(clubService.findActive(any(Pageable.class))).thenReturn(new SliceImpl<>(clubs, PageRequest.of(0, 50), false));
 
         // Act & Assert
         mockMvc.perform(get("/api/clubs"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id", is(club1Id)))
-                .andExpect(jsonPath("$[0].name", is("Green Valley Tennis Club")))
-                .andExpect(jsonPath("$[0].city", is("Austin")))
-                .andExpect(jsonPath("$[1].id", is(club2Id)))
-                .andExpect(jsonPath("$[1].name", is("River Oaks Country Club")))
-                .andExpect(jsonPath("$[1].city", is("Houston")));
-
-        verify(clubService).findAll();
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id", is(club1Id.toString())))
+                .andExpect(jsonPath("$.content[0].name", is("Green Valley Tennis Club")))
+                .andExpect(jsonPath("$.content[0].city", is("Austin")))
+                .andExpect(jsonPath("$.content[1].id", is(club2Id.toString())))
+                .andExpect(jsonPath("$.content[1].name", is("River Oaks Country Club")))
+                .andExpect(jsonPath("$.content[1].city", is("Houston")));
+
+        verify(clubService).findActive(any(Pageable.class));
     }
 
     @Test
     void list_shouldReturnEmptyList_whenNoClubsExist() throws Exception {
         // Arrange
-        when(clubService.findAll()).thenReturn(Collections.emptyList());
+        when(clubService.findActive(any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 50), false));
 
         // Act & Assert
         mockMvc.perform(get("/api/clubs"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(jsonPath("$.content", hasSize(0)));
 
-        verify(clubService).findAll();
+        verify(clubService).findActive(any(Pageable.class));
+    }
+
+    @Test
+    void list_shouldPassPagingAndSortWithIdTieBreaker() throws Exception {
+        // Arrange
+        when(clubService.findActive(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(2, 20), true));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/clubs").param("page", "2").param("size", "20").param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page", is(2)))
+                .andExpect(jsonPath("$.size", is(20)))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+
+        verify(clubService).findActive(PageRequest.of(2, 20,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"))));
+    }
+
+    @Test
+    void list_shouldRejectUnsortableProperty() throws Exception {
+        mockMvc.perform(get("/api/clubs").param("sort", "deletedAt"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(clubService);
+    }
+
+    @Test
+    void list_shouldRejectOversizedPage() throws Exception {
+        mockMvc.perform(get("/api/clubs").param("size", "10000"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(clubService);
+    }
+
+    @Test
+    void count_shouldReturnActiveClubCount() throws Exception {
+        when(clubService.countActive()).thenReturn(12345L);
+
+        mockMvc.perform(get("/api/clubs/count"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("12345"));
+
+        verify(clubService).countActive();
     }
 
     @Test
     void get_shouldReturnSingleClub_whenClubExists() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
         ClubEntity club = ClubEntity.builder()
                 .id(clubId)
                 .name("Green Valley Tennis Club")
@@ -149,7 +197,7 @@ class ClubControllerTest {
         // Act & Assert
         mockMvc.perform(get("/api/clubs/{id}", clubId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(clubId)))
+                .andExpect(jsonPath("$.id", is(clubId.toString())))
                 .andExpect(jsonPath("$.name", is("Green Valley Tennis Club")))
                 .andExpect(jsonPath("$.city", is("Austin")))
                 .andExpect(jsonPath("$.country", is("USA")));
@@ -160,7 +208,7 @@ class ClubControllerTest {
     @Test
     void get_shouldThrowException_whenClubNotFound() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
 
         when(clubService.findById(clubId))
                 .thenThrow(new IllegalArgumentException("Club not found with id: " + clubId));
@@ -179,7 +227,7 @@ class ClubControllerTest {
     @Test
     void update_shouldReturnUpdatedClub() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
 
         ClubEntity updateRequest = ClubEntity.builder()
                 .name("Updated Club Name")
@@ -204,7 +252,7 @@ class ClubControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(clubId)))
+                .andExpect(jsonPath("$.id", is(clubId.toString())))
                 .andExpect(jsonPath("$.name", is("Updated Club Name")))
                 .andExpect(jsonPath("$.city", is("Updated City")))
                 .andExpect(jsonPath("$.country", is("Updated Country")));
@@ -215,7 +263,7 @@ class ClubControllerTest {
     @Test
     void update_shouldThrowException_whenClubNotFound() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
 
         ClubEntity updateRequest = ClubEntity.builder()
                 .name("Updated Club Name")
@@ -240,7 +288,7 @@ class ClubControllerTest {
     @Test
     void delete_shouldReturnNoContent_whenClubIsDeleted() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
 
         doNothing().when(clubService).delete(clubId);
 
@@ -254,7 +302,7 @@ class ClubControllerTest {
     @Test
     void delete_shouldThrowException_whenClubNotFound() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
 
         doThrow(new IllegalArgumentException("Club not found with id: " + clubId))
                 .when(clubService).delete(clubId);
@@ -291,7 +339,7 @@ class ClubControllerTest {
     @Test
     void update_shouldUpdateOnlyProvidedFields() throws Exception {
         // Arrange
-        String clubId = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
 
         ClubEntity partialUpdate = ClubEntity.builder()
                 .name("New Name Only")
@@ -312,7 +360,7 @@ class ClubControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(partialUpdate)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(clubId)))
+                .andExpect(jsonPath("$.id", is(clubId.toString())))
                 .andExpect(jsonPath("$.name", is("New Name Only")))
                 .andExpect(jsonPath("$.city", is("Original City")))
                 .andExpect(jsonPath("$.country", is("Original Country")));
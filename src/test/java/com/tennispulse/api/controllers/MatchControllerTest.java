@@ -49,10 +49,10 @@ class MatchControllerTest {
 
     @Test
     void list_shouldReturnListOfMatches() throws Exception {
-        String matchId = UUID.randomUUID().toString();
-        String clubId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID clubId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         MatchController.MatchResponse response = new MatchController.MatchResponse(
                 matchId,
@@ -99,9 +99,9 @@ class MatchControllerTest {
 
     @Test
     void get_shouldReturnSingleMatch() throws Exception {
-        String matchId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         MatchController.MatchResponse response = new MatchController.MatchResponse(
                 matchId,
@@ -134,7 +134,7 @@ class MatchControllerTest {
     @Test
     void get_shouldThrowException_whenMatchNotFound() throws Exception {
         // Arrange
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
 
         when(matchQueryService.getById(matchId))
                 .thenThrow(new IllegalArgumentException("Match not found with id: " + matchId));
@@ -149,28 +149,18 @@ class MatchControllerTest {
     }
 
     @Test
-    void get_shouldThrowException_forInvalidUUID() throws Exception {
-        // Arrange
-        String invalidUuid = "not-a-valid-uuid";
-
-        // Mock the service to throw exception for invalid UUID
-        when(matchQueryService.getById(invalidUuid))
-                .thenThrow(new IllegalArgumentException("Invalid UUID format: " + invalidUuid));
-
-        // Act & Assert
-        Exception exception = assertThrows(Exception.class, () -> {
-            mockMvc.perform(get("/api/matches/{id}", invalidUuid));
-        });
+    void get_shouldReturnBadRequest_forInvalidUUID() throws Exception {
+        // Act & Assert: malformed ids are rejected while binding the path variable
+        mockMvc.perform(get("/api/matches/{id}", "not-a-valid-uuid"))
+                .andExpect(status().isBadRequest());
 
-        assertTrue(exception.getMessage().contains("Invalid UUID format") ||
-                exception.getMessage().contains("not-a-valid-uuid"));
-        verify(matchQueryService).getById(invalidUuid);
+        verifyNoInteractions(matchQueryService);
     }
 
     @Test
     void updateStatus_shouldCallServiceAndReturnUpdatedMatch() throws Exception {
-        String matchId = UUID.randomUUID().toString();
-        String winnerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID winnerId = UUID.randomUUID();
 
         MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
         request.setStatus(MatchStatus.COMPLETED);
@@ -181,9 +171,9 @@ class MatchControllerTest {
                 matchId,
                 null,
                 null,
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 "Alice",
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 "Bruno",
                 winnerId,
                 "Alice",
@@ -199,7 +189,7 @@ class MatchControllerTest {
         updatedEntity.setId(matchId);
         updatedEntity.setStatus(MatchStatus.COMPLETED);
         PlayerEntity winner = PlayerEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .name("Alice")
                 .handedness(Handedness.RIGHT)
                 .build();
@@ -224,11 +214,11 @@ class MatchControllerTest {
     @Test
     void updateStatus_shouldThrowException_whenMatchNotFound() throws Exception {
         // Arrange
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
 
         MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
         request.setStatus(MatchStatus.COMPLETED);
-        request.setWinnerId(UUID.randomUUID().toString());
+        request.setWinnerId(UUID.randomUUID());
         request.setFinalScore("6-4 6-3");
 
         when(matchService.updateStatus(eq(matchId), any(MatchController.UpdateMatchStatusRequest.class)))
@@ -248,11 +238,11 @@ class MatchControllerTest {
     @Test
     void updateStatus_shouldThrowException_whenInvalidStatusTransition() throws Exception {
         // Arrange
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
 
         MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
         request.setStatus(MatchStatus.COMPLETED);
-        request.setWinnerId(UUID.randomUUID().toString());
+        request.setWinnerId(UUID.randomUUID());
         request.setFinalScore("6-4 6-3");
 
         when(matchService.updateStatus(eq(matchId), any(MatchController.UpdateMatchStatusRequest.class)))
@@ -270,35 +260,26 @@ class MatchControllerTest {
     }
 
     @Test
-    void updateStatus_shouldThrowException_forInvalidUUID() throws Exception {
+    void updateStatus_shouldReturnBadRequest_forInvalidUUID() throws Exception {
         // Arrange
-        String invalidUuid = "not-a-valid-uuid";
-
         MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
         request.setStatus(MatchStatus.COMPLETED);
-        request.setWinnerId(UUID.randomUUID().toString());
+        request.setWinnerId(UUID.randomUUID());
         request.setFinalScore("6-4 6-3");
 
-        // Mock the service to throw exception for invalid UUID
-        when(matchService.updateStatus(eq(invalidUuid), any(MatchController.UpdateMatchStatusRequest.class)))
-                .thenThrow(new IllegalArgumentException("Invalid UUID format: " + invalidUuid));
-
-        // Act & Assert
-        Exception exception = assertThrows(Exception.class, () -> {
-            mockMvc.perform(put("/api/matches/{id}/status", invalidUuid)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .content(objectMapper.writeValueAsString(request)));
-        });
+        // Act & Assert: malformed ids are rejected while binding the path variable
+        mockMvc.perform(put("/api/matches/{id}/status", "not-a-valid-uuid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
 
-        assertTrue(exception.getMessage().contains("Invalid UUID format") ||
-                exception.getMessage().contains("not-a-valid-uuid"));
-        verify(matchService).updateStatus(eq(invalidUuid), any(MatchController.UpdateMatchStatusRequest.class));
+        verifyNoInteractions(matchService);
     }
 
     @Test
     void updateStatus_shouldThrowException_whenMissingWinnerId() throws Exception {
         // Arrange
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
 
         MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
         request.setStatus(MatchStatus.COMPLETED);
@@ -321,7 +302,7 @@ class MatchControllerTest {
     @Test
     void updateStatus_shouldHandleInProgressStatus() throws Exception {
         // Arrange
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
 
         MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
         request.setStatus(MatchStatus.IN_PROGRESS);
@@ -330,9 +311,9 @@ class MatchControllerTest {
                 matchId,
                 null,
                 null,
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 "Alice",
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 "Bruno",
                 null,
                 null,
@@ -356,7 +337,7 @@ class MatchControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(matchId)))
+                .andExpect(jsonPath("$.id", is(matchId.toString())))
                 .andExpect(jsonPath("$.status", is("IN_PROGRESS")));
 
         verify(matchService).updateStatus(matchId, request);
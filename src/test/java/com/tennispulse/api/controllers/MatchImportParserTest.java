@@ -0,0 +1,141 @@
+package com.tennispulse.api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchImportParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final MatchImportParser parser = new MatchImportParser(objectMapper, 3);
+
+    private final UUID clubId = UUID.randomUUID();
+    private final UUID p1 = UUID.randomUUID();
+    private final UUID p2 = UUID.randomUUID();
+
+    @Test
+    void parseNdjson_shouldReadOneRowPerLineAndReportMalformedLines() throws Exception {
+        String body = """
+                {"clubId":"%s","player1Id":"%s","player2Id":"%s","winnerId":"%s","finalScore":"6-4 6-3","playerStats":[{"playerId":"%s","winners":12}]}
+
+                {not json
+                """.formatted(clubId, p1, p2, p1, p1);
+
+        MatchImportParser.ParsedRows parsed = parser.parseNdjson(stream(body));
+
+        assertThat(parsed.rows()).hasSize(1);
+        MatchImportController.MatchImportRow row = parsed.rows().get(0);
+        assertThat(row.getLine()).isEqualTo(1);
+        assertThat(row.getClubId()).isEqualTo(clubId);
+        assertThat(row.getWinnerId()).isEqualTo(p1);
+        assertThat(row.getPlayerStats()).singleElement()
+                .satisfies(s -> assertThat(s.getWinners()).isEqualTo(12));
+
+        assertThat(parsed.errors()).singleElement()
+                .satisfies(e -> assertThat(e.line()).isEqualTo(3));
+    }
+
+    @Test
+    void parseCsv_shouldMapColumnsAndPrefixedStatsToPlayers() throws Exception {
+        String body = """
+                clubId,player1Id,player2Id,winnerId,finalScore,endTime,p1.firstServeIn,p2.firstServeIn,p2.winners
+                %s,%s,%s,%s,6-4 6-3,2025-05-01T12:00:00Z,65.5,,
+                %s,%s,%s,%s,7-5 6-2,,61.0,58.0,20
+                """.formatted(clubId, p1, p2, p1, clubId, p1, p2, p2);
+
+        MatchImportParser.ParsedRows parsed = parser.parseCsv(stream(body));
+
+        assertThat(parsed.errors()).isEmpty();
+        assertThat(parsed.rows()).hasSize(2);
+
+        MatchImportController.MatchImportRow first = parsed.rows().get(0);
+        assertThat(first.getLine()).isEqualTo(2);
+        assertThat(first.getFinalScore()).isEqualTo("6-4 6-3");
+        assertThat(first.getEndTime()).isEqualTo(Instant.parse("2025-05-01T12:00:00Z"));
+        assertThat(first.getPlayerStats()).singleElement().satisfies(s -> {
+            assertThat(s.getPlayerId()).isEqualTo(p1);
+            assertThat(s.getFirstServeIn()).isEqualTo(65.5);
+        });
+
+        MatchImportController.MatchImportRow second = parsed.rows().get(1);
+        assertThat(second.getWinnerId()).isEqualTo(p2);
+        assertThat(second.getEndTime()).isNull();
+        assertThat(second.getPlayerStats()).hasSize(2);
+        assertThat(second.getPlayerStats().get(1).getPlayerId()).isEqualTo(p2);
+        assertThat(second.getPlayerStats().get(1).getWinners()).isEqualTo(20);
+    }
+
+    @Test
+    void parseCsv_shouldReadQuotedValuesContainingCommasAndQuotes() throws Exception {
+        String body = """
+                clubId,player1Id,player2Id,winnerId,finalScore
+                %s,%s,%s,%s,"6-4, 6-3"
+                "%s" , %s,%s,%s,"7-6(5) ""ret.\"""
+                """.formatted(clubId, p1, p2, p1, clubId, p1, p2, p2);
+
+        MatchImportParser.ParsedRows parsed = parser.parseCsv(stream(body));
+
+        assertThat(parsed.errors()).isEmpty();
+        assertThat(parsed.rows()).extracting(MatchImportController.MatchImportRow::getFinalScore)
+                .containsExactly("6-4, 6-3", "7-6(5) \"ret.\"");
+        assertThat(parsed.rows().get(1).getClubId()).isEqualTo(clubId);
+    }
+
+    @Test
+    void parseCsv_shouldReportMalformedQuotingPerLine() throws Exception {
+        String body = """
+                clubId,player1Id,player2Id,winnerId,finalScore
+                %s,%s,%s,%s,"6-4 6-3
+                %s,%s,%s,%s,6-4 "6-3"
+                %s,%s,%s,%s,6-4 6-3
+                """.formatted(clubId, p1, p2, p1, clubId, p1, p2, p1, clubId, p1, p2, p1);
+
+        MatchImportParser.ParsedRows parsed = parser.parseCsv(stream(body));
+
+        assertThat(parsed.rows()).singleElement().satisfies(r -> assertThat(r.getLine()).isEqualTo(4));
+        assertThat(parsed.errors()).extracting(MatchImportController.RowError::line).containsExactly(2, 3);
+        assertThat(parsed.errors()).allSatisfy(e -> assertThat(e.message()).startsWith("Malformed CSV"));
+    }
+
+    @Test
+    void parseCsv_shouldReportInvalidValuesAndExtraColumns() throws Exception {
+        String body = """
+                clubId,player1Id,player2Id,winnerId,finalScore
+                not-a-uuid,%s,%s,%s,6-4 6-3
+                %s,%s,%s,%s,6-4 6-3,extra
+                """.formatted(p1, p2, p1, clubId, p1, p2, p1);
+
+        MatchImportParser.ParsedRows parsed = parser.parseCsv(stream(body));
+
+        assertThat(parsed.rows()).isEmpty();
+        assertThat(parsed.errors()).extracting(MatchImportController.RowError::line).containsExactly(2, 3);
+    }
+
+    @Test
+    void parse_shouldStopAtMaxRows() throws Exception {
+        String line = "{\"finalScore\":\"6-0 6-0\"}\n";
+
+        MatchImportParser.ParsedRows parsed = parser.parseNdjson(stream(line.repeat(5)));
+
+        assertThat(parsed.rows()).hasSize(3);
+        assertThat(parsed.errors()).singleElement()
+                .satisfies(e -> assertThat(e.message()).contains("at most 3"));
+    }
+
+    @Test
+    void parseCsv_shouldRejectMissingHeader() throws Exception {
+        assertThat(parser.parseCsv(stream("")).errors()).hasSize(1);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
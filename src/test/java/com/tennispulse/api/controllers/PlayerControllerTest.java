@@ -9,6 +9,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,7 +48,7 @@ class PlayerControllerTest {
     @Test
     void create_shouldReturnCreatedPlayer_withCreatedStatus() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
         PlayerEntity inputPlayer = PlayerEntity.builder()
                 .name("Rafael Nadal")
                 .handedness(Handedness.LEFT)
@@ -66,7 +70,7 @@ class PlayerControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inputPlayer)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id", is(playerId)))
+                .andExpect(jsonPath("$.id", is(playerId.toString())))
                 .andExpect(jsonPath("$.name", is("Rafael Nadal")))
                 .andExpect(jsonPath("$.handedness", is("LEFT")))
                 .andExpect(jsonPath("$.deleted", is(false)));
@@ -77,8 +81,8 @@ class PlayerControllerTest {
     @Test
     void list_shouldReturnListOfPlayers() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         PlayerEntity player1 = PlayerEntity.builder()
                 .id(player1Id)
@@ -96,39 +100,83 @@ class PlayerControllerTest {
 
         List<PlayerEntity> players = Arrays.asList(player1, player2);
 
-        when(playerService.findAll()).thenReturn(players);
+        when(playerService.findActive(any(Pageable.class))).thenReturn(new SliceImpl<>(players, PageRequest.of(0, 50), false));
 
         // Act & Assert
         mockMvc.perform(get("/api/players"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id", is(player1Id)))
-                .andExpect(jsonPath("$[0].name", is("Rafael Nadal")))
-                .andExpect(jsonPath("$[0].handedness", is("LEFT")))
-                .andExpect(jsonPath("$[1].id", is(player2Id)))
-                .andExpect(jsonPath("$[1].name", is("Roger Federer")))
-                .andExpect(jsonPath("$[1].handedness", is("RIGHT")));
-
-        verify(playerService).findAll();
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id", is(player1Id.toString())))
+                .andExpect(jsonPath("$.content[0].name", is("Rafael Nadal")))
+                .andExpect(jsonPath("$.content[0].handedness", is("LEFT")))
+                .andExpect(jsonPath("$.content[1].id", is(player2Id.toString())))
+                .andExpect(jsonPath("$.content[1].name", is("Roger Federer")))
+                .andExpect(jsonPath("$.content[1].handedness", is("RIGHT")));
+
+        verify(playerService).findActive(any(Pageable.class));
     }
 
     @Test
     void list_shouldReturnEmptyList_whenNoPlayersExist() throws Exception {
         // Arrange
-        when(playerService.findAll()).thenReturn(Collections.emptyList());
+        when(playerService.findActive(any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 50), false));
 
         // Act & Assert
         mockMvc.perform(get("/api/players"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(jsonPath("$.content", hasSize(0)));
 
-        verify(playerService).findAll();
+        verify(playerService).findActive(any(Pageable.class));
+    }
+
+    @Test
+    void list_shouldPassPagingAndSortWithIdTieBreaker() throws Exception {
+        // Arrange
+        when(playerService.findActive(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(2, 20), true));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/players").param("page", "2").param("size", "20").param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page", is(2)))
+                .andExpect(jsonPath("$.size", is(20)))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+
+        verify(playerService).findActive(PageRequest.of(2, 20,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"))));
+    }
+
+    @Test
+    void list_shouldRejectUnsortableProperty() throws Exception {
+        mockMvc.perform(get("/api/players").param("sort", "deletedAt"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(playerService);
+    }
+
+    @Test
+    void list_shouldRejectOversizedPage() throws Exception {
+        mockMvc.perform(get("/api/players").param("size", "10000"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(playerService);
+    }
+
+    @Test
+    void count_shouldReturnActivePlayerCount() throws Exception {
+        when(playerService.countActive()).thenReturn(12345L);
+
+        mockMvc.perform(get("/api/players/count"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("12345"));
+
+        verify(playerService).countActive();
     }
 
     @Test
     void get_shouldReturnSinglePlayer_whenPlayerExists() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
         PlayerEntity player = PlayerEntity.builder()
                 .id(playerId)
                 .name("Rafael Nadal")
@@ -143,7 +191,7 @@ class PlayerControllerTest {
         // Act & Assert
         mockMvc.perform(get("/api/players/{id}", playerId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(playerId)))
+                .andExpect(jsonPath("$.id", is(playerId.toString())))
                 .andExpect(jsonPath("$.name", is("Rafael Nadal")))
                 .andExpect(jsonPath("$.handedness", is("LEFT")));
 
@@ -153,7 +201,7 @@ class PlayerControllerTest {
     @Test
     void get_shouldThrowException_whenPlayerNotFound() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         when(playerService.findById(playerId))
                 .thenThrow(new IllegalArgumentException("Player not found with id: " + playerId));
@@ -170,7 +218,7 @@ class PlayerControllerTest {
     @Test
     void update_shouldReturnUpdatedPlayer() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         PlayerEntity updateRequest = PlayerEntity.builder()
                 .name("Rafael Nadal Updated")
@@ -193,7 +241,7 @@ class PlayerControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(playerId)))
+                .andExpect(jsonPath("$.id", is(playerId.toString())))
                 .andExpect(jsonPath("$.name", is("Rafael Nadal Updated")))
                 .andExpect(jsonPath("$.handedness", is("LEFT")));
 
@@ -203,7 +251,7 @@ class PlayerControllerTest {
     @Test
     void update_shouldThrowException_whenPlayerNotFound() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         PlayerEntity updateRequest = PlayerEntity.builder()
                 .name("Updated Name")
@@ -227,7 +275,7 @@ class PlayerControllerTest {
     @Test
     void delete_shouldReturnNoContent_whenPlayerIsDeleted() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         doNothing().when(playerService).delete(playerId);
 
@@ -241,7 +289,7 @@ class PlayerControllerTest {
     @Test
     void delete_shouldThrowException_whenPlayerNotFound() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         doThrow(new IllegalArgumentException("Player not found with id: " + playerId))
                 .when(playerService).delete(playerId);
@@ -278,7 +326,7 @@ class PlayerControllerTest {
     @Test
     void update_shouldUpdateOnlyProvidedFields() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         PlayerEntity partialUpdate = PlayerEntity.builder()
                 .name("New Name Only")
@@ -298,7 +346,7 @@ class PlayerControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(partialUpdate)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(playerId)))
+                .andExpect(jsonPath("$.id", is(playerId.toString())))
                 .andExpect(jsonPath("$.name", is("New Name Only")))
                 .andExpect(jsonPath("$.handedness", is("RIGHT")));
 
@@ -308,7 +356,7 @@ class PlayerControllerTest {
     @Test
     void create_shouldHandleRightHandedPlayer() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
         PlayerEntity inputPlayer = PlayerEntity.builder()
                 .name("Roger Federer")
                 .handedness(Handedness.RIGHT)
@@ -330,7 +378,7 @@ class PlayerControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inputPlayer)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id", is(playerId)))
+                .andExpect(jsonPath("$.id", is(playerId.toString())))
                 .andExpect(jsonPath("$.name", is("Roger Federer")))
                 .andExpect(jsonPath("$.handedness", is("RIGHT")));
 
@@ -340,7 +388,7 @@ class PlayerControllerTest {
     @Test
     void update_shouldChangeHandedness() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
 
         PlayerEntity updateRequest = PlayerEntity.builder()
                 .name("Player Name")
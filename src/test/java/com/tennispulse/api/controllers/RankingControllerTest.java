@@ -36,9 +36,9 @@ class RankingControllerTest {
     @Test
     void winsCurrentYear_shouldReturnTopWinners_withDefaultLimit() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
-        String player3Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
+        UUID player3Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Rafael Nadal", 25L),
@@ -52,13 +52,13 @@ class RankingControllerTest {
         mockMvc.perform(get("/api/rankings/wins/current-year"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(3)))
-                .andExpect(jsonPath("$[0].playerId", is(player1Id)))
+                .andExpect(jsonPath("$[0].playerId", is(player1Id.toString())))
                 .andExpect(jsonPath("$[0].playerName", is("Rafael Nadal")))
                 .andExpect(jsonPath("$[0].wins", is(25)))
-                .andExpect(jsonPath("$[1].playerId", is(player2Id)))
+                .andExpect(jsonPath("$[1].playerId", is(player2Id.toString())))
                 .andExpect(jsonPath("$[1].playerName", is("Roger Federer")))
                 .andExpect(jsonPath("$[1].wins", is(22)))
-                .andExpect(jsonPath("$[2].playerId", is(player3Id)))
+                .andExpect(jsonPath("$[2].playerId", is(player3Id.toString())))
                 .andExpect(jsonPath("$[2].playerName", is("Novak Djokovic")))
                 .andExpect(jsonPath("$[2].wins", is(20)));
 
@@ -68,8 +68,8 @@ class RankingControllerTest {
     @Test
     void winsCurrentYear_shouldReturnTopWinners_withCustomLimit() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Rafael Nadal", 25L),
@@ -83,10 +83,10 @@ class RankingControllerTest {
                         .param("limit", "5"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].playerId", is(player1Id)))
+                .andExpect(jsonPath("$[0].playerId", is(player1Id.toString())))
                 .andExpect(jsonPath("$[0].playerName", is("Rafael Nadal")))
                 .andExpect(jsonPath("$[0].wins", is(25)))
-                .andExpect(jsonPath("$[1].playerId", is(player2Id)))
+                .andExpect(jsonPath("$[1].playerId", is(player2Id.toString())))
                 .andExpect(jsonPath("$[1].playerName", is("Roger Federer")))
                 .andExpect(jsonPath("$[1].wins", is(22)));
 
@@ -109,7 +109,7 @@ class RankingControllerTest {
     @Test
     void winsCurrentYear_shouldHandleLimitOfOne() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
         List<PlayerWinsRankingDto> rankings = Collections.singletonList(
                 new PlayerWinsRankingDto(playerId, "Rafael Nadal", 25L)
         );
@@ -121,7 +121,7 @@ class RankingControllerTest {
                         .param("limit", "1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].playerId", is(playerId)))
+                .andExpect(jsonPath("$[0].playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$[0].playerName", is("Rafael Nadal")))
                 .andExpect(jsonPath("$[0].wins", is(25)));
 
@@ -131,8 +131,8 @@ class RankingControllerTest {
     @Test
     void winsCurrentYear_shouldHandleLargeLimit() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Player 1", 30L),
@@ -153,9 +153,9 @@ class RankingControllerTest {
     @Test
     void winsLastMonth_shouldReturnTopWinners_withDefaultLimit() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
-        String player3Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
+        UUID player3Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Rafael Nadal", 8L),
@@ -169,13 +169,13 @@ class RankingControllerTest {
         mockMvc.perform(get("/api/rankings/wins/last-month"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(3)))
-                .andExpect(jsonPath("$[0].playerId", is(player1Id)))
+                .andExpect(jsonPath("$[0].playerId", is(player1Id.toString())))
                 .andExpect(jsonPath("$[0].playerName", is("Rafael Nadal")))
                 .andExpect(jsonPath("$[0].wins", is(8)))
-                .andExpect(jsonPath("$[1].playerId", is(player2Id)))
+                .andExpect(jsonPath("$[1].playerId", is(player2Id.toString())))
                 .andExpect(jsonPath("$[1].playerName", is("Roger Federer")))
                 .andExpect(jsonPath("$[1].wins", is(7)))
-                .andExpect(jsonPath("$[2].playerId", is(player3Id)))
+                .andExpect(jsonPath("$[2].playerId", is(player3Id.toString())))
                 .andExpect(jsonPath("$[2].playerName", is("Novak Djokovic")))
                 .andExpect(jsonPath("$[2].wins", is(6)));
 
@@ -185,9 +185,9 @@ class RankingControllerTest {
     @Test
     void winsLastMonth_shouldReturnTopWinners_withCustomLimit() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
-        String player3Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
+        UUID player3Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Player 1", 10L),
@@ -225,7 +225,7 @@ class RankingControllerTest {
     @Test
     void winsLastMonth_shouldHandleLimitOfOne() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
         List<PlayerWinsRankingDto> rankings = Collections.singletonList(
                 new PlayerWinsRankingDto(playerId, "Rafael Nadal", 8L)
         );
@@ -237,7 +237,7 @@ class RankingControllerTest {
                         .param("limit", "1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].playerId", is(playerId)))
+                .andExpect(jsonPath("$[0].playerId", is(playerId.toString())))
                 .andExpect(jsonPath("$[0].wins", is(8)));
 
         verify(rankingService).getTopWinnersLastMonth(1);
@@ -246,7 +246,7 @@ class RankingControllerTest {
     @Test
     void winsLastMonth_shouldHandleZeroWins() throws Exception {
         // Arrange
-        String playerId = UUID.randomUUID().toString();
+        UUID playerId = UUID.randomUUID();
         List<PlayerWinsRankingDto> rankings = Collections.singletonList(
                 new PlayerWinsRankingDto(playerId, "New Player", 0L)
         );
@@ -265,9 +265,9 @@ class RankingControllerTest {
     @Test
     void winsCurrentYear_shouldHandlePlayersWithSameWinCount() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
-        String player3Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
+        UUID player3Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Player 1", 20L),
@@ -291,8 +291,8 @@ class RankingControllerTest {
     @Test
     void winsLastMonth_shouldHandlePlayersWithSameWinCount() throws Exception {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         List<PlayerWinsRankingDto> rankings = Arrays.asList(
                 new PlayerWinsRankingDto(player1Id, "Player 1", 15L),
@@ -0,0 +1,104 @@
+package com.tennispulse.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tennispulse.api.analytics.dto.HighlightCategory;
+import com.tennispulse.api.analytics.dto.HighlightsDashboardResponse;
+import com.tennispulse.api.analytics.dto.PlayerHighlightDto;
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.cache.CacheValueFormat;
+import com.tennispulse.cache.VersionedCacheSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and ser/deser time of the highlights cache value: the previous
+ * {@link Jackson2JsonRedisSerializer} against {@link VersionedCacheSerializer} in each format.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tennispulse.benchmark.CacheSerializationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+    @Param({"LEGACY_JSON", "JSON", "SMILE", "CBOR", "SMILE_LZ4"})
+    public String serializer;
+
+    private RedisSerializer<HighlightsDashboardResponse> redisSerializer;
+    private HighlightsDashboardResponse value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        value = sampleHighlights();
+        redisSerializer = create(serializer);
+        bytes = redisSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public HighlightsDashboardResponse deserialize() {
+        return redisSerializer.deserialize(bytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        HighlightsDashboardResponse sample = sampleHighlights();
+        for (String name : new String[]{"LEGACY_JSON", "JSON", "SMILE", "CBOR", "SMILE_LZ4"}) {
+            System.out.printf("%-12s %6d bytes%n", name, create(name).serialize(sample).length);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static RedisSerializer<HighlightsDashboardResponse> create(String name) {
+        JavaType type = TypeFactory.defaultInstance().constructType(HighlightsDashboardResponse.class);
+        return switch (name) {
+            case "LEGACY_JSON" -> new Jackson2JsonRedisSerializer<>(new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+                    HighlightsDashboardResponse.class);
+            // threshold low enough that the sample payload is always compressed
+            case "SMILE_LZ4" -> new VersionedCacheSerializer<>(CacheValueFormat.SMILE, type, 1);
+            default -> new VersionedCacheSerializer<>(CacheValueFormat.valueOf(name), type, 0);
+        };
+    }
+
+    private static HighlightsDashboardResponse sampleHighlights() {
+        Map<String, PlayerHighlightDto> highlights = new HashMap<>();
+        for (HighlightCategory category : HighlightCategory.values()) {
+            highlights.put(category.name(), new PlayerHighlightDto(
+                    UUID.randomUUID(),
+                    "Player " + category.ordinal(),
+                    70.0 + category.ordinal(),
+                    Map.of(
+                            "FIRST_SERVE_IN", 64.2,
+                            "FIRST_SERVE_POINTS_WON", 71.9,
+                            "SECOND_SERVE_POINTS_WON", 52.3,
+                            "TOTAL_ERRORS", 13.75
+                    )));
+        }
+        return new HighlightsDashboardResponse(TimelineRange.ALL_TIME, highlights);
+    }
+}
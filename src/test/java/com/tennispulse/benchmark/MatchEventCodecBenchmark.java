@@ -0,0 +1,156 @@
+package com.tennispulse.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.domain.MatchCompletedEvent;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+import com.tennispulse.service.analytics.MatchCompletedEventCodec;
+import com.tennispulse.service.analytics.RawMetrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocations per MatchCompleted event on both ends of the queue: the previous Jackson path
+ * ({@code convertValue} per player, {@code writeValueAsString}, {@code readValue}, raw metrics copied into a
+ * {@code Map.of}) against {@link MatchCompletedEventCodec}. Runs with the GC profiler; compare
+ * {@code gc.alloc.rate.norm} (bytes per event).
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tennispulse.benchmark.MatchEventCodecBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchEventCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final MatchCompletedEventCodec codec = new MatchCompletedEventCodec();
+
+    private UUID matchId;
+    private UUID winnerId;
+    private List<MatchController.PlayerStatsRequest> requests;
+    private String body;
+
+    @Setup
+    public void setUp() throws Exception {
+        matchId = UUID.randomUUID();
+        requests = List.of(request(), request());
+        winnerId = requests.get(0).getPlayerId();
+        body = codec.encode(event(requests.stream().map(this::convertValue).toList()));
+    }
+
+    @Benchmark
+    public String publishJackson() throws Exception {
+        return objectMapper.writeValueAsString(event(requests.stream().map(this::convertValue).toList()));
+    }
+
+    @Benchmark
+    public String publishCodec() throws Exception {
+        return codec.encode(event(requests.stream().map(MatchEventCodecBenchmark::mapFields).toList()));
+    }
+
+    @Benchmark
+    public void consumeJackson(Blackhole bh) throws Exception {
+        MatchCompletedEvent event = objectMapper.readValue(body, MatchCompletedEvent.class);
+        for (PlayerStatsPayload s : event.getPlayerStats()) {
+            consumeMetrics(bh, Map.of(
+                    AnalyticsMetric.FIRST_SERVE_IN, s.getFirstServeIn(),
+                    AnalyticsMetric.FIRST_SERVE_POINTS_WON, s.getFirstServePointsWon(),
+                    AnalyticsMetric.SECOND_SERVE_POINTS_WON, s.getSecondServePointsWon(),
+                    AnalyticsMetric.UNFORCED_ERRORS_FOREHAND, s.getUnforcedErrorsForehand().doubleValue(),
+                    AnalyticsMetric.UNFORCED_ERRORS_BACKHAND, s.getUnforcedErrorsBackhand().doubleValue(),
+                    AnalyticsMetric.WINNERS, s.getWinners().doubleValue(),
+                    AnalyticsMetric.BREAK_POINT_CONVERSION, s.getBreakPointConversion(),
+                    AnalyticsMetric.BREAK_POINTS_SAVED, s.getBreakPointsSaved(),
+                    AnalyticsMetric.NET_POINTS_WON, s.getNetPointsWon(),
+                    AnalyticsMetric.LONG_RALLY_WIN_RATE, s.getLongRallyWinRate()));
+        }
+    }
+
+    @Benchmark
+    public void consumeCodec(Blackhole bh) throws Exception {
+        MatchCompletedEvent event = codec.decode(body);
+        for (PlayerStatsPayload s : event.getPlayerStats()) {
+            consumeMetrics(bh, RawMetrics.of(s));
+        }
+    }
+
+    /** Iterates the raw metrics like the rule engine does. */
+    private static void consumeMetrics(Blackhole bh, Map<AnalyticsMetric, Double> metrics) {
+        for (Map.Entry<AnalyticsMetric, Double> entry : metrics.entrySet()) {
+            bh.consume(entry.getValue());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(MatchEventCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private MatchCompletedEvent event(List<PlayerStatsPayload> stats) {
+        MatchCompletedEvent event = new MatchCompletedEvent();
+        event.setMatchId(matchId);
+        event.setWinnerId(winnerId);
+        event.setFinalScore("6-4 3-6 7-6(5)");
+        event.setCreatedAt(Instant.now());
+        event.setPlayerStats(stats);
+        return event;
+    }
+
+    private PlayerStatsPayload convertValue(MatchController.PlayerStatsRequest request) {
+        return objectMapper.convertValue(request, PlayerStatsPayload.class);
+    }
+
+    private static PlayerStatsPayload mapFields(MatchController.PlayerStatsRequest r) {
+        PlayerStatsPayload p = new PlayerStatsPayload();
+        p.setPlayerId(r.getPlayerId());
+        p.setFirstServeIn(r.getFirstServeIn());
+        p.setFirstServePointsWon(r.getFirstServePointsWon());
+        p.setSecondServePointsWon(r.getSecondServePointsWon());
+        p.setUnforcedErrorsForehand(r.getUnforcedErrorsForehand());
+        p.setUnforcedErrorsBackhand(r.getUnforcedErrorsBackhand());
+        p.setWinners(r.getWinners());
+        p.setBreakPointConversion(r.getBreakPointConversion());
+        p.setBreakPointsSaved(r.getBreakPointsSaved());
+        p.setNetPointsWon(r.getNetPointsWon());
+        p.setLongRallyWinRate(r.getLongRallyWinRate());
+        return p;
+    }
+
+    private static MatchController.PlayerStatsRequest request() {
+        MatchController.PlayerStatsRequest r = new MatchController.PlayerStatsRequest();
+        r.setPlayerId(UUID.randomUUID());
+        r.setFirstServeIn(64.5);
+        r.setFirstServePointsWon(71.0);
+        r.setSecondServePointsWon(52.3);
+        r.setUnforcedErrorsForehand(9);
+        r.setUnforcedErrorsBackhand(12);
+        r.setWinners(27);
+        r.setBreakPointConversion(42.9);
+        r.setBreakPointsSaved(60.0);
+        r.setNetPointsWon(68.2);
+        r.setLongRallyWinRate(47.1);
+        return r;
+    }
+}
@@ -0,0 +1,109 @@
+package com.tennispulse.benchmark;
+
+import com.tennispulse.logging.MethodAllowlistPointcut;
+import com.tennispulse.logging.MethodTimingInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of method instrumentation on a trivial service method:
+ * <ul>
+ *     <li>{@code NONE}: plain call;</li>
+ *     <li>{@code LEGACY_ASPECT}: the former {@code MethodLoggingAspect} around every api/service method, TRACE off;</li>
+ *     <li>{@code TIMER}: {@link MethodTimingInterceptor} on an allowlisted method (sampled logging off);</li>
+ *     <li>{@code NOT_ALLOWLISTED}: instrumentation enabled but the method is not listed, so no proxy is created.</li>
+ * </ul>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tennispulse.benchmark.MethodInstrumentationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInstrumentationBenchmark {
+
+    @Param({"NONE", "LEGACY_ASPECT", "TIMER", "NOT_ALLOWLISTED"})
+    public String mode;
+
+    private RankingLikeService service;
+    private int limit;
+
+    @Setup
+    public void setUp() {
+        RankingLikeService target = new RankingLikeService();
+        service = switch (mode) {
+            case "NONE", "NOT_ALLOWLISTED" -> target;
+            case "LEGACY_ASPECT" -> {
+                AspectJProxyFactory factory = new AspectJProxyFactory(target);
+                factory.setProxyTargetClass(true);
+                factory.addAspect(new LegacyLoggingAspect());
+                yield factory.getProxy();
+            }
+            case "TIMER" -> {
+                ProxyFactory factory = new ProxyFactory(target);
+                factory.setProxyTargetClass(true);
+                SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                factory.addAdvisor(new DefaultPointcutAdvisor(
+                        new MethodAllowlistPointcut(List.of("RankingLikeService.top")),
+                        new MethodTimingInterceptor(() -> registry, 0.0, new double[0])));
+                yield (RankingLikeService) factory.getProxy();
+            }
+            default -> throw new IllegalArgumentException(mode);
+        };
+        limit = 10;
+    }
+
+    @Benchmark
+    public int call() {
+        return service.top(limit);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(MethodInstrumentationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    public static class RankingLikeService {
+
+        public int top(int limit) {
+            return limit * 31 + 7;
+        }
+    }
+
+    /**
+     * Copy of the removed {@code MethodLoggingAspect}, kept here as the baseline.
+     */
+    @Slf4j
+    @Aspect
+    public static class LegacyLoggingAspect {
+
+        @Around("execution(public * com.tennispulse..*(..))")
+        public Object logAround(ProceedingJoinPoint pjp) throws Throwable {
+            if (!log.isTraceEnabled()) {
+                return pjp.proceed();
+            }
+            String methodSignature = pjp.getSignature().toShortString();
+            log.trace("Entering {} with args={}", methodSignature, Arrays.toString(pjp.getArgs()));
+            Object result = pjp.proceed();
+            log.trace("Exiting {} with result={}", methodSignature, result);
+            return result;
+        }
+    }
+}
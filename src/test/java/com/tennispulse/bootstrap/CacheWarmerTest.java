@@ -0,0 +1,111 @@
+package com.tennispulse.bootstrap;
+
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.service.RankingService;
+import com.tennispulse.service.analytics.PlayerHighlightsService;
+import com.tennispulse.service.analytics.PopulationPercentileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private PlayerHighlightsService playerHighlightsService;
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private PopulationPercentileService percentileService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmer = new CacheWarmer(playerHighlightsService, rankingService, percentileService,
+                new SimpleAsyncTaskExecutor(), meterRegistry);
+        ReflectionTestUtils.setField(warmer, "concurrency", 2);
+        ReflectionTestUtils.setField(warmer, "rankingLimits", List.of(10, 50));
+        ReflectionTestUtils.setField(warmer, "timeout", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void run_shouldWarmEveryRangeAndRankingLimit() {
+        warmer.run();
+
+        for (TimelineRange range : TimelineRange.values()) {
+            verify(playerHighlightsService).getHighlights(range);
+            verify(percentileService).refresh(range);
+        }
+        verify(rankingService).getTopWinnersCurrentYear(10);
+        verify(rankingService).getTopWinnersCurrentYear(50);
+        verify(rankingService).getTopWinnersLastMonth(10);
+        verify(rankingService).getTopWinnersLastMonth(50);
+        assertEquals(1, meterRegistry.get("cache.warmup").timer().count());
+    }
+
+    @Test
+    void run_shouldNotExceedConcurrencyBudget() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(playerHighlightsService.getHighlights(any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return null;
+        });
+
+        warmer.run();
+
+        assertTrue(maxRunning.get() <= 2, "max concurrent warm-ups was " + maxRunning.get());
+    }
+
+    @Test
+    void run_whenAWarmUpFails_shouldContinueWithTheRest() {
+        when(playerHighlightsService.getHighlights(TimelineRange.ALL_TIME))
+                .thenThrow(new IllegalStateException("mongo down"));
+
+        assertDoesNotThrow(() -> warmer.run());
+
+        verify(playerHighlightsService).getHighlights(TimelineRange.YEAR_TO_DATE);
+        verify(rankingService).getTopWinnersLastMonth(50);
+    }
+
+    @Test
+    void run_whenWarmUpsHang_shouldReturnWithinTimeoutWithoutStartingTheRest() throws InterruptedException {
+        // both permits end up held by highlights warm-ups that never return
+        CountDownLatch hung = new CountDownLatch(1);
+        ReflectionTestUtils.setField(warmer, "timeout", Duration.ofMillis(300));
+        when(playerHighlightsService.getHighlights(any())).thenAnswer(invocation -> {
+            hung.await();
+            return null;
+        });
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(2), () -> warmer.run());
+        } finally {
+            hung.countDown();
+        }
+
+        verifyNoInteractions(rankingService);
+        assertEquals(1, meterRegistry.get("cache.warmup").timer().count());
+    }
+}
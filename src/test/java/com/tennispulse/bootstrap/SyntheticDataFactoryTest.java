@@ -0,0 +1,111 @@
+package com.tennispulse.bootstrap;
+
+import com.tennispulse.bootstrap.SyntheticDataFactory.SyntheticMatch;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SyntheticDataFactoryTest {
+
+    private static final Instant UNTIL = Instant.parse("2025-06-01T00:00:00Z");
+
+    private static SyntheticDataFactory factory(long seed) {
+        return new SyntheticDataFactory(new SyntheticDataFactory.Settings(
+                seed, 1_000, 20, 12, UNTIL, 1.0, 0.8, 1.0));
+    }
+
+    @Test
+    void sameSeedAndChunk_shouldProduceIdenticalData() {
+        SyntheticDataFactory a = factory(7);
+        SyntheticDataFactory b = factory(7);
+
+        assertThat(a.players()).isEqualTo(b.players());
+        assertThat(a.clubs()).isEqualTo(b.clubs());
+        assertThat(a.matches(3, 500)).isEqualTo(b.matches(3, 500));
+
+        assertThat(factory(8).players().get(0).id()).isNotEqualTo(a.players().get(0).id());
+        assertThat(a.matches(4, 500).get(0).id()).isNotEqualTo(a.matches(3, 500).get(0).id());
+    }
+
+    @Test
+    void matches_shouldBeConsistent() {
+        SyntheticDataFactory factory = factory(1);
+        Set<UUID> playerIds = new HashSet<>();
+        factory.players().forEach(p -> playerIds.add(p.id()));
+        Set<UUID> clubIds = new HashSet<>();
+        factory.clubs().forEach(c -> clubIds.add(c.id()));
+
+        List<SyntheticMatch> matches = factory.matches(0, 2_000);
+
+        assertThat(matches).hasSize(2_000).allSatisfy(m -> {
+            assertThat(m.player1Id()).isNotEqualTo(m.player2Id());
+            assertThat(m.winnerId()).isIn(m.player1Id(), m.player2Id());
+            assertThat(playerIds).contains(m.player1Id(), m.player2Id());
+            assertThat(clubIds).contains(m.clubId());
+            assertThat(m.endTime()).isAfter(m.startTime()).isBefore(UNTIL.plus(Duration.ofDays(1)));
+            assertThat(m.startTime()).isAfter(UNTIL.minus(Duration.ofDays(12 * 30 + 1)));
+            assertThat(m.player1Stats().getPlayerId()).isEqualTo(m.player1Id());
+            assertThat(m.player2Stats().getPlayerId()).isEqualTo(m.player2Id());
+            assertThat(m.player1Stats().getFirstServeIn()).isBetween(0.0, 100.0);
+            assertThat(m.player2Stats().getUnforcedErrorsBackhand()).isNotNegative();
+        });
+        assertThat(matches).extracting(SyntheticMatch::id).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void matches_shouldBeSkewedTowardsStarPlayersWhoAlsoWinMore() {
+        SyntheticDataFactory factory = factory(1);
+        UUID star = factory.players().get(0).id();
+        Set<UUID> top10 = new HashSet<>();
+        factory.players().subList(0, 10).forEach(p -> top10.add(p.id()));
+
+        List<SyntheticMatch> matches = factory.matches(0, 20_000);
+
+        Map<UUID, Integer> appearances = new HashMap<>();
+        int starWins = 0;
+        int starMatches = 0;
+        for (SyntheticMatch m : matches) {
+            appearances.merge(m.player1Id(), 1, Integer::sum);
+            appearances.merge(m.player2Id(), 1, Integer::sum);
+            if (m.player1Id().equals(star) || m.player2Id().equals(star)) {
+                starMatches++;
+                if (m.winnerId().equals(star)) {
+                    starWins++;
+                }
+            }
+        }
+        int top10Appearances = top10.stream().mapToInt(id -> appearances.getOrDefault(id, 0)).sum();
+
+        // 1% of the players take part in well over 1% of the matches
+        assertThat(top10Appearances).isGreaterThan(matches.size() * 2 / 5);
+        assertThat((double) starWins / starMatches).isGreaterThan(0.7);
+    }
+
+    @Test
+    void zeroSkew_shouldSpreadMatchesEvenly() {
+        SyntheticDataFactory factory = new SyntheticDataFactory(new SyntheticDataFactory.Settings(
+                3, 10, 1, 1, UNTIL, 0.0, 0.0, 1.0));
+
+        Map<UUID, Integer> appearances = new HashMap<>();
+        factory.matches(0, 10_000).forEach(m -> appearances.merge(m.player1Id(), 1, Integer::sum));
+
+        assertThat(appearances).hasSize(10);
+        assertThat(appearances.values()).allSatisfy(n -> assertThat(n).isBetween(800, 1_200));
+    }
+
+    @Test
+    void constructor_shouldRejectTooFewPlayers() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataFactory(
+                new SyntheticDataFactory.Settings(1, 1, 1, 1, UNTIL, 1.0, 1.0, 1.0)));
+    }
+}
@@ -0,0 +1,400 @@
+package com.tennispulse.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private Cache l2;
+    private CacheInvalidationBus bus;
+    private TwoLevelCache cache;
+    private final AtomicReference<Callable<Object>> recompute = new AtomicReference<>(() -> "recomputed");
+
+    @BeforeEach
+    void setUp() {
+        l2 = spy(new ConcurrentMapCache("rankings"));
+        bus = new CacheInvalidationBus(redisTemplate);
+        cache = new TwoLevelCache("rankings",
+                Caffeine.newBuilder().maximumSize(10).recordStats().build(), l2, bus, null);
+        bus.register(cache);
+    }
+
+    @Test
+    void get_shouldServeRepeatedReadsFromL1() {
+        l2.put("k", "v");
+
+        assertEquals("v", cache.get("k").get());
+        assertEquals("v", cache.get("k").get());
+
+        verify(l2, times(1)).get("k");
+        assertEquals(1, cache.l1Hits());
+        assertEquals(1, cache.l2Hits());
+    }
+
+    @Test
+    void get_shouldCountMissOnBothLevels() {
+        assertNull(cache.get("missing"));
+
+        assertEquals(1, cache.l1Misses());
+        assertEquals(1, cache.l2Misses());
+    }
+
+    @Test
+    void get_withLoader_shouldStoreLoadedValueInBothLevels() {
+        assertEquals("loaded", cache.get("k", () -> "loaded"));
+
+        assertEquals("loaded", ((CachedValue<?>) l2.get("k").get()).value());
+        assertEquals("loaded", cache.get("k", () -> "other"));
+    }
+
+    @Test
+    void get_withLoader_shouldNotLetOneCallerMutateTheValueServedToOthers() {
+        List<String> loaded = new ArrayList<>(List.of("a", "b"));
+        cache.get("k", () -> loaded);
+        loaded.add("mutated by the leader");
+
+        List<String> first = cache.get("k", () -> List.of("other"));
+        assertThrows(UnsupportedOperationException.class, () -> first.add("mutated by a reader"));
+
+        assertEquals(List.of("a", "b"), cache.get("k", () -> List.of("other")));
+    }
+
+    @Test
+    void put_shouldWriteThroughAndPublishEviction() {
+        cache.put("k", "v");
+
+        assertEquals("v", ((CachedValue<?>) l2.get("k").get()).value());
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), anyString());
+    }
+
+    @Test
+    void clear_shouldClearBothLevelsAndPublish() {
+        cache.put("k", "v");
+
+        cache.clear();
+
+        assertNull(cache.get("k"));
+        verify(redisTemplate, times(2)).convertAndSend(eq(CacheInvalidationBus.CHANNEL), anyString());
+    }
+
+    @Test
+    void clear_shouldNotifyListenersOnThisNodeAndOnMessagesFromOtherNodes() {
+        List<String> notified = new ArrayList<>();
+        bus.addListener(notified::add);
+
+        cache.put("k", "v");
+        cache.clear();
+        bus.onMessage(message("other-node\nCLEAR\nrankings"), null);
+        bus.onMessage(message("other-node\nEVICT\nrankings\nk"), null);
+
+        assertEquals(List.of("rankings", "rankings"), notified);
+    }
+
+    @Test
+    void onMessage_fromOtherNode_shouldDropLocalEntryOnly() {
+        cache.put("k", "v");
+        cache.get("k");
+
+        bus.onMessage(message("other-node\nEVICT\nrankings\nk"), null);
+        l2.evict("k");
+
+        assertNull(cache.get("k"));
+    }
+
+    @Test
+    void onMessage_clearFromOtherNode_shouldDropAllLocalEntries() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        l2.clear();
+
+        bus.onMessage(message("other-node\nCLEAR\nrankings"), null);
+
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void publishFailure_shouldNotFailTheWrite() {
+        doThrow(new IllegalStateException("redis down"))
+                .when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        assertDoesNotThrow(() -> cache.put("k", "v"));
+        assertEquals("v", cache.get("k").get());
+    }
+
+    @Test
+    void get_withLoader_shouldRunOneComputationForConcurrentMisses() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get("k", () -> {
+                    computations.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "v";
+                })));
+            }
+
+            // let every caller reach the cache before the leader finishes
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Object> result : results) {
+                assertEquals("v", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(callers - 1, cache.coalescedLoads());
+    }
+
+    @Test
+    void get_withLoader_shouldPropagateFailureToWaitingCallers() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> leader = pool.submit(() -> cache.get("k", () -> {
+                computations.incrementAndGet();
+                leaderStarted.countDown();
+                fail.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("mongo down");
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            Future<Object> waiter = pool.submit(() -> cache.get("k", () -> {
+                computations.incrementAndGet();
+                return "waiter computed";
+            }));
+
+            // the waiter has joined the leader's load before the leader fails
+            while (cache.coalescedLoads() == 0) {
+                Thread.sleep(5);
+            }
+            fail.countDown();
+
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(Cache.ValueRetrievalException.class, leaderFailure.getCause());
+            assertSame(leaderFailure.getCause(), waiterFailure.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        // nothing cached and no stale in-flight entry left behind
+        assertEquals("v", cache.get("k", () -> "v"));
+    }
+
+    @Test
+    void get_withLoader_whenLoadHangs_shouldFailWaitingCallersAfterLoadWaitTimeout() throws Exception {
+        TwoLevelCache bounded = new TwoLevelCache("rankings", null, l2, bus, null,
+                CacheRefreshPolicy.DISABLED, null, Duration.ofMillis(100), Clock.systemUTC());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try {
+            pool.submit(() -> bounded.get("k", () -> {
+                leaderStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "late";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            Cache.ValueRetrievalException e = assertTimeoutPreemptively(Duration.ofSeconds(2), () ->
+                    assertThrows(Cache.ValueRetrievalException.class, () -> bounded.get("k", () -> "other")));
+
+            assertInstanceOf(TimeoutException.class, e.getCause());
+            assertEquals(1, bounded.timedOutWaits());
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void get_withLoader_whenAnotherNodeHoldsTheLock_shouldUseItsValue() {
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        DistributedCacheLock lock = new DistributedCacheLock(redisTemplate,
+                Duration.ofSeconds(30), Duration.ofSeconds(2), Duration.ofMillis(10));
+        TwoLevelCache clustered = new TwoLevelCache("rankings", null, l2, bus, lock);
+
+        // the other node's value shows up in L2 while we wait
+        ScheduledExecutorService otherNode = Executors.newSingleThreadScheduledExecutor();
+        try {
+            otherNode.schedule(() -> l2.put("k", "remote"), 50, TimeUnit.MILLISECONDS);
+
+            assertEquals("remote", clustered.get("k", () -> "local"));
+        } finally {
+            otherNode.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_withLoader_nearExpiry_shouldServeCurrentValueAndRefreshInBackground() {
+        AtomicLong now = new AtomicLong(T0);
+        TwoLevelCache refreshing = refreshingCache(now, Runnable::run);
+        refreshing.get("k", () -> "v1");
+
+        now.set(T0 + Duration.ofSeconds(81).toMillis());
+        recompute.set(() -> "v2");
+
+        assertEquals("v1", refreshing.get("k", () -> fail("the refresh must not reuse the request's loader")));
+        assertEquals("v2", refreshing.get("k", () -> "v3"));
+        assertEquals(1, refreshing.backgroundRefreshes());
+    }
+
+    @Test
+    void get_withLoader_nearExpiry_withoutReloader_shouldServeUntilExpiry() {
+        AtomicLong now = new AtomicLong(T0);
+        List<Runnable> pending = new ArrayList<>();
+        TwoLevelCache refreshing = refreshingCache(now, pending::add);
+        refreshing.setReloader(null);
+        refreshing.get("k", () -> "v1");
+
+        now.set(T0 + Duration.ofSeconds(81).toMillis());
+
+        assertEquals("v1", refreshing.get("k", () -> "v2"));
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void clear_withRefresh_shouldKeepServingStaleValueWhileRecomputing() {
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        AtomicLong now = new AtomicLong(T0);
+        List<Runnable> pending = new ArrayList<>();
+        TwoLevelCache refreshing = refreshingCache(now, pending::add);
+        refreshing.get("k", () -> "v1");
+
+        now.set(T0 + 10_000);
+        refreshing.clear();
+        now.set(T0 + 12_000);
+        recompute.set(() -> "v2");
+
+        assertEquals("v1", refreshing.get("k", () -> "v2"));
+        assertEquals("v1", refreshing.get("k", () -> "v2"));
+        assertEquals(2, refreshing.staleServed());
+        assertEquals(1, pending.size(), "one refresh per key");
+        verify(ops).set(anyString(), eq(String.valueOf(T0 + 10_000)), eq(Duration.ofSeconds(100)));
+
+        pending.forEach(Runnable::run);
+
+        assertEquals("v2", refreshing.get("k", () -> "v3"));
+    }
+
+    @Test
+    void clear_withRefresh_shouldRecomputeInlineOnceStalenessBoundIsExceeded() {
+        AtomicLong now = new AtomicLong(T0);
+        TwoLevelCache refreshing = refreshingCache(now, task -> { });
+        refreshing.get("k", () -> "v1");
+
+        now.set(T0 + 10_000);
+        refreshing.clear();
+        now.set(T0 + 16_000);
+
+        assertEquals("v2", refreshing.get("k", () -> "v2"));
+    }
+
+    @Test
+    void get_withLoader_whenBackgroundRefreshFails_shouldKeepServingValue() {
+        AtomicLong now = new AtomicLong(T0);
+        TwoLevelCache refreshing = refreshingCache(now, Runnable::run);
+        refreshing.get("k", () -> "v1");
+
+        now.set(T0 + Duration.ofSeconds(90).toMillis());
+        recompute.set(() -> { throw new IllegalStateException("mongo down"); });
+
+        assertEquals("v1", refreshing.get("k", () -> "v2"));
+        assertEquals(1, refreshing.failedRefreshes());
+        assertEquals("v1", refreshing.get("k", () -> "v2"));
+    }
+
+    @Test
+    void onMessage_staleFromOtherNode_shouldMarkEntriesStale() {
+        AtomicLong now = new AtomicLong(T0);
+        List<Runnable> pending = new ArrayList<>();
+        TwoLevelCache refreshing = refreshingCache(now, pending::add);
+        bus.register(refreshing);
+        refreshing.get("k", () -> "v1");
+
+        now.set(T0 + 5_000);
+        bus.onMessage(message("other-node\nSTALE\nrankings\n" + (T0 + 4_000)), null);
+
+        assertEquals("v1", refreshing.get("k", () -> "v2"));
+        assertEquals(1, refreshing.staleServed());
+        assertEquals(1, pending.size());
+    }
+
+    /**
+     * The reloader stands in for calling the cached method again through its proxy: a new invocation that
+     * reaches the cache with its own loader, here {@link #recompute}.
+     */
+    private TwoLevelCache refreshingCache(AtomicLong now, Executor refreshExecutor) {
+        Clock clock = mock(Clock.class);
+        lenient().when(clock.millis()).thenAnswer(invocation -> now.get());
+        CacheRefreshPolicy policy = new CacheRefreshPolicy(true, Duration.ofSeconds(100), 0.8, Duration.ofSeconds(5));
+        TwoLevelCache cache = new TwoLevelCache("rankings", Caffeine.newBuilder().maximumSize(10).recordStats().build(),
+                new ConcurrentMapCache("rankings"), bus, null, policy, refreshExecutor, Duration.ofSeconds(5), clock);
+        cache.setReloader(key -> cache.get(key, () -> recompute.get().call()));
+        return cache;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+package com.tennispulse.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.tennispulse.api.analytics.dto.HighlightCategory;
+import com.tennispulse.api.analytics.dto.HighlightsDashboardResponse;
+import com.tennispulse.api.analytics.dto.PlayerHighlightDto;
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.api.dto.PlayerWinsRankingDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedCacheSerializerTest {
+
+    private static final JavaType HIGHLIGHTS_TYPE =
+            TypeFactory.defaultInstance().constructType(HighlightsDashboardResponse.class);
+    private static final JavaType RANKINGS_TYPE =
+            TypeFactory.defaultInstance().constructCollectionType(List.class, PlayerWinsRankingDto.class);
+
+    @ParameterizedTest
+    @EnumSource(CacheValueFormat.class)
+    void serializeThenDeserialize_shouldRoundTripHighlights(CacheValueFormat format) {
+        VersionedCacheSerializer<HighlightsDashboardResponse> serializer =
+                new VersionedCacheSerializer<>(format, HIGHLIGHTS_TYPE, 0);
+        HighlightsDashboardResponse response = sampleHighlights();
+
+        byte[] bytes = serializer.serialize(response);
+
+        assertEquals(VersionedCacheSerializer.VERSION, bytes[0]);
+        assertEquals(format.id(), bytes[1]);
+        assertEquals(response, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void serialize_shouldCompressPayloadsAboveThreshold() {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 64);
+        List<PlayerWinsRankingDto> rankings = sampleRankings(100);
+
+        byte[] bytes = serializer.serialize(rankings);
+
+        assertEquals(VersionedCacheSerializer.FLAG_LZ4, bytes[2]);
+        assertEquals(rankings, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void serialize_shouldNotCompressPayloadsBelowThreshold() {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 1_000_000);
+
+        byte[] bytes = serializer.serialize(sampleRankings(3));
+
+        assertEquals(0, bytes[2]);
+    }
+
+    @Test
+    void deserialize_shouldReadValuesWrittenByAnotherFormat() {
+        VersionedCacheSerializer<HighlightsDashboardResponse> writer =
+                new VersionedCacheSerializer<>(CacheValueFormat.CBOR, HIGHLIGHTS_TYPE, 0);
+        VersionedCacheSerializer<HighlightsDashboardResponse> reader =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, HIGHLIGHTS_TYPE, 0);
+        HighlightsDashboardResponse response = sampleHighlights();
+
+        assertEquals(response, reader.deserialize(writer.serialize(response)));
+    }
+
+    @Test
+    void deserialize_shouldReadLegacyJsonWithoutHeader() throws Exception {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 0);
+        List<PlayerWinsRankingDto> rankings = sampleRankings(3);
+
+        byte[] legacy = new ObjectMapper().writeValueAsBytes(rankings);
+
+        assertEquals(rankings, serializer.deserialize(legacy));
+    }
+
+    @Test
+    void deserialize_shouldTreatUnknownVersionAsMiss() {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 0);
+
+        assertNull(serializer.deserialize(new byte[]{99, 2, 0, 1, 2, 3}));
+    }
+
+    @Test
+    void deserialize_shouldTreatUncompressedLengthAboveMaxEntrySizeAsMiss() {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 64, 1024);
+        byte[] bytes = serializer.serialize(sampleRankings(100));
+        ByteBuffer.wrap(bytes, 3, Integer.BYTES).putInt(Integer.MAX_VALUE);
+
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_shouldTreatCorruptCompressedPayloadAsMiss() {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 64);
+        byte[] bytes = serializer.serialize(sampleRankings(100));
+
+        assertNull(serializer.deserialize(Arrays.copyOf(bytes, 12)));
+    }
+
+    @Test
+    void deserialize_shouldRoundTripCachedValueEnvelope() {
+        JavaType envelopeType = TypeFactory.defaultInstance().constructParametricType(CachedValue.class, RANKINGS_TYPE);
+        VersionedCacheSerializer<CachedValue<List<PlayerWinsRankingDto>>> serializer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, envelopeType, 0);
+        CachedValue<List<PlayerWinsRankingDto>> value = new CachedValue<>(sampleRankings(3), 1_700_000_000_000L);
+
+        assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+
+    @Test
+    void deserialize_shouldTreatValueOfAnotherShapeAsMiss() {
+        VersionedCacheSerializer<List<PlayerWinsRankingDto>> writer =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, RANKINGS_TYPE, 0);
+        VersionedCacheSerializer<HighlightsDashboardResponse> reader =
+                new VersionedCacheSerializer<>(CacheValueFormat.SMILE, HIGHLIGHTS_TYPE, 0);
+
+        assertNull(reader.deserialize(writer.serialize(sampleRankings(3))));
+    }
+
+    @Test
+    void smile_shouldProduceSmallerPayloadThanJson() {
+        HighlightsDashboardResponse response = sampleHighlights();
+
+        int json = new VersionedCacheSerializer<HighlightsDashboardResponse>(
+                CacheValueFormat.JSON, HIGHLIGHTS_TYPE, 0).serialize(response).length;
+        int smile = new VersionedCacheSerializer<HighlightsDashboardResponse>(
+                CacheValueFormat.SMILE, HIGHLIGHTS_TYPE, 0).serialize(response).length;
+
+        assertTrue(smile < json, "smile=" + smile + " json=" + json);
+    }
+
+    static HighlightsDashboardResponse sampleHighlights() {
+        Map<String, PlayerHighlightDto> highlights = new HashMap<>();
+        for (HighlightCategory category : HighlightCategory.values()) {
+            highlights.put(category.name(), new PlayerHighlightDto(
+                    UUID.randomUUID(),
+                    "Player " + category.ordinal(),
+                    70.0 + category.ordinal(),
+                    Map.of(
+                            "UNFORCED_ERRORS_FOREHAND", 6.5,
+                            "UNFORCED_ERRORS_BACKHAND", 7.25,
+                            "TOTAL_ERRORS", 13.75
+                    )));
+        }
+        return new HighlightsDashboardResponse(TimelineRange.LAST_6_MONTHS, highlights);
+    }
+
+    static List<PlayerWinsRankingDto> sampleRankings(int size) {
+        return java.util.stream.IntStream.range(0, size)
+                .mapToObj(i -> new PlayerWinsRankingDto(UUID.randomUUID(), "Player " + i, 100L - i))
+                .toList();
+    }
+}
@@ -0,0 +1,202 @@
+package com.tennispulse.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final Instant START = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    private final TestClock clock = new TestClock();
+    private final ReplicaLagGuard guard = new ReplicaLagGuard(Duration.ofSeconds(5), clock);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResultSet primaryLsn;
+    private ResultSet replica1Lag;
+    private ResultSet replica2Lag;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryLsn = queryResult(primary, ReplicaRoutingDataSource.PRIMARY_LSN_SQL);
+        replica1Lag = queryResult(replica1, ReplicaRoutingDataSource.REPLAY_LAG_SQL);
+        replica2Lag = queryResult(replica2, ReplicaRoutingDataSource.REPLAY_LAG_SQL);
+        lenient().when(primaryLsn.getLong(1)).thenReturn(100L);
+        lenient().when(replica1Lag.getLong(1)).thenReturn(100L);
+        lenient().when(replica2Lag.getLong(1)).thenReturn(100L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void target_shouldRoundRobinOverReplicasWithinMaxLag() throws SQLException {
+        when(replica2Lag.getDouble(2)).thenReturn(1.5);
+        dataSource = newDataSource();
+
+        assertSame(replica1, dataSource.target());
+        assertSame(replica2, dataSource.target());
+        assertSame(replica1, dataSource.target());
+        assertEquals(1.5, meterRegistry.get("datasource.replica.lag").tag("replica", "replica-2").gauge().value());
+    }
+
+    @Test
+    void target_shouldSkipLaggingOrUnreachableReplicasAndFallBackToPrimary() throws SQLException {
+        when(replica1Lag.getDouble(2)).thenReturn(30.0);
+        when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+        dataSource = newDataSource();
+
+        assertSame(primary, dataSource.target());
+        assertEquals(1.0, meterRegistry.get("datasource.replica.primary.fallbacks").counter().count());
+
+        when(replica1Lag.getDouble(2)).thenReturn(0.0);
+        dataSource.checkLag();
+
+        assertSame(replica1, dataSource.target());
+        assertSame(replica1, dataSource.target());
+    }
+
+    @Test
+    void target_shouldStayOnPrimaryAfterWriteUntilReplicaHasReplayedPrimaryPositionSampledAfterIt()
+            throws SQLException {
+        dataSource = newDataSource();
+        assertSame(replica1, dataSource.target());
+        clock.advance(Duration.ofMillis(300));
+
+        guard.readYourWrites();
+
+        assertSame(primary, dataSource.target());
+        assertSame(primary, dataSource.target());
+
+        clock.advance(Duration.ofMillis(300));
+        when(primaryLsn.getLong(1)).thenReturn(150L);
+        when(replica1Lag.getLong(1)).thenReturn(120L);
+        when(replica2Lag.getLong(1)).thenReturn(150L);
+        dataSource.checkLag();
+
+        // replica 1 has not replayed up to the position read after the write
+        assertSame(replica2, dataSource.target());
+        assertSame(replica2, dataSource.target());
+    }
+
+    @Test
+    void target_whenWriteCommitsBetweenPrimaryAndReplicaSamples_shouldNotTrustCaughtUpReplica()
+            throws SQLException {
+        dataSource = newDataSource();
+        // the write commits after the primary position was read but before the replicas are sampled; they report
+        // zero lag at the old position because its WAL has not reached them yet
+        Connection replica1Connection = replica1.getConnection();
+        AtomicBoolean written = new AtomicBoolean();
+        when(replica1.getConnection()).thenAnswer(invocation -> {
+            if (written.compareAndSet(false, true)) {
+                clock.advance(Duration.ofMillis(100));
+                guard.readYourWrites();
+            }
+            return replica1Connection;
+        });
+        clock.advance(Duration.ofMillis(100));
+        dataSource.checkLag();
+
+        assertSame(primary, dataSource.target());
+        assertSame(primary, dataSource.target());
+
+        clock.advance(Duration.ofMillis(100));
+        when(primaryLsn.getLong(1)).thenReturn(180L);
+        dataSource.checkLag();
+        assertSame(primary, dataSource.target());
+
+        when(replica1Lag.getLong(1)).thenReturn(180L);
+        when(replica2Lag.getLong(1)).thenReturn(180L);
+        dataSource.checkLag();
+        assertNotSame(primary, dataSource.target());
+    }
+
+    @Test
+    void target_shouldNotTrustSampleOlderThanMaxLag() {
+        dataSource = newDataSource();
+        assertSame(replica1, dataSource.target());
+
+        clock.advance(Duration.ofSeconds(6));
+
+        assertSame(primary, dataSource.target());
+    }
+
+    private ReplicaRoutingDataSource newDataSource() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        return new ReplicaRoutingDataSource(primary, replicas, guard, NEVER, meterRegistry);
+    }
+
+    /** Stubs {@code sql} on {@code dataSource}; numeric columns are 0 unless restubbed. */
+    private static ResultSet queryResult(DataSource dataSource, String sql) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.createStatement()).thenReturn(statement);
+        lenient().when(statement.executeQuery(sql)).thenReturn(rs);
+        lenient().when(rs.next()).thenReturn(true);
+        return rs;
+    }
+
+    private static final class TestClock extends Clock {
+
+        private Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tennispulse.domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchScoreTest {
+
+    @Test
+    void parse_shouldReadSetsAndTiebreaksFromWinnersSide() {
+        MatchScore score = MatchScore.parse("6-4 6-7(5) 7-6(7-3)").orElseThrow();
+
+        assertEquals(List.of(
+                new MatchSetScore(6, 4, false, null),
+                new MatchSetScore(6, 7, true, 5),
+                new MatchSetScore(7, 6, true, 3)), score.sets());
+        assertEquals(3, score.setsPlayed());
+        assertEquals(19, score.winnerGames());
+        assertEquals(17, score.loserGames());
+        assertEquals(2, score.tiebreaksPlayed());
+        assertFalse(score.retired());
+    }
+
+    @Test
+    void parse_shouldTurnAroundScoreWrittenFromLosersSide() {
+        MatchScore score = MatchScore.parse("4-6, 6-3, 2-6, 5-7").orElseThrow();
+
+        assertEquals(new MatchSetScore(6, 4, false, null), score.sets().get(0));
+        assertEquals(new MatchSetScore(3, 6, false, null), score.sets().get(1));
+        assertEquals(22, score.winnerGames());
+    }
+
+    @Test
+    void parse_shouldCountMatchTiebreakAsOneGameAndAcceptAdvantageSets() {
+        MatchScore tiebreak = MatchScore.parse("6-3 4-6 [10-8]").orElseThrow();
+        assertEquals(new MatchSetScore(1, 0, true, 8), tiebreak.sets().get(2));
+        assertEquals(11, tiebreak.winnerGames());
+
+        MatchScore advantage = MatchScore.parse("6-4 3-6 6-7(2) 6-3 70-68").orElseThrow();
+        assertEquals(5, advantage.setsPlayed());
+        assertEquals(1, advantage.tiebreaksPlayed());
+    }
+
+    @Test
+    void parse_shouldKeepUnfinishedLastSetOfRetirement() {
+        MatchScore score = MatchScore.parse("6-2 2-1 ret.").orElseThrow();
+
+        assertTrue(score.retired());
+        assertEquals(new MatchSetScore(2, 1, false, null), score.sets().get(1));
+        assertTrue(MatchScore.parse("W/O").isEmpty());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"6-4 6-5", "6-4 4-6", "6-4(3) 6-2", "8-7 6-2", "6-4 ret. 6-2", "6:4 6:3",
+            "6-1 6-1 6-1 6-1 6-1 6-1", "6-4 [10-9]", "walkover", "6-4 6-4 6-4 6-4", "6-4 6-4 4-6",
+            "6-4 4-6 6-4 6-4 4-6", "6-4 6-4 6-4 2-1 ret."})
+    void parse_shouldRejectInvalidScores(String finalScore) {
+        assertTrue(MatchScore.parse(finalScore).isEmpty());
+    }
+
+    @Test
+    void setFinalScore_shouldDeriveStructuredColumnsOnEntity() {
+        MatchEntity match = new MatchEntity();
+        match.setFinalScore("7-5 7-6(4)");
+
+        assertTrue(match.getScoreParsed());
+        assertEquals(2, match.getSetsPlayed());
+        assertEquals(14, match.getWinnerGames());
+        assertEquals(11, match.getLoserGames());
+        assertEquals(1, match.getTiebreaksPlayed());
+        assertEquals(2, match.getSets().size());
+
+        match.setFinalScore("n/a");
+        assertFalse(match.getScoreParsed());
+        assertNull(match.getSetsPlayed());
+        assertTrue(match.getSets().isEmpty());
+    }
+
+    @Test
+    void onCreate_shouldParseScoreOfBuiltEntity() {
+        MatchEntity match = MatchEntity.builder().finalScore("6-0 6-0").build();
+
+        match.onCreate();
+
+        assertTrue(match.getScoreParsed());
+        assertEquals(12, match.getWinnerGames());
+    }
+}
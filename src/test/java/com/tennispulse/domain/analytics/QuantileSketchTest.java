@@ -0,0 +1,96 @@
+package com.tennispulse.domain.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTest {
+
+    @Test
+    void quantile_shouldStayCloseToExactRank_forSkewedData() {
+        Random random = new Random(42);
+        double[] values = new double[20_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.01, 0.1, 0.5, 0.9, 0.99}) {
+            double estimate = sketch.quantile(q);
+            double rank = (double) Math.abs(Arrays.binarySearch(values, estimate)) / values.length;
+            assertEquals(q, rank, 0.005, "rank of estimated q" + q);
+        }
+        assertEquals(values.length, sketch.count());
+        assertEquals(values[0], sketch.min());
+        assertEquals(values[values.length - 1], sketch.max());
+        assertTrue(sketch.toState().means().length <= 100);
+    }
+
+    @Test
+    void merge_shouldMatchOneSketchOverAllValues() {
+        QuantileSketch january = new QuantileSketch();
+        QuantileSketch february = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            january.add(i);
+            february.add(1000 + i);
+        }
+        new Random(7).ints(0, 2000).distinct().limit(2000).forEach(all::add);
+
+        QuantileSketch merged = new QuantileSketch();
+        merged.merge(january);
+        merged.merge(february);
+
+        assertEquals(2000, merged.count());
+        assertEquals(0, merged.min());
+        assertEquals(1999, merged.max());
+        for (double q : new double[]{0.1, 0.5, 0.9}) {
+            // within 0.5% of rank
+            assertEquals(2000 * q, merged.quantile(q), 10);
+            assertEquals(2000 * q, all.quantile(q), 10);
+        }
+    }
+
+    @Test
+    void state_shouldRoundTrip() {
+        QuantileSketch sketch = new QuantileSketch(50);
+        for (int i = 1; i <= 500; i++) {
+            sketch.add(i % 7 == 0 ? -i : i);
+        }
+
+        QuantileSketch restored = QuantileSketch.fromState(sketch.toState());
+
+        assertEquals(sketch.count(), restored.count());
+        assertEquals(sketch.min(), restored.min());
+        assertEquals(sketch.max(), restored.max());
+        assertEquals(sketch.quantile(0.5), restored.quantile(0.5), 1e-9);
+        assertEquals(sketch.quantile(0.9), restored.quantile(0.9), 1e-9);
+    }
+
+    @Test
+    void smallAndEmptySketches_shouldBeExactOrNaN() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertTrue(Double.isNaN(QuantileSketch.fromState(sketch.toState()).min()));
+
+        sketch.add(60.0);
+        assertEquals(60.0, sketch.quantile(0.1));
+        assertEquals(60.0, sketch.quantile(0.9));
+
+        sketch.add(Double.NaN);
+        sketch.add(70.0);
+        assertEquals(2, sketch.count());
+        assertEquals(65.0, sketch.quantile(0.5), 1e-9);
+        assertEquals(60.0, sketch.quantile(0));
+        assertEquals(70.0, sketch.quantile(1));
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    }
+}
@@ -0,0 +1,64 @@
+package com.tennispulse.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.TennisPulseApplication;
+import com.tennispulse.loadtest.OpenLoopDriver.WorkloadResult;
+import com.tennispulse.perf.PerfTokenIssuer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Drives a mix of API workloads at fixed arrival rates (open model) and reports latency percentiles per workload
+ * from HdrHistograms, see {@link LoadTestOptions} for the options.
+ * <p>
+ * Against a running instance:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.tennispulse.loadtest.LoadTest
+ * -Dexec.args="--base-url=http://localhost:8080 --mix=highlights:20,rankings:50,timeline:30,complete:5 --duration=60s"}
+ * <p>
+ * With {@code --embedded=true} the application is started in this JVM on a random port with {@code --profiles}
+ * (e.g. {@code perf,seed}), so the harness and the server share one machine; results then include the
+ * harness's own CPU usage. With the {@code perf} profile and no {@code --token}, a token is issued in-process.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        String token = options.token();
+        if (options.embedded()) {
+            context = SpringApplication.run(TennisPulseApplication.class,
+                    "--server.port=0", "--spring.profiles.active=" + options.profiles());
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            if ((token == null || token.isBlank()) && context.getBeanNamesForType(PerfTokenIssuer.class).length > 0) {
+                token = context.getBean(PerfTokenIssuer.class).issue("loadtest", Duration.ofHours(1));
+            }
+        }
+
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            List<Workload> workloads = new TennisPulseWorkloads(client, new ObjectMapper(), baseUrl, token)
+                    .build(options.mix());
+
+            OpenLoopDriver driver = new OpenLoopDriver(options.warmup(), options.duration(), options.poisson(),
+                    options.maxInFlight());
+            List<WorkloadResult> results = driver.run(workloads);
+
+            System.out.println(LoadTestReport.write(options, results));
+            System.out.println("Histograms written to " + options.reportDir().toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
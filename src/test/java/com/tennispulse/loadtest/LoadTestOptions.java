@@ -0,0 +1,67 @@
+package com.tennispulse.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTest}, given as {@code --name=value}.
+ *
+ * @param mix         target arrival rate (requests/s) per workload, e.g. {@code highlights:20,rankings:50}
+ * @param poisson     exponential inter-arrival times instead of a constant rate
+ * @param maxInFlight requests outstanding per workload before new arrivals are counted as dropped
+ * @param embedded    start the application in this JVM (random port) instead of using {@code baseUrl}
+ * @param profiles    Spring profiles of the embedded application
+ */
+public record LoadTestOptions(String baseUrl,
+                              String token,
+                              Map<String, Double> mix,
+                              Duration warmup,
+                              Duration duration,
+                              boolean poisson,
+                              int maxInFlight,
+                              boolean embedded,
+                              String profiles,
+                              Path reportDir) {
+
+    static final String DEFAULT_MIX = "highlights:20,rankings:50,timeline:30,complete:5";
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        return new LoadTestOptions(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                values.getOrDefault("token", System.getenv("LOADTEST_TOKEN")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Duration.parse("PT" + values.getOrDefault("warmup", "10s")),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s")),
+                !"constant".equals(values.getOrDefault("arrivals", "poisson")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+                Boolean.parseBoolean(values.getOrDefault("embedded", "false")),
+                values.getOrDefault("profiles", ""),
+                Path.of(values.getOrDefault("report-dir", "target/loadtest")));
+    }
+
+    static Map<String, Double> parseMix(String mix) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Expected workload:rate but got: " + part);
+            }
+            double rate = Double.parseDouble(kv[1]);
+            if (rate > 0) {
+                rates.put(kv[0], rate);
+            }
+        }
+        return rates;
+    }
+}
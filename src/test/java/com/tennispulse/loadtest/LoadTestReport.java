@@ -0,0 +1,65 @@
+package com.tennispulse.loadtest;
+
+import com.tennispulse.loadtest.OpenLoopDriver.WorkloadResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes the results of a run: a summary table ({@code report.txt}, also returned) and one HdrHistogram
+ * percentile distribution per workload ({@code <workload>.hgrm}, values in milliseconds), which can be
+ * plotted with the HdrHistogram plotter.
+ */
+public final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadTestReport() {
+    }
+
+    public static String summary(LoadTestOptions options, List<WorkloadResult> results) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Open-model load test against %s: warmup=%s, duration=%s, arrivals=%s%n%n",
+                options.embedded() ? "embedded application" : options.baseUrl(),
+                options.warmup(), options.duration(), options.poisson() ? "poisson" : "constant"));
+        out.append(String.format("%-12s %9s %9s %8s %7s %7s %9s %9s %9s %9s %9s  %s%n",
+                "workload", "target/s", "actual/s", "count", "errors", "dropped",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses"));
+        for (WorkloadResult r : results) {
+            Histogram h = r.histogram();
+            out.append(String.format("%-12s %9.1f %9.1f %8d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    r.name(), r.targetRate(), r.achievedRate(), h.getTotalCount(), r.errors(), r.dropped(),
+                    millis(h.getValueAtPercentile(50)),
+                    millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue()),
+                    r.statuses()));
+        }
+        return out.toString();
+    }
+
+    public static String write(LoadTestOptions options, List<WorkloadResult> results) throws IOException {
+        Path dir = options.reportDir();
+        Files.createDirectories(dir);
+
+        String summary = summary(options, results);
+        Files.writeString(dir.resolve("report.txt"), summary);
+        for (WorkloadResult r : results) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(r.name() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                r.histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
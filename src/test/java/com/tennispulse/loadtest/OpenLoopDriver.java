@@ -0,0 +1,204 @@
+package com.tennispulse.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started on a schedule that does not depend on how fast earlier ones
+ * complete, so a slow server builds up a backlog instead of silently lowering the offered load.
+ * <p>
+ * Latency is measured from the <em>intended</em> start time, which corrects for coordinated omission when the
+ * pacing thread itself falls behind. Only arrivals scheduled after the warm-up are recorded.
+ */
+@Slf4j
+public class OpenLoopDriver {
+
+    /** Latencies are recorded in microseconds, up to one hour, with 3 significant digits. */
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final Duration warmup;
+    private final Duration duration;
+    private final boolean poisson;
+    private final int maxInFlight;
+    private final Ticker ticker;
+
+    public OpenLoopDriver(Duration warmup, Duration duration, boolean poisson, int maxInFlight) {
+        this(warmup, duration, poisson, maxInFlight, Ticker.SYSTEM);
+    }
+
+    OpenLoopDriver(Duration warmup, Duration duration, boolean poisson, int maxInFlight, Ticker ticker) {
+        this.warmup = warmup;
+        this.duration = duration;
+        this.poisson = poisson;
+        this.maxInFlight = maxInFlight;
+        this.ticker = ticker;
+    }
+
+    /** Time source for pacing and latency; tests substitute one that advances only when parked. */
+    interface Ticker {
+
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void parkNanos(long nanos) {
+                LockSupport.parkNanos(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void parkNanos(long nanos);
+    }
+
+    /**
+     * @param histogram latency in microseconds of completed operations (any status)
+     * @param errors    operations that failed or completed with a status outside 2xx
+     * @param dropped   arrivals not started because {@code maxInFlight} operations were outstanding
+     */
+    public record WorkloadResult(String name,
+                                 double targetRate,
+                                 Duration measured,
+                                 Histogram histogram,
+                                 long errors,
+                                 long dropped,
+                                 Map<Integer, Long> statuses) {
+
+        public double achievedRate() {
+            return histogram.getTotalCount() / (measured.toNanos() / 1e9);
+        }
+    }
+
+    public List<WorkloadResult> run(List<Workload> workloads) throws InterruptedException {
+        long start = ticker.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        List<Pacer> pacers = new ArrayList<>();
+        for (int i = 0; i < workloads.size(); i++) {
+            Pacer pacer = new Pacer(workloads.get(i), start, measureFrom, end, i);
+            pacers.add(pacer);
+            pacer.thread.start();
+        }
+        for (Pacer pacer : pacers) {
+            pacer.thread.join();
+        }
+        for (Pacer pacer : pacers) {
+            pacer.awaitOutstanding(Duration.ofSeconds(30));
+        }
+
+        List<WorkloadResult> results = new ArrayList<>();
+        for (Pacer pacer : pacers) {
+            results.add(pacer.result());
+        }
+        return results;
+    }
+
+    private final class Pacer implements Runnable {
+
+        private final Workload workload;
+        private final long start;
+        private final long measureFrom;
+        private final long end;
+        private final SplittableRandom random;
+        private final Thread thread;
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        Pacer(Workload workload, long start, long measureFrom, long end, int index) {
+            this.workload = workload;
+            this.start = start;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.random = new SplittableRandom(index);
+            this.thread = new Thread(this, "loadtest-" + workload.name());
+        }
+
+        @Override
+        public void run() {
+            double meanIntervalNanos = 1e9 / workload.ratePerSecond();
+            double next = start;
+
+            while (next < end) {
+                long intended = (long) next;
+                long wait = intended - ticker.nanoTime();
+                if (wait > 0) {
+                    ticker.parkNanos(wait);
+                }
+                fire(intended, intended >= measureFrom);
+
+                next += poisson ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            }
+        }
+
+        private void fire(long intended, boolean measured) {
+            if (inFlight.get() >= maxInFlight) {
+                if (measured) {
+                    dropped.increment();
+                }
+                return;
+            }
+            inFlight.incrementAndGet();
+            try {
+                workload.operation().call().whenComplete((status, failure) -> {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        record(intended, failure == null ? status : -1);
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    record(intended, -1);
+                }
+                log.debug("{} failed to start", workload.name(), e);
+            }
+        }
+
+        private void record(long intended, int status) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(ticker.nanoTime() - intended);
+            recorder.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            if (status < 200 || status >= 300) {
+                errors.increment();
+            }
+        }
+
+        void awaitOutstanding(Duration timeout) {
+            long deadline = ticker.nanoTime() + timeout.toNanos();
+            while (inFlight.get() > 0 && ticker.nanoTime() < deadline) {
+                ticker.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+            if (inFlight.get() > 0) {
+                log.warn("{}: {} request(s) still outstanding after {}", workload.name(), inFlight.get(), timeout);
+            }
+        }
+
+        WorkloadResult result() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return new WorkloadResult(workload.name(), workload.ratePerSecond(), Duration.ofNanos(end - measureFrom),
+                    recorder.getIntervalHistogram(), errors.sum(), dropped.sum(), counts);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.tennispulse.loadtest;
+
+import com.tennispulse.loadtest.OpenLoopDriver.WorkloadResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OpenLoopDriverTest {
+
+    @Test
+    void run_shouldIssueArrivalsAtTargetRate_andRecordOnlyAfterWarmup() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Workload workload = new Workload("ok", 200, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(200);
+        });
+
+        OpenLoopDriver driver = new OpenLoopDriver(Duration.ofMillis(200), Duration.ofMillis(500), false, 10,
+                new ManualTicker());
+        WorkloadResult result = driver.run(List.of(workload)).get(0);
+
+        // constant arrivals every 5ms: 40 during warmup, 100 measured
+        assertEquals(140, calls.get());
+        assertEquals(100, result.histogram().getTotalCount());
+        assertEquals(200, result.achievedRate(), 1e-9);
+        assertEquals(0, result.errors());
+        assertEquals(Map.of(200, 100L), result.statuses());
+    }
+
+    @Test
+    void run_shouldCountDropped_whenMaxInFlightReached() throws Exception {
+        CompletableFuture<Integer> neverCompletes = new CompletableFuture<>();
+        Workload workload = new Workload("stuck", 100, () -> neverCompletes);
+
+        ManualTicker ticker = new ManualTicker();
+        // arrivals run from 100ms to 390ms; the stuck requests are released while awaiting outstanding ones
+        ticker.onAdvance = now -> {
+            if (now >= TimeUnit.MILLISECONDS.toNanos(400)) {
+                neverCompletes.complete(503);
+            }
+        };
+        OpenLoopDriver driver = new OpenLoopDriver(Duration.ZERO, Duration.ofMillis(300), false, 5, ticker);
+        WorkloadResult result = driver.run(List.of(workload)).get(0);
+
+        assertEquals(5, result.histogram().getTotalCount());
+        assertEquals(5, result.errors());
+        assertEquals(25, result.dropped());
+        // latency is taken from the intended start, so it includes the time spent stuck: 400ms - 140ms at least
+        assertEquals(260_000, result.histogram().getMinValue(), 260);
+    }
+
+    @Test
+    void parseMix_shouldSkipZeroRates() {
+        assertEquals(Map.of("rankings", 50.0, "complete", 2.5),
+                LoadTestOptions.parseMix("rankings:50, highlights:0, complete:2.5"));
+    }
+
+    /** Virtual time that advances only when the driver parks, so pacing is exact and independent of load. */
+    private static final class ManualTicker implements OpenLoopDriver.Ticker {
+
+        private final AtomicLong now = new AtomicLong();
+        private volatile LongConsumer onAdvance = now -> { };
+
+        @Override
+        public long nanoTime() {
+            return now.get();
+        }
+
+        @Override
+        public void parkNanos(long nanos) {
+            onAdvance.accept(now.addAndGet(nanos));
+        }
+    }
+}
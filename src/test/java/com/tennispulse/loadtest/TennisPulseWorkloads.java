@@ -0,0 +1,173 @@
+package com.tennispulse.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.api.analytics.dto.TimelineRange;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The workloads {@link LoadTest} can mix, each hitting one API flow:
+ * <ul>
+ *     <li>{@code highlights}: dashboard read, {@code GET /api/analytics/highlights/{range}};</li>
+ *     <li>{@code rankings}: leaderboard read, current year or last month, limit 10;</li>
+ *     <li>{@code timeline}: polling a player's metrics timeline;</li>
+ *     <li>{@code complete}: create a match and complete it with stats (two requests, measured together).</li>
+ * </ul>
+ * Player and club ids are read once from the list endpoints, so the target needs existing data
+ * (e.g. the {@code seed} or {@code synthetic} profile).
+ */
+public class TennisPulseWorkloads {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final TimelineRange[] RANGES = TimelineRange.values();
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String token;
+
+    private List<UUID> playerIds = List.of();
+    private List<UUID> clubIds = List.of();
+
+    public TennisPulseWorkloads(HttpClient client, ObjectMapper objectMapper, String baseUrl, String token) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.token = token;
+    }
+
+    public List<Workload> build(Map<String, Double> mix) throws IOException, InterruptedException {
+        playerIds = fetchIds("/api/players?size=200");
+        clubIds = fetchIds("/api/clubs?size=200");
+        if (playerIds.size() < 2 || clubIds.isEmpty()) {
+            throw new IllegalStateException("Need at least 2 players and 1 club at " + baseUrl
+                    + " (found " + playerIds.size() + " players, " + clubIds.size() + " clubs)");
+        }
+
+        List<Workload> workloads = new ArrayList<>();
+        mix.forEach((name, rate) -> workloads.add(new Workload(name, rate, operation(name))));
+        return workloads;
+    }
+
+    private Workload.Operation operation(String name) {
+        return switch (name) {
+            case "highlights" -> () -> get("/api/analytics/highlights/" + RANGES[random().nextInt(RANGES.length)]);
+            case "rankings" -> () -> get("/api/rankings/wins/" + (random().nextBoolean() ? "current-year" : "last-month")
+                    + "?limit=10");
+            case "timeline" -> () -> get("/api/analytics/player/" + randomPlayer() + "/timeline?range="
+                    + RANGES[random().nextInt(RANGES.length)]);
+            case "complete" -> this::completeMatch;
+            default -> throw new IllegalArgumentException("Unknown workload: " + name
+                    + " (expected highlights, rankings, timeline or complete)");
+        };
+    }
+
+    private CompletableFuture<Integer> completeMatch() {
+        UUID p1 = randomPlayer();
+        UUID p2;
+        do {
+            p2 = randomPlayer();
+        } while (p2.equals(p1));
+        UUID opponent = p2;
+        UUID club = clubIds.get(random().nextInt(clubIds.size()));
+
+        String create = json(Map.of("clubId", club, "player1Id", p1, "player2Id", opponent));
+        return send(request("/api/matches").POST(HttpRequest.BodyPublishers.ofString(create)))
+                .thenCompose(created -> {
+                    if (created.statusCode() != 201) {
+                        return CompletableFuture.completedFuture(created.statusCode());
+                    }
+                    String matchId = readTree(created.body()).path("id").asText();
+                    UUID winner = random().nextBoolean() ? p1 : opponent;
+                    String complete = json(Map.of(
+                            "status", "COMPLETED",
+                            "winnerId", winner,
+                            "finalScore", "6-4 6-3",
+                            "playerStats", List.of(stats(p1), stats(opponent))));
+                    return send(request("/api/matches/" + matchId + "/status")
+                            .PUT(HttpRequest.BodyPublishers.ofString(complete)))
+                            .thenApply(HttpResponse::statusCode);
+                });
+    }
+
+    private static Map<String, Object> stats(UUID playerId) {
+        ThreadLocalRandom r = random();
+        return Map.ofEntries(
+                Map.entry("playerId", playerId),
+                Map.entry("firstServeIn", 50 + r.nextDouble() * 40),
+                Map.entry("firstServePointsWon", 55 + r.nextDouble() * 30),
+                Map.entry("secondServePointsWon", 40 + r.nextDouble() * 30),
+                Map.entry("unforcedErrorsForehand", 2 + r.nextInt(20)),
+                Map.entry("unforcedErrorsBackhand", 3 + r.nextInt(20)),
+                Map.entry("winners", 10 + r.nextInt(25)),
+                Map.entry("breakPointConversion", 20 + r.nextDouble() * 50),
+                Map.entry("breakPointsSaved", 20 + r.nextDouble() * 60),
+                Map.entry("netPointsWon", 40 + r.nextDouble() * 40),
+                Map.entry("longRallyWinRate", 30 + r.nextDouble() * 40));
+    }
+
+    private CompletableFuture<Integer> get(String path) {
+        return send(request(path).GET()).thenApply(HttpResponse::statusCode);
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest.Builder request) {
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (token != null && !token.isBlank()) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private List<UUID> fetchIds(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode()
+                    + (response.statusCode() == 401 ? " (pass --token or LOADTEST_TOKEN)" : ""));
+        }
+        List<UUID> ids = new ArrayList<>();
+        readTree(response.body()).path("content").forEach(node -> ids.add(UUID.fromString(node.path("id").asText())));
+        return ids;
+    }
+
+    private UUID randomPlayer() {
+        return playerIds.get(random().nextInt(playerIds.size()));
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected response body: " + body, e);
+        }
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
@@ -0,0 +1,15 @@
+package com.tennispulse.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One kind of request issued at a target rate. The operation completes with the HTTP status of its last request
+ * (a multi-request operation such as a match completion is measured as a whole).
+ */
+public record Workload(String name, double ratePerSecond, Operation operation) {
+
+    @FunctionalInterface
+    public interface Operation {
+        CompletableFuture<Integer> call();
+    }
+}
@@ -0,0 +1,93 @@
+package com.tennispulse.logging;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodTimingInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private SampleService proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ProxyFactory factory = new ProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                new MethodAllowlistPointcut(List.of("SampleService.rankings")),
+                new MethodTimingInterceptor(() -> registry, 1.0, new double[]{0.5, 0.99})));
+        proxy = (SampleService) factory.getProxy();
+    }
+
+    @Test
+    void invoke_shouldRecordSuccessTimerForAllowlistedMethod() {
+        proxy.rankings(10);
+        proxy.rankings(20);
+
+        Timer timer = registry.get(MethodTimingInterceptor.METRIC_NAME)
+                .tags("class", "SampleService", "method", "rankings", "outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void invoke_shouldRecordErrorOutcomeAndRethrow() {
+        assertThrows(IllegalArgumentException.class, () -> proxy.rankings(-1));
+
+        assertEquals(1, registry.get(MethodTimingInterceptor.METRIC_NAME)
+                .tags("method", "rankings", "outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    void methodsNotOnTheAllowlist_shouldNotBeTimed() {
+        proxy.highlights();
+
+        assertNull(registry.find(MethodTimingInterceptor.METRIC_NAME).tags("method", "highlights").timer());
+    }
+
+    @Test
+    void pointcut_shouldSupportWildcardAndIgnoreClassesOutsideTheApplication() throws Exception {
+        MethodAllowlistPointcut pointcut = new MethodAllowlistPointcut(List.of("SampleService.*", "String.*"));
+
+        assertTrue(pointcut.matches(SampleService.class.getMethod("highlights"), SampleService.class));
+        assertFalse(pointcut.matches(String.class.getMethod("length"), String.class));
+    }
+
+    @Test
+    void summarize_shouldNotRenderLargeArguments() {
+        UUID id = UUID.randomUUID();
+        String summary = MethodTimingInterceptor.summarize(
+                new Object[]{id, 5, List.of(1, 2, 3), Map.of("k", "v"), new SampleService(), null, "x".repeat(100)});
+
+        assertTrue(summary.startsWith(id + ", 5, "));
+        assertTrue(summary.contains("(size=3)"));
+        assertTrue(summary.contains("SampleService"));
+        assertTrue(summary.contains("null"));
+        assertTrue(summary.endsWith("x".repeat(64) + "..."));
+    }
+
+    public static class SampleService {
+
+        public int rankings(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("limit");
+            }
+            return limit;
+        }
+
+        public String highlights() {
+            return "highlights";
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.tennispulse.perf;
+
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.MetricStatus;
+import com.tennispulse.domain.analytics.MetricValue;
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryPlayerMatchAnalyticsRepositoryTest {
+
+    private InMemoryPlayerMatchAnalyticsRepository repository;
+    private UUID playerA;
+    private UUID playerB;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPlayerMatchAnalyticsRepository();
+        playerA = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+        playerB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    }
+
+    @Test
+    void averageMetricsPerPlayer_shouldAverageEachMetric_andOrderByPlayerId() {
+        repository.save(doc(playerB, "2026-03-10T10:00:00Z", 60.0, 10.0));
+        repository.save(doc(playerA, "2026-03-10T10:00:00Z", 70.0, 20.0));
+        repository.save(doc(playerA, "2026-04-10T10:00:00Z", 80.0, null));
+
+        List<Document> results = repository.averageMetricsPerPlayer(null);
+
+        assertEquals(2, results.size());
+        assertEquals(playerA, results.get(0).get("playerId", UUID.class));
+        assertEquals(75.0, results.get(0).getDouble(AnalyticsMetric.FIRST_SERVE_IN.name()));
+        // a missing value is ignored like $avg does
+        assertEquals(20.0, results.get(0).getDouble(AnalyticsMetric.WINNERS.name()));
+        assertEquals(playerB, results.get(1).get("playerId", UUID.class));
+        assertFalse(results.get(1).containsKey(AnalyticsMetric.NET_POINTS_WON.name()));
+    }
+
+    @Test
+    void averageMetricsPerPlayer_shouldOnlyIncludeDocumentsSinceFrom() {
+        repository.save(doc(playerA, "2026-01-01T00:00:00Z", 50.0, 5.0));
+        repository.save(doc(playerA, "2026-06-01T00:00:00Z", 90.0, 5.0));
+
+        LocalDateTime from = LocalDateTime.ofInstant(Instant.parse("2026-03-01T00:00:00Z"), ZoneId.systemDefault());
+        List<Document> results = repository.averageMetricsPerPlayer(from);
+
+        assertEquals(1, results.size());
+        assertEquals(90.0, results.get(0).getDouble(AnalyticsMetric.FIRST_SERVE_IN.name()));
+    }
+
+    @Test
+    void averageMetricsPerMonth_shouldGroupByUtcMonth_newestFirst() {
+        repository.save(doc(playerA, "2026-03-31T23:30:00Z", 60.0, 10.0));
+        repository.save(doc(playerA, "2026-03-01T00:00:00Z", 70.0, 20.0));
+        repository.save(doc(playerA, "2026-04-01T00:30:00Z", 80.0, 30.0));
+        repository.save(doc(playerB, "2026-04-15T00:00:00Z", 10.0, 1.0));
+
+        List<Document> results = repository.averageMetricsPerMonth(playerA, null);
+
+        assertEquals(2, results.size());
+        assertEquals(2026, results.get(0).getInteger("year"));
+        assertEquals(4, results.get(0).getInteger("month"));
+        assertEquals(80.0, results.get(0).getDouble(AnalyticsMetric.FIRST_SERVE_IN.name()));
+        assertEquals(3, results.get(1).getInteger("month"));
+        assertEquals(65.0, results.get(1).getDouble(AnalyticsMetric.FIRST_SERVE_IN.name()));
+    }
+
+    @Test
+    void save_shouldOverwriteDocumentWithSameId() {
+        UUID matchId = UUID.randomUUID();
+        PlayerMatchAnalyticsDocument first = doc(playerA, "2026-03-01T00:00:00Z", 60.0, 10.0);
+        first.setId(PlayerMatchAnalyticsDocument.idFor(matchId, playerA));
+        PlayerMatchAnalyticsDocument again = doc(playerA, "2026-03-01T00:00:00Z", 80.0, 10.0);
+        again.setId(PlayerMatchAnalyticsDocument.idFor(matchId, playerA));
+
+        repository.insert(List.of(first));
+        repository.save(again);
+
+        assertEquals(1, repository.count());
+        assertTrue(repository.existsById(first.getId()));
+        assertEquals(List.of(again), repository.findByPlayerIdOrderByCreatedAtDesc(playerA));
+    }
+
+    private PlayerMatchAnalyticsDocument doc(UUID playerId, String createdAt, Double firstServeIn, Double winners) {
+        PlayerMatchAnalyticsDocument doc = new PlayerMatchAnalyticsDocument();
+        doc.setId(UUID.randomUUID());
+        doc.setMatchId(UUID.randomUUID());
+        doc.setPlayerId(playerId);
+        doc.setCreatedAt(Instant.parse(createdAt));
+        Map<AnalyticsMetric, MetricValue> metrics = new EnumMap<>(AnalyticsMetric.class);
+        metrics.put(AnalyticsMetric.FIRST_SERVE_IN, new MetricValue(firstServeIn, MetricStatus.GOOD));
+        metrics.put(AnalyticsMetric.WINNERS, new MetricValue(winners, MetricStatus.GOOD));
+        doc.setMetrics(metrics);
+        return doc;
+    }
+}
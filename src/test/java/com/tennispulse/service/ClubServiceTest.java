@@ -8,6 +8,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
@@ -30,14 +35,14 @@ class ClubServiceTest {
     @Test
     void create_shouldSaveClubAndReturnCreated() {
         ClubEntity input = ClubEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .name("Green Valley")
                 .city("Austin")
                 .country("USA")
                 .build();
 
         ClubEntity saved = ClubEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .name("Green Valley")
                 .city("Austin")
                 .country("USA")
@@ -56,21 +61,31 @@ class ClubServiceTest {
     }
 
     @Test
-    void findAll_shouldReturnNonDeletedClubs() {
-        ClubEntity c1 = ClubEntity.builder().id(UUID.randomUUID().toString()).name("A").build();
-        ClubEntity c2 = ClubEntity.builder().id(UUID.randomUUID().toString()).name("B").build();
+    void findActive_shouldReturnPageOfNonDeletedClubs() {
+        ClubEntity c1 = ClubEntity.builder().id(UUID.randomUUID()).name("A").build();
+        ClubEntity c2 = ClubEntity.builder().id(UUID.randomUUID()).name("B").build();
 
-        when(clubRepository.findByDeletedFalse()).thenReturn(List.of(c1, c2));
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("name"));
+        when(clubRepository.findByDeletedFalse(pageable)).thenReturn(new SliceImpl<>(List.of(c1, c2), pageable, true));
 
-        List<ClubEntity> result = clubService.findAll();
+        Slice<ClubEntity> result = clubService.findActive(pageable);
 
-        assertEquals(2, result.size());
-        verify(clubRepository).findByDeletedFalse();
+        assertEquals(2, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        verify(clubRepository).findByDeletedFalse(pageable);
+    }
+
+    @Test
+    void countActive_shouldCountNonDeletedClubs() {
+        when(clubRepository.countByDeletedFalse()).thenReturn(42L);
+
+        assertEquals(42L, clubService.countActive());
+        verify(clubRepository).countByDeletedFalse();
     }
 
     @Test
     void findById_shouldReturnClubWhenExists() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         ClubEntity c = ClubEntity.builder().id(id).name("Club").build();
 
         when(clubRepository.findById(id)).thenReturn(Optional.of(c));
@@ -82,7 +97,7 @@ class ClubServiceTest {
 
     @Test
     void findById_shouldThrowWhenNotFound() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         when(clubRepository.findById(id)).thenReturn(Optional.empty());
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -93,7 +108,7 @@ class ClubServiceTest {
 
     @Test
     void update_shouldUpdateFieldsAndSave() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         ClubEntity existing = ClubEntity.builder()
                 .id(id)
                 .name("Old")
@@ -120,7 +135,7 @@ class ClubServiceTest {
 
     @Test
     void delete_shouldSoftDeleteWhenNotDeleted() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         ClubEntity existing = ClubEntity.builder()
                 .id(id)
                 .name("Club")
@@ -144,7 +159,7 @@ class ClubServiceTest {
 
     @Test
     void delete_shouldNotSaveWhenAlreadyDeleted() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         ClubEntity existing = ClubEntity.builder()
                 .id(id)
                 .name("Deleted")
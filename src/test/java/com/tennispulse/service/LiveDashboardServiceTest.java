@@ -0,0 +1,278 @@
+package com.tennispulse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.api.analytics.dto.HighlightsDashboardResponse;
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.api.dto.PlayerWinsRankingDto;
+import com.tennispulse.cache.CacheInvalidationBus;
+import com.tennispulse.service.analytics.PlayerHighlightsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveDashboardServiceTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private PlayerHighlightsService highlightsService;
+
+    private final List<RecordingEmitter> emitters = Collections.synchronizedList(new ArrayList<>());
+    private LiveDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void subscribe_shouldSendCurrentValueOfEveryTopic() {
+        List<PlayerWinsRankingDto> ranking = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Ana", 3));
+        when(rankingService.getTopWinnersCurrentYear(10)).thenReturn(ranking);
+        when(highlightsService.getHighlights(TimelineRange.LAST_MONTH))
+                .thenReturn(new HighlightsDashboardResponse(TimelineRange.LAST_MONTH, Map.of()));
+
+        service.subscribe(List.of(service.rankingsTopic("current-year", 10),
+                service.highlightsTopic(TimelineRange.LAST_MONTH)));
+
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events().size() == 2);
+        assertTrue(emitter.events().get(0).startsWith("event:rankings:current-year:10\ndata:[{\"playerId\""));
+        assertTrue(emitter.events().get(1).startsWith("event:highlights:LAST_MONTH\n"));
+    }
+
+    @Test
+    void flush_shouldReadOnceAndPushOnlyChangedViewsToEverySubscriber() {
+        List<PlayerWinsRankingDto> before = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Ana", 3));
+        List<PlayerWinsRankingDto> after = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Bea", 4));
+        when(rankingService.getTopWinnersLastMonth(5)).thenReturn(before, after, after);
+        for (int i = 0; i < 3; i++) {
+            service.subscribe(List.of(service.rankingsTopic("last-month", 5)));
+        }
+        emitters.forEach(emitter -> await(() -> emitter.events().size() == 1));
+
+        service.onInvalidation("rankings");
+        service.onInvalidation("rankings");
+        service.flush();
+        emitters.forEach(emitter -> await(() -> emitter.events().size() == 2));
+
+        service.onInvalidation("rankings");
+        service.flush();
+
+        verify(rankingService, times(3)).getTopWinnersLastMonth(5);
+        emitters.forEach(emitter -> {
+            assertEquals(2, emitter.events().size());
+            assertTrue(emitter.events().get(1).contains("Bea"));
+        });
+    }
+
+    @Test
+    void flush_shouldSendIdenticalBytesToEverySubscriber() {
+        List<PlayerWinsRankingDto> before = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Ana", 3));
+        List<PlayerWinsRankingDto> after = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Bea", 4));
+        when(rankingService.getTopWinnersCurrentYear(10)).thenReturn(before, after);
+        for (int i = 0; i < 5; i++) {
+            service.subscribe(List.of(service.rankingsTopic("current-year", 10)));
+        }
+
+        service.onInvalidation("rankings");
+        service.flush();
+
+        emitters.forEach(emitter -> await(() -> emitter.events().size() == 2));
+        List<String> expected = emitters.get(0).events();
+        assertTrue(expected.get(1).endsWith("\n\n"));
+        assertFalse(expected.get(1).endsWith("\n\n\n"));
+        emitters.forEach(emitter -> assertEquals(expected, emitter.events()));
+    }
+
+    @Test
+    void flush_shouldDropSubscriberWhoseSendBlocksWithoutStallingOthers() {
+        AtomicInteger wins = new AtomicInteger();
+        when(rankingService.getTopWinnersCurrentYear(10)).thenAnswer(invocation ->
+                List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Ana", wins.incrementAndGet())));
+        CountDownLatch socketStalled = new CountDownLatch(1);
+        service.shutdown();
+        service = new LiveDashboardService(rankingService, highlightsService, new ObjectMapper(),
+                CacheInvalidationBus.local(), new SimpleMeterRegistry(), NEVER, NEVER, NEVER, NEVER, 10) {
+            @Override
+            SseEmitter newEmitter(Duration timeout) {
+                RecordingEmitter emitter = emitters.isEmpty() ? new BlockingEmitter(socketStalled) : new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        service.subscribe(List.of(service.rankingsTopic("current-year", 10)));
+        service.subscribe(List.of(service.rankingsTopic("current-year", 10)));
+        RecordingEmitter slow = emitters.get(0);
+        RecordingEmitter fast = emitters.get(1);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < LiveDashboardService.MAX_PENDING_EVENTS + 1; i++) {
+                service.onInvalidation("rankings");
+                service.flush();
+            }
+        });
+
+        await(() -> fast.events().size() == LiveDashboardService.MAX_PENDING_EVENTS + 2);
+        assertEquals(1, service.subscriberCount());
+        assertFalse(slow.completed);
+
+        socketStalled.countDown();
+        await(() -> slow.completed);
+        assertEquals(1, slow.events().size());
+    }
+
+    @Test
+    void subscribe_shouldLoadFirstSnapshotOutsideTheTopicMonitor() throws Exception {
+        List<PlayerWinsRankingDto> stale = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Ana", 3));
+        List<PlayerWinsRankingDto> fresh = List.of(new PlayerWinsRankingDto(UUID.randomUUID(), "Bea", 4));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(rankingService.getTopWinnersLastMonth(5)).thenAnswer(inv -> {
+            if (calls.getAndIncrement() > 0) {
+                return fresh;
+            }
+            loading.countDown();
+            release.await();
+            return stale;
+        });
+
+        Thread subscribing = Thread.ofVirtual().start(
+                () -> service.subscribe(List.of(service.rankingsTopic("last-month", 5))));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // a publish while the first snapshot is still loading neither waits for it nor is overwritten by it
+        service.onInvalidation("rankings");
+        Thread flushing = Thread.ofVirtual().start(service::flush);
+        boolean flushed = flushing.join(Duration.ofSeconds(5));
+        release.countDown();
+        assertTrue(flushed, "publish waited for the snapshot load");
+        subscribing.join(Duration.ofSeconds(5));
+
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events().size() == 2);
+        assertTrue(emitter.events().stream().allMatch(event -> event.contains("Bea")));
+    }
+
+    @Test
+    void flush_shouldIgnoreUnrelatedCaches() {
+        when(rankingService.getTopWinnersCurrentYear(10)).thenReturn(List.of());
+        service.subscribe(List.of(service.rankingsTopic("current-year", 10)));
+
+        service.onInvalidation("highlights");
+        service.onInvalidation("players");
+        service.flush();
+
+        verify(rankingService, times(1)).getTopWinnersCurrentYear(10);
+    }
+
+    @Test
+    void subscribe_whenFull_shouldRejectNewSubscribers() {
+        service.shutdown();
+        service = newService(1);
+        when(rankingService.getTopWinnersCurrentYear(10)).thenReturn(List.of());
+
+        service.subscribe(List.of(service.rankingsTopic("current-year", 10)));
+
+        assertThrows(IllegalStateException.class,
+                () -> service.subscribe(List.of(service.rankingsTopic("current-year", 10))));
+        assertEquals(1, service.subscriberCount());
+    }
+
+    @Test
+    void rankingsTopic_shouldRejectUnknownPeriod() {
+        assertThrows(IllegalArgumentException.class, () -> service.rankingsTopic("all-time", 10));
+    }
+
+    private LiveDashboardService newService(int maxSubscribers) {
+        return new LiveDashboardService(rankingService, highlightsService, new ObjectMapper(),
+                CacheInvalidationBus.local(), new SimpleMeterRegistry(), NEVER, NEVER, NEVER, NEVER, maxSubscribers) {
+            @Override
+            SseEmitter newEmitter(Duration timeout) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Records each event as its SSE text instead of writing it to a response. */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            events.add(text.toString());
+        }
+
+        List<String> events() {
+            return List.copyOf(events);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    /** A client whose socket stops accepting data: every send waits until the latch opens. */
+    private static class BlockingEmitter extends RecordingEmitter {
+
+        private final CountDownLatch stalled;
+
+        BlockingEmitter(CountDownLatch stalled) {
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                stalled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.send(builder);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.tennispulse.service;
+
+import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.api.controllers.MatchImportController.MatchImportResult;
+import com.tennispulse.api.controllers.MatchImportController.MatchImportRow;
+import com.tennispulse.datasource.ReplicaLagGuard;
+import com.tennispulse.domain.ClubEntity;
+import com.tennispulse.domain.MatchEntity;
+import com.tennispulse.domain.MatchStatus;
+import com.tennispulse.domain.PlayerEntity;
+import com.tennispulse.repository.ClubRepository;
+import com.tennispulse.repository.PlayerRepository;
+import com.tennispulse.service.analytics.SqsMatchEventPublisher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchImportServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SqsMatchEventPublisher matchEventPublisher;
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+
+    @InjectMocks
+    private MatchImportService matchImportService;
+
+    private final ClubEntity club = ClubEntity.builder().id(UUID.randomUUID()).name("Club").build();
+    private final PlayerEntity p1 = PlayerEntity.builder().id(UUID.randomUUID()).name("P1").build();
+    private final PlayerEntity p2 = PlayerEntity.builder().id(UUID.randomUUID()).name("P2").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(matchImportService, "batchSize", 2);
+        // ids are assigned on persist, as Hibernate does for GenerationType.UUID
+        lenient().doAnswer(inv -> {
+            inv.<MatchEntity>getArgument(0).setId(UUID.randomUUID());
+            return null;
+        }).when(entityManager).persist(any(MatchEntity.class));
+    }
+
+    @Test
+    void importCompleted_shouldLookUpReferencesOnceAndPersistInFlushedChunks() {
+        when(playerRepository.findAllById(Set.of(p1.getId(), p2.getId()))).thenReturn(List.of(p1, p2));
+        when(clubRepository.findAllById(Set.of(club.getId()))).thenReturn(List.of(club));
+
+        List<MatchImportRow> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(row(i + 1, p1.getId()));
+        }
+        rows.get(0).setPlayerStats(List.of(stats(p1.getId()), stats(p2.getId())));
+
+        MatchImportResult result = matchImportService.importCompleted(rows);
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(result.received()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(5);
+        assertThat(result.eventsQueued()).isEqualTo(1);
+
+        verify(playerRepository, times(1)).findAllById(anyIterable());
+        verify(clubRepository, times(1)).findAllById(anyIterable());
+
+        ArgumentCaptor<MatchEntity> persisted = ArgumentCaptor.forClass(MatchEntity.class);
+        verify(entityManager, times(5)).persist(persisted.capture());
+        assertThat(persisted.getAllValues()).allSatisfy(m -> {
+            assertThat(m.getStatus()).isEqualTo(MatchStatus.COMPLETED);
+            assertThat(m.getWinner()).isSameAs(p1);
+            assertThat(m.getClub()).isSameAs(club);
+            assertThat(m.getEndTime()).isNotNull();
+        });
+        // chunks of 2: after the 2nd and 4th match, plus the remainder
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<UUID, List<MatchController.PlayerStatsRequest>>> statsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(matchEventPublisher).publishMatchesCompleted(eq(persisted.getAllValues()), statsCaptor.capture());
+        assertThat(statsCaptor.getValue()).containsOnlyKeys(persisted.getAllValues().get(0).getId());
+        verify(rankingService, times(1)).invalidateRankingsCache();
+    }
+
+    @Test
+    void importCompleted_shouldInvalidateRankingsEvenWhenPublishingFails() {
+        when(playerRepository.findAllById(anyIterable())).thenReturn(List.of(p1, p2));
+        when(clubRepository.findAllById(anyIterable())).thenReturn(List.of(club));
+        when(matchEventPublisher.publishMatchesCompleted(anyList(), anyMap()))
+                .thenThrow(new IllegalStateException("SQS unavailable"));
+
+        MatchImportResult result = matchImportService.importCompleted(List.of(row(1, p1.getId())));
+
+        assertThat(result.imported()).isEqualTo(1);
+        InOrder inOrder = inOrder(rankingService, matchEventPublisher);
+        inOrder.verify(rankingService).invalidateRankingsCache();
+        inOrder.verify(matchEventPublisher).publishMatchesCompleted(anyList(), anyMap());
+    }
+
+    @Test
+    void importCompleted_shouldRejectWholeBatchWhenAnyRowIsInvalid() {
+        PlayerEntity deleted = PlayerEntity.builder().id(UUID.randomUUID()).name("Gone").deleted(true).build();
+        UUID unknownClub = UUID.randomUUID();
+
+        when(playerRepository.findAllById(anyIterable())).thenReturn(List.of(p1, p2, deleted));
+        when(clubRepository.findAllById(anyIterable())).thenReturn(List.of(club));
+
+        MatchImportRow valid = row(1, p1.getId());
+        MatchImportRow unknownClubRow = row(2, p1.getId());
+        unknownClubRow.setClubId(unknownClub);
+        MatchImportRow deletedPlayer = row(3, p1.getId());
+        deletedPlayer.setPlayer2Id(deleted.getId());
+        MatchImportRow foreignWinner = row(4, UUID.randomUUID());
+        MatchImportRow missingScore = row(5, p1.getId());
+        missingScore.setFinalScore(" ");
+        MatchImportRow foreignStats = row(6, p2.getId());
+        foreignStats.setPlayerStats(List.of(stats(UUID.randomUUID())));
+
+        MatchImportResult result = matchImportService.importCompleted(
+                List.of(valid, unknownClubRow, deletedPlayer, foreignWinner, missingScore, foreignStats));
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).extracting(e -> e.line()).containsExactly(2, 3, 4, 5, 6);
+        assertThat(result.errors().get(0).message()).contains(unknownClub.toString());
+        assertThat(result.errors().get(1).message()).contains(deleted.getId().toString());
+
+        verifyNoInteractions(entityManager, matchEventPublisher, rankingService);
+    }
+
+    @Test
+    void importCompleted_shouldRejectSamePlayerOnBothSides() {
+        when(playerRepository.findAllById(anyIterable())).thenReturn(List.of(p1));
+        when(clubRepository.findAllById(anyIterable())).thenReturn(List.of(club));
+
+        MatchImportRow row = row(1, p1.getId());
+        row.setPlayer2Id(p1.getId());
+
+        MatchImportResult result = matchImportService.importCompleted(List.of(row));
+
+        assertThat(result.errors()).singleElement()
+                .satisfies(e -> assertThat(e.message()).contains("must differ"));
+        verify(matchEventPublisher, never()).publishMatchesCompleted(anyList(), anyMap());
+    }
+
+    private MatchImportRow row(int line, UUID winnerId) {
+        MatchImportRow row = new MatchImportRow();
+        row.setLine(line);
+        row.setClubId(club.getId());
+        row.setPlayer1Id(p1.getId());
+        row.setPlayer2Id(p2.getId());
+        row.setWinnerId(winnerId);
+        row.setFinalScore("6-4 6-3");
+        return row;
+    }
+
+    private static MatchController.PlayerStatsRequest stats(UUID playerId) {
+        MatchController.PlayerStatsRequest stats = new MatchController.PlayerStatsRequest();
+        stats.setPlayerId(playerId);
+        stats.setWinners(10);
+        return stats;
+    }
+}
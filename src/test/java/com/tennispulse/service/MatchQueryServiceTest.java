@@ -32,11 +32,11 @@ class MatchQueryServiceTest {
 
     @Test
     void listAll_shouldMapEntitiesToResponses() {
-        String matchId = UUID.randomUUID().toString();
-        String clubId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
-        String winnerId = p1Id;
+        UUID matchId = UUID.randomUUID();
+        UUID clubId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
+        UUID winnerId = p1Id;
 
         ClubEntity club = ClubEntity.builder()
                 .id(clubId)
@@ -89,9 +89,9 @@ class MatchQueryServiceTest {
 
     @Test
     void listAll_shouldHandleNullClubAndNullWinner() {
-        String matchId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         PlayerEntity p1 = PlayerEntity.builder()
                 .id(p1Id)
@@ -130,9 +130,9 @@ class MatchQueryServiceTest {
 
     @Test
     void getById_shouldReturnMappedResponseWhenFound() {
-        String matchId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         PlayerEntity p1 = PlayerEntity.builder()
                 .id(p1Id)
@@ -163,7 +163,7 @@ class MatchQueryServiceTest {
 
     @Test
     void getById_shouldThrowWhenNotFound() {
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
         when(matchRepository.findById(matchId)).thenReturn(Optional.empty());
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
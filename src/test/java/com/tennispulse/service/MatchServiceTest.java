@@ -1,6 +1,7 @@
 package com.tennispulse.service;
 
 import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.datasource.ReplicaLagGuard;
 import com.tennispulse.domain.ClubEntity;
 import com.tennispulse.domain.MatchEntity;
 import com.tennispulse.domain.MatchStatus;
@@ -9,14 +10,18 @@ import com.tennispulse.repository.ClubRepository;
 import com.tennispulse.repository.MatchRepository;
 import com.tennispulse.repository.PlayerRepository;
 import com.tennispulse.service.analytics.SqsMatchEventPublisher;
+import com.tennispulse.service.scoring.LiveScoringService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,14 +47,20 @@ class MatchServiceTest {
     @Mock
     private RankingService rankingService;
 
+    @Mock
+    private LiveScoringService liveScoringService;
+
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+
     @InjectMocks
     private MatchService matchService;
 
     @Test
     void create_shouldCreateMatchWithScheduledStatus() {
-        String clubId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         ClubEntity club = ClubEntity.builder().id(clubId).name("Club").build();
         PlayerEntity p1 = PlayerEntity.builder().id(p1Id).name("P1").build();
@@ -60,7 +71,7 @@ class MatchServiceTest {
         when(playerRepository.findById(p2Id)).thenReturn(Optional.of(p2));
 
         MatchEntity saved = MatchEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .club(club)
                 .player1(p1)
                 .player2(p2)
@@ -78,9 +89,9 @@ class MatchServiceTest {
 
     @Test
     void create_shouldThrowWhenClubNotFound() {
-        String clubId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         when(clubRepository.findById(clubId)).thenReturn(Optional.empty());
 
@@ -94,9 +105,9 @@ class MatchServiceTest {
 
     @Test
     void create_shouldThrowWhenPlayer1NotFound() {
-        String clubId = UUID.randomUUID().toString();
-        String p1Id = UUID.randomUUID().toString();
-        String p2Id = UUID.randomUUID().toString();
+        UUID clubId = UUID.randomUUID();
+        UUID p1Id = UUID.randomUUID();
+        UUID p2Id = UUID.randomUUID();
 
         ClubEntity club = ClubEntity.builder().id(clubId).build();
         when(clubRepository.findById(clubId)).thenReturn(Optional.of(club));
@@ -112,8 +123,8 @@ class MatchServiceTest {
     @Test
     void findAll_shouldReturnAllMatches() {
         when(matchRepository.findAll()).thenReturn(List.of(
-                MatchEntity.builder().id(UUID.randomUUID().toString()).build(),
-                MatchEntity.builder().id(UUID.randomUUID().toString()).build()
+                MatchEntity.builder().id(UUID.randomUUID()).build(),
+                MatchEntity.builder().id(UUID.randomUUID()).build()
         ));
 
         List<MatchEntity> result = matchService.findAll();
@@ -124,7 +135,7 @@ class MatchServiceTest {
 
     @Test
     void findById_shouldReturnMatchWhenExists() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         MatchEntity match = MatchEntity.builder().id(id).build();
         when(matchRepository.findById(id)).thenReturn(Optional.of(match));
 
@@ -135,7 +146,7 @@ class MatchServiceTest {
 
     @Test
     void findById_shouldThrowWhenNotFound() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         when(matchRepository.findById(id)).thenReturn(Optional.empty());
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -146,7 +157,7 @@ class MatchServiceTest {
 
     @Test
     void updateStatus_toInProgress_shouldSetStartTime() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         MatchEntity match = MatchEntity.builder()
                 .id(id)
                 .status(MatchStatus.SCHEDULED)
@@ -168,7 +179,7 @@ class MatchServiceTest {
 
     @Test
     void updateStatus_toCompletedWithoutWinnerOrScore_shouldThrow() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         MatchEntity match = MatchEntity.builder()
                 .id(id)
                 .status(MatchStatus.IN_PROGRESS)
@@ -190,8 +201,8 @@ class MatchServiceTest {
 
     @Test
     void updateStatus_toCompleted_shouldSetWinnerFinalScoreAndEndTime() {
-        String id = UUID.randomUUID().toString();
-        String winnerId = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
+        UUID winnerId = UUID.randomUUID();
         MatchEntity match = MatchEntity.builder()
                 .id(id)
                 .status(MatchStatus.IN_PROGRESS)
@@ -219,12 +230,13 @@ class MatchServiceTest {
         assertEquals("6-4 6-3", result.getFinalScore());
         assertNotNull(result.getEndTime());
         verify(matchRepository).save(match);
+        verify(replicaLagGuard).readYourWrites();
     }
 
     @Test
     void updateStatus_toCompletedWithStats_shouldPublishMatchCompletedEvent() {
-        String id = UUID.randomUUID().toString();
-        String winnerId = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
+        UUID winnerId = UUID.randomUUID();
 
         MatchEntity match = MatchEntity.builder()
                 .id(id)
@@ -278,15 +290,61 @@ class MatchServiceTest {
         verify(matchEventPublisher).publishMatchCompleted(match, statsList);
     }
 
+    @Test
+    void updateStatus_toCompletedAfterLiveScoring_shouldUseScoredWinnerScoreAndStats() {
+        UUID id = UUID.randomUUID();
+        UUID winnerId = UUID.randomUUID();
+        MatchEntity match = MatchEntity.builder()
+                .id(id)
+                .status(MatchStatus.IN_PROGRESS)
+                .startTime(Instant.now())
+                .build();
+        PlayerEntity winner = PlayerEntity.builder().id(winnerId).name("Winner").build();
+        MatchController.PlayerStatsRequest stats = new MatchController.PlayerStatsRequest();
+        stats.setPlayerId(winnerId);
+
+        when(matchRepository.findById(id)).thenReturn(Optional.of(match));
+        when(liveScoringService.result(match)).thenReturn(Optional.of(
+                new LiveScoringService.LiveResult(winnerId, "6-4 7-6(5)", List.of(stats))));
+        when(playerRepository.findById(winnerId)).thenReturn(Optional.of(winner));
+        when(matchRepository.save(any(MatchEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // the publisher builds the event from the entity, so check what it sees when called
+        List<String> published = new ArrayList<>();
+        doAnswer(invocation -> {
+            MatchEntity completed = invocation.getArgument(0);
+            published.add(completed.getWinner().getId() + " " + completed.getFinalScore());
+            return null;
+        }).when(matchEventPublisher).publishMatchCompleted(eq(match), eq(List.of(stats)));
+
+        MatchController.UpdateMatchStatusRequest request = new MatchController.UpdateMatchStatusRequest();
+        request.setStatus(MatchStatus.COMPLETED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            MatchEntity result = matchService.updateStatus(id, request);
+
+            assertEquals(winner, result.getWinner());
+            assertEquals("6-4 7-6(5)", result.getFinalScore());
+            assertTrue(published.isEmpty(), "published before commit");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(winnerId + " 6-4 7-6(5)"), published);
+        verify(liveScoringService).discard(id);
+    }
 
     @Test
     void updateStatus_toCancelled_shouldClearWinnerAndFinalScoreAndSetEndTime() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         MatchEntity match = MatchEntity.builder()
                 .id(id)
                 .status(MatchStatus.IN_PROGRESS)
                 .startTime(Instant.now())
-                .winner(PlayerEntity.builder().id(UUID.randomUUID().toString()).build())
+                .winner(PlayerEntity.builder().id(UUID.randomUUID()).build())
                 .finalScore("6-4 6-3")
                 .build();
 
@@ -307,7 +365,7 @@ class MatchServiceTest {
 
     @Test
     void delete_shouldCallRepositoryDeleteById() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
 
         matchService.delete(id);
 
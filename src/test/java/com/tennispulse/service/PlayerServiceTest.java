@@ -9,6 +9,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
@@ -31,13 +36,13 @@ class PlayerServiceTest {
     @Test
     void create_shouldSavePlayerAndReturnCreated() {
         PlayerEntity input = PlayerEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .name("Alice")
                 .handedness(Handedness.RIGHT)
                 .build();
 
         PlayerEntity saved = PlayerEntity.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UUID.randomUUID())
                 .name("Alice")
                 .handedness(Handedness.RIGHT)
                 .build();
@@ -56,21 +61,31 @@ class PlayerServiceTest {
     }
 
     @Test
-    void findAll_shouldReturnNonDeletedPlayers() {
-        PlayerEntity p1 = PlayerEntity.builder().id(UUID.randomUUID().toString()).name("A").build();
-        PlayerEntity p2 = PlayerEntity.builder().id(UUID.randomUUID().toString()).name("B").build();
+    void findActive_shouldReturnPageOfNonDeletedPlayers() {
+        PlayerEntity p1 = PlayerEntity.builder().id(UUID.randomUUID()).name("A").build();
+        PlayerEntity p2 = PlayerEntity.builder().id(UUID.randomUUID()).name("B").build();
 
-        when(playerRepository.findByDeletedFalse()).thenReturn(List.of(p1, p2));
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("name"));
+        when(playerRepository.findByDeletedFalse(pageable)).thenReturn(new SliceImpl<>(List.of(p1, p2), pageable, true));
 
-        List<PlayerEntity> result = playerService.findAll();
+        Slice<PlayerEntity> result = playerService.findActive(pageable);
 
-        assertEquals(2, result.size());
-        verify(playerRepository).findByDeletedFalse();
+        assertEquals(2, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        verify(playerRepository).findByDeletedFalse(pageable);
+    }
+
+    @Test
+    void countActive_shouldCountNonDeletedPlayers() {
+        when(playerRepository.countByDeletedFalse()).thenReturn(42L);
+
+        assertEquals(42L, playerService.countActive());
+        verify(playerRepository).countByDeletedFalse();
     }
 
     @Test
     void findById_shouldReturnPlayerWhenExists() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         PlayerEntity p = PlayerEntity.builder().id(id).name("Alice").build();
 
         when(playerRepository.findById(id)).thenReturn(Optional.of(p));
@@ -83,7 +98,7 @@ class PlayerServiceTest {
 
     @Test
     void findById_shouldThrowWhenNotFound() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         when(playerRepository.findById(id)).thenReturn(Optional.empty());
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -94,7 +109,7 @@ class PlayerServiceTest {
 
     @Test
     void update_shouldUpdateFieldsAndSave() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         PlayerEntity existing = PlayerEntity.builder()
                 .id(id)
                 .name("Old Name")
@@ -118,7 +133,7 @@ class PlayerServiceTest {
 
     @Test
     void delete_shouldSoftDeleteWhenNotDeleted() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         PlayerEntity existing = PlayerEntity.builder()
                 .id(id)
                 .name("Alice")
@@ -140,7 +155,7 @@ class PlayerServiceTest {
 
     @Test
     void delete_shouldNotSaveWhenAlreadyDeleted() {
-        String id = UUID.randomUUID().toString();
+        UUID id = UUID.randomUUID();
         PlayerEntity existing = PlayerEntity.builder()
                 .id(id)
                 .name("Already deleted")
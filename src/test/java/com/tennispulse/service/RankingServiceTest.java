@@ -1,5 +1,7 @@
 package com.tennispulse.service;
 
+import com.tennispulse.api.dto.PlayerGamesRankingDto;
+import com.tennispulse.api.dto.PlayerTiebreakRecordDto;
 import com.tennispulse.api.dto.PlayerWinsRankingDto;
 import com.tennispulse.repository.MatchRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,15 +29,15 @@ class RankingServiceTest {
     @InjectMocks
     private RankingService rankingService;
 
-    private String player1Id;
-    private String player2Id;
-    private String player3Id;
+    private UUID player1Id;
+    private UUID player2Id;
+    private UUID player3Id;
 
     @BeforeEach
     void setUp() {
-        player1Id = UUID.randomUUID().toString();
-        player2Id = UUID.randomUUID().toString();
-        player3Id = UUID.randomUUID().toString();
+        player1Id = UUID.randomUUID();
+        player2Id = UUID.randomUUID();
+        player3Id = UUID.randomUUID();
     }
 
     @Test
@@ -93,8 +96,8 @@ class RankingServiceTest {
                 new Object[]{player1Id, "Player 1", 25L},
                 new Object[]{player2Id, "Player 2", 22L},
                 new Object[]{player3Id, "Player 3", 20L},
-                new Object[]{UUID.randomUUID().toString(), "Player 4", 18L},
-                new Object[]{UUID.randomUUID().toString(), "Player 5", 15L}
+                new Object[]{UUID.randomUUID(), "Player 4", 18L},
+                new Object[]{UUID.randomUUID(), "Player 5", 15L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -170,9 +173,9 @@ class RankingServiceTest {
                 new Object[]{player1Id, "Player 1", 10L},
                 new Object[]{player2Id, "Player 2", 9L},
                 new Object[]{player3Id, "Player 3", 8L},
-                new Object[]{UUID.randomUUID().toString(), "Player 4", 7L},
-                new Object[]{UUID.randomUUID().toString(), "Player 5", 6L},
-                new Object[]{UUID.randomUUID().toString(), "Player 6", 5L}
+                new Object[]{UUID.randomUUID(), "Player 4", 7L},
+                new Object[]{UUID.randomUUID(), "Player 5", 6L},
+                new Object[]{UUID.randomUUID(), "Player 6", 5L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -310,4 +313,30 @@ class RankingServiceTest {
         assertEquals("Rafael Nadal", result.get(0).playerName());
         assertEquals(10L, result.get(0).wins());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTopGamesWonCurrentYear_shouldMapSqlAggregates() {
+        List<Object[]> rows = Arrays.asList(
+                new Object[]{player1Id, "Rafael Nadal", 140L, 95L},
+                new Object[]{player2Id, "Roger Federer", 120, 101}
+        );
+        when(matchRepository.findGamesWonBetween(any(Instant.class), any(Instant.class), eq(5))).thenReturn(rows);
+
+        List<PlayerGamesRankingDto> result = rankingService.getTopGamesWonCurrentYear(5);
+
+        assertEquals(List.of(
+                new PlayerGamesRankingDto(player1Id, "Rafael Nadal", 140, 95),
+                new PlayerGamesRankingDto(player2Id, "Roger Federer", 120, 101)), result);
+    }
+
+    @Test
+    void getTiebreakRecordsCurrentYear_shouldMapSqlAggregates() {
+        List<Object[]> rows = Collections.singletonList(new Object[]{player3Id, "Novak Djokovic", 9L, 2L});
+        when(matchRepository.findTiebreakRecordsBetween(any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(rows);
+
+        List<PlayerTiebreakRecordDto> result = rankingService.getTiebreakRecordsCurrentYear(10);
+
+        assertEquals(List.of(new PlayerTiebreakRecordDto(player3Id, "Novak Djokovic", 9, 2)), result);
+    }
+}
@@ -0,0 +1,142 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.CoachingStatus;
+import com.tennispulse.domain.analytics.CoachingTip;
+import com.tennispulse.domain.analytics.MetricStatus;
+import com.tennispulse.domain.analytics.MetricValue;
+import com.tennispulse.domain.analytics.PlayerMatchAnalyticsDocument;
+import com.tennispulse.perf.InMemoryPlayerMatchAnalyticsRepository;
+import com.tennispulse.repository.analytics.AnalyticsExportFilter;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalyticsExportServiceTest {
+
+    private final InMemoryPlayerMatchAnalyticsRepository repository = new InMemoryPlayerMatchAnalyticsRepository();
+    private final AnalyticsExportService exportService = new AnalyticsExportService(repository);
+
+    private final UUID playerA = UUID.randomUUID();
+    private final UUID playerB = UUID.randomUUID();
+
+    @Test
+    void export_ndjson_shouldWriteOneObjectPerLine_forTheFilter() throws Exception {
+        repository.save(doc(playerA, "2026-03-01T10:00:00Z", CoachingStatus.AT_RISK, 61.5));
+        repository.save(doc(playerA, "2026-04-01T10:00:00Z", CoachingStatus.ON_TRACK, 70.0));
+        repository.save(doc(playerB, "2026-03-15T10:00:00Z", CoachingStatus.AT_RISK, 55.0));
+        repository.save(doc(playerB, "2026-05-01T10:00:00Z", CoachingStatus.AT_RISK, 50.0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(
+                new AnalyticsExportFilter(Instant.parse("2026-03-01T00:00:00Z"), Instant.parse("2026-05-01T00:00:00Z"),
+                        null, Set.of(CoachingStatus.AT_RISK)),
+                AnalyticsExportService.Format.NDJSON, List.of("playerId", "FIRST_SERVE_IN", "tips"), true, 100, out);
+
+        assertEquals(2, rows);
+        String[] lines = gunzip(out.toByteArray()).split("\n");
+        assertEquals(2, lines.length);
+        ObjectMapper mapper = new ObjectMapper();
+        for (String line : lines) {
+            JsonNode row = mapper.readTree(line);
+            assertEquals(3, row.size());
+            assertTrue(row.get("FIRST_SERVE_IN").asDouble() < 62);
+            assertEquals("Work on it, \"now\"", row.get("tips").get(0).get("message").asText());
+        }
+    }
+
+    @Test
+    void export_csv_shouldWriteHeaderAndQuoteFields_withoutTipsByDefault() throws Exception {
+        repository.save(doc(playerA, "2026-03-01T10:00:00Z", CoachingStatus.NEEDS_FOCUS, 61.5));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(new AnalyticsExportFilter(null, null, Set.of(playerA), null),
+                AnalyticsExportService.Format.CSV, null, false, 100, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals(String.join(",", AnalyticsExportService.DEFAULT_COLUMNS), lines[0]);
+        assertFalse(lines[0].contains("tips"));
+        // the score has a comma, so it is quoted; metrics without a value are empty
+        assertTrue(lines[1].contains(",\"6-4, 6-3\",NEEDS_FOCUS,v1,2026-03-01T10:00:00Z,61.5,,"), lines[1]);
+
+        ByteArrayOutputStream withTips = new ByteArrayOutputStream();
+        exportService.export(new AnalyticsExportFilter(null, null, null, null),
+                AnalyticsExportService.Format.CSV, List.of("matchId", "tips"), false, 100, withTips);
+        assertTrue(withTips.toString(StandardCharsets.UTF_8).endsWith(",\"Work on it, \"\"now\"\"\"\r\n"));
+    }
+
+    @Test
+    void export_shouldLoadOnlySelectedFields_andCloseTheCursor() throws Exception {
+        boolean[] closed = {false};
+        Collection<?>[] loaded = {null};
+        int[] batch = {0};
+        PlayerMatchAnalyticsRepository cursor = new InMemoryPlayerMatchAnalyticsRepository() {
+            @Override
+            public Stream<PlayerMatchAnalyticsDocument> streamForExport(AnalyticsExportFilter filter,
+                                                                        Collection<String> fields, int batchSize) {
+                loaded[0] = fields;
+                batch[0] = batchSize;
+                return Stream.<PlayerMatchAnalyticsDocument>empty().onClose(() -> closed[0] = true);
+            }
+        };
+
+        new AnalyticsExportService(cursor).export(new AnalyticsExportFilter(null, null, null, null),
+                AnalyticsExportService.Format.NDJSON, List.of("playerId", "WINNERS"), true, 500,
+                new ByteArrayOutputStream());
+
+        assertEquals(List.of("playerId", "metrics.WINNERS"), List.copyOf(loaded[0]));
+        assertEquals(500, batch[0]);
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void export_shouldRejectUnknownColumnsAndBatchSizes() {
+        AnalyticsExportFilter all = new AnalyticsExportFilter(null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> exportService.export(all,
+                AnalyticsExportService.Format.CSV, List.of("rawStats"), false, 100, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> exportService.export(all,
+                AnalyticsExportService.Format.CSV, null, false, 0, new ByteArrayOutputStream()));
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static PlayerMatchAnalyticsDocument doc(UUID playerId, String createdAt, CoachingStatus status,
+                                                    double firstServeIn) {
+        PlayerMatchAnalyticsDocument doc = new PlayerMatchAnalyticsDocument();
+        doc.setMatchId(UUID.randomUUID());
+        doc.setPlayerId(playerId);
+        doc.setId(PlayerMatchAnalyticsDocument.idFor(doc.getMatchId(), playerId));
+        doc.setFinalScore("6-4, 6-3");
+        doc.setCoachingStatus(status);
+        doc.setEngineVersion("v1");
+        doc.setCreatedAt(Instant.parse(createdAt));
+        doc.setMetrics(Map.of(AnalyticsMetric.FIRST_SERVE_IN, new MetricValue(firstServeIn, MetricStatus.GOOD)));
+        doc.setTips(List.of(new CoachingTip("SERVE", "Work on it, \"now\"", AnalyticsMetric.FIRST_SERVE_IN)));
+        return doc;
+    }
+}
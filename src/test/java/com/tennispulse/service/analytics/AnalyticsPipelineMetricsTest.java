@@ -0,0 +1,39 @@
+package com.tennispulse.service.analytics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsPipelineMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AnalyticsPipelineMetrics metrics = new AnalyticsPipelineMetrics(registry);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_shouldReportStagePercentilesAndLastFreshnessLag() {
+        Instant storedAt = Instant.parse("2025-06-01T10:00:05Z");
+        metrics.recordProcessed(storedAt.minusSeconds(5), storedAt);
+
+        Map<String, Object> snapshot = metrics.snapshot();
+
+        Map<String, Object> freshness = (Map<String, Object>) ((Map<String, Object>) snapshot.get("stages")).get("freshness");
+        assertEquals(1L, freshness.get("count"));
+        assertTrue(freshness.containsKey("p99Ms"));
+        assertEquals(5000L, snapshot.get("lastFreshnessLagMs"));
+        assertEquals(storedAt, snapshot.get("lastProcessedAt"));
+        assertEquals(5.0, registry.get("analytics.pipeline.freshness.last").gauge().value());
+    }
+
+    @Test
+    void recordQueueDwell_shouldIgnoreMissingOrInvalidTimestamps() {
+        metrics.recordQueueDwell(null, Instant.now());
+        metrics.recordQueueDwell("not-a-number", Instant.now());
+
+        assertEquals(0, registry.get(AnalyticsPipelineMetrics.METRIC_NAME).tag("stage", "queue-dwell").timer().count());
+    }
+}
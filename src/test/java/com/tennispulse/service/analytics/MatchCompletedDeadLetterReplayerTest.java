@@ -0,0 +1,82 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.perf.InMemorySqsClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class MatchCompletedDeadLetterReplayerTest {
+
+    private InMemorySqsClient sqsClient;
+    private String queueUrl;
+    private String dlqUrl;
+    private MatchCompletedDeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        sqsClient = new InMemorySqsClient();
+        queueUrl = sqsClient.createQueue(CreateQueueRequest.builder().queueName("main").build()).queueUrl();
+        dlqUrl = sqsClient.createQueue(CreateQueueRequest.builder().queueName("main-dlq").build()).queueUrl();
+        replayer = new MatchCompletedDeadLetterReplayer(sqsClient, queueUrl, dlqUrl);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqsClient.close();
+    }
+
+    @Test
+    void replay_shouldMoveMessagesInBatches_keepingBodyAndDedupAttributes() {
+        for (int i = 0; i < 25; i++) {
+            deadLetter("{\"n\":" + i + "}");
+        }
+        assertEquals(25, replayer.depth());
+
+        int replayed = replayer.replay(1000);
+
+        assertEquals(25, replayed);
+        assertEquals(0, replayer.depth());
+        assertEquals(25, sqsClient.depth(queueUrl));
+
+        Message first = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                .queueUrl(queueUrl).maxNumberOfMessages(1).build()).messages().get(0);
+        assertEquals("{\"n\":0}", first.body());
+        assertEquals("m-1", first.messageAttributes().get(MatchEventDeduplicator.MATCH_ID_ATTRIBUTE).stringValue());
+        assertFalse(first.messageAttributes().containsKey(MatchEventFailureHandler.FAILURE_ATTRIBUTE));
+    }
+
+    @Test
+    void replay_shouldStopAtMaxMessages() {
+        for (int i = 0; i < 15; i++) {
+            deadLetter("{}");
+        }
+
+        assertEquals(12, replayer.replay(12));
+        assertEquals(3, replayer.depth());
+        assertEquals(12, sqsClient.depth(queueUrl));
+    }
+
+    private void deadLetter(String body) {
+        sqsClient.sendMessage(SendMessageRequest.builder()
+                .queueUrl(dlqUrl)
+                .messageBody(body)
+                .messageAttributes(Map.of(
+                        MatchEventDeduplicator.MATCH_ID_ATTRIBUTE, string("m-1"),
+                        MatchEventFailureHandler.FAILURE_ATTRIBUTE, string("boom")))
+                .build());
+    }
+
+    private static MessageAttributeValue string(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+}
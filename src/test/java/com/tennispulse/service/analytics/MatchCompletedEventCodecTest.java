@@ -0,0 +1,117 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tennispulse.domain.MatchCompletedEvent;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchCompletedEventCodecTest {
+
+    private final MatchCompletedEventCodec codec = new MatchCompletedEventCodec();
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void encodeThenDecode_shouldRoundTrip_withSchemaVersionFirst() throws Exception {
+        MatchCompletedEvent event = sampleEvent();
+
+        String body = codec.encode(event);
+
+        assertTrue(body.startsWith("{\"schemaVersion\":" + MatchCompletedEventCodec.SCHEMA_VERSION + ","));
+        assertEquals(event, codec.decode(body));
+    }
+
+    @Test
+    void encode_shouldStayReadableByJackson() throws Exception {
+        MatchCompletedEvent event = sampleEvent();
+
+        assertEquals(event, objectMapper.readValue(codec.encode(event), MatchCompletedEvent.class));
+    }
+
+    @Test
+    void decode_shouldReadBodiesWrittenByJackson_beforeTheCodec() throws Exception {
+        MatchCompletedEvent event = sampleEvent();
+        event.getPlayerStats().get(0).setWinners(null);
+
+        assertEquals(event, codec.decode(objectMapper.writeValueAsString(event)));
+
+        // timestamps as decimal epoch seconds, unknown fields skipped
+        MatchCompletedEvent legacy = codec.decode(
+                "{\"extra\":{\"a\":[1,2]},\"matchId\":\"" + event.getMatchId() + "\",\"createdAt\":1773136800.250000000}");
+        assertEquals(event.getMatchId(), legacy.getMatchId());
+        assertEquals(Instant.parse("2026-03-10T10:00:00.250Z"), legacy.getCreatedAt());
+        assertNull(legacy.getPlayerStats());
+    }
+
+    @Test
+    void decode_shouldRejectNewerSchemaVersionsAndInvalidValues() {
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"schemaVersion\":99,\"matchId\":null}"));
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"matchId\":\"not-a-uuid\"}"));
+        assertThrows(JsonParseException.class, () -> codec.decode("[]"));
+    }
+
+    @Test
+    void decode_shouldRejectNonObjectStatsElementsAndQuotedNumbers() {
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"playerStats\":[{\"winners\":3},null]}"));
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"playerStats\":[{\"winners\":3},\"x\",{}]}"));
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"playerStats\":[[]]}"));
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"playerStats\":[{\"winners\":\"3\"}]}"));
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"playerStats\":[{\"firstServeIn\":\"0.62\"}]}"));
+    }
+
+    @Test
+    void rawMetrics_shouldExposeEveryMetric_andRejectMissingOnes() {
+        PlayerStatsPayload stats = sampleEvent().getPlayerStats().get(0);
+
+        Map<AnalyticsMetric, Double> metrics = RawMetrics.of(stats);
+
+        assertEquals(AnalyticsMetric.values().length, metrics.size());
+        assertEquals(20.0, metrics.get(AnalyticsMetric.WINNERS));
+        assertEquals(65.0, metrics.get(AnalyticsMetric.FIRST_SERVE_IN));
+        assertEquals(Map.copyOf(metrics), Map.copyOf(metrics));
+
+        stats.setNetPointsWon(null);
+        assertThrows(NullPointerException.class, () -> RawMetrics.of(stats));
+    }
+
+    private static MatchCompletedEvent sampleEvent() {
+        PlayerStatsPayload stats = new PlayerStatsPayload();
+        stats.setPlayerId(UUID.randomUUID());
+        stats.setFirstServeIn(65.0);
+        stats.setFirstServePointsWon(72.5);
+        stats.setSecondServePointsWon(50.0);
+        stats.setUnforcedErrorsForehand(5);
+        stats.setUnforcedErrorsBackhand(7);
+        stats.setWinners(20);
+        stats.setBreakPointConversion(40.0);
+        stats.setBreakPointsSaved(55.0);
+        stats.setNetPointsWon(60.0);
+        stats.setLongRallyWinRate(48.0);
+
+        MatchCompletedEvent event = new MatchCompletedEvent();
+        event.setMatchId(UUID.randomUUID());
+        event.setWinnerId(stats.getPlayerId());
+        event.setFinalScore("6-4 3-6 7-6(5)");
+        event.setCreatedAt(Instant.parse("2026-03-10T10:00:00.123456Z"));
+        event.setPlayerStats(List.of(stats));
+        return event;
+    }
+}
@@ -1,7 +1,7 @@
 package com.tennispulse.service.analytics;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennispulse.api.analytics.dto.TimelineRange;
 import com.tennispulse.domain.MatchCompletedEvent;
 import com.tennispulse.domain.analytics.AnalyticsMetric;
 import com.tennispulse.domain.analytics.CoachingStatus;
@@ -11,26 +11,37 @@ import com.tennispulse.domain.analytics.MetricValue;
 import com.tennispulse.domain.analytics.PlayerMatchCoachingAnalysis;
 import com.tennispulse.domain.analytics.PlayerStatsPayload;
 import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MatchCompletedSqsConsumerTest {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
-    private ObjectMapper objectMapper;
+    private MatchCompletedEventCodec eventCodec;
 
     @Mock
     private CoachingRuleEngine coachingRuleEngine;
@@ -41,14 +52,33 @@ class MatchCompletedSqsConsumerTest {
     @Mock
     private PlayerHighlightsService playerHighlightsService;
 
+    @Mock
+    private MatchEventDeduplicator deduplicator;
+
+    @Mock
+    private MatchEventFailureHandler failureHandler;
+
+    @Mock
+    private PlayerMetricDistributionService distributionService;
+
+    @Mock
+    private PopulationPercentileService percentileService;
+
+    @Spy
+    private PlayerPartitionedExecutor partitionExecutor =
+            new PlayerPartitionedExecutor(2, 16, Thread.ofPlatform().daemon().factory());
+
+    @Spy
+    private AnalyticsPipelineMetrics pipelineMetrics = new AnalyticsPipelineMetrics(meterRegistry);
+
     @InjectMocks
     private MatchCompletedSqsConsumer consumer;
 
     @Test
     void handleMessage_happyPath_shouldAnalyzeAndPersistOneDocumentPerPlayer() throws Exception {
-        String matchId = UUID.randomUUID().toString();
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         // Build two player stats payloads
         PlayerStatsPayload stats1 = new PlayerStatsPayload();
@@ -84,8 +114,8 @@ class MatchCompletedSqsConsumerTest {
         event.setCreatedAt(Instant.now());
         event.setPlayerStats(List.of(stats1, stats2));
 
-        // ObjectMapper should deserialize the message body into our event
-        when(objectMapper.readValue(anyString(), eq(MatchCompletedEvent.class)))
+        // the codec should decode the message body into our event
+        when(eventCodec.decode(anyString()))
                 .thenReturn(event);
 
         // Stub rule engine (we don't care about precise content here, just that it's called)
@@ -111,12 +141,14 @@ class MatchCompletedSqsConsumerTest {
                 .thenReturn(analysis1);
         when(coachingRuleEngine.analyze(eq(matchId), eq(player2Id), anyMap()))
                 .thenReturn(analysis2);
+        when(percentileService.matchPercentileRanks(eq(TimelineRange.LAST_12_MONTHS), anyMap()))
+                .thenReturn(Map.of(AnalyticsMetric.FIRST_SERVE_IN, 70.0));
 
         // when
         consumer.handleMessage("{\"dummy\":\"json\"}");
 
         // then
-        verify(objectMapper).readValue(anyString(), eq(MatchCompletedEvent.class));
+        verify(eventCodec).decode(anyString());
 
         // One analysis per player
         verify(coachingRuleEngine, times(1))
@@ -126,12 +158,22 @@ class MatchCompletedSqsConsumerTest {
 
         // One Mongo save per player
         verify(analyticsRepository, times(2)).save(any());
+        // and the values go into each player's monthly sketches
+        verify(distributionService).record(eq(player1Id), eq(matchId), any(), eq(analysis1.getMetrics()));
+        verify(distributionService).record(eq(player2Id), eq(matchId), any(), eq(analysis2.getMetrics()));
+        // each analysis carries its population percentile ranks
+        assertEquals(Map.of(AnalyticsMetric.FIRST_SERVE_IN, 70.0), analysis1.getPercentileRanks());
+
+        // stage timers: one rule-engine run and one write per player, one freshness sample per match
+        assertEquals(2, meterRegistry.get("analytics.pipeline.stage").tag("stage", "rule-engine").timer().count());
+        assertEquals(2, meterRegistry.get("analytics.pipeline.stage").tag("stage", "mongo-write").timer().count());
+        assertEquals(1, meterRegistry.get("analytics.pipeline.stage").tag("stage", "freshness").timer().count());
     }
 
     @Test
     void handleMessage_whenDeserializationFails_shouldNotAnalyzeOrPersist() throws Exception {
-        // ObjectMapper fails to deserialize
-        when(objectMapper.readValue(anyString(), eq(MatchCompletedEvent.class)))
+        // the codec fails to decode
+        when(eventCodec.decode(anyString()))
                 .thenThrow(new JsonProcessingException("boom") {});
 
         consumer.handleMessage("invalid-json");
@@ -139,17 +181,19 @@ class MatchCompletedSqsConsumerTest {
         // No analysis or persistence should happen
         verifyNoInteractions(coachingRuleEngine);
         verifyNoInteractions(analyticsRepository);
+        // and the failure goes to the failure handler instead of being swallowed
+        verify(failureHandler).handle(eq(MatchCompletedDelivery.of("invalid-json")), any(JsonProcessingException.class));
     }
 
     @Test
     void handleMessage_whenEventHasNoPlayerStats_shouldSkipAnalytics() throws Exception {
-        String matchId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
 
         MatchCompletedEvent event = new MatchCompletedEvent();
         event.setMatchId(matchId);
         event.setPlayerStats(Collections.emptyList());
 
-        when(objectMapper.readValue(anyString(), eq(MatchCompletedEvent.class)))
+        when(eventCodec.decode(anyString()))
                 .thenReturn(event);
 
         consumer.handleMessage("{\"dummy\":\"json\"}");
@@ -158,4 +202,87 @@ class MatchCompletedSqsConsumerTest {
         verifyNoInteractions(coachingRuleEngine);
         verifyNoInteractions(analyticsRepository);
     }
+
+    @Test
+    void onMessage_shouldProcessOnListenerExecutorAndCompleteFuture() throws Exception {
+        MatchCompletedSqsConsumer syncConsumer = new MatchCompletedSqsConsumer(
+                eventCodec, coachingRuleEngine, analyticsRepository, playerHighlightsService,
+                new SyncTaskExecutor(), pipelineMetrics, deduplicator, partitionExecutor, failureHandler,
+                distributionService, percentileService);
+
+        MatchCompletedEvent event = new MatchCompletedEvent();
+        event.setMatchId(UUID.randomUUID());
+        event.setPlayerStats(Collections.emptyList());
+
+        when(eventCodec.decode(anyString()))
+                .thenReturn(event);
+
+        String sentTimestamp = String.valueOf(Instant.now().minusSeconds(2).toEpochMilli());
+        CompletableFuture<Void> result = syncConsumer.onMessage("{\"dummy\":\"json\"}", sentTimestamp, null, null, null, null);
+
+        assertTrue(result.isDone());
+        verify(eventCodec).decode(anyString());
+        Timer dwell = meterRegistry.get("analytics.pipeline.stage").tag("stage", "queue-dwell").timer();
+        assertEquals(1, dwell.count());
+        assertTrue(dwell.totalTime(TimeUnit.MILLISECONDS) >= 2000);
+    }
+
+    @Test
+    void handleMessage_whenDuplicate_shouldSkipWithoutDeserializing() {
+        UUID matchId = UUID.randomUUID();
+        MatchEventDeduplicator.Key key = new MatchEventDeduplicator.Key(matchId, "abc");
+        when(deduplicator.keyOf(matchId.toString(), "abc", "{}")).thenReturn(key);
+        when(deduplicator.isDuplicate(key)).thenReturn(true);
+
+        consumer.handleMessage(new MatchCompletedDelivery("{}", matchId.toString(), "abc", null, 1));
+
+        verifyNoInteractions(eventCodec, coachingRuleEngine, analyticsRepository);
+        verify(deduplicator, never()).markProcessed(any());
+    }
+
+    @Test
+    void handleMessage_shouldMarkProcessedOnlyAfterSuccess() throws Exception {
+        UUID matchId = UUID.randomUUID();
+        MatchEventDeduplicator.Key key = new MatchEventDeduplicator.Key(matchId, "abc");
+        when(deduplicator.keyOf(any(), any(), anyString())).thenReturn(key);
+        when(eventCodec.decode(anyString()))
+                .thenThrow(new JsonProcessingException("boom") {});
+
+        consumer.handleMessage(new MatchCompletedDelivery("invalid-json", matchId.toString(), "abc", null, 1));
+
+        verify(deduplicator).isDuplicate(key);
+        verify(deduplicator, never()).markProcessed(any());
+    }
+
+    @Test
+    void handleMessage_whenDedupLookupFails_shouldGoThroughFailureHandler() {
+        UUID matchId = UUID.randomUUID();
+        MatchEventDeduplicator.Key key = new MatchEventDeduplicator.Key(matchId, "abc");
+        RuntimeException redisDown = new IllegalStateException("redis down");
+        when(deduplicator.keyOf(any(), any(), anyString())).thenReturn(key);
+        when(deduplicator.isDuplicate(key)).thenThrow(redisDown);
+        MatchCompletedDelivery delivery = new MatchCompletedDelivery("{}", matchId.toString(), "abc", "receipt-1", 1);
+
+        consumer.handleMessage(delivery);
+
+        verify(failureHandler).handle(delivery, redisDown);
+        verifyNoInteractions(eventCodec, analyticsRepository);
+    }
+
+    @Test
+    void onMessage_whenRetryRequested_shouldCompleteFutureExceptionally() throws Exception {
+        MatchCompletedSqsConsumer syncConsumer = new MatchCompletedSqsConsumer(
+                eventCodec, coachingRuleEngine, analyticsRepository, playerHighlightsService,
+                new SyncTaskExecutor(), pipelineMetrics, deduplicator, partitionExecutor, failureHandler,
+                distributionService, percentileService);
+        RuntimeException mongoDown = new DataAccessResourceFailureException("down");
+        when(eventCodec.decode(anyString())).thenThrow(mongoDown);
+        doThrow(new MatchEventRetryException(mongoDown)).when(failureHandler).handle(any(), any());
+
+        CompletableFuture<Void> result =
+                syncConsumer.onMessage("{}", null, null, null, "receipt-1", "2");
+
+        assertTrue(result.isCompletedExceptionally());
+        verify(failureHandler).handle(eq(new MatchCompletedDelivery("{}", null, null, "receipt-1", 2)), eq(mongoDown));
+    }
 }
@@ -0,0 +1,174 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.domain.MatchCompletedEvent;
+import com.tennispulse.domain.analytics.PlayerStatsPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MatchEventDeduplicatorTest {
+
+    private static final Duration WINDOW = Duration.ofHours(24);
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private UUID matchId;
+
+    @BeforeEach
+    void setUp() {
+        matchId = UUID.randomUUID();
+    }
+
+    @Test
+    void keyOf_shouldUseAttributes_whenPresent() {
+        MatchEventDeduplicator deduplicator = localOnly();
+
+        MatchEventDeduplicator.Key key = deduplicator.keyOf(matchId.toString(), "abc", "not even json");
+
+        assertEquals(new MatchEventDeduplicator.Key(matchId, "abc"), key);
+    }
+
+    @Test
+    void keyOf_shouldReadMatchIdFromBody_whenAttributesAreMissing() {
+        MatchEventDeduplicator deduplicator = localOnly();
+        String body = "{\"playerStats\":[{\"playerId\":\"x\"}],\"matchId\":\"" + matchId + "\",\"finalScore\":\"6-4\"}";
+
+        MatchEventDeduplicator.Key key = deduplicator.keyOf(null, null, body);
+
+        assertEquals(matchId, key.matchId());
+        assertEquals(key, deduplicator.keyOf(null, null, body));
+        assertNotEquals(key, deduplicator.keyOf(null, null, body.replace("6-4", "6-3")));
+    }
+
+    @Test
+    void keyOf_shouldReturnNull_whenNoMatchIdOrDisabled() {
+        assertNull(localOnly().keyOf(null, null, "{\"finalScore\":\"6-4\"}"));
+        assertNull(localOnly().keyOf(null, null, "invalid-json"));
+        assertNull(localOnly().keyOf(null, null, "{\"matchId\":null,\"finalScore\":\"6-4\"}"));
+        assertNull(localOnly().keyOf(null, null, "{\"matchId\":42}"));
+        assertNull(localOnly().keyOf(null, null, "{\"matchId\":{\"id\":\"" + matchId + "\"}}"));
+        assertNull(localOnly().keyOf(null, null, null));
+
+        MatchEventDeduplicator disabled = new MatchEventDeduplicator(false, WINDOW, 10, null, meterRegistry, clock);
+        assertNull(disabled.keyOf(matchId.toString(), "abc", "{}"));
+    }
+
+    @Test
+    void isDuplicate_shouldHitLocalWindow_afterMarkProcessed() {
+        MatchEventDeduplicator deduplicator = localOnly();
+        MatchEventDeduplicator.Key key = new MatchEventDeduplicator.Key(matchId, "abc");
+
+        assertFalse(deduplicator.isDuplicate(key));
+        deduplicator.markProcessed(key);
+        assertTrue(deduplicator.isDuplicate(key));
+        assertFalse(deduplicator.isDuplicate(new MatchEventDeduplicator.Key(matchId, "other")));
+
+        assertEquals(1, meterRegistry.get("analytics.dedup").tag("result", "local-hit").counter().count());
+        assertEquals(2, meterRegistry.get("analytics.dedup").tag("result", "miss").counter().count());
+        assertEquals(1.0 / 3, meterRegistry.get("analytics.dedup.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void isDuplicate_shouldCheckCurrentAndPreviousRedisBucket() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        MatchEventDeduplicator deduplicator =
+                new MatchEventDeduplicator(true, WINDOW, 10, redisTemplate, meterRegistry, clock);
+        MatchEventDeduplicator.Key key = new MatchEventDeduplicator.Key(matchId, "abc");
+        long bucket = NOW.toEpochMilli() / WINDOW.toMillis();
+        when(setOperations.isMember(MatchEventDeduplicator.REDIS_KEY_PREFIX + bucket, matchId + ":abc"))
+                .thenReturn(false);
+        when(setOperations.isMember(MatchEventDeduplicator.REDIS_KEY_PREFIX + (bucket - 1), matchId + ":abc"))
+                .thenReturn(true);
+
+        assertTrue(deduplicator.isDuplicate(key));
+        // now cached locally
+        assertTrue(deduplicator.isDuplicate(key));
+
+        assertEquals(1, meterRegistry.get("analytics.dedup").tag("result", "redis-hit").counter().count());
+        assertEquals(1, meterRegistry.get("analytics.dedup").tag("result", "local-hit").counter().count());
+    }
+
+    @Test
+    void markProcessed_shouldAddToCurrentRedisBucketWithExpiry() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        MatchEventDeduplicator deduplicator =
+                new MatchEventDeduplicator(true, WINDOW, 10, redisTemplate, meterRegistry, clock);
+        String bucketKey = MatchEventDeduplicator.REDIS_KEY_PREFIX + NOW.toEpochMilli() / WINDOW.toMillis();
+
+        deduplicator.markProcessed(new MatchEventDeduplicator.Key(matchId, "abc"));
+
+        verify(setOperations).add(bucketKey, matchId + ":abc");
+        verify(redisTemplate).expire(bucketKey, WINDOW.multipliedBy(2));
+    }
+
+    @Test
+    void isDuplicate_shouldTreatRedisFailureAsMiss() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.isMember(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        MatchEventDeduplicator deduplicator =
+                new MatchEventDeduplicator(true, WINDOW, 10, redisTemplate, meterRegistry, clock);
+
+        assertFalse(deduplicator.isDuplicate(new MatchEventDeduplicator.Key(matchId, "abc")));
+    }
+
+    @Test
+    void payloadHash_shouldIgnoreCreatedAt_butNotStats() {
+        MatchCompletedEvent first = event(Instant.parse("2026-03-10T10:00:00Z"), 20);
+        MatchCompletedEvent republished = event(Instant.parse("2026-03-10T10:00:05Z"), 20);
+        MatchCompletedEvent corrected = event(Instant.parse("2026-03-10T10:00:05Z"), 21);
+
+        assertEquals(MatchEventDeduplicator.payloadHash(first), MatchEventDeduplicator.payloadHash(republished));
+        assertNotEquals(MatchEventDeduplicator.payloadHash(first), MatchEventDeduplicator.payloadHash(corrected));
+    }
+
+    private MatchEventDeduplicator localOnly() {
+        return new MatchEventDeduplicator(true, WINDOW, 10, null, meterRegistry, clock);
+    }
+
+    private MatchCompletedEvent event(Instant createdAt, int winners) {
+        PlayerStatsPayload stats = new PlayerStatsPayload();
+        stats.setPlayerId(UUID.fromString("00000000-0000-0000-0000-00000000000a"));
+        stats.setFirstServeIn(65.0);
+        stats.setWinners(winners);
+
+        MatchCompletedEvent event = new MatchCompletedEvent();
+        event.setMatchId(matchId);
+        event.setWinnerId(stats.getPlayerId());
+        event.setFinalScore("6-4 6-3");
+        event.setCreatedAt(createdAt);
+        event.setPlayerStats(List.of(stats));
+        return event;
+    }
+}
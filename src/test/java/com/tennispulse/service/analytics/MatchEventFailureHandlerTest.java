@@ -0,0 +1,129 @@
+package com.tennispulse.service.analytics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.ServerAddress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MatchEventFailureHandlerTest {
+
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/match-completed-queue";
+    private static final String DLQ_URL = "http://localhost:4566/000000000000/match-completed-queue-dlq";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private SqsClient sqsClient;
+
+    private MatchEventFailureHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new MatchEventFailureHandler(sqsClient, QUEUE_URL, DLQ_URL,
+                Duration.ofSeconds(10), Duration.ofMinutes(15), 6, meterRegistry);
+    }
+
+    @Test
+    void isTransient_shouldClassifyInfrastructureFailuresOnly() {
+        assertTrue(MatchEventFailureHandler.isTransient(new DataAccessResourceFailureException("down")));
+        assertTrue(MatchEventFailureHandler.isTransient(new QueryTimeoutException("slow")));
+        assertTrue(MatchEventFailureHandler.isTransient(
+                new MongoSocketException("reset", new ServerAddress())));
+
+        assertFalse(MatchEventFailureHandler.isTransient(new JsonProcessingException("bad json") {}));
+        assertFalse(MatchEventFailureHandler.isTransient(new NullPointerException("winners")));
+        assertFalse(MatchEventFailureHandler.isTransient(new IllegalArgumentException("metric")));
+    }
+
+    @Test
+    void backoff_shouldDoublePerAttempt_upToMax() {
+        assertEquals(Duration.ofSeconds(10), handler.backoff(1));
+        assertEquals(Duration.ofSeconds(20), handler.backoff(2));
+        assertEquals(Duration.ofSeconds(160), handler.backoff(5));
+        assertEquals(Duration.ofMinutes(15), handler.backoff(8));
+        assertEquals(Duration.ofMinutes(15), handler.backoff(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void handle_transientFailure_shouldDelayMessageAndRequestRetry() {
+        MatchCompletedDelivery delivery = new MatchCompletedDelivery("{}", "m", "h", "receipt-1", 3);
+        // partition tasks surface their failure wrapped in a CompletionException
+        CompletionException failure = new CompletionException(new DataAccessResourceFailureException("down"));
+
+        assertThrows(MatchEventRetryException.class, () -> handler.handle(delivery, failure));
+
+        ArgumentCaptor<ChangeMessageVisibilityRequest> captor =
+                ArgumentCaptor.forClass(ChangeMessageVisibilityRequest.class);
+        verify(sqsClient).changeMessageVisibility(captor.capture());
+        assertEquals(QUEUE_URL, captor.getValue().queueUrl());
+        assertEquals("receipt-1", captor.getValue().receiptHandle());
+        assertEquals(40, captor.getValue().visibilityTimeout());
+        verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
+        assertEquals(1, meterRegistry.get("analytics.failures").tag("outcome", "retried").counter().count());
+    }
+
+    @Test
+    void handle_permanentFailure_shouldSendOriginalBodyToDlq() {
+        MatchCompletedDelivery delivery = new MatchCompletedDelivery("{\"bad\":1}", "m", "h", "receipt-1", 1);
+
+        handler.handle(delivery, new JsonProcessingException("bad json") {});
+
+        ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+        verify(sqsClient).sendMessage(captor.capture());
+        SendMessageRequest sent = captor.getValue();
+        assertEquals(DLQ_URL, sent.queueUrl());
+        assertEquals("{\"bad\":1}", sent.messageBody());
+        assertEquals("m", sent.messageAttributes().get(MatchEventDeduplicator.MATCH_ID_ATTRIBUTE).stringValue());
+        assertEquals("permanent",
+                sent.messageAttributes().get(MatchEventFailureHandler.FAILURE_KIND_ATTRIBUTE).stringValue());
+        assertThat(sent.messageAttributes().get(MatchEventFailureHandler.FAILURE_ATTRIBUTE).stringValue())
+                .contains("bad json");
+        verify(sqsClient, never()).changeMessageVisibility(any(ChangeMessageVisibilityRequest.class));
+        assertEquals(1, meterRegistry.get("analytics.failures").tag("outcome", "dead-lettered").counter().count());
+    }
+
+    @Test
+    void handle_transientFailureOnLastAttempt_shouldDeadLetter() {
+        MatchCompletedDelivery delivery = new MatchCompletedDelivery("{}", null, null, "receipt-1", 6);
+
+        handler.handle(delivery, new DataAccessResourceFailureException("down"));
+
+        ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+        verify(sqsClient).sendMessage(captor.capture());
+        assertEquals("retries-exhausted",
+                captor.getValue().messageAttributes().get(MatchEventFailureHandler.FAILURE_KIND_ATTRIBUTE).stringValue());
+    }
+
+    @Test
+    void handle_whenDlqSendFails_shouldKeepMessageForRedelivery() {
+        when(sqsClient.sendMessage(any(SendMessageRequest.class))).thenThrow(new IllegalStateException("sqs down"));
+
+        assertThrows(MatchEventRetryException.class, () -> handler.handle(MatchCompletedDelivery.of("{}"),
+                new IllegalArgumentException("invalid")));
+    }
+}
@@ -0,0 +1,48 @@
+package com.tennispulse.service.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricHistogramTest {
+
+    @Test
+    void rank_withFewDistinctValues_shouldBeExactMidRank() {
+        MetricHistogram histogram = MetricHistogram.of(new double[]{50, 60, 60, 70, 80}, 16);
+
+        assertEquals(4, histogram.bins());
+        assertEquals(0.0, histogram.rank(40));
+        assertEquals(0.1, histogram.rank(50), 1e-9);
+        // two of five equal: one below plus half of the ties
+        assertEquals(0.4, histogram.rank(60), 1e-9);
+        assertEquals(0.6, histogram.rank(65), 1e-9);
+        assertEquals(1.0, histogram.rank(90));
+    }
+
+    @Test
+    void rank_withManyValues_shouldStayCloseToExactRank_inBoundedBins() {
+        Random random = new Random(3);
+        double[] values = new double[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 60 + 10 * random.nextGaussian();
+        }
+
+        MetricHistogram histogram = MetricHistogram.of(values, 256);
+
+        assertEquals(256, histogram.bins());
+        assertEquals(values.length, histogram.size());
+        for (double v : new double[]{35, 50, 60, 72.5, 85}) {
+            long below = java.util.Arrays.stream(values).filter(x -> x < v).count();
+            assertEquals((double) below / values.length, histogram.rank(v), 0.005, "rank of " + v);
+        }
+    }
+
+    @Test
+    void rank_ofEmptyHistogram_shouldBeNaN() {
+        assertTrue(Double.isNaN(MetricHistogram.of(new double[0], 16).rank(1)));
+        assertTrue(Double.isNaN(MetricHistogram.of(new double[]{Double.NaN}, 16).rank(1)));
+    }
+}
@@ -64,8 +64,8 @@ class RankingServiceCacheIntegrationTest {
     @Test
     void getTopWinnersCurrentYear_shouldCacheAndOnlyQueryDatabaseOnce() {
         // Arrange
-        String player1Id = UUID.randomUUID().toString();
-        String player2Id = UUID.randomUUID().toString();
+        UUID player1Id = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
 
         List<Object[]> mockResults = Arrays.asList(
                 new Object[]{player1Id, "Rafael Nadal", 25L},
@@ -94,9 +94,9 @@ class RankingServiceCacheIntegrationTest {
     void getTopWinnersCurrentYear_withDifferentLimits_shouldCacheSeparately() {
         // Arrange
         List<Object[]> mockResults = Arrays.asList(
-                new Object[]{UUID.randomUUID().toString(), "Player 1", 25L},
-                new Object[]{UUID.randomUUID().toString(), "Player 2", 22L},
-                new Object[]{UUID.randomUUID().toString(), "Player 3", 20L}
+                new Object[]{UUID.randomUUID(), "Player 1", 25L},
+                new Object[]{UUID.randomUUID(), "Player 2", 22L},
+                new Object[]{UUID.randomUUID(), "Player 3", 20L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -116,7 +116,7 @@ class RankingServiceCacheIntegrationTest {
     void invalidateRankingsCache_shouldClearCacheAndQueryDatabaseAgain() {
         // Arrange
         List<Object[]> mockResults = Collections.singletonList(
-                new Object[]{UUID.randomUUID().toString(), "Rafael Nadal", 25L}
+                new Object[]{UUID.randomUUID(), "Rafael Nadal", 25L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -144,7 +144,7 @@ class RankingServiceCacheIntegrationTest {
     void getTopWinnersCurrentYear_shouldStoreInRedisCache() {
         // Arrange
         List<Object[]> mockResults = Collections.singletonList(
-                new Object[]{UUID.randomUUID().toString(), "Rafael Nadal", 25L}
+                new Object[]{UUID.randomUUID(), "Rafael Nadal", 25L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -162,7 +162,7 @@ class RankingServiceCacheIntegrationTest {
     void getTopWinnersLastMonth_shouldCacheSeparatelyFromCurrentYear() {
         // Arrange
         List<Object[]> mockResults = Collections.singletonList(
-                new Object[]{UUID.randomUUID().toString(), "Rafael Nadal", 25L}
+                new Object[]{UUID.randomUUID(), "Rafael Nadal", 25L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -182,7 +182,7 @@ class RankingServiceCacheIntegrationTest {
     void invalidateRankingsCache_shouldClearAllRankingsCacheEntries() {
         // Arrange
         List<Object[]> mockResults = Collections.singletonList(
-                new Object[]{UUID.randomUUID().toString(), "Rafael Nadal", 25L}
+                new Object[]{UUID.randomUUID(), "Rafael Nadal", 25L}
         );
 
         when(matchRepository.findWinCountsBetween(any(Instant.class), any(Instant.class)))
@@ -6,6 +6,7 @@ import com.tennispulse.api.analytics.dto.PlayerHighlightDto;
 import com.tennispulse.api.analytics.dto.TimelineRange;
 import com.tennispulse.domain.PlayerEntity;
 import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
 import com.tennispulse.repository.PlayerRepository;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +15,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 
 import java.util.*;
 
@@ -29,26 +27,23 @@ import static org.mockito.Mockito.*;
 class PlayerHighlightsServiceTest {
 
     @Mock
-    private MongoTemplate mongoTemplate;
+    private PlayerMatchAnalyticsRepository analyticsRepository;
 
     @Mock
     private PlayerRepository playerRepository;
 
-    @Mock
-    private AggregationResults<Document> aggregationResults;
-
     @InjectMocks
     private PlayerHighlightsService playerHighlightsService;
 
-    private String player1Id;
-    private String player2Id;
+    private UUID player1Id;
+    private UUID player2Id;
     private PlayerEntity player1;
     private PlayerEntity player2;
 
     @BeforeEach
     void setUp() {
-        player1Id = UUID.randomUUID().toString();
-        player2Id = UUID.randomUUID().toString();
+        player1Id = UUID.randomUUID();
+        player2Id = UUID.randomUUID();
 
         player1 = PlayerEntity.builder()
                 .id(player1Id)
@@ -92,9 +87,7 @@ class PlayerHighlightsServiceTest {
                 55.0   // BREAK_POINTS_SAVED
         );
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Arrays.asList(doc1, doc2));
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Arrays.asList(doc1, doc2));
         when(playerRepository.findById(player1Id)).thenReturn(Optional.of(player1));
         when(playerRepository.findById(player2Id)).thenReturn(Optional.of(player2));
 
@@ -131,8 +124,8 @@ class PlayerHighlightsServiceTest {
         assertNotNull(cleanestBaseline);
         assertEquals(player1Id, cleanestBaseline.playerId());
 
-        verify(mongoTemplate).aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class));
-        verify(playerRepository, atLeastOnce()).findById(anyString());
+        verify(analyticsRepository).averageMetricsPerPlayer(any());
+        verify(playerRepository, atLeastOnce()).findById(any(UUID.class));
     }
 
     @Test
@@ -142,9 +135,7 @@ class PlayerHighlightsServiceTest {
                 player1Id, 90.0, 80.0, 70.0, 75.0, 5.0, 3.0, 85.0, 20.0, 65.0, 60.0
         );
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Collections.singletonList(doc));
         when(playerRepository.findById(player1Id)).thenReturn(Optional.of(player1));
 
         // Act
@@ -153,15 +144,13 @@ class PlayerHighlightsServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals(TimelineRange.ALL_TIME, response.range());
-        verify(mongoTemplate).aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class));
+        verify(analyticsRepository).averageMetricsPerPlayer(any());
     }
 
     @Test
     void getHighlights_shouldReturnEmptyHighlights_whenNoPlayersFound() {
         // Arrange
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.emptyList());
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Collections.emptyList());
 
         // Act
         HighlightsDashboardResponse response = playerHighlightsService.getHighlights(TimelineRange.LAST_6_MONTHS);
@@ -180,9 +169,7 @@ class PlayerHighlightsServiceTest {
                 player1Id, 90.0, 80.0, 70.0, 75.0, 5.0, 3.0, 85.0, 20.0, 65.0, 60.0
         );
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Collections.singletonList(doc));
         when(playerRepository.findById(player1Id)).thenReturn(Optional.empty());
 
         // Act
@@ -211,9 +198,7 @@ class PlayerHighlightsServiceTest {
         doc.put(AnalyticsMetric.NET_POINTS_WON.name(), 75.0);
         // All other metrics will be null/missing
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Collections.singletonList(doc));
         when(playerRepository.findById(player1Id)).thenReturn(Optional.of(player1));
 
         // Act
@@ -236,9 +221,7 @@ class PlayerHighlightsServiceTest {
                 player1Id, 100.0, 90.0, 80.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0
         );
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Collections.singletonList(doc));
         when(playerRepository.findById(player1Id)).thenReturn(Optional.of(player1));
 
         // Act
@@ -262,9 +245,7 @@ class PlayerHighlightsServiceTest {
                 player1Id, 90.0, 80.0, 70.0, 75.0, 5.0, 3.0, 85.0, 20.0, 65.0, 60.0
         );
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(Collections.singletonList(doc));
         when(playerRepository.findById(player1Id)).thenReturn(Optional.of(player1));
 
         // Act
@@ -277,7 +258,7 @@ class PlayerHighlightsServiceTest {
     }
 
     // Helper method to create a complete player document with all metrics
-    private Document createPlayerDocument(String playerId,
+    private Document createPlayerDocument(UUID playerId,
                                           double firstServeIn,
                                           double firstServeWon,
                                           double secondServeWon,
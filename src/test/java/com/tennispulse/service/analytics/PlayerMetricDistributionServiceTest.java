@@ -0,0 +1,114 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.api.analytics.dto.MetricDistributionDto;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.MetricStatus;
+import com.tennispulse.domain.analytics.MetricValue;
+import com.tennispulse.domain.analytics.PlayerMonthlySketchDocument;
+import com.tennispulse.perf.InMemoryPlayerMonthlySketchRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlayerMetricDistributionServiceTest {
+
+    private final InMemoryPlayerMonthlySketchRepository repository = new InMemoryPlayerMonthlySketchRepository();
+    private final PlayerMetricDistributionService service = new PlayerMetricDistributionService(repository, 100);
+
+    private final UUID playerId = UUID.randomUUID();
+
+    @Test
+    void distributions_shouldMergeMonthsInRange() {
+        // January: 10..19, February: 20..29
+        for (int i = 0; i < 10; i++) {
+            record(Instant.parse("2026-01-15T10:00:00Z"), 10 + i);
+            record(Instant.parse("2026-02-15T10:00:00Z"), 20 + i);
+        }
+
+        MetricDistributionDto all = service.distributions(playerId, null).get(AnalyticsMetric.FIRST_SERVE_IN.name());
+        assertEquals(20, all.count());
+        assertEquals(10.0, all.min());
+        assertEquals(29.0, all.max());
+        assertEquals(19.5, all.median(), 0.5);
+        assertEquals(all.p90() - all.p10(), all.spread());
+
+        // a range starting mid-February covers the whole of February only
+        MetricDistributionDto february = service.distributions(playerId, LocalDateTime.of(2026, 2, 20, 0, 0))
+                .get(AnalyticsMetric.FIRST_SERVE_IN.name());
+        assertEquals(10, february.count());
+        assertEquals(20.0, february.min());
+        assertEquals(24.5, february.median(), 0.5);
+
+        assertFalse(service.distributions(playerId, null).containsKey(AnalyticsMetric.WINNERS.name()));
+    }
+
+    @Test
+    void record_shouldIgnoreRedeliveredMatch() {
+        UUID matchId = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2026-03-01T00:00:00Z");
+
+        service.record(playerId, matchId, createdAt, metrics(60.0));
+        service.record(playerId, matchId, createdAt, metrics(90.0));
+
+        MetricDistributionDto distribution =
+                service.distributions(playerId, null).get(AnalyticsMetric.FIRST_SERVE_IN.name());
+        assertEquals(1, distribution.count());
+        assertEquals(60.0, distribution.median());
+    }
+
+    @Test
+    void record_shouldReapplyUpdate_afterConcurrentWrite() {
+        UUID id = PlayerMonthlySketchDocument.idFor(playerId, YearMonth.of(2026, 3));
+        AtomicInteger saves = new AtomicInteger();
+        InMemoryPlayerMonthlySketchRepository racing = new InMemoryPlayerMonthlySketchRepository() {
+            @Override
+            public PlayerMonthlySketchDocument save(PlayerMonthlySketchDocument document) {
+                if (saves.getAndIncrement() == 0) {
+                    // another node writes the month between our read and our save
+                    PlayerMonthlySketchDocument other = PlayerMonthlySketchDocument.empty(playerId, YearMonth.of(2026, 3));
+                    other.getMatchIds().add(UUID.randomUUID());
+                    super.save(other);
+                }
+                return super.save(document);
+            }
+        };
+        PlayerMetricDistributionService racingService = new PlayerMetricDistributionService(racing, 100);
+
+        racingService.record(playerId, UUID.randomUUID(), Instant.parse("2026-03-01T00:00:00Z"), metrics(60.0));
+
+        assertEquals(2, racing.findById(id).orElseThrow().getMatchIds().size());
+        assertEquals(1L, racing.findById(id).orElseThrow().getVersion());
+    }
+
+    @Test
+    void record_shouldGiveUp_whenEveryAttemptConflicts() {
+        InMemoryPlayerMonthlySketchRepository conflicting = new InMemoryPlayerMonthlySketchRepository() {
+            @Override
+            public PlayerMonthlySketchDocument save(PlayerMonthlySketchDocument document) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+        };
+        PlayerMetricDistributionService conflictingService = new PlayerMetricDistributionService(conflicting, 100);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> conflictingService.record(
+                playerId, UUID.randomUUID(), Instant.now(), metrics(60.0)));
+    }
+
+    private void record(Instant createdAt, double firstServeIn) {
+        service.record(playerId, UUID.randomUUID(), createdAt, metrics(firstServeIn));
+    }
+
+    private static Map<AnalyticsMetric, MetricValue> metrics(double firstServeIn) {
+        return Map.of(AnalyticsMetric.FIRST_SERVE_IN, new MetricValue(firstServeIn, MetricStatus.GOOD));
+    }
+}
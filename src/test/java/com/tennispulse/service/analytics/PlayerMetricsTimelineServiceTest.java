@@ -1,9 +1,11 @@
 package com.tennispulse.service.analytics;
 
+import com.tennispulse.api.analytics.dto.MetricDistributionDto;
 import com.tennispulse.api.analytics.dto.PlayerMetricsTimelineResponseDto;
 import com.tennispulse.api.analytics.dto.PlayerMonthlyMetricsDto;
 import com.tennispulse.api.analytics.dto.TimelineRange;
 import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,15 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 
 import java.time.YearMonth;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -27,10 +28,13 @@ import static org.mockito.Mockito.*;
 class PlayerMetricsTimelineServiceTest {
 
     @Mock
-    private MongoTemplate mongoTemplate;
+    private PlayerMatchAnalyticsRepository analyticsRepository;
 
     @Mock
-    private AggregationResults<Document> aggregationResults;
+    private PlayerMetricDistributionService distributionService;
+
+    @Mock
+    private PopulationPercentileService percentileService;
 
     @InjectMocks
     private PlayerMetricsTimelineService playerMetricsTimelineService;
@@ -49,9 +53,12 @@ class PlayerMetricsTimelineServiceTest {
         Document doc2 = createMonthlyDocument(2024, 11, 80.0, 70.0, 60.0, 75.0);
         Document doc3 = createMonthlyDocument(2024, 10, 78.0, 68.0, 58.0, 72.0);
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Arrays.asList(doc1, doc2, doc3));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Arrays.asList(doc1, doc2, doc3));
+        MetricDistributionDto firstServeIn = new MetricDistributionDto(12, 70.0, 74.0, 80.0, 86.0, 90.0, 12.0);
+        when(distributionService.distributions(eq(playerId), any()))
+                .thenReturn(Map.of(AnalyticsMetric.FIRST_SERVE_IN.name(), firstServeIn));
+        when(percentileService.playerPercentileRanks(eq(TimelineRange.LAST_6_MONTHS), anyMap()))
+                .thenReturn(Map.of(AnalyticsMetric.FIRST_SERVE_IN, 88.0));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -82,7 +89,15 @@ class PlayerMetricsTimelineServiceTest {
         // Check FIRST_SERVE_IN average: (85 + 80 + 78) / 3 = 81.0
         assertEquals(81.0, response.overallAverages().get(AnalyticsMetric.FIRST_SERVE_IN.name()), 0.01);
 
-        verify(mongoTemplate).aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class));
+        // distributions come from the merged monthly sketches
+        assertEquals(firstServeIn, response.overallDistributions().get(AnalyticsMetric.FIRST_SERVE_IN.name()));
+
+        // and the overall averages are ranked against the population
+        assertEquals(Map.of(AnalyticsMetric.FIRST_SERVE_IN.name(), 88.0), response.percentileRanks());
+        verify(percentileService).playerPercentileRanks(eq(TimelineRange.LAST_6_MONTHS),
+                argThat(values -> values.get(AnalyticsMetric.FIRST_SERVE_IN) == 81.0));
+
+        verify(analyticsRepository).averageMetricsPerMonth(eq(playerId), any());
     }
 
     @Test
@@ -90,9 +105,7 @@ class PlayerMetricsTimelineServiceTest {
         // Arrange
         Document doc = createMonthlyDocument(2024, 12, 85.0, 75.0, 65.0, 80.0);
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Collections.singletonList(doc));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -104,15 +117,14 @@ class PlayerMetricsTimelineServiceTest {
         assertNotNull(response);
         assertEquals(TimelineRange.ALL_TIME, response.range());
         assertEquals(1, response.timeline().size());
-        verify(mongoTemplate).aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class));
+        verify(analyticsRepository).averageMetricsPerMonth(eq(playerId), any());
+        verify(distributionService).distributions(playerId, null);
     }
 
     @Test
     void getPlayerTimeline_shouldReturnEmptyTimeline_whenNoDataExists() {
         // Arrange
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.emptyList());
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Collections.emptyList());
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -144,9 +156,7 @@ class PlayerMetricsTimelineServiceTest {
         invalidDoc2.put("year", 2024);
         // Missing month
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Arrays.asList(validDoc, invalidDoc1, invalidDoc2));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Arrays.asList(validDoc, invalidDoc1, invalidDoc2));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -170,9 +180,7 @@ class PlayerMetricsTimelineServiceTest {
         doc.put(AnalyticsMetric.FIRST_SERVE_IN.name(), 85.0);
         // All other metrics are null/missing
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Collections.singletonList(doc));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -197,9 +205,7 @@ class PlayerMetricsTimelineServiceTest {
         Document doc2 = createMonthlyDocument(2024, 11, 80.0, 70.0, 60.0, 75.0);
         Document doc3 = createMonthlyDocument(2024, 10, 70.0, 60.0, 50.0, 65.0);
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Arrays.asList(doc1, doc2, doc3));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Arrays.asList(doc1, doc2, doc3));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -229,9 +235,7 @@ class PlayerMetricsTimelineServiceTest {
         // Arrange
         Document doc = createMonthlyDocument(2024, 12, 85.0, 75.0, 65.0, 80.0);
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Collections.singletonList(doc));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -250,9 +254,7 @@ class PlayerMetricsTimelineServiceTest {
         // Arrange
         Document doc = createMonthlyDocument(2024, 12, 85.0, 75.0, 65.0, 80.0);
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Collections.singletonList(doc));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -271,9 +273,7 @@ class PlayerMetricsTimelineServiceTest {
         // Arrange
         Document doc = createMonthlyDocument(2024, 12, 85.0, 75.0, 65.0, 80.0);
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Collections.singletonList(doc));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Collections.singletonList(doc));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -310,9 +310,7 @@ class PlayerMetricsTimelineServiceTest {
         doc2.put(AnalyticsMetric.FIRST_SERVE_IN.name(), 80.0);
         // NET_POINTS_WON is missing in this month
 
-        when(mongoTemplate.aggregate(any(Aggregation.class), eq("player_match_analytics"), eq(Document.class)))
-                .thenReturn(aggregationResults);
-        when(aggregationResults.getMappedResults()).thenReturn(Arrays.asList(doc1, doc2));
+        when(analyticsRepository.averageMetricsPerMonth(eq(playerId), any())).thenReturn(Arrays.asList(doc1, doc2));
 
         // Act
         PlayerMetricsTimelineResponseDto response = playerMetricsTimelineService.getPlayerTimeline(
@@ -0,0 +1,99 @@
+package com.tennispulse.service.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerPartitionedExecutorTest {
+
+    private final PlayerPartitionedExecutor executor =
+            new PlayerPartitionedExecutor(4, 8, Thread.ofPlatform().daemon().factory());
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void submit_shouldRunTasksOfOnePlayerInSubmissionOrder() {
+        List<UUID> players = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID()).toList();
+        Map<UUID, List<Integer>> seen = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // more tasks than the lanes can queue, so submit also has to wait for space
+        for (int seq = 0; seq < 200; seq++) {
+            for (UUID player : players) {
+                int n = seq;
+                futures.add(executor.submit(player,
+                        () -> seen.computeIfAbsent(player, p -> new ArrayList<>()).add(n)));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        List<Integer> expected = IntStream.range(0, 200).boxed().toList();
+        players.forEach(player -> assertEquals(expected, seen.get(player)));
+    }
+
+    @Test
+    void submit_shouldRunDifferentPartitionsConcurrently() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        while (executor.partitionOf(second) == executor.partitionOf(first)) {
+            second = UUID.randomUUID();
+        }
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger completed = new AtomicInteger();
+        Runnable awaitOther = () -> {
+            bothStarted.countDown();
+            try {
+                if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                    completed.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        CompletableFuture.allOf(executor.submit(first, awaitOther), executor.submit(second, awaitOther))
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, completed.get());
+    }
+
+    @Test
+    void submit_shouldCompleteFutureExceptionally_whenTaskFails() {
+        CompletableFuture<Void> failed = executor.submit(UUID.randomUUID(), () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void partitionOf_shouldBeStableAndInRange() {
+        for (int i = 0; i < 1000; i++) {
+            UUID key = UUID.randomUUID();
+            int partition = executor.partitionOf(key);
+            assertTrue(partition >= 0 && partition < executor.partitions());
+            assertEquals(partition, executor.partitionOf(UUID.fromString(key.toString())));
+        }
+        assertEquals(0, executor.partitionOf(null));
+    }
+}
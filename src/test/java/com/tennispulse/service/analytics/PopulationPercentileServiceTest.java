@@ -0,0 +1,154 @@
+package com.tennispulse.service.analytics;
+
+import com.tennispulse.api.analytics.dto.TimelineRange;
+import com.tennispulse.domain.analytics.AnalyticsMetric;
+import com.tennispulse.domain.analytics.PlayerMonthlySketchDocument;
+import com.tennispulse.domain.analytics.QuantileSketch;
+import com.tennispulse.repository.analytics.PlayerMatchAnalyticsRepository;
+import com.tennispulse.repository.analytics.PlayerMonthlySketchRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PopulationPercentileServiceTest {
+
+    @Mock
+    private PlayerMatchAnalyticsRepository analyticsRepository;
+
+    @Mock
+    private PlayerMonthlySketchRepository sketchRepository;
+
+    @Test
+    void playerPercentileRanks_shouldRankAgainstPlayerAverages_withErrorsInverted() {
+        when(analyticsRepository.averageMetricsPerPlayer(isNull())).thenReturn(population(100));
+        PopulationPercentileService service = service(Duration.ofMinutes(10));
+        service.refresh(TimelineRange.ALL_TIME);
+
+        Map<AnalyticsMetric, Double> ranks = service.playerPercentileRanks(TimelineRange.ALL_TIME, Map.of(
+                AnalyticsMetric.FIRST_SERVE_IN, 88.0,
+                AnalyticsMetric.UNFORCED_ERRORS_FOREHAND, 12.0,
+                AnalyticsMetric.WINNERS, 20.0));
+
+        // players average 0..99: 88 beats 88 of them and ties one
+        assertEquals(88.5, ranks.get(AnalyticsMetric.FIRST_SERVE_IN));
+        // 12 errors: 87 players made more
+        assertEquals(87.5, ranks.get(AnalyticsMetric.UNFORCED_ERRORS_FOREHAND));
+        // nobody has a WINNERS average
+        assertFalse(ranks.containsKey(AnalyticsMetric.WINNERS));
+        verify(analyticsRepository, times(1)).averageMetricsPerPlayer(any());
+    }
+
+    @Test
+    void matchPercentileRanks_shouldRankAgainstEveryMatchInRange_notPlayerAverages() {
+        // two players whose matches are 0..4 and 5..9: their averages (2 and 7) say little about a single match
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(List.of(
+                new Document(AnalyticsMetric.FIRST_SERVE_IN.name(), 2.0),
+                new Document(AnalyticsMetric.FIRST_SERVE_IN.name(), 7.0)));
+        when(sketchRepository.streamByPeriodGreaterThanEqual(anyInt()))
+                .thenAnswer(inv -> Stream.of(month(0, 5), month(5, 5)));
+        PopulationPercentileService service = service(Duration.ofMinutes(10));
+        service.refresh(TimelineRange.LAST_6_MONTHS);
+
+        Map<AnalyticsMetric, Double> values = Map.of(AnalyticsMetric.FIRST_SERVE_IN, 5.0);
+
+        // 5 among the matches 0..9 beats five and ties one
+        assertEquals(55.0, service.matchPercentileRanks(TimelineRange.LAST_6_MONTHS, values)
+                .get(AnalyticsMetric.FIRST_SERVE_IN));
+        // against the two averages it would be top half
+        assertEquals(50.0, service.playerPercentileRanks(TimelineRange.LAST_6_MONTHS, values)
+                .get(AnalyticsMetric.FIRST_SERVE_IN));
+        // whole months from the range start
+        verify(sketchRepository).streamByPeriodGreaterThanEqual(
+                PlayerMonthlySketchDocument.periodOf(YearMonth.from(TimelineRange.LAST_6_MONTHS.startDate())));
+    }
+
+    @Test
+    void percentileRanks_beforeFirstBuild_shouldBeNullAndStartTheBuild() {
+        when(analyticsRepository.averageMetricsPerPlayer(any())).thenReturn(population(10));
+        PopulationPercentileService service = service(Duration.ofMinutes(10));
+
+        assertNull(service.matchPercentileRanks(TimelineRange.LAST_MONTH,
+                Map.of(AnalyticsMetric.FIRST_SERVE_IN, 5.0)));
+
+        // the synchronous executor has built it by now: 5 of 0..9 beats five players and ties one
+        assertEquals(55.0, service.playerPercentileRanks(TimelineRange.LAST_MONTH,
+                Map.of(AnalyticsMetric.FIRST_SERVE_IN, 5.0)).get(AnalyticsMetric.FIRST_SERVE_IN));
+        verify(analyticsRepository, times(1)).averageMetricsPerPlayer(any());
+    }
+
+    @Test
+    void percentileRanks_whenStale_shouldRebuildInBackground() {
+        when(analyticsRepository.averageMetricsPerPlayer(isNull())).thenReturn(population(10));
+        PopulationPercentileService service = service(Duration.ZERO);
+        service.refresh(TimelineRange.ALL_TIME);
+
+        service.playerPercentileRanks(TimelineRange.ALL_TIME, Map.of(AnalyticsMetric.FIRST_SERVE_IN, 5.0));
+
+        verify(analyticsRepository, times(2)).averageMetricsPerPlayer(isNull());
+    }
+
+    @Test
+    void percentileRanks_whenRebuildFails_shouldKeepServingPreviousHistograms() {
+        when(analyticsRepository.averageMetricsPerPlayer(isNull()))
+                .thenReturn(population(10))
+                .thenThrow(new IllegalStateException("mongo down"));
+        PopulationPercentileService service = service(Duration.ZERO);
+        service.refresh(TimelineRange.ALL_TIME);
+
+        Map<AnalyticsMetric, Double> ranks =
+                service.playerPercentileRanks(TimelineRange.ALL_TIME, Map.of(AnalyticsMetric.FIRST_SERVE_IN, 5.0));
+
+        assertEquals(55.0, ranks.get(AnalyticsMetric.FIRST_SERVE_IN));
+        verify(analyticsRepository, times(2)).averageMetricsPerPlayer(isNull());
+    }
+
+    private PopulationPercentileService service(Duration refreshInterval) {
+        return new PopulationPercentileService(analyticsRepository, sketchRepository, new TaskExecutorAdapter(new SyncTaskExecutor()),
+                refreshInterval, 256);
+    }
+
+    /** One player's month with FIRST_SERVE_IN values first, first + 1, ..., first + count - 1. */
+    private static PlayerMonthlySketchDocument month(int first, int count) {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < count; i++) {
+            sketch.add(first + i);
+        }
+        PlayerMonthlySketchDocument doc = PlayerMonthlySketchDocument.empty(UUID.randomUUID(), YearMonth.now());
+        doc.getSketches().put(AnalyticsMetric.FIRST_SERVE_IN, sketch.toState());
+        return doc;
+    }
+
+    /** Players whose FIRST_SERVE_IN and UNFORCED_ERRORS_FOREHAND averages are 0, 1, ..., size - 1. */
+    private static List<Document> population(int size) {
+        List<Document> players = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            players.add(new Document("playerId", UUID.randomUUID())
+                    .append(AnalyticsMetric.FIRST_SERVE_IN.name(), (double) i)
+                    .append(AnalyticsMetric.UNFORCED_ERRORS_FOREHAND.name(), (double) i));
+        }
+        return players;
+    }
+}
@@ -1,11 +1,11 @@
 package com.tennispulse.service.analytics;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tennispulse.api.controllers.MatchController;
 import com.tennispulse.domain.MatchCompletedEvent;
 import com.tennispulse.domain.MatchEntity;
 import com.tennispulse.domain.PlayerEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +13,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,7 +37,7 @@ class SqsMatchEventPublisherTest {
     SqsClient sqsClient;
 
     @Mock
-    ObjectMapper objectMapper;
+    MatchCompletedEventCodec eventCodec;
 
     SqsMatchEventPublisher publisher;
 
@@ -38,14 +45,15 @@ class SqsMatchEventPublisherTest {
 
     @BeforeEach
     void setUp() {
-        publisher = new SqsMatchEventPublisher(sqsClient, objectMapper, queueUrl);
+        publisher = new SqsMatchEventPublisher(sqsClient, eventCodec, queueUrl,
+                new AnalyticsPipelineMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
     void publishMatchCompleted_happyPath_shouldSerializeAndSendToSqs() throws Exception {
         // given
-        String matchId = UUID.randomUUID().toString();
-        String winnerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID winnerId = UUID.randomUUID();
 
         MatchEntity match = mock(MatchEntity.class);
         PlayerEntity winner = mock(PlayerEntity.class);
@@ -56,13 +64,13 @@ class SqsMatchEventPublisherTest {
         when(match.getFinalScore()).thenReturn("6-4 6-3");
 
         MatchController.PlayerStatsRequest statsRequest = new MatchController.PlayerStatsRequest();
-        statsRequest.setPlayerId(UUID.randomUUID().toString());
+        statsRequest.setPlayerId(UUID.randomUUID());
         // you can fill other fields if you want, but it's not required for this test
 
         List<MatchController.PlayerStatsRequest> stats = List.of(statsRequest);
 
         // we don't care about the actual JSON content here, only that it's used
-        when(objectMapper.writeValueAsString(any(MatchCompletedEvent.class)))
+        when(eventCodec.encode(any(MatchCompletedEvent.class)))
                 .thenReturn("{\"dummy\":\"json\"}");
 
         // when
@@ -75,16 +83,19 @@ class SqsMatchEventPublisherTest {
         SendMessageRequest sent = captor.getValue();
         assertThat(sent.queueUrl()).isEqualTo(queueUrl);
         assertThat(sent.messageBody()).isEqualTo("{\"dummy\":\"json\"}");
+        assertThat(sent.messageAttributes().get(MatchEventDeduplicator.MATCH_ID_ATTRIBUTE).stringValue())
+                .isEqualTo(matchId.toString());
+        assertThat(sent.messageAttributes()).containsKey(MatchEventDeduplicator.PAYLOAD_HASH_ATTRIBUTE);
 
-        // and ObjectMapper was used to serialize the event
-        verify(objectMapper, times(1)).writeValueAsString(any(MatchCompletedEvent.class));
+        // and the codec was used to serialize the event
+        verify(eventCodec, times(1)).encode(any(MatchCompletedEvent.class));
     }
 
     @Test
     void publishMatchCompleted_whenSerializationFails_shouldNotSendMessage() throws Exception {
         // given
-        String matchId = UUID.randomUUID().toString();
-        String winnerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID winnerId = UUID.randomUUID();
 
         MatchEntity match = mock(MatchEntity.class);
         PlayerEntity winner = mock(PlayerEntity.class);
@@ -96,7 +107,7 @@ class SqsMatchEventPublisherTest {
 
         List<MatchController.PlayerStatsRequest> stats = Collections.emptyList();
 
-        when(objectMapper.writeValueAsString(any(MatchCompletedEvent.class)))
+        when(eventCodec.encode(any(MatchCompletedEvent.class)))
                 .thenThrow(new JsonProcessingException("boom") {});
 
         // when
@@ -105,7 +116,71 @@ class SqsMatchEventPublisherTest {
         // then
         verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
         // and we did try to serialize
-        verify(objectMapper, times(1)).writeValueAsString(any(MatchCompletedEvent.class));
+        verify(eventCodec, times(1)).encode(any(MatchCompletedEvent.class));
+    }
+
+    @Test
+    void publishMatchesCompleted_shouldSendBatchesOfTenAndSkipMatchesWithoutStats() throws Exception {
+        // given: 23 matches with stats and one without
+        List<MatchEntity> matches = new ArrayList<>();
+        Map<UUID, List<MatchController.PlayerStatsRequest>> stats = new HashMap<>();
+        for (int i = 0; i < 24; i++) {
+            MatchEntity match = completedMatch();
+            matches.add(match);
+            if (i != 5) {
+                stats.put(match.getId(), List.of(new MatchController.PlayerStatsRequest()));
+            }
+        }
+
+        when(eventCodec.encode(any(MatchCompletedEvent.class))).thenReturn("{}");
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(inv -> acceptAll(inv.getArgument(0)));
+
+        // when
+        int published = publisher.publishMatchesCompleted(matches, stats);
+
+        // then
+        assertThat(published).isEqualTo(23);
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(3)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.entries().size()).containsExactly(10, 10, 3);
+        assertThat(captor.getAllValues()).allSatisfy(r -> assertThat(r.queueUrl()).isEqualTo(queueUrl));
+        verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
     }
-}
 
+    @Test
+    void publishMatchesCompleted_shouldNotCountRejectedEntries() throws Exception {
+        // given
+        MatchEntity first = completedMatch();
+        MatchEntity second = completedMatch();
+        Map<UUID, List<MatchController.PlayerStatsRequest>> stats = Map.of(
+                first.getId(), List.of(new MatchController.PlayerStatsRequest()),
+                second.getId(), List.of(new MatchController.PlayerStatsRequest()));
+
+        when(eventCodec.encode(any(MatchCompletedEvent.class))).thenReturn("{}");
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(SendMessageBatchResponse.builder()
+                .successful(List.of(SendMessageBatchResultEntry.builder().id("0").build()))
+                .failed(List.of(BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build()))
+                .build());
+
+        // when / then
+        assertThat(publisher.publishMatchesCompleted(List.of(first, second), stats)).isEqualTo(1);
+    }
+
+    private static MatchEntity completedMatch() {
+        return MatchEntity.builder()
+                .id(UUID.randomUUID())
+                .winner(PlayerEntity.builder().id(UUID.randomUUID()).build())
+                .finalScore("6-4 6-3")
+                .build();
+    }
+
+    private static SendMessageBatchResponse acceptAll(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                .successful(request.entries().stream()
+                        .map(e -> SendMessageBatchResultEntry.builder().id(e.id()).build())
+                        .toList())
+                .failed(List.of())
+                .build();
+    }
+}
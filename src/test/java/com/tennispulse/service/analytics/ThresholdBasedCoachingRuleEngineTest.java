@@ -15,8 +15,8 @@ class ThresholdBasedCoachingRuleEngineTest {
 
     @Test
     void analyze_firstServeIn_boundaries_shouldClassifyCorrectly() {
-        String matchId = UUID.randomUUID().toString();
-        String playerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
 
         // < 50 => CRITICAL
         var resultCritical = engine.analyze(
@@ -65,8 +65,8 @@ class ThresholdBasedCoachingRuleEngineTest {
 
     @Test
     void analyze_twoCriticalMetrics_shouldReturnAtRisk() {
-        String matchId = UUID.randomUUID().toString();
-        String playerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
 
         // FIRST_SERVE_IN < 50 => CRITICAL
         // SECOND_SERVE_POINTS_WON < 40 => CRITICAL
@@ -99,8 +99,8 @@ class ThresholdBasedCoachingRuleEngineTest {
 
     @Test
     void analyze_warningOnly_shouldReturnNeedsFocus() {
-        String matchId = UUID.randomUUID().toString();
-        String playerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
 
         // FIRST_SERVE_IN in WARNING zone (50–59)
         // BREAK_POINT_CONVERSION also WARNING (25–39)
@@ -125,8 +125,8 @@ class ThresholdBasedCoachingRuleEngineTest {
 
     @Test
     void analyze_goodProfile_shouldReturnOnTrackAndFewTips() {
-        String matchId = UUID.randomUUID().toString();
-        String playerId = UUID.randomUUID().toString();
+        UUID matchId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
 
         Map<AnalyticsMetric, Double> raw = Map.of(
                 AnalyticsMetric.FIRST_SERVE_IN, 68.0,               // GOOD
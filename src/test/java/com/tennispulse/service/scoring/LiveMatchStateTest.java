@@ -0,0 +1,152 @@
+package com.tennispulse.service.scoring;
+
+import com.tennispulse.api.controllers.MatchController;
+import com.tennispulse.domain.scoring.PointEnding;
+import com.tennispulse.domain.scoring.ServeResult;
+import com.tennispulse.domain.scoring.Stroke;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveMatchStateTest {
+
+    private final LiveMatchState state = new LiveMatchState(3);
+    private long seq;
+
+    @Test
+    void apply_shouldScoreGameWithDeuceAndAdvantage() {
+        for (int i = 0; i < 3; i++) {
+            point(0, 0);
+            point(0, 1);
+        }
+        assertEquals("40", state.pointScore(0));
+        assertEquals("40", state.pointScore(1));
+
+        point(0, 1);
+        assertEquals("40", state.pointScore(0));
+        assertEquals("AD", state.pointScore(1));
+
+        point(0, 1);
+        assertEquals(List.of(new LiveMatchState.SetScore(0, 1, null)), state.sets());
+        assertEquals("0", state.pointScore(0));
+        assertEquals(8, state.seq());
+    }
+
+    @Test
+    void apply_shouldDecideStraightSetsMatchAndReportScoreFromWinnersSide() {
+        set(1, 6, 3);
+        set(1, 6, 4);
+
+        assertTrue(state.finished());
+        assertEquals(1, state.winner());
+        assertEquals("6-3 6-4", state.finalScore());
+        assertEquals(List.of(new LiveMatchState.SetScore(3, 6, null), new LiveMatchState.SetScore(4, 6, null)),
+                state.sets());
+        assertThrows(IllegalStateException.class, () -> point(0, 0));
+    }
+
+    @Test
+    void apply_shouldPlayTiebreakAtSixAll() {
+        set(0, 6, 4);
+        for (int i = 0; i < 6; i++) {
+            game(i % 2, 0);
+            game((i + 1) % 2, 1);
+        }
+        assertTrue(state.inTiebreak());
+
+        for (int i = 0; i < 5; i++) {
+            point(0, 0);
+            point(1, 1);
+        }
+        assertEquals("5", state.pointScore(0));
+        point(0, 0);
+        point(1, 0);
+
+        assertTrue(state.finished());
+        assertEquals("6-4 7-6(5)", state.finalScore());
+    }
+
+    @Test
+    void stats_shouldDeriveServeErrorAndPressureMetrics() {
+        // player 0 serves: ace, double fault, second-serve point won, then the receiver wins three points
+        state.apply(++seq, 0, 0, ServeResult.FIRST_IN, PointEnding.ACE, Stroke.SERVE, -1, 1);
+        state.apply(++seq, 0, 1, ServeResult.DOUBLE_FAULT, null, null, -1, 0);
+        state.apply(++seq, 0, 0, ServeResult.SECOND_IN, PointEnding.WINNER, Stroke.FOREHAND, 0, 4);
+        state.apply(++seq, 0, 1, ServeResult.FIRST_IN, PointEnding.UNFORCED_ERROR, Stroke.FOREHAND, -1, 12);
+        // 30-30, then break point at 30-40 after a backhand error, converted at the net
+        state.apply(++seq, 0, 1, ServeResult.FIRST_IN, PointEnding.UNFORCED_ERROR, Stroke.BACKHAND, -1, 10);
+        state.apply(++seq, 0, 1, ServeResult.FIRST_IN, PointEnding.WINNER, Stroke.VOLLEY, 1, 5);
+
+        MatchController.PlayerStatsRequest server = state.stats(0, UUID.randomUUID());
+        MatchController.PlayerStatsRequest receiver = state.stats(1, UUID.randomUUID());
+
+        assertEquals(66.7, server.getFirstServeIn());
+        assertEquals(25.0, server.getFirstServePointsWon());
+        assertEquals(50.0, server.getSecondServePointsWon());
+        assertEquals(1, server.getUnforcedErrorsForehand());
+        assertEquals(1, server.getUnforcedErrorsBackhand());
+        assertEquals(2, server.getWinners());
+        assertEquals(0.0, server.getBreakPointsSaved());
+        assertEquals(100.0, server.getNetPointsWon());
+        assertEquals(0.0, server.getLongRallyWinRate());
+
+        assertEquals(100.0, receiver.getBreakPointConversion());
+        assertEquals(100.0, receiver.getBreakPointsSaved());
+        assertEquals(1, receiver.getWinners());
+        assertEquals(100.0, receiver.getNetPointsWon());
+        assertEquals(100.0, receiver.getLongRallyWinRate());
+        assertEquals(0.0, receiver.getFirstServeIn());
+    }
+
+    @Test
+    void apply_shouldRejectContradictoryPoints() {
+        assertThrows(IllegalArgumentException.class,
+                () -> state.apply(1, 0, 0, ServeResult.DOUBLE_FAULT, null, null, -1, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> state.apply(1, 0, 1, ServeResult.FIRST_IN, PointEnding.ACE, Stroke.SERVE, -1, 1));
+        assertEquals(0, state.seq());
+    }
+
+    @Test
+    void fromBytes_shouldRestoreScoreAndCounters() {
+        set(0, 6, 2);
+        game(0, 1);
+        point(1, 1);
+        state.apply(++seq, 1, 0, ServeResult.SECOND_IN, PointEnding.UNFORCED_ERROR, Stroke.BACKHAND, -1, 9);
+
+        LiveMatchState restored = LiveMatchState.fromBytes(state.toBytes());
+
+        assertEquals(state.seq(), restored.seq());
+        assertEquals(state.sets(), restored.sets());
+        assertEquals(state.pointScore(0), restored.pointScore(0));
+        assertEquals(state.pointScore(1), restored.pointScore(1));
+        assertEquals(state.lastServer(), restored.lastServer());
+        UUID playerId = UUID.randomUUID();
+        assertEquals(state.stats(1, playerId), restored.stats(1, playerId));
+    }
+
+    private void point(int server, int winner) {
+        state.apply(++seq, server, winner, ServeResult.FIRST_IN, null, null, -1, 0);
+    }
+
+    private void game(int server, int winner) {
+        for (int i = 0; i < 4; i++) {
+            point(server, winner);
+        }
+    }
+
+    /** Plays a set won {@code winnerGames}-{@code loserGames} by {@code winner}, alternating the server. */
+    private void set(int winner, int winnerGames, int loserGames) {
+        int played = 0;
+        for (int i = 0; i < loserGames; i++) {
+            game(played++ % 2, 1 - winner);
+            game(played++ % 2, winner);
+        }
+        for (int i = loserGames; i < winnerGames; i++) {
+            game(played++ % 2, winner);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.tennispulse.service.scoring;
+
+import com.tennispulse.api.controllers.LiveScoringController.LiveScoreResponse;
+import com.tennispulse.api.controllers.LiveScoringController.PointRequest;
+import com.tennispulse.domain.LiveMatchStateEntity;
+import com.tennispulse.domain.MatchEntity;
+import com.tennispulse.domain.MatchStatus;
+import com.tennispulse.domain.PlayerEntity;
+import com.tennispulse.domain.scoring.ServeResult;
+import com.tennispulse.repository.LiveMatchStateRepository;
+import com.tennispulse.repository.MatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveScoringServiceTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private LiveMatchStateRepository stateRepository;
+
+    private final UUID matchId = UUID.randomUUID();
+    private final UUID player1Id = UUID.randomUUID();
+    private final UUID player2Id = UUID.randomUUID();
+    private MatchEntity match;
+    private LiveScoringService service;
+
+    @BeforeEach
+    void setUp() {
+        match = MatchEntity.builder()
+                .id(matchId)
+                .player1(PlayerEntity.builder().id(player1Id).build())
+                .player2(PlayerEntity.builder().id(player2Id).build())
+                .status(MatchStatus.IN_PROGRESS)
+                .build();
+        service = newService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void record_shouldApplyPointsInOrderAndSkipResentOnes() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+        service.record(matchId, List.of(point(1, player1Id), point(2, player1Id)));
+        LiveScoreResponse response = service.record(matchId, List.of(point(2, player1Id), point(3, player2Id)));
+
+        assertEquals(3, response.seq());
+        assertEquals("30", response.player1Points());
+        assertEquals("15", response.player2Points());
+        assertEquals(player1Id, response.serverId());
+        assertFalse(response.decided());
+        assertEquals(2, response.playerStats().size());
+        verify(matchRepository, times(1)).findById(matchId);
+    }
+
+    @Test
+    void record_withMissingSequenceNumber_shouldAnswerConflictWithExpectedSeq() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        service.record(matchId, List.of(point(1, player1Id)));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.record(matchId, List.of(point(3, player1Id))));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertTrue(ex.getReason().contains("Expected point seq 2"));
+    }
+
+    @Test
+    void record_forMatchNotInProgress_shouldAnswerConflict() {
+        match.setStatus(MatchStatus.SCHEDULED);
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.record(matchId, List.of(point(1, player1Id))));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        verifyNoInteractions(stateRepository);
+    }
+
+    @Test
+    void record_withPlayerOutsideTheMatch_shouldAnswerBadRequest() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.record(matchId, List.of(point(1, UUID.randomUUID()))));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_shouldWriteChangedStatesOnce_andAnotherNodeResumesFromIt() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        service.record(matchId, List.of(point(1, player1Id), point(2, player1Id)));
+
+        service.snapshot();
+        service.snapshot();
+
+        ArgumentCaptor<List<LiveMatchStateEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(stateRepository, times(1)).saveAll(saved.capture());
+        LiveMatchStateEntity snapshot = saved.getValue().get(0);
+        assertEquals(matchId, snapshot.getMatchId());
+        assertEquals(2, snapshot.getLastSeq());
+
+        LiveScoringService otherNode = newService();
+        try {
+            when(stateRepository.findById(matchId)).thenReturn(Optional.of(snapshot));
+            LiveScoreResponse response = otherNode.record(matchId, List.of(point(3, player1Id)));
+
+            assertEquals(3, response.seq());
+            assertEquals("40", response.player1Points());
+        } finally {
+            otherNode.shutdown();
+        }
+    }
+
+    @Test
+    void result_shouldReturnDecidedWinnerScoreAndStats_andDiscardShouldDropTheState() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        List<PointRequest> points = new ArrayList<>();
+        for (int i = 1; i <= 48; i++) {
+            points.add(point(i, player2Id));
+        }
+        service.record(matchId, points);
+
+        LiveScoringService.LiveResult result = service.result(match).orElseThrow();
+
+        assertEquals(player2Id, result.winnerId());
+        assertEquals("6-0 6-0", result.finalScore());
+        assertEquals(player1Id, result.playerStats().get(0).getPlayerId());
+        assertEquals(100.0, result.playerStats().get(0).getFirstServeIn());
+
+        service.discard(matchId);
+
+        verify(stateRepository).deleteById(matchId);
+        assertThrows(ResponseStatusException.class, () -> service.get(matchId));
+        verify(stateRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void snapshot_whenDiscardedWhileWriting_shouldDeleteTheRowAgain() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        service.record(matchId, List.of(point(1, player1Id)));
+        // the match completes between collecting the dirty states and writing them
+        when(stateRepository.saveAll(any())).thenAnswer(inv -> {
+            service.discard(matchId);
+            return inv.getArgument(0);
+        });
+
+        service.snapshot();
+
+        // saveAll is recorded when called, i.e. before the discard inside it
+        InOrder order = inOrder(stateRepository);
+        order.verify(stateRepository).saveAll(any());
+        order.verify(stateRepository).deleteById(matchId);
+        order.verify(stateRepository).deleteAllById(List.of(matchId));
+    }
+
+    @Test
+    void snapshot_whenDiscardIsPendingInTransaction_shouldDeleteTheRowAndRewriteItOnRollback() {
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+        service.record(matchId, List.of(point(1, player1Id)));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            when(stateRepository.saveAll(any())).thenAnswer(inv -> {
+                service.discard(matchId);
+                return inv.getArgument(0);
+            });
+            service.snapshot();
+            verify(stateRepository).deleteAllById(List.of(matchId));
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        service.snapshot();
+
+        verify(stateRepository, times(2)).saveAll(any());
+    }
+
+    private LiveScoringService newService() {
+        return new LiveScoringService(matchRepository, stateRepository, 3, 4, 100, NEVER, NEVER);
+    }
+
+    /** A first-serve point served by player 1 and won by {@code winnerId}. */
+    private PointRequest point(long seq, UUID winnerId) {
+        PointRequest point = new PointRequest();
+        point.setSeq(seq);
+        point.setServerId(player1Id);
+        point.setWinnerId(winnerId);
+        point.setServe(ServeResult.FIRST_IN);
+        return point;
+    }
+}
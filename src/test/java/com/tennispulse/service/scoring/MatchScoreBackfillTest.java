@@ -0,0 +1,67 @@
+package com.tennispulse.service.scoring;
+
+import com.tennispulse.domain.MatchEntity;
+import com.tennispulse.repository.MatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchScoreBackfillTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void run_shouldParseBatchesInOwnTransactionsUntilNoneAreLeft() {
+        MatchEntity first = unparsed("6-4 6-4");
+        MatchEntity second = unparsed("7-6(3) 3-6 6-1");
+        MatchEntity garbage = unparsed("abandoned");
+        List<UUID> firstBatch = List.of(first.getId(), second.getId());
+        List<UUID> secondBatch = List.of(garbage.getId());
+        when(matchRepository.findIdsWithUnparsedScore(any(Pageable.class)))
+                .thenReturn(firstBatch, secondBatch, List.of());
+        when(matchRepository.findAllWithSetsByIdIn(firstBatch)).thenReturn(List.of(first, second));
+        when(matchRepository.findAllWithSetsByIdIn(secondBatch)).thenReturn(List.of(garbage));
+        when(matchRepository.findAllWithSetsByIdIn(List.of())).thenReturn(List.of());
+
+        MatchScoreBackfill.Result result = new MatchScoreBackfill(matchRepository, transactionManager, 2).run(100);
+
+        assertEquals(new MatchScoreBackfill.Result(2, 1, 0), result);
+        assertEquals(2, first.getSets().size());
+        assertEquals(1, second.getTiebreaksPlayed());
+        assertFalse(garbage.getScoreParsed());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void run_shouldStopAtMaxMatches() {
+        MatchEntity match = unparsed("6-0 6-0");
+        when(matchRepository.findIdsWithUnparsedScore(Pageable.ofSize(1))).thenReturn(List.of(match.getId()));
+        when(matchRepository.findAllWithSetsByIdIn(List.of(match.getId()))).thenReturn(List.of(match));
+        when(matchRepository.countByFinalScoreIsNotNullAndScoreParsedIsNull()).thenReturn(41L);
+
+        MatchScoreBackfill.Result result = new MatchScoreBackfill(matchRepository, transactionManager, 500).run(1);
+
+        assertEquals(new MatchScoreBackfill.Result(1, 0, 41), result);
+        verify(matchRepository, times(1)).findIdsWithUnparsedScore(any());
+    }
+
+    /** A match as loaded from a row written before the score columns existed. */
+    private static MatchEntity unparsed(String finalScore) {
+        return MatchEntity.builder().id(UUID.randomUUID()).finalScore(finalScore).build();
+    }
+}